@@ -0,0 +1,59 @@
+package com.mizerski.backend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.ErrorCode;
+
+/**
+ * Benchmark do tratamento de erros: conversão de códigos e encadeamento de
+ * Result, presentes em todas as respostas da API
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorHandlingBenchmark {
+
+    private String knownCode = "USER_ALREADY_VOTED";
+    private String unknownCode = "SESSION_ERROR";
+    private String lowerCaseCode = "agenda_not_open";
+    private int value = 42;
+
+    @Benchmark
+    public ErrorCode fromStringKnown() {
+        return ErrorCode.fromString(knownCode);
+    }
+
+    @Benchmark
+    public ErrorCode fromStringUnknown() {
+        return ErrorCode.fromString(unknownCode);
+    }
+
+    @Benchmark
+    public ErrorCode fromStringLowerCase() {
+        return ErrorCode.fromString(lowerCaseCode);
+    }
+
+    @Benchmark
+    public Result<String> successChain() {
+        return Result.success(value)
+                .map(v -> v + 1)
+                .flatMap(v -> Result.success(v * 2))
+                .map(String::valueOf);
+    }
+
+    @Benchmark
+    public Result<String> errorChain() {
+        return Result.<Integer>error("AGENDA_NOT_OPEN", "A pauta não está aberta para votação")
+                .map(v -> v + 1)
+                .flatMap(v -> Result.success(v * 2))
+                .map(String::valueOf);
+    }
+}
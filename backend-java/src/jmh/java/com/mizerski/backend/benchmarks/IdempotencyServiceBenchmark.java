@@ -0,0 +1,62 @@
+package com.mizerski.backend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.services.IdempotencyServiceImpl;
+
+/**
+ * Benchmark da geração de chaves e consulta ao cache de idempotência
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdempotencyServiceBenchmark {
+
+    private IdempotencyServiceImpl idempotencyService;
+    private CreateVoteRequest request;
+    private String cachedKey;
+    private String missingKey;
+
+    @Setup
+    public void setUp() {
+        idempotencyService = new IdempotencyServiceImpl();
+        request = new CreateVoteRequest(VoteType.YES, "0b6f3c9e-2d4a-4f1b-8c7d-9e0f1a2b3c4d",
+                "5f1d7c1e-8a4b-4c2d-9e3f-1a2b3c4d5e6f");
+
+        // Cache com volume de uma sessão movimentada
+        for (int i = 0; i < 10_000; i++) {
+            idempotencyService.storeResult("createVote:agenda:" + i, Result.success(i), 300);
+        }
+
+        cachedKey = idempotencyService.generateKey("createVote", request.getAgendaId(), request.getUserId());
+        idempotencyService.storeResult(cachedKey, Result.success("voto"), 300);
+        missingKey = idempotencyService.generateKey("createVote", request.getAgendaId(), "inexistente");
+    }
+
+    @Benchmark
+    public String generateKey() {
+        return idempotencyService.generateKey("createVote", request.getAgendaId(), request.getUserId(),
+                request.getVoteType());
+    }
+
+    @Benchmark
+    public Result<Object> checkIdempotencyHit() {
+        return idempotencyService.checkIdempotency(cachedKey);
+    }
+
+    @Benchmark
+    public Result<Object> checkIdempotencyMiss() {
+        return idempotencyService.checkIdempotency(missingKey);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mizerski.backend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.enums.UserRole;
+import com.mizerski.backend.services.JwtServiceImpl;
+
+/**
+ * Benchmark da validação de tokens executada pelo filtro JWT a cada requisição
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtServiceImpl jwtService;
+    private UserEntity user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+
+        user = UserEntity.builder()
+                .id("5f1d7c1e-8a4b-4c2d-9e3f-1a2b3c4d5e6f")
+                .name("Eleitor de Benchmark")
+                .email("eleitor@benchmark.test")
+                .password("senha")
+                .role(UserRole.USER)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+}
@@ -0,0 +1,149 @@
+package com.mizerski.backend.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.models.domains.Agendas;
+import com.mizerski.backend.models.domains.Votes;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.SessionEntity;
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.entities.VoteEntity;
+import com.mizerski.backend.models.enums.AgendaCategory;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.models.mappers.AgendaMapper;
+import com.mizerski.backend.models.mappers.AgendaMapperImpl;
+import com.mizerski.backend.models.mappers.VoteMapper;
+import com.mizerski.backend.models.mappers.VoteMapperImpl;
+
+/**
+ * Benchmark dos mapeadores MapStruct usados nas respostas da API.
+ *
+ * O grafo da agenda traz votos (com usuário e pauta) e uma sessão, como uma
+ * entidade carregada com suas coleções.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({ "0", "100", "1000" })
+    private int votesPerAgenda;
+
+    private final AgendaMapper agendaMapper = new AgendaMapperImpl();
+    private final VoteMapper voteMapper = new VoteMapperImpl();
+
+    private Agendas agenda;
+    private AgendaEntity agendaGraph;
+    private Votes vote;
+    private VoteEntity voteEntity;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        agenda = Agendas.builder()
+                .id(UUID.randomUUID().toString())
+                .title("Aprovação do orçamento anual")
+                .description("Discussão e votação do orçamento do próximo exercício")
+                .status(AgendaStatus.IN_PROGRESS)
+                .category(AgendaCategory.FINANCEIRO)
+                .result(AgendaResult.UNVOTED)
+                .totalVotes(votesPerAgenda)
+                .yesVotes(votesPerAgenda / 2)
+                .noVotes(votesPerAgenda - votesPerAgenda / 2)
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        agendaGraph = AgendaEntity.builder()
+                .title(agenda.getTitle())
+                .description(agenda.getDescription())
+                .status(agenda.getStatus())
+                .category(agenda.getCategory())
+                .result(agenda.getResult())
+                .totalVotes(agenda.getTotalVotes())
+                .yesVotes(agenda.getYesVotes())
+                .noVotes(agenda.getNoVotes())
+                .isActive(true)
+                .build();
+        agendaGraph.setId(agenda.getId());
+        agendaGraph.setCreatedAt(now);
+        agendaGraph.setUpdatedAt(now);
+
+        List<VoteEntity> votes = new ArrayList<>(votesPerAgenda);
+        for (int i = 0; i < votesPerAgenda; i++) {
+            UserEntity user = UserEntity.builder()
+                    .id(UUID.randomUUID().toString())
+                    .name("Eleitor " + i)
+                    .email("eleitor" + i + "@benchmark.test")
+                    .password("senha")
+                    .build();
+
+            VoteEntity entity = new VoteEntity();
+            entity.setId(UUID.randomUUID().toString());
+            entity.setVoteType(i % 2 == 0 ? VoteType.YES : VoteType.NO);
+            entity.setUser(user);
+            entity.setAgenda(agendaGraph);
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+            votes.add(entity);
+        }
+        agendaGraph.setVotes(votes);
+
+        SessionEntity session = new SessionEntity();
+        session.setId(UUID.randomUUID().toString());
+        session.setStartTime(now);
+        session.setEndTime(now.plusMinutes(30));
+        session.setAgenda(agendaGraph);
+        agendaGraph.setSessions(List.of(session));
+
+        vote = Votes.builder()
+                .id(UUID.randomUUID().toString())
+                .voteType(VoteType.YES)
+                .userId(UUID.randomUUID().toString())
+                .agendaId(agenda.getId())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        voteEntity = votes.isEmpty() ? null : votes.get(0);
+    }
+
+    @Benchmark
+    public AgendaResponse agendaDomainToResponse() {
+        return agendaMapper.toResponse(agenda);
+    }
+
+    @Benchmark
+    public AgendaResponse agendaGraphToResponse() {
+        return agendaMapper.toResponse(agendaGraph);
+    }
+
+    @Benchmark
+    public VoteResponse voteDomainToResponse() {
+        return voteMapper.toResponse(vote);
+    }
+
+    @Benchmark
+    public VoteResponse voteEntityToResponse() {
+        return voteEntity == null ? null : voteMapper.toResponse(voteEntity);
+    }
+}
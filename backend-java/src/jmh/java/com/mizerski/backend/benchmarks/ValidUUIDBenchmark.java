@@ -0,0 +1,60 @@
+package com.mizerski.backend.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.models.enums.VoteType;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Benchmark da validação @ValidUUID (regex) aplicada ao corpo dos votos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidUUIDBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CreateVoteRequest validRequest;
+    private CreateVoteRequest invalidRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = new CreateVoteRequest(VoteType.YES, "0b6f3c9e-2d4a-4f1b-8c7d-9e0f1a2b3c4d",
+                "5f1d7c1e-8a4b-4c2d-9e3f-1a2b3c4d5e6f");
+        invalidRequest = new CreateVoteRequest(VoteType.NO, "pauta-invalida", "5f1d7c1e-8a4b-4c2d-9e3f");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateVoteRequest>> validRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateVoteRequest>> invalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+}
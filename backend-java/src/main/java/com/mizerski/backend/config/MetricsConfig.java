@@ -0,0 +1,160 @@
+package com.mizerski.backend.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mizerski.backend.services.AgendaCacheService;
+import com.mizerski.backend.services.AgendaResponseCacheService;
+import com.mizerski.backend.services.IdempotencyService;
+import com.mizerski.backend.services.LeaderElectionService;
+import com.mizerski.backend.services.SessionActivatorService;
+import com.mizerski.backend.services.SessionCloserService;
+import com.mizerski.backend.services.SessionWindowService;
+import com.mizerski.backend.services.TallyReconciliationService;
+import com.mizerski.backend.services.TallyStreamService;
+import com.mizerski.backend.services.VoteIngestionService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configuração das métricas da aplicação (Micrometer/Actuator).
+ *
+ * O uso do pool do Hikari (hikaricp.connections.active, idle, pending, max) é
+ * publicado automaticamente pelo Actuator; aqui ficam os medidores dos
+ * componentes em memória.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Medidores dos caches em memória e das filas de trabalho pendente
+     */
+    @Bean
+    public MeterBinder votingGauges(IdempotencyService idempotencyService,
+            SessionWindowService sessionWindowService,
+            SessionCloserService sessionCloserService,
+            SessionActivatorService sessionActivatorService,
+            LeaderElectionService leaderElectionService,
+            VoteIngestionService voteIngestionService,
+            AgendaCacheService agendaCacheService,
+            AgendaResponseCacheService agendaResponseCacheService,
+            TallyStreamService tallyStreamService,
+            TallyReconciliationService tallyReconciliationService) {
+
+        return registry -> {
+            Gauge.builder("voting.idempotency.cache.size", idempotencyService, IdempotencyService::getCacheSize)
+                    .description("Entradas no cache de idempotência")
+                    .register(registry);
+
+            Gauge.builder("voting.scheduler.backlog", sessionWindowService,
+                    SessionWindowService::getExpiredCount)
+                    .description("Sessões encerradas aguardando a varredura de sessões expiradas")
+                    .register(registry);
+
+            Gauge.builder("voting.leader", leaderElectionService, service -> service.isLeader() ? 1 : 0)
+                    .tag("node", leaderElectionService.getNodeId())
+                    .description("1 se este nó detém a liderança dos jobs periódicos")
+                    .register(registry);
+
+            Gauge.builder("voting.session.closer.pending", sessionCloserService,
+                    SessionCloserService::getPendingCount)
+                    .description("Pautas aguardando encerramento no término da sessão")
+                    .register(registry);
+
+            Gauge.builder("voting.session.activator.pending", sessionActivatorService,
+                    SessionActivatorService::getPendingCount)
+                    .description("Sessões agendadas aguardando o horário de início")
+                    .register(registry);
+
+            FunctionTimer.builder("voting.session.activation.lag", sessionActivatorService,
+                    service -> service.getStats().activations(),
+                    service -> service.getStats().totalLagMs(), TimeUnit.MILLISECONDS)
+                    .description("Atraso entre o início previsto da sessão e a ativação da pauta")
+                    .register(registry);
+
+            Gauge.builder("voting.session.activation.lag.max", sessionActivatorService,
+                    service -> service.getStats().maxLagMs())
+                    .baseUnit("milliseconds")
+                    .description("Maior atraso de ativação observado")
+                    .register(registry);
+
+            Gauge.builder("voting.ingestion.pending", voteIngestionService, VoteIngestionService::getPendingCount)
+                    .description("Votos aguardando gravação no pipeline write-behind")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.agenda.cache.gets", agendaCacheService,
+                    service -> service.getStats().hits())
+                    .tag("result", "hit")
+                    .description("Leituras de pauta atendidas pelo cache")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.agenda.cache.gets", agendaCacheService,
+                    service -> service.getStats().misses())
+                    .tag("result", "miss")
+                    .description("Leituras de pauta que foram ao banco")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.agenda.cache.evictions", agendaCacheService,
+                    service -> service.getStats().evictions())
+                    .description("Pautas removidas do cache por validade ou limite de tamanho")
+                    .register(registry);
+
+            Gauge.builder("voting.agenda.cache.size", agendaCacheService, service -> service.getStats().size())
+                    .description("Pautas no cache")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.agenda.response.cache.gets", agendaResponseCacheService,
+                    service -> service.getStats().hits())
+                    .tag("result", "hit")
+                    .description("Leituras de pauta servidas com a resposta já serializada")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.agenda.response.cache.gets", agendaResponseCacheService,
+                    service -> service.getStats().misses())
+                    .tag("result", "miss")
+                    .description("Leituras de pauta sem resposta serializada em cache")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.agenda.response.cache.evictions", agendaResponseCacheService,
+                    service -> service.getStats().evictions())
+                    .description("Respostas serializadas removidas por invalidação ou limite de bytes")
+                    .register(registry);
+
+            Gauge.builder("voting.agenda.response.cache.bytes", agendaResponseCacheService,
+                    service -> service.getStats().bytes())
+                    .description("Bytes ocupados pelas respostas serializadas de pautas")
+                    .baseUnit("bytes")
+                    .register(registry);
+
+            Gauge.builder("voting.tally.stream.subscribers", tallyStreamService,
+                    TallyStreamService::getSubscriberCount)
+                    .description("Clientes inscritos no stream de contagem de votos")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.tally.reconciliation.agendas", tallyReconciliationService,
+                    service -> service.getStats().checkedAgendas())
+                    .description("Pautas conferidas contra a tabela de votos")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.tally.reconciliation.drifted", tallyReconciliationService,
+                    service -> service.getStats().driftedAgendas())
+                    .description("Pautas com contadores divergentes corrigidas")
+                    .register(registry);
+
+            FunctionCounter.builder("voting.tally.reconciliation.drift", tallyReconciliationService,
+                    service -> service.getStats().correctedVotes())
+                    .description("Votos corrigidos nos contadores (SIM e NÃO, em valor absoluto)")
+                    .register(registry);
+
+            Gauge.builder("voting.tally.reconciliation.last.drifted", tallyReconciliationService,
+                    service -> service.getStats().lastRunDrifted())
+                    .description("Pautas divergentes na última reconciliação")
+                    .register(registry);
+        };
+    }
+}
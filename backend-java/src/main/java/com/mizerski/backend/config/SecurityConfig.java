@@ -20,6 +20,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -56,6 +57,9 @@ public class SecurityConfig {
 
                 // Configura autorização de requisições
                 .authorizeHttpRequests(auth -> auth
+                        // Despacho assíncrono (streams SSE) já foi autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Rotas públicas (não requerem autenticação)
                         .requestMatchers(
                                 "/api/auth/**",
@@ -0,0 +1,82 @@
+package com.mizerski.backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.mizerski.backend.models.domains.Result;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mede as operações da camada de serviço que retornam Result.
+ *
+ * Falhas de negócio chegam como Result.error e não como exceções, por isso cada
+ * chamada é registrada com o código de erro do Result (USER_ALREADY_VOTED,
+ * AGENDA_NOT_OPEN...). Métricas:
+ * <ul>
+ * <li>voting.service.calls (timer): service, operation, outcome, error_code</li>
+ * <li>voting.service.errors (contador): service, operation, error_code</li>
+ * </ul>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String CALLS_METRIC = "voting.service.calls";
+    static final String ERRORS_METRIC = "voting.service.errors";
+
+    private static final String NO_ERROR = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Registra tempo e resultado de cada chamada aos serviços instrumentados
+     */
+    @Around("execution(com.mizerski.backend.models.domains.Result *(..)) && ("
+            + "within(com.mizerski.backend.services.VoteServiceImpl)"
+            + " || within(com.mizerski.backend.services.SessionServiceImpl)"
+            + " || within(com.mizerski.backend.services.AgendaServiceImpl)"
+            + " || within(com.mizerski.backend.services.AuthServiceImpl)"
+            + " || within(com.mizerski.backend.services.UserServiceImpl))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName().replace("Impl", "");
+        String operation = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        String outcome = "exception";
+        String errorCode = NO_ERROR;
+        try {
+            Object value = joinPoint.proceed();
+
+            if (value instanceof Result<?> result && result.isError()) {
+                outcome = "error";
+                errorCode = result.getErrorCode().orElse("UNKNOWN_ERROR");
+            } else {
+                outcome = "success";
+            }
+            return value;
+
+        } catch (Throwable e) {
+            errorCode = e.getClass().getSimpleName();
+            throw e;
+
+        } finally {
+            Tags tags = Tags.of("service", service, "operation", operation);
+            sample.stop(meterRegistry.timer(CALLS_METRIC, tags.and("outcome", outcome, "error_code", errorCode)));
+
+            if (!NO_ERROR.equals(errorCode)) {
+                Counter.builder(ERRORS_METRIC)
+                        .tags(tags.and("error_code", errorCode))
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+}
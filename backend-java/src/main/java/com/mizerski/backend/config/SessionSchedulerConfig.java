@@ -1,9 +1,13 @@
 package com.mizerski.backend.config;
 
+import java.time.LocalDateTime;
+
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import com.mizerski.backend.services.LeaderElectionService;
+import com.mizerski.backend.services.SessionActivatorService;
 import com.mizerski.backend.services.SessionService;
 
 import lombok.RequiredArgsConstructor;
@@ -11,6 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Configuração do scheduler para processar sessões expiradas automaticamente
+ *
+ * Os jobs usam o scheduler padrão do Spring Boot, que passa a rodar em threads
+ * virtuais com spring.threads.virtual.enabled em JRE 21+.
  */
 @Configuration
 @EnableScheduling
@@ -19,13 +26,44 @@ import lombok.extern.slf4j.Slf4j;
 public class SessionSchedulerConfig {
 
     private final SessionService sessionService;
+    private final LeaderElectionService leaderElectionService;
+    private final SessionActivatorService sessionActivatorService;
 
     /**
-     * Processa sessões expiradas a cada 30 segundos
-     * Finaliza automaticamente agendas cujas sessões expiraram
+     * Varredura de garantia das sessões agendadas (1 minuto por padrão).
+     * A ativação no início é feita pelo SessionActivatorService; aqui só
+     * sobram sessões agendadas por uma réplica que parou
      */
-    @Scheduled(fixedRate = 30000) // 30 segundos
+    @Scheduled(fixedDelayString = "${voting.session-activator.sweep-interval-ms:60000}")
+    public void activatePendingSessions() {
+        if (!leaderElectionService.isLeader()) {
+            return;
+        }
+
+        try {
+            int startedCount = sessionActivatorService.activateDue(LocalDateTime.now());
+
+            if (startedCount > 0) {
+                log.info("Scheduler: {} pautas de sessões agendadas iniciadas", startedCount);
+            }
+
+        } catch (Exception e) {
+            log.error("Erro no scheduler de sessões agendadas: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Varredura de garantia das sessões expiradas (5 minutos por padrão).
+     * O encerramento no término é feito pelo SessionCloserService; aqui só
+     * sobram pautas perdidas por falha ou reinício
+     */
+    @Scheduled(fixedDelayString = "${voting.session-closer.sweep-interval-ms:300000}")
     public void processExpiredSessions() {
+        // Com várias réplicas, apenas o líder varre o banco
+        if (!leaderElectionService.isLeader()) {
+            return;
+        }
+
         try {
             int processedCount = sessionService.processExpiredSessions();
 
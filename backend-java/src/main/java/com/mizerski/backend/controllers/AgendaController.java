@@ -1,8 +1,14 @@
 package com.mizerski.backend.controllers;
 
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,15 +18,25 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.mizerski.backend.annotations.ValidUUID;
 import com.mizerski.backend.dtos.request.CreateAgendaRequest;
 import com.mizerski.backend.dtos.request.StartSessionRequest;
 import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
+import com.mizerski.backend.models.domains.AgendaVersion;
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.SerializedResponse;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.TotalMode;
+import com.mizerski.backend.services.AgendaResponseCacheService;
 import com.mizerski.backend.services.AgendaService;
 import com.mizerski.backend.services.ErrorMappingService;
+import com.mizerski.backend.services.TallyStreamService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -40,16 +56,31 @@ import jakarta.validation.constraints.Min;
 public class AgendaController extends BaseController {
 
     private final AgendaService agendaService;
+    private final TallyStreamService tallyStreamService;
+    private final AgendaResponseCacheService agendaResponseCacheService;
+
+    /**
+     * Fuso da aplicação, o mesmo das datas serializadas e da conexão com o
+     * banco; o Last-Modified não depende do fuso da JVM
+     */
+    @Value("${spring.jackson.time-zone:America/Sao_Paulo}")
+    private ZoneId zoneId = ZoneId.of("America/Sao_Paulo");
 
     /**
      * Construtor para injeção de dependência via construtor
      * 
-     * @param errorMappingService Serviço de mapeamento de erros
-     * @param agendaService       Serviço de pautas
+     * @param errorMappingService        Serviço de mapeamento de erros
+     * @param agendaService              Serviço de pautas
+     * @param tallyStreamService         Serviço do stream de contagem de votos
+     * @param agendaResponseCacheService Cache de respostas serializadas de
+     *                                   pautas encerradas
      */
-    public AgendaController(ErrorMappingService errorMappingService, AgendaService agendaService) {
+    public AgendaController(ErrorMappingService errorMappingService, AgendaService agendaService,
+            TallyStreamService tallyStreamService, AgendaResponseCacheService agendaResponseCacheService) {
         super(errorMappingService);
         this.agendaService = agendaService;
+        this.tallyStreamService = tallyStreamService;
+        this.agendaResponseCacheService = agendaResponseCacheService;
     }
 
     /**
@@ -74,38 +105,96 @@ public class AgendaController extends BaseController {
 
     /**
      * Busca uma pauta pelo ID
+     * 
+     * Pautas encerradas ou canceladas são servidas com os bytes já
+     * serializados (e compactados) do cache de respostas. Nas demais, a versão
+     * da pauta é conferida com o If-None-Match antes de carregá-la; a resposta
+     * só é montada quando o cliente não tem essa versão.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Buscar pauta por ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pauta encontrada"),
+            @ApiResponse(responseCode = "304", description = "Pauta não modificada desde a versão do cliente"),
             @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
     })
-    public ResponseEntity<AgendaResponse> getAgendaById(
-            @PathVariable @ValidUUID(message = "ID deve ser um UUID válido") String id) {
+    public ResponseEntity<?> getAgendaById(
+            @PathVariable @ValidUUID(message = "ID deve ser um UUID válido") String id, WebRequest request) {
         logOperation("getAgendaById", id, true);
 
+        Optional<SerializedResponse> cached = agendaResponseCacheService.get(id);
+        if (cached.isPresent()) {
+            return handleSerializedGetOperation(cached.get(), request);
+        }
+
+        Optional<AgendaVersion> version = agendaService.getAgendaVersion(id);
+        if (version.isPresent()) {
+            String eTag = eTagOf(version.get().getStamp());
+            if (isNotModified(eTag, lastModifiedOf(version.get()), request)) {
+                return notModified(eTag);
+            }
+        }
+
+        long stamp = agendaResponseCacheService.stamp();
         Result<AgendaResponse> result = agendaService.getAgendaById(id);
 
         logOperation("getAgendaById", id, result.isSuccess());
 
-        return handleGetOperation(result);
+        Optional<SerializedResponse> serialized = result.getValue()
+                .flatMap(agenda -> agendaResponseCacheService.put(agenda, stamp));
+        if (serialized.isPresent()) {
+            return handleSerializedGetOperation(serialized.get(), request);
+        }
+
+        return handleConditionalGetOperation(result, AgendaController::versionOf, this::lastModifiedOfAgenda,
+                request);
     }
 
     /**
-     * Lista todas as pautas com paginação simples
+     * Stream (Server-Sent Events) da contagem de votos da pauta
+     */
+    @GetMapping(value = "/{id}/tally/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar contagem de votos", description = "Envia o evento snapshot com os totais atuais, eventos tally com os votos registrados a cada intervalo e o evento closed quando a sessão termina")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream iniciado"),
+            @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    })
+    public ResponseEntity<SseEmitter> streamTally(
+            @PathVariable @ValidUUID(message = "ID deve ser um UUID válido") String id) {
+        logQuery("streamTally", id);
+
+        Result<SseEmitter> result = agendaService.getAgendaById(id).map(tallyStreamService::subscribe);
+
+        if (!result.isSuccess()) {
+            return errorMappingService.mapErrorToResponse(result);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(result.getValue().get());
+    }
+
+    /**
+     * Lista todas as pautas com paginação simples.
+     * Retorna apenas o resumo (status e contadores); o detalhe completo fica em
+     * GET /{id}
      */
     @GetMapping
     @Operation(summary = "Listar todas as pautas")
     @ApiResponse(responseCode = "200", description = "Lista de pautas retornada com sucesso")
-    public ResponseEntity<PagedResponse<AgendaResponse>> getAllAgendas(
+    public ResponseEntity<PagedResponse<AgendaSummaryResponse>> getAllAgendas(
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest request) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PagedResponse<AgendaResponse> agendas = agendaService.getAllAgendas(pageable);
+        Optional<String> version = agendaService.getAgendaListVersion(AgendaStatus.ALL)
+                .map(listVersion -> listVersionOf(listVersion, page, size, includeDescription, withTotal));
 
-        return ResponseEntity.ok(agendas);
+        return handleConditionalGetOperation(version, () -> Result.success(agendaService.getAgendaSummaries(
+                AgendaStatus.ALL, includeDescription, TotalMode.of(withTotal, false), pageable)), request);
     }
 
     /**
@@ -114,14 +203,19 @@ public class AgendaController extends BaseController {
     @GetMapping("/open")
     @Operation(summary = "Listar pautas abertas")
     @ApiResponse(responseCode = "200", description = "Lista de pautas abertas")
-    public ResponseEntity<PagedResponse<AgendaResponse>> getOpenAgendas(
+    public ResponseEntity<PagedResponse<AgendaSummaryResponse>> getOpenAgendas(
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest request) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PagedResponse<AgendaResponse> agendas = agendaService.getAllAgendasWithOpenSessions(pageable);
+        Optional<String> version = agendaService.getAgendaListVersion(AgendaStatus.OPEN)
+                .map(listVersion -> listVersionOf(listVersion, page, size, includeDescription, withTotal));
 
-        return ResponseEntity.ok(agendas);
+        return handleConditionalGetOperation(version, () -> Result.success(agendaService.getAgendaSummaries(
+                AgendaStatus.OPEN, includeDescription, TotalMode.of(withTotal, false), pageable)), request);
     }
 
     /**
@@ -130,14 +224,76 @@ public class AgendaController extends BaseController {
     @GetMapping("/finished")
     @Operation(summary = "Listar pautas finalizadas")
     @ApiResponse(responseCode = "200", description = "Lista de pautas finalizadas")
-    public ResponseEntity<PagedResponse<AgendaResponse>> getFinishedAgendas(
+    public ResponseEntity<PagedResponse<AgendaSummaryResponse>> getFinishedAgendas(
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest request) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "updatedAt"));
-        PagedResponse<AgendaResponse> agendas = agendaService.getAllAgendasFinished(pageable);
+        Optional<String> version = agendaService.getAgendaListVersion(AgendaStatus.FINISHED)
+                .map(listVersion -> listVersionOf(listVersion, page, size, includeDescription, withTotal));
 
-        return ResponseEntity.ok(agendas);
+        return handleConditionalGetOperation(version, () -> Result.success(agendaService.getAgendaSummaries(
+                AgendaStatus.FINISHED, includeDescription, TotalMode.of(withTotal, false), pageable)), request);
+    }
+
+    /**
+     * Lista todas as pautas com paginação por cursor (mais recentes primeiro)
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar todas as pautas por cursor", description = "Paginação keyset: envie nextCursor no parâmetro after para obter a próxima página")
+    @ApiResponse(responseCode = "200", description = "Página de pautas retornada com sucesso")
+    public ResponseEntity<CursorPagedResponse<AgendaSummaryResponse>> getAllAgendasByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            WebRequest request) {
+
+        Optional<String> version = agendaService.getAgendaListVersion(AgendaStatus.ALL)
+                .map(listVersion -> listVersionOf(listVersion, after, size, includeDescription));
+
+        return handleConditionalGetOperation(version,
+                () -> agendaService.getAgendaSummaries(AgendaStatus.ALL, includeDescription, after, size), request);
+    }
+
+    /**
+     * Lista pautas abertas com paginação por cursor (mais recentes primeiro)
+     */
+    @GetMapping("/open/cursor")
+    @Operation(summary = "Listar pautas abertas por cursor", description = "Paginação keyset: envie nextCursor no parâmetro after para obter a próxima página")
+    @ApiResponse(responseCode = "200", description = "Página de pautas retornada com sucesso")
+    public ResponseEntity<CursorPagedResponse<AgendaSummaryResponse>> getOpenAgendasByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            WebRequest request) {
+
+        Optional<String> version = agendaService.getAgendaListVersion(AgendaStatus.OPEN)
+                .map(listVersion -> listVersionOf(listVersion, after, size, includeDescription));
+
+        return handleConditionalGetOperation(version,
+                () -> agendaService.getAgendaSummaries(AgendaStatus.OPEN, includeDescription, after, size), request);
+    }
+
+    /**
+     * Lista pautas finalizadas com paginação por cursor (mais recentes primeiro)
+     */
+    @GetMapping("/finished/cursor")
+    @Operation(summary = "Listar pautas finalizadas por cursor", description = "Paginação keyset: envie nextCursor no parâmetro after para obter a próxima página")
+    @ApiResponse(responseCode = "200", description = "Página de pautas retornada com sucesso")
+    public ResponseEntity<CursorPagedResponse<AgendaSummaryResponse>> getFinishedAgendasByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            WebRequest request) {
+
+        Optional<String> version = agendaService.getAgendaListVersion(AgendaStatus.FINISHED)
+                .map(listVersion -> listVersionOf(listVersion, after, size, includeDescription));
+
+        return handleConditionalGetOperation(version,
+                () -> agendaService.getAgendaSummaries(AgendaStatus.FINISHED, includeDescription, after, size), request);
     }
 
     /**
@@ -163,4 +319,56 @@ public class AgendaController extends BaseController {
 
         return handleUpdateOperation(result);
     }
-}
\ No newline at end of file
+
+    /**
+     * Carimbo de versão da pauta carregada; o mesmo da consulta leve de versão
+     * quando a pauta está no mesmo estado
+     */
+    private static String versionOf(AgendaResponse agenda) {
+        return toVersion(agenda).getStamp();
+    }
+
+    private long lastModifiedOfAgenda(AgendaResponse agenda) {
+        return lastModifiedOf(toVersion(agenda));
+    }
+
+    /**
+     * Data de alteração só é informada para pautas encerradas ou canceladas;
+     * nas demais os votos mudam a pauta sem alterar updatedAt
+     */
+    private long lastModifiedOf(AgendaVersion version) {
+        if (!version.isClosed() || version.getUpdatedAt() == null) {
+            return -1L;
+        }
+
+        return version.getUpdatedAt().atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    private static AgendaVersion toVersion(AgendaResponse agenda) {
+        return new AgendaVersion(agenda.getId(), agenda.getUpdatedAt(), agenda.getStatus(), agenda.getResult(),
+                agenda.getIsActive(), valueOf(agenda.getTotalVotes()), valueOf(agenda.getYesVotes()),
+                valueOf(agenda.getNoVotes()), sizeOf(agenda.getVotes()), sizeOf(agenda.getSessions()));
+    }
+
+    /**
+     * Carimbo de versão de uma listagem: os parâmetros da página e a versão
+     * das pautas no filtro
+     */
+    private static String listVersionOf(String listVersion, Object... params) {
+        StringBuilder version = new StringBuilder();
+
+        for (Object param : params) {
+            version.append(param).append('|');
+        }
+
+        return version.append(listVersion).toString();
+    }
+
+    private static int valueOf(Integer counter) {
+        return counter != null ? counter : 0;
+    }
+
+    private static int sizeOf(List<?> items) {
+        return items != null ? items.size() : 0;
+    }
+}
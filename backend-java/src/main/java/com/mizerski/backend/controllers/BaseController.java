@@ -1,13 +1,28 @@
 package com.mizerski.backend.controllers;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.SerializedResponse;
 import com.mizerski.backend.services.ErrorMappingService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,6 +74,181 @@ public abstract class BaseController {
         return errorMappingService.mapErrorToResponse(result);
     }
 
+    /**
+     * Cria ResponseEntity para buscas com GET condicional (ETag/If-None-Match)
+     * a partir de uma versão lida antes do recurso: o recurso só é carregado
+     * quando o cliente não tem essa versão
+     * 
+     * @param version Carimbo de versão do recurso (vazio quando não foi possível
+     *                obtê-lo; o recurso é servido sem ETag)
+     * @param loader  Carrega o recurso
+     * @param request Requisição atual
+     * @return ResponseEntity com status 200 e ETag, 304 sem corpo quando o
+     *         cliente já tem a versão atual, ou erro
+     */
+    protected <T> ResponseEntity<T> handleConditionalGetOperation(Optional<String> version,
+            Supplier<Result<T>> loader, WebRequest request) {
+        if (version.isEmpty()) {
+            return handleGetOperation(loader.get());
+        }
+
+        String eTag = eTagOf(version.get());
+        if (isNotModified(eTag, -1L, request)) {
+            return notModified(eTag);
+        }
+
+        Result<T> result = loader.get();
+        if (!result.isSuccess()) {
+            return handleGetOperation(result);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(result.getValue().orElse(null));
+    }
+
+    /**
+     * Cria ResponseEntity para buscas com GET condicional (ETag/If-None-Match e
+     * Last-Modified/If-Modified-Since)
+     * 
+     * @param result             Resultado da operação
+     * @param versionGetter      Função que monta o carimbo de versão do recurso
+     * @param lastModifiedGetter Função com a última alteração em milissegundos
+     *                           (negativo quando não se aplica)
+     * @param request            Requisição atual
+     * @return ResponseEntity com status 200 e ETag, 304 sem corpo quando o
+     *         cliente já tem a versão atual, ou erro
+     */
+    protected <T> ResponseEntity<T> handleConditionalGetOperation(Result<T> result,
+            Function<T, String> versionGetter, ToLongFunction<T> lastModifiedGetter, WebRequest request) {
+        if (!result.isSuccess() || result.getValue().isEmpty()) {
+            return handleGetOperation(result);
+        }
+
+        T value = result.getValue().get();
+        String eTag = eTagOf(versionGetter.apply(value));
+        long lastModified = lastModifiedGetter.applyAsLong(value);
+
+        // O corpo só é serializado quando o cliente não tem a versão atual
+        if (request.checkNotModified(eTag, lastModified)) {
+            return notModified(eTag);
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache());
+
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+
+        return builder.body(value);
+    }
+
+    /**
+     * Cria ResponseEntity com uma resposta já serializada, escrevendo os bytes
+     * direto (sem Jackson), com GET condicional e a versão gzip quando o
+     * cliente aceita
+     * 
+     * @param response Resposta serializada
+     * @param request  Requisição atual
+     * @return ResponseEntity com status 200 e o corpo, ou 304 sem corpo quando o
+     *         cliente já tem a versão atual
+     */
+    protected ResponseEntity<byte[]> handleSerializedGetOperation(SerializedResponse response,
+            WebRequest request) {
+        boolean gzip = response.getGzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? response.getGzipETag() : response.getETag();
+
+        if (request.checkNotModified(eTag, response.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (response.getLastModified() >= 0) {
+            builder.lastModified(response.getLastModified());
+        }
+
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.getGzip());
+        }
+
+        return builder.body(response.getJson());
+    }
+
+    /**
+     * Verifica se o Accept-Encoding aceita gzip (ignora codificações com q=0)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Confere os validadores do cliente (If-None-Match e If-Modified-Since) sem
+     * alterar a resposta. Usado com uma versão lida antes do recurso: se o
+     * recurso carregado depois tiver outra versão, a resposta leva o ETag do
+     * recurso, e não o da versão conferida.
+     * 
+     * @param eTag         ETag da versão conferida
+     * @param lastModified Última alteração em milissegundos (negativo quando
+     *                     não se aplica)
+     * @param request      Requisição atual
+     * @return true se o cliente já tem essa versão
+     */
+    protected static boolean isNotModified(String eTag, long lastModified, WebRequest request) {
+        HttpServletRequest servletRequest = request instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeRequest(HttpServletRequest.class)
+                : null;
+
+        return servletRequest != null && new ServletWebRequest(servletRequest).checkNotModified(eTag, lastModified);
+    }
+
+    /**
+     * Cria ResponseEntity 304 sem corpo com o ETag da versão do cliente
+     * 
+     * @param eTag ETag da versão atual
+     * @return ResponseEntity com status 304
+     */
+    protected static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    /**
+     * Monta um ETag forte a partir do carimbo de versão do recurso
+     * 
+     * @param version Carimbo de versão
+     * @return ETag entre aspas
+     */
+    protected static String eTagOf(String version) {
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     /**
      * Cria ResponseEntity para operações de atualização com Result pattern
      * 
@@ -18,9 +18,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.mizerski.backend.annotations.ValidUUID;
 import com.mizerski.backend.dtos.request.CreateUserRequest;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.UserResponse;
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.TotalMode;
 import com.mizerski.backend.services.ErrorMappingService;
 import com.mizerski.backend.services.UserService;
 
@@ -123,12 +125,14 @@ public class UserController extends BaseController {
 
             @RequestParam(defaultValue = "createdAt") @Parameter(description = "Campo para ordenação: id, name, email, createdAt") String sort,
 
-            @RequestParam(defaultValue = "desc") @Pattern(regexp = "^(asc|desc)$", message = "Direção deve ser 'asc' ou 'desc'") String direction) {
+            @RequestParam(defaultValue = "desc") @Pattern(regexp = "^(asc|desc)$", message = "Direção deve ser 'asc' ou 'desc'") String direction,
+
+            @RequestParam(defaultValue = "true") @Parameter(description = "false dispensa a contagem e informa apenas hasNext") boolean withTotal) {
 
         logQuery("getAllUsers", String.format("page=%d, size=%d", page, size));
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.valueOf(direction.toUpperCase()), sort));
-        Result<PagedResponse<UserResponse>> result = userService.getAllUsers(pageable);
+        Result<PagedResponse<UserResponse>> result = userService.getAllUsers(pageable, TotalMode.of(withTotal, false));
 
         if (result.isSuccess()) {
             return ResponseEntity.ok()
@@ -139,6 +143,26 @@ public class UserController extends BaseController {
         return errorMappingService.mapErrorToResponse(result);
     }
 
+    /**
+     * Lista usuários com paginação por cursor (mais recentes primeiro)
+     *
+     * @param after Cursor retornado pela página anterior (ausente na primeira)
+     * @param size  Tamanho da página (padrão: 20, máximo: 100)
+     * @return página de usuários e o cursor da próxima
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar usuários por cursor", description = "Paginação keyset: envie nextCursor no parâmetro after para obter a próxima página")
+    @ApiResponse(responseCode = "200", description = "Página de usuários retornada com sucesso")
+    public ResponseEntity<CursorPagedResponse<UserResponse>> getAllUsersByCursor(
+            @RequestParam(required = false) String after,
+
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "Tamanho deve ser maior que 0") @Max(value = 100, message = "Tamanho máximo é 100") int size) {
+
+        logQuery("getAllUsersByCursor", String.format("after=%s, size=%d", after, size));
+
+        return handleGetOperation(userService.getAllUsers(after, size));
+    }
+
     /**
      * Busca usuários por email (busca parcial)
      *
@@ -154,12 +178,14 @@ public class UserController extends BaseController {
             @RequestParam @Pattern(regexp = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$|^[a-zA-Z0-9._%+-]+$", message = "Email deve ter formato válido ou ser uma busca parcial") String email,
 
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
         logQuery("searchUsersByEmail", String.format("email=%s, page=%d, size=%d", email, page, size));
 
         Pageable pageable = PageRequest.of(page, size);
-        Result<PagedResponse<UserResponse>> result = userService.searchUsersByEmail(email, pageable);
+        Result<PagedResponse<UserResponse>> result = userService.searchUsersByEmail(email, pageable,
+                TotalMode.of(withTotal, false));
 
         if (result.isSuccess()) {
             return ResponseEntity.ok()
@@ -1,5 +1,10 @@
 package com.mizerski.backend.controllers;
 
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,17 +14,27 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.mizerski.backend.annotations.ValidUUID;
 import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.BatchVoteResponse;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.dtos.response.VoteSummaryResponse;
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.ExportFormat;
+import com.mizerski.backend.models.enums.TotalMode;
 import com.mizerski.backend.services.ErrorMappingService;
 import com.mizerski.backend.services.IdempotencyService;
+import com.mizerski.backend.services.VoteBatchService;
+import com.mizerski.backend.services.VoteExportService;
+import com.mizerski.backend.services.VoteIngestionService;
 import com.mizerski.backend.services.VoteService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -38,19 +53,29 @@ public class VoteController extends BaseController {
 
     private final VoteService voteService;
     private final IdempotencyService idempotencyService;
+    private final VoteIngestionService voteIngestionService;
+    private final VoteBatchService voteBatchService;
+    private final VoteExportService voteExportService;
 
     /**
      * Construtor para injeção de dependência via construtor
      * 
-     * @param errorMappingService Serviço de mapeamento de erros
-     * @param voteService         Serviço de votos
-     * @param idempotencyService  Serviço de idempotência
+     * @param errorMappingService  Serviço de mapeamento de erros
+     * @param voteService          Serviço de votos
+     * @param idempotencyService   Serviço de idempotência
+     * @param voteIngestionService Pipeline de ingestão de votos (write-behind)
+     * @param voteBatchService     Serviço de envio de votos em lote
+     * @param voteExportService    Serviço de exportação de votos
      */
     public VoteController(ErrorMappingService errorMappingService, VoteService voteService,
-            IdempotencyService idempotencyService) {
+            IdempotencyService idempotencyService, VoteIngestionService voteIngestionService,
+            VoteBatchService voteBatchService, VoteExportService voteExportService) {
         super(errorMappingService);
         this.voteService = voteService;
         this.idempotencyService = idempotencyService;
+        this.voteIngestionService = voteIngestionService;
+        this.voteBatchService = voteBatchService;
+        this.voteExportService = voteExportService;
     }
 
     /**
@@ -78,6 +103,30 @@ public class VoteController extends BaseController {
         return handleCreateOperation(result, vote -> vote.getId());
     }
 
+    /**
+     * Registra um lote de votos com resultado individual por voto
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Registrar votos em lote", description = "Registra vários votos em uma única requisição. "
+            + "Cada voto recebe seu próprio resultado; um voto rejeitado não invalida os demais")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado, ver resultado de cada voto"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite")
+    })
+    public ResponseEntity<?> createVotesBatch(@RequestBody List<CreateVoteRequest> requests) {
+        logOperation("createVotesBatch", String.format("votes=%d", requests.size()), true);
+
+        Result<BatchVoteResponse> result = voteBatchService.submitBatch(requests);
+
+        logResult("createVotesBatch", String.format("votes=%d", requests.size()), result);
+
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(result.getValue().orElse(null));
+        }
+
+        return errorMappingService.mapErrorToResponse(result);
+    }
+
     /**
      * Busca um voto específico por usuário e pauta
      */
@@ -102,13 +151,16 @@ public class VoteController extends BaseController {
     @GetMapping("/agenda/{agendaId}")
     @Operation(summary = "Listar votos por pauta")
     @ApiResponse(responseCode = "200", description = "Lista de votos da pauta")
-    public ResponseEntity<PagedResponse<VoteResponse>> getVotesByAgenda(
+    public ResponseEntity<PagedResponse<VoteSummaryResponse>> getVotesByAgenda(
             @PathVariable @ValidUUID(message = "ID da agenda deve ser um UUID válido") String agendaId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") @Parameter(description = "Total pelos contadores da pauta, sem COUNT(*)") boolean approximateTotal) {
 
-        Result<PagedResponse<VoteResponse>> result = voteService.getAllVotesByAgendaId(agendaId,
-                org.springframework.data.domain.PageRequest.of(page, size));
+        Result<PagedResponse<VoteSummaryResponse>> result = voteService.getAllVotesByAgendaId(agendaId,
+                org.springframework.data.domain.PageRequest.of(page, size),
+                TotalMode.of(withTotal, approximateTotal));
 
         if (result.isSuccess()) {
             return ResponseEntity.ok(result.getValue().orElse(null));
@@ -117,19 +169,67 @@ public class VoteController extends BaseController {
         return errorMappingService.mapErrorToResponse(result);
     }
 
+    /**
+     * Lista os votos de uma pauta com paginação por cursor (mais recentes
+     * primeiro)
+     */
+    @GetMapping("/agenda/{agendaId}/cursor")
+    @Operation(summary = "Listar votos por pauta por cursor", description = "Paginação keyset: envie nextCursor no parâmetro after para obter a próxima página")
+    @ApiResponse(responseCode = "200", description = "Página de votos da pauta")
+    public ResponseEntity<CursorPagedResponse<VoteSummaryResponse>> getVotesByAgendaByCursor(
+            @PathVariable @ValidUUID(message = "ID da agenda deve ser um UUID válido") String agendaId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        return handleGetOperation(voteService.getAllVotesByAgendaId(agendaId, after, size));
+    }
+
+    /**
+     * Exporta todos os votos de uma pauta, em ordem de registro, como arquivo
+     * NDJSON ou CSV escrito conforme os votos são lidos do banco
+     */
+    @GetMapping("/agenda/{agendaId}/export")
+    @Operation(summary = "Exportar votos por pauta", description = "Formatos: ndjson (um objeto JSON por linha) ou csv")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo com os votos da pauta"),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado"),
+            @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    })
+    public ResponseEntity<StreamingResponseBody> exportVotesByAgenda(
+            @PathVariable @ValidUUID(message = "ID da agenda deve ser um UUID válido") String agendaId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        ExportFormat exportFormat = ExportFormat.of(format);
+        Result<StreamingResponseBody> result = voteExportService.exportVotesByAgendaId(agendaId, exportFormat);
+
+        if (!result.isSuccess()) {
+            return errorMappingService.mapErrorToResponse(result);
+        }
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("votes-" + agendaId + "." + exportFormat.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(result.getValue().get());
+    }
+
     /**
      * Lista todos os votos de um usuário
      */
     @GetMapping("/user/{userId}")
     @Operation(summary = "Listar votos por usuário")
     @ApiResponse(responseCode = "200", description = "Lista de votos do usuário")
-    public ResponseEntity<PagedResponse<VoteResponse>> getVotesByUser(
+    public ResponseEntity<PagedResponse<VoteSummaryResponse>> getVotesByUser(
             @PathVariable @ValidUUID(message = "ID do usuário deve ser um UUID válido") String userId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        Result<PagedResponse<VoteResponse>> result = voteService.getAllVotesByUserId(userId,
-                org.springframework.data.domain.PageRequest.of(page, size));
+        Result<PagedResponse<VoteSummaryResponse>> result = voteService.getAllVotesByUserId(userId,
+                org.springframework.data.domain.PageRequest.of(page, size), TotalMode.of(withTotal, false));
 
         if (result.isSuccess()) {
             return ResponseEntity.ok(result.getValue().orElse(null));
@@ -138,24 +238,33 @@ public class VoteController extends BaseController {
         return errorMappingService.mapErrorToResponse(result);
     }
 
+    /**
+     * Lista os votos de um usuário com paginação por cursor (mais recentes
+     * primeiro)
+     */
+    @GetMapping("/user/{userId}/cursor")
+    @Operation(summary = "Listar votos por usuário por cursor", description = "Paginação keyset: envie nextCursor no parâmetro after para obter a próxima página")
+    @ApiResponse(responseCode = "200", description = "Página de votos do usuário")
+    public ResponseEntity<CursorPagedResponse<VoteSummaryResponse>> getVotesByUserByCursor(
+            @PathVariable @ValidUUID(message = "ID do usuário deve ser um UUID válido") String userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        return handleGetOperation(voteService.getAllVotesByUserId(userId, after, size));
+    }
+
     /**
      * Cria um voto com idempotência inteligente
      * 
      * Estratégia:
-     * 1. Verifica se usuário já votou (validação de negócio)
-     * 2. Se já votou, retorna erro 409 (não usa cache)
-     * 3. Se não votou, usa idempotência para evitar requisições duplicadas
+     * 1. Usa idempotência para evitar requisições duplicadas
+     * 2. Não consulta votos existentes: o voto duplicado é rejeitado pela
+     * constraint única do banco e retornado como 409 (não usa cache)
+     * 3. No modo write-behind, o voto segue para o pipeline de ingestão em lote
+     * sem abrir transação própria
      */
     private Result<VoteResponse> createVoteWithSmartIdempotency(CreateVoteRequest request) {
 
-        Result<VoteResponse> existingVote = voteService.getVoteByUserIdAndAgendaId(
-                request.getUserId(),
-                request.getAgendaId());
-
-        if (existingVote.isSuccess()) {
-            return Result.error("USER_ALREADY_VOTED", "O usuário já votou na pauta");
-        }
-
         String idempotencyKey = idempotencyService.generateKey(
                 "createVote",
                 request.getUserId(),
@@ -167,7 +276,9 @@ public class VoteController extends BaseController {
             return cachedResult;
         }
 
-        Result<VoteResponse> result = voteService.createVote(request);
+        Result<VoteResponse> result = voteIngestionService.isEnabled()
+                ? voteIngestionService.submit(request)
+                : voteService.createVote(request);
 
         if (result.isSuccess()) {
             idempotencyService.storeResult(idempotencyKey, result.getValue().orElse(null), 300);
@@ -0,0 +1,56 @@
+package com.mizerski.backend.dtos.response;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mizerski.backend.models.enums.AgendaCategory;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resumo de agenda para as listagens.
+ *
+ * Contém apenas status, contadores e a janela da última sessão, sem as
+ * coleções de votos e sessões. A descrição só é preenchida quando solicitada. Montado diretamente por projeção na consulta
+ * (AgendaRepository), sem carregar a entidade.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgendaSummaryResponse {
+
+    private String id;
+    private String title;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String description;
+
+    private AgendaStatus status;
+    private AgendaCategory category;
+    private AgendaResult result;
+    private Integer totalVotes;
+    private Integer yesVotes;
+    private Integer noVotes;
+    private Boolean isActive;
+    private LocalDateTime sessionStartTime;
+    private LocalDateTime sessionEndTime;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Construtor usado pela projeção sem a descrição
+     */
+    public AgendaSummaryResponse(String id, String title, AgendaStatus status, AgendaCategory category,
+            AgendaResult result, Integer totalVotes, Integer yesVotes, Integer noVotes, Boolean isActive,
+            LocalDateTime sessionStartTime, LocalDateTime sessionEndTime, LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this(id, title, null, status, category, result, totalVotes, yesVotes, noVotes, isActive, sessionStartTime,
+                sessionEndTime, createdAt, updatedAt);
+    }
+}
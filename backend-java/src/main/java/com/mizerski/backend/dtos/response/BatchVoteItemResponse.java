@@ -0,0 +1,23 @@
+package com.mizerski.backend.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para o resultado de um voto dentro de um envio em lote
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchVoteItemResponse {
+
+    private int index;
+    private boolean success;
+    private VoteResponse vote;
+    private String errorCode;
+    private String message;
+
+}
@@ -0,0 +1,22 @@
+package com.mizerski.backend.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta de envio de votos em lote.
+ * Os resultados seguem a mesma ordem dos votos enviados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchVoteResponse {
+
+    private List<BatchVoteItemResponse> results;
+    private int accepted;
+    private int rejected;
+
+}
@@ -0,0 +1,44 @@
+package com.mizerski.backend.dtos.response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.mizerski.backend.models.domains.PageCursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para respostas paginadas por cursor (keyset).
+ *
+ * Não há total de elementos nem número de página: o cliente segue nextCursor
+ * (parâmetro "after") até que hasNext seja falso.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPagedResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * Monta a resposta a partir de uma consulta que buscou size + 1 itens; o
+     * item excedente só indica que existe uma próxima página
+     *
+     * @param rows Itens retornados pela consulta (até size + 1)
+     * @param size Tamanho da página
+     * @param key  Extrai a chave (createdAt, id) de um item
+     * @return Resposta paginada por cursor
+     */
+    public static <T> CursorPagedResponse<T> of(List<T> rows, int size, Function<T, PageCursor> key) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? key.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPagedResponse<>(content, size, nextCursor, hasNext);
+    }
+}
@@ -2,12 +2,19 @@ package com.mizerski.backend.dtos.response;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
+
+import com.mizerski.backend.models.enums.TotalMode;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * DTO simplificado para respostas paginadas
+ * DTO simplificado para respostas paginadas.
+ *
+ * Sem contagem (totalMode NONE), totalElements e totalPages valem -1 e apenas
+ * hasNext indica se há próxima página.
  */
 @Data
 @NoArgsConstructor
@@ -19,12 +26,47 @@ public class PagedResponse<T> {
     private int size;
     private long totalElements;
     private int totalPages;
+    private boolean hasNext;
+    private TotalMode totalMode;
 
     public PagedResponse(List<T> content, int page, int size, long totalElements) {
+        this(content, page, size, totalElements, TotalMode.EXACT);
+    }
+
+    public PagedResponse(List<T> content, int page, int size, long totalElements, TotalMode totalMode) {
         this.content = content;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
         this.totalPages = (int) Math.ceil((double) totalElements / size);
+        this.hasNext = page + 1 < totalPages;
+        this.totalMode = totalMode;
+    }
+
+    /**
+     * Monta a resposta de uma fatia sem contagem
+     *
+     * @param content Itens da página já convertidos
+     * @param slice   Fatia retornada pelo repositório
+     * @return Resposta paginada com hasNext e sem total
+     */
+    public static <T> PagedResponse<T> ofSlice(List<T> content, Slice<?> slice) {
+        return new PagedResponse<>(content, slice.getNumber(), slice.getSize(), -1, -1, slice.hasNext(),
+                TotalMode.NONE);
+    }
+
+    /**
+     * Monta a resposta de uma fatia com total aproximado (contador mantido)
+     *
+     * @param content       Itens da página já convertidos
+     * @param slice         Fatia retornada pelo repositório
+     * @param totalElements Total aproximado
+     * @return Resposta paginada com total aproximado
+     */
+    public static <T> PagedResponse<T> ofSlice(List<T> content, Slice<?> slice, long totalElements) {
+        PagedResponse<T> response = new PagedResponse<>(content, slice.getNumber(), slice.getSize(),
+                totalElements, TotalMode.APPROXIMATE);
+        response.setHasNext(slice.hasNext());
+        return response;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.mizerski.backend.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para os eventos do stream de contagem de votos de uma pauta.
+ *
+ * No evento snapshot os contadores são os totais da pauta; nos eventos tally
+ * são os votos registrados desde o evento anterior; o evento closed traz só o
+ * status final.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TallyEventResponse {
+
+    private String agendaId;
+    private AgendaStatus status;
+    private Integer totalVotes;
+    private Integer yesVotes;
+    private Integer noVotes;
+
+}
@@ -0,0 +1,28 @@
+package com.mizerski.backend.dtos.response;
+
+import java.time.LocalDateTime;
+
+import com.mizerski.backend.models.enums.VoteType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO resumido de voto para listagens: identifica o votante apenas por ID e
+ * nome, sem o usuário completo
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteSummaryResponse {
+
+    private String id;
+    private VoteType voteType;
+    private String userId;
+    private String userName;
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,47 @@
+package com.mizerski.backend.models.domains;
+
+import java.time.LocalDateTime;
+
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Versão de uma pauta: os campos que mudam a resposta de detalhe (contadores
+ * já somados aos shards e tamanho das listas de votos e sessões), lidos sem
+ * carregar a entidade
+ */
+@Getter
+@AllArgsConstructor
+public class AgendaVersion {
+
+    private final String id;
+    private final LocalDateTime updatedAt;
+    private final AgendaStatus status;
+    private final AgendaResult result;
+    private final Boolean isActive;
+    private final int totalVotes;
+    private final int yesVotes;
+    private final int noVotes;
+    private final long votes;
+    private final long sessions;
+
+    /**
+     * Carimbo da versão; o mesmo para a consulta leve e para a resposta
+     * completa da pauta no mesmo estado
+     */
+    public String getStamp() {
+        return String.join("|", id, String.valueOf(updatedAt), String.valueOf(status), String.valueOf(result),
+                String.valueOf(isActive), String.valueOf(totalVotes), String.valueOf(yesVotes),
+                String.valueOf(noVotes), String.valueOf(votes), String.valueOf(sessions));
+    }
+
+    /**
+     * Pautas encerradas ou canceladas não mudam mais
+     */
+    public boolean isClosed() {
+        return status == AgendaStatus.FINISHED || status == AgendaStatus.CANCELLED;
+    }
+}
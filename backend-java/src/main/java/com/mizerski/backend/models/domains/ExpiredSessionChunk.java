@@ -0,0 +1,20 @@
+package com.mizerski.backend.models.domains;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de um lote da varredura de sessões expiradas: quantas sessões
+ * foram marcadas como encerradas, de quais pautas, e quais pautas foram
+ * finalizadas por elas
+ */
+@Getter
+@AllArgsConstructor
+public class ExpiredSessionChunk {
+
+    private final int closedSessions;
+    private final List<String> closedAgendaIds;
+    private final List<String> finishedAgendaIds;
+}
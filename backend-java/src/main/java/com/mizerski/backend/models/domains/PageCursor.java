@@ -0,0 +1,64 @@
+package com.mizerski.backend.models.domains;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domínio imutável que representa a posição de uma paginação por cursor
+ * (keyset): a chave (createdAt, id) do último item entregue.
+ *
+ * A página seguinte busca apenas os itens estritamente anteriores a essa
+ * chave na ordenação (createdAt DESC, id DESC), sem OFFSET. O valor trafega
+ * como um token opaco em Base64 URL-safe.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    /**
+     * Posição anterior a qualquer item; usada na primeira página
+     */
+    public static final PageCursor START = new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), "");
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    /**
+     * Decodifica o token recebido do cliente
+     *
+     * @param token Token opaco ou null/vazio para a primeira página
+     * @return Cursor correspondente
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Cursor de paginação inválido");
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+    }
+
+    /**
+     * Codifica o cursor como token opaco
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
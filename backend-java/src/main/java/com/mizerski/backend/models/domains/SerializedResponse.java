@@ -0,0 +1,49 @@
+package com.mizerski.backend.models.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resposta JSON já serializada, pronta para ser escrita sem passar pelo
+ * Jackson, com a versão compactada (gzip) quando compensa
+ */
+@Getter
+@AllArgsConstructor
+public class SerializedResponse {
+
+    private final byte[] json;
+
+    /**
+     * Corpo compactado; null quando o JSON é pequeno demais para compensar
+     */
+    private final byte[] gzip;
+
+    /**
+     * ETag forte do corpo JSON; a versão compactada usa {@link #getGzipETag()}
+     */
+    private final String eTag;
+
+    /**
+     * Última alteração em milissegundos (negativo quando não se aplica)
+     */
+    private final long lastModified;
+
+    /**
+     * ETag da versão compactada: cada codificação é uma representação
+     * diferente e precisa de validador próprio
+     *
+     * @return ETag forte da versão gzip
+     */
+    public String getGzipETag() {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Bytes ocupados pela resposta em memória
+     *
+     * @return Tamanho do JSON somado ao do gzip
+     */
+    public long getSize() {
+        return json.length + (gzip != null ? gzip.length : 0L);
+    }
+}
@@ -0,0 +1,24 @@
+package com.mizerski.backend.models.domains;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de um lote de ativação de sessões agendadas: horários de início
+ * das sessões ativadas (para medir o atraso) e pautas que passaram para
+ * IN_PROGRESS
+ */
+@Getter
+@AllArgsConstructor
+public class SessionActivationChunk {
+
+    private final List<LocalDateTime> startTimes;
+    private final List<String> startedAgendaIds;
+
+    public int getActivatedSessions() {
+        return startTimes.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.mizerski.backend.models.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Comparação, em um mesmo snapshot, entre os contadores de uma pauta
+ * (agendas mais shards) e a contagem real na tabela de votos
+ */
+@Getter
+@AllArgsConstructor
+public class TallyCheck {
+
+    private final String agendaId;
+    private final VoteTally stored;
+    private final VoteTally counted;
+
+    /**
+     * Correção a somar aos contadores para igualá-los à contagem real
+     */
+    public VoteTally getDrift() {
+        return counted.minus(stored);
+    }
+
+    public boolean hasDrift() {
+        return !getDrift().isEmpty();
+    }
+}
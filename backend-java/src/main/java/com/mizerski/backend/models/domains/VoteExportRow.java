@@ -0,0 +1,21 @@
+package com.mizerski.backend.models.domains;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projeção de um voto para exportação: apenas as colunas exportadas, lidas
+ * direto do ResultSet, sem entidade gerenciada pelo Hibernate
+ */
+@Getter
+@AllArgsConstructor
+public class VoteExportRow {
+
+    private final String id;
+    private final String voteType;
+    private final String userId;
+    private final String userName;
+    private final LocalDateTime createdAt;
+}
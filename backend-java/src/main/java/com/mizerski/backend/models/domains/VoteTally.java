@@ -0,0 +1,39 @@
+package com.mizerski.backend.models.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domínio imutável que representa uma contagem de votos (total, SIM e NÃO)
+ */
+@Getter
+@AllArgsConstructor
+public class VoteTally {
+
+    public static final VoteTally EMPTY = new VoteTally(0, 0, 0);
+
+    private final int totalVotes;
+    private final int yesVotes;
+    private final int noVotes;
+
+    /**
+     * Soma duas contagens
+     */
+    public VoteTally plus(VoteTally other) {
+        return new VoteTally(totalVotes + other.totalVotes, yesVotes + other.yesVotes, noVotes + other.noVotes);
+    }
+
+    /**
+     * Subtrai outra contagem desta
+     */
+    public VoteTally minus(VoteTally other) {
+        return new VoteTally(totalVotes - other.totalVotes, yesVotes - other.yesVotes, noVotes - other.noVotes);
+    }
+
+    /**
+     * Verifica se a contagem está zerada
+     */
+    public boolean isEmpty() {
+        return totalVotes == 0 && yesVotes == 0 && noVotes == 0;
+    }
+}
@@ -27,6 +27,12 @@ public class SessionEntity extends BaseEntity {
     @Column(name = "end_time", nullable = false)
     private LocalDateTime endTime;
 
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
     @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "agenda_id", nullable = false)
     private AgendaEntity agenda;
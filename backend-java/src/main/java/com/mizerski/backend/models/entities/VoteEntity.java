@@ -2,7 +2,6 @@ package com.mizerski.backend.models.entities;
 
 import com.mizerski.backend.models.enums.VoteType;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -27,11 +26,11 @@ public class VoteEntity extends BaseEntity {
     @Column(name = "vote_type", nullable = false)
     private VoteType voteType;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "agenda_id", nullable = false)
     private AgendaEntity agenda;
 
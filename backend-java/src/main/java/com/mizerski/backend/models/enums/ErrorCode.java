@@ -38,6 +38,11 @@ public enum ErrorCode {
     OPERATION_NOT_ALLOWED(HttpStatus.UNPROCESSABLE_ENTITY, "Operação não permitida"),
     INVALID_AGENDA_STATUS(HttpStatus.UNPROCESSABLE_ENTITY, "Status da agenda inválido para esta operação"),
 
+    // Erros de capacidade (503 - Service Unavailable)
+    VOTE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "Fila de votos cheia, tente novamente"),
+    VOTE_PROCESSING_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "Voto ainda em processamento, tente novamente"),
+    VOTE_INGESTION_STOPPED(HttpStatus.SERVICE_UNAVAILABLE, "Recebimento de votos encerrado, tente novamente"),
+
     // Erros genéricos (500 - Internal Server Error)
     UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Erro desconhecido"),
     GENERIC_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor");
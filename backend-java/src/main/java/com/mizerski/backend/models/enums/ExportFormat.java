@@ -0,0 +1,41 @@
+package com.mizerski.backend.models.enums;
+
+import java.util.Locale;
+
+/**
+ * Formato de exportação de votos
+ */
+public enum ExportFormat {
+    /** Um objeto JSON por linha */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** Valores separados por vírgula, com cabeçalho */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolve o formato a partir do parâmetro da requisição (sem diferenciar
+     * maiúsculas)
+     *
+     * @param value Nome do formato
+     * @return Formato correspondente
+     * @throws IllegalArgumentException se o formato não for suportado
+     */
+    public static ExportFormat of(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
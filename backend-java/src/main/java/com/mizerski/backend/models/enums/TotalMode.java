@@ -0,0 +1,27 @@
+package com.mizerski.backend.models.enums;
+
+/**
+ * Como o total de elementos de uma listagem paginada é obtido
+ */
+public enum TotalMode {
+    /** Contagem exata (SELECT COUNT(*)) */
+    EXACT,
+    /** Contador mantido pela aplicação, sem consulta de contagem */
+    APPROXIMATE,
+    /** Sem total: a consulta busca size + 1 itens e informa apenas hasNext */
+    NONE;
+
+    /**
+     * Resolve o modo a partir dos parâmetros da requisição
+     *
+     * @param withTotal        Se o total deve ser informado
+     * @param approximateTotal Se o total pode vir de um contador mantido
+     * @return Modo de total
+     */
+    public static TotalMode of(boolean withTotal, boolean approximateTotal) {
+        if (approximateTotal) {
+            return APPROXIMATE;
+        }
+        return withTotal ? EXACT : NONE;
+    }
+}
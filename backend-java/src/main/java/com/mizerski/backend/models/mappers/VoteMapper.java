@@ -6,6 +6,7 @@ import org.mapstruct.ReportingPolicy;
 
 import com.mizerski.backend.dtos.request.CreateVoteRequest;
 import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.dtos.response.VoteSummaryResponse;
 import com.mizerski.backend.models.domains.Votes;
 import com.mizerski.backend.models.entities.VoteEntity;
 
@@ -51,4 +52,13 @@ public interface VoteMapper {
     @Mapping(target = "user", ignore = true)
     VoteResponse toResponse(VoteEntity entity);
 
+    /**
+     * Converte VoteEntity para o resumo de listagem (DTO).
+     * O usuário deve vir carregado na mesma consulta (entity graph ou join
+     * fetch) para não disparar um SELECT por voto.
+     */
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "userName", source = "user.name")
+    VoteSummaryResponse toSummaryResponse(VoteEntity entity);
+
 }
\ No newline at end of file
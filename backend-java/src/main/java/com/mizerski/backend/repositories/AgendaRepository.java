@@ -1,12 +1,19 @@
 package com.mizerski.backend.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
 import com.mizerski.backend.models.entities.AgendaEntity;
 import com.mizerski.backend.models.enums.AgendaStatus;
 
@@ -47,4 +54,128 @@ public interface AgendaRepository extends JpaRepository<AgendaEntity, String> {
      */
     Page<AgendaEntity> findByStatusIn(List<AgendaStatus> statuses, Pageable pageable);
 
+    /**
+     * Lista resumos de agendas (status, contadores e janela da última sessão)
+     * por projeção, sem carregar votos, sessões nem a descrição. Não executa
+     * contagem (ver countByStatusIn)
+     *
+     * @param statuses Lista de status
+     * @param pageable Configuração de paginação
+     * @return Slice<AgendaSummaryResponse>
+     */
+    @Query(value = """
+            SELECT new com.mizerski.backend.dtos.response.AgendaSummaryResponse(
+                a.id, a.title, a.status, a.category, a.result, a.totalVotes, a.yesVotes, a.noVotes,
+                a.isActive,
+                (SELECT MAX(s.startTime) FROM SessionEntity s WHERE s.agenda = a),
+                (SELECT MAX(s.endTime) FROM SessionEntity s WHERE s.agenda = a),
+                a.createdAt, a.updatedAt)
+            FROM AgendaEntity a
+            WHERE a.status IN :statuses
+            """)
+    Slice<AgendaSummaryResponse> findSummariesByStatusIn(@Param("statuses") Collection<AgendaStatus> statuses,
+            Pageable pageable);
+
+    /**
+     * Lista resumos de agendas por projeção, incluindo a descrição
+     *
+     * @param statuses Lista de status
+     * @param pageable Configuração de paginação
+     * @return Slice<AgendaSummaryResponse>
+     */
+    @Query(value = """
+            SELECT new com.mizerski.backend.dtos.response.AgendaSummaryResponse(
+                a.id, a.title, a.description, a.status, a.category, a.result, a.totalVotes, a.yesVotes,
+                a.noVotes, a.isActive,
+                (SELECT MAX(s.startTime) FROM SessionEntity s WHERE s.agenda = a),
+                (SELECT MAX(s.endTime) FROM SessionEntity s WHERE s.agenda = a),
+                a.createdAt, a.updatedAt)
+            FROM AgendaEntity a
+            WHERE a.status IN :statuses
+            """)
+    Slice<AgendaSummaryResponse> findSummariesWithDescriptionByStatusIn(
+            @Param("statuses") Collection<AgendaStatus> statuses, Pageable pageable);
+
+    /**
+     * Conta as agendas com os status informados
+     *
+     * @param statuses Lista de status
+     * @return long
+     */
+    long countByStatusIn(Collection<AgendaStatus> statuses);
+
+    /**
+     * Busca apenas o contador base de votos da agenda, sem carregar a entidade
+     *
+     * @param id ID da agenda
+     * @return Optional<Integer>
+     */
+    @Query("SELECT a.totalVotes FROM AgendaEntity a WHERE a.id = :id")
+    Optional<Integer> findTotalVotesById(@Param("id") String id);
+
+    /**
+     * Lista resumos de agendas anteriores ao cursor (keyset), na ordem
+     * createdAt DESC, id DESC, sem descrição
+     *
+     * @param statuses  Lista de status
+     * @param createdAt Data de criação do último item da página anterior
+     * @param id        ID do último item da página anterior
+     * @param limit     Quantidade máxima de itens
+     * @return List<AgendaSummaryResponse>
+     */
+    @Query("""
+            SELECT new com.mizerski.backend.dtos.response.AgendaSummaryResponse(
+                a.id, a.title, a.status, a.category, a.result, a.totalVotes, a.yesVotes, a.noVotes,
+                a.isActive,
+                (SELECT MAX(s.startTime) FROM SessionEntity s WHERE s.agenda = a),
+                (SELECT MAX(s.endTime) FROM SessionEntity s WHERE s.agenda = a),
+                a.createdAt, a.updatedAt)
+            FROM AgendaEntity a
+            WHERE a.status IN :statuses
+              AND a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id)
+            ORDER BY a.createdAt DESC, a.id DESC
+            """)
+    List<AgendaSummaryResponse> findSummariesBefore(@Param("statuses") Collection<AgendaStatus> statuses,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") String id, Limit limit);
+
+    /**
+     * Lista resumos de agendas anteriores ao cursor (keyset), incluindo a
+     * descrição
+     *
+     * @param statuses  Lista de status
+     * @param createdAt Data de criação do último item da página anterior
+     * @param id        ID do último item da página anterior
+     * @param limit     Quantidade máxima de itens
+     * @return List<AgendaSummaryResponse>
+     */
+    @Query("""
+            SELECT new com.mizerski.backend.dtos.response.AgendaSummaryResponse(
+                a.id, a.title, a.description, a.status, a.category, a.result, a.totalVotes, a.yesVotes,
+                a.noVotes, a.isActive,
+                (SELECT MAX(s.startTime) FROM SessionEntity s WHERE s.agenda = a),
+                (SELECT MAX(s.endTime) FROM SessionEntity s WHERE s.agenda = a),
+                a.createdAt, a.updatedAt)
+            FROM AgendaEntity a
+            WHERE a.status IN :statuses
+              AND a.createdAt <= :createdAt AND (a.createdAt < :createdAt OR a.id < :id)
+            ORDER BY a.createdAt DESC, a.id DESC
+            """)
+    List<AgendaSummaryResponse> findSummariesWithDescriptionBefore(
+            @Param("statuses") Collection<AgendaStatus> statuses, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") String id, Limit limit);
+
+    /**
+     * Busca os IDs das agendas com os status informados, das alteradas mais
+     * recentemente para as mais antigas
+     *
+     * @param statuses Lista de status
+     * @param limit    Quantidade máxima de IDs
+     * @return List<String>
+     */
+    @Query("""
+            SELECT a.id FROM AgendaEntity a
+            WHERE a.status IN :statuses
+            ORDER BY a.updatedAt DESC
+            """)
+    List<String> findRecentlyUpdatedIdsByStatusIn(@Param("statuses") Collection<AgendaStatus> statuses, Limit limit);
 }
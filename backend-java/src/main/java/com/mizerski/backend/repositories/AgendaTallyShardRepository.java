@@ -0,0 +1,167 @@
+package com.mizerski.backend.repositories;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mizerski.backend.models.domains.VoteTally;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositório JDBC para os contadores fragmentados de votos por agenda.
+ * Os incrementos são atômicos no banco, sem read-modify-write.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AgendaTallyShardRepository {
+
+    private static final String INCREMENT_SQL = """
+            UPDATE agenda_tally_shards
+            SET total_votes = total_votes + ?, yes_votes = yes_votes + ?, no_votes = no_votes + ?,
+                updated_at = ?
+            WHERE agenda_id = ? AND shard_id = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO agenda_tally_shards (agenda_id, shard_id, total_votes, yes_votes, no_votes, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SUM_BY_AGENDA_SQL = """
+            SELECT COALESCE(SUM(total_votes), 0), COALESCE(SUM(yes_votes), 0), COALESCE(SUM(no_votes), 0)
+            FROM agenda_tally_shards
+            WHERE agenda_id = ?
+            """;
+
+    private static final String SUM_BY_AGENDAS_SQL = """
+            SELECT agenda_id, SUM(total_votes), SUM(yes_votes), SUM(no_votes)
+            FROM agenda_tally_shards
+            WHERE agenda_id IN (:agendaIds)
+            GROUP BY agenda_id
+            """;
+
+    private static final String LOCK_BY_AGENDA_SQL = """
+            SELECT shard_id, total_votes, yes_votes, no_votes
+            FROM agenda_tally_shards
+            WHERE agenda_id = ?
+            FOR UPDATE
+            """;
+
+    private static final String DELETE_SHARDS_SQL = """
+            DELETE FROM agenda_tally_shards
+            WHERE agenda_id = :agendaId AND shard_id IN (:shardIds)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Incrementa atomicamente um shard, criando-o na primeira utilização. O
+     * updated_at usa o relógio da aplicação, o mesmo de votes.created_at e da
+     * marca d'água da reconciliação.
+     *
+     * @param agendaId ID da agenda
+     * @param shardId  Índice do shard
+     * @param tally    Incremento a ser aplicado
+     */
+    public void increment(String agendaId, int shardId, VoteTally tally) {
+        LocalDateTime now = LocalDateTime.now();
+        if (update(agendaId, shardId, tally, now) > 0) {
+            return;
+        }
+
+        int inserted = jdbcTemplate.update(INSERT_SQL, agendaId, shardId,
+                tally.getTotalVotes(), tally.getYesVotes(), tally.getNoVotes(), now);
+
+        // Outra transação criou o shard entre o UPDATE e o INSERT
+        if (inserted == 0) {
+            update(agendaId, shardId, tally, now);
+        }
+    }
+
+    /**
+     * Soma todos os shards de uma agenda
+     *
+     * @param agendaId ID da agenda
+     * @return Soma dos shards (zerada se não houver shards)
+     */
+    public VoteTally sumByAgendaId(String agendaId) {
+        return jdbcTemplate.queryForObject(SUM_BY_AGENDA_SQL,
+                (rs, rowNum) -> new VoteTally(rs.getInt(1), rs.getInt(2), rs.getInt(3)),
+                agendaId);
+    }
+
+    /**
+     * Soma os shards de várias agendas em uma única consulta
+     *
+     * @param agendaIds IDs das agendas
+     * @return Mapa de agendaId para soma dos shards (apenas agendas com shards)
+     */
+    public Map<String, VoteTally> sumByAgendaIds(Collection<String> agendaIds) {
+        if (agendaIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, VoteTally> tallies = new HashMap<>();
+        namedParameterJdbcTemplate.query(SUM_BY_AGENDAS_SQL,
+                new MapSqlParameterSource("agendaIds", agendaIds),
+                (ResultSet rs) -> {
+                    tallies.put(rs.getString(1), new VoteTally(rs.getInt(2), rs.getInt(3), rs.getInt(4)));
+                });
+        return tallies;
+    }
+
+    /**
+     * Bloqueia (FOR UPDATE) e retorna os shards existentes de uma agenda
+     * Deve ser chamado dentro de uma transação
+     *
+     * @param agendaId ID da agenda
+     * @return Mapa de shardId para contagem do shard
+     */
+    public Map<Integer, VoteTally> lockByAgendaId(String agendaId) {
+        Map<Integer, VoteTally> shards = new LinkedHashMap<>();
+        jdbcTemplate.query(LOCK_BY_AGENDA_SQL, (ResultSet rs) -> {
+            shards.put(rs.getInt(1), toTally(rs));
+        }, agendaId);
+        return shards;
+    }
+
+    /**
+     * Remove shards específicos de uma agenda
+     *
+     * @param agendaId ID da agenda
+     * @param shardIds Índices dos shards a remover
+     * @return Número de shards removidos
+     */
+    public int deleteShards(String agendaId, List<Integer> shardIds) {
+        if (shardIds.isEmpty()) {
+            return 0;
+        }
+
+        return namedParameterJdbcTemplate.update(DELETE_SHARDS_SQL, new MapSqlParameterSource()
+                .addValue("agendaId", agendaId)
+                .addValue("shardIds", shardIds));
+    }
+
+    private int update(String agendaId, int shardId, VoteTally tally, LocalDateTime now) {
+        return jdbcTemplate.update(INCREMENT_SQL,
+                tally.getTotalVotes(), tally.getYesVotes(), tally.getNoVotes(), now, agendaId, shardId);
+    }
+
+    private static VoteTally toTally(ResultSet rs) throws SQLException {
+        return new VoteTally(rs.getInt(2), rs.getInt(3), rs.getInt(4));
+    }
+}
@@ -0,0 +1,123 @@
+package com.mizerski.backend.repositories;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mizerski.backend.models.domains.AgendaVersion;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositório JDBC das versões de pautas usadas no GET condicional. As
+ * consultas leem só colunas de controle e agregados, sem carregar entidades,
+ * para comparar com o If-None-Match antes de montar a resposta.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AgendaVersionJdbcRepository {
+
+    /**
+     * Versão de uma pauta: contadores base somados aos shards e tamanho das
+     * listas de votos e sessões (pelos índices em agenda_id)
+     */
+    private static final String FIND_VERSION_SQL = """
+            SELECT a.id, a.updated_at, a.status, a.result, a.is_active,
+                   a.total_votes + COALESCE(sh.total_votes, 0),
+                   a.yes_votes + COALESCE(sh.yes_votes, 0),
+                   a.no_votes + COALESCE(sh.no_votes, 0),
+                   (SELECT COUNT(*) FROM votes v WHERE v.agenda_id = a.id),
+                   (SELECT COUNT(*) FROM sessions s WHERE s.agenda_id = a.id)
+            FROM agendas a
+            LEFT JOIN (
+                SELECT agenda_id, SUM(total_votes) AS total_votes, SUM(yes_votes) AS yes_votes,
+                       SUM(no_votes) AS no_votes
+                FROM agenda_tally_shards
+                WHERE agenda_id = :agendaId
+                GROUP BY agenda_id
+            ) sh ON sh.agenda_id = a.id
+            WHERE a.id = :agendaId
+            """;
+
+    /**
+     * Versão de uma listagem: quantidade de pautas e a última alteração e as
+     * somas dos contadores, das sessões e dos shards das pautas no filtro.
+     * Qualquer pauta que entre, saia ou mude no filtro altera algum agregado.
+     */
+    private static final String FIND_LIST_VERSION_SQL = """
+            SELECT b.agendas, b.updated_at, b.total_votes, b.yes_votes, b.no_votes,
+                   sh.updated_at, sh.total_votes, sh.yes_votes, sh.no_votes,
+                   se.sessions, se.updated_at
+            FROM (
+                SELECT COUNT(*) AS agendas, MAX(updated_at) AS updated_at,
+                       COALESCE(SUM(total_votes), 0) AS total_votes, COALESCE(SUM(yes_votes), 0) AS yes_votes,
+                       COALESCE(SUM(no_votes), 0) AS no_votes
+                FROM agendas
+                WHERE status IN (:statuses)
+            ) b
+            CROSS JOIN (
+                SELECT MAX(t.updated_at) AS updated_at, COALESCE(SUM(t.total_votes), 0) AS total_votes,
+                       COALESCE(SUM(t.yes_votes), 0) AS yes_votes, COALESCE(SUM(t.no_votes), 0) AS no_votes
+                FROM agenda_tally_shards t
+                JOIN agendas a ON a.id = t.agenda_id
+                WHERE a.status IN (:statuses)
+            ) sh
+            CROSS JOIN (
+                SELECT COUNT(*) AS sessions, MAX(s.updated_at) AS updated_at
+                FROM sessions s
+                JOIN agendas a ON a.id = s.agenda_id
+                WHERE a.status IN (:statuses)
+            ) se
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Busca a versão de uma pauta
+     *
+     * @param agendaId ID da pauta
+     * @return Versão da pauta, ou vazio se ela não existe
+     */
+    public Optional<AgendaVersion> findByAgendaId(String agendaId) {
+        return namedParameterJdbcTemplate.query(FIND_VERSION_SQL, new MapSqlParameterSource("agendaId", agendaId),
+                (ResultSet rs, int rowNum) -> new AgendaVersion(
+                        rs.getString(1),
+                        rs.getObject(2, LocalDateTime.class),
+                        AgendaStatus.valueOf(rs.getString(3)),
+                        AgendaResult.valueOf(rs.getString(4)),
+                        rs.getBoolean(5),
+                        rs.getInt(6),
+                        rs.getInt(7),
+                        rs.getInt(8),
+                        rs.getLong(9),
+                        rs.getLong(10)))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Busca a versão da listagem de pautas com os status informados
+     *
+     * @param statuses Status persistidos do filtro (não vazio)
+     * @return Carimbo com os agregados da listagem
+     */
+    public String findListVersion(Collection<AgendaStatus> statuses) {
+        return namedParameterJdbcTemplate.queryForObject(FIND_LIST_VERSION_SQL,
+                new MapSqlParameterSource("statuses", statuses.stream().map(Enum::name).toList()),
+                (ResultSet rs, int rowNum) -> {
+                    StringJoiner version = new StringJoiner("|");
+                    for (int column = 1; column <= rs.getMetaData().getColumnCount(); column++) {
+                        version.add(String.valueOf(rs.getObject(column)));
+                    }
+                    return version.toString();
+                });
+    }
+}
@@ -0,0 +1,74 @@
+package com.mizerski.backend.repositories;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositório JDBC para as leases de liderança dos jobs periódicos.
+ * Os prazos usam o relógio do banco, comum a todas as réplicas.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaseJdbcRepository {
+
+    private static final String CURRENT_TIME_SQL = "SELECT LOCALTIMESTAMP";
+
+    /**
+     * Renova a lease do dono atual ou assume uma lease vencida
+     */
+    private static final String RENEW_SQL = """
+            UPDATE scheduler_leases
+            SET owner_id = ?, expires_at = ?, updated_at = ?
+            WHERE name = ? AND (owner_id = ? OR expires_at <= ?)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO scheduler_leases (name, owner_id, expires_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE scheduler_leases
+            SET expires_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP
+            WHERE name = ? AND owner_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adquire ou renova a lease para o nó informado
+     *
+     * @param name    Nome da lease
+     * @param ownerId Identificador do nó
+     * @param ttl     Validade da lease a partir de agora
+     * @return true se o nó é o dono da lease até agora + ttl
+     */
+    public boolean tryAcquire(String name, String ownerId, Duration ttl) {
+        LocalDateTime now = jdbcTemplate.queryForObject(CURRENT_TIME_SQL, LocalDateTime.class);
+        LocalDateTime expiresAt = now.plus(ttl);
+
+        if (jdbcTemplate.update(RENEW_SQL, ownerId, expiresAt, now, name, ownerId, now) > 0) {
+            return true;
+        }
+
+        // Primeira aquisição: se outro nó inserir antes, a lease é dele
+        return jdbcTemplate.update(INSERT_SQL, name, ownerId, expiresAt, now) > 0;
+    }
+
+    /**
+     * Libera a lease, se o nó for o dono, para que outro nó assuma sem esperar
+     * o vencimento
+     *
+     * @param name    Nome da lease
+     * @param ownerId Identificador do nó
+     */
+    public void release(String name, String ownerId) {
+        jdbcTemplate.update(RELEASE_SQL, name, ownerId);
+    }
+}
@@ -0,0 +1,296 @@
+package com.mizerski.backend.repositories;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mizerski.backend.models.domains.ExpiredSessionChunk;
+import com.mizerski.backend.models.domains.SessionActivationChunk;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositório JDBC para a ativação e o encerramento em lote das sessões.
+ * Cada lote trava as sessões, marca-as e atualiza as pautas com poucos
+ * comandos na transação do chamador, sem carregar entidades. Os comandos
+ * evitam CTEs com escrita para rodar também no H2 em modo PostgreSQL.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionJdbcRepository {
+
+    /**
+     * Até :limit sessões vencidas e ainda abertas, sem esperar as travadas por
+     * outra transação (varredura de todo o banco)
+     */
+    private static final String LOCK_EXPIRED_SQL = """
+            SELECT id, agenda_id
+            FROM sessions
+            WHERE closed_at IS NULL AND end_time <= :now
+            ORDER BY end_time
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    /**
+     * Sessões vencidas e ainda abertas das pautas informadas, esperando as
+     * travadas por outra transação: ao final, nenhuma delas segue aberta. A
+     * ordem por ID evita deadlock entre réplicas encerrando as mesmas pautas.
+     */
+    private static final String LOCK_EXPIRED_BY_AGENDAS_SQL = """
+            SELECT id, agenda_id
+            FROM sessions
+            WHERE agenda_id IN (:agendaIds) AND closed_at IS NULL AND end_time <= :now
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String CLOSE_SESSIONS_SQL = """
+            UPDATE sessions
+            SET closed_at = :now, updated_at = :now
+            WHERE id IN (:sessionIds)
+            """;
+
+    /**
+     * Resultado das pautas em votação sem outra sessão aberta (não vencida e
+     * não encerrada antes do prazo), pelos contadores
+     * da pauta mais os shards ainda não consolidados, com a mesma regra de
+     * AgendaTimeServiceImpl.calculateResult
+     */
+    private static final String FINISHABLE_AGENDAS_SQL = """
+            SELECT t.id,
+                   CASE
+                       WHEN t.total_votes = 0 THEN 'UNVOTED'
+                       WHEN t.yes_votes > t.no_votes THEN 'APPROVED'
+                       WHEN t.no_votes > t.yes_votes THEN 'REJECTED'
+                       ELSE 'TIE'
+                   END
+            FROM (
+                SELECT a.id,
+                       a.total_votes + COALESCE(SUM(s.total_votes), 0) AS total_votes,
+                       a.yes_votes + COALESCE(SUM(s.yes_votes), 0) AS yes_votes,
+                       a.no_votes + COALESCE(SUM(s.no_votes), 0) AS no_votes
+                FROM agendas a
+                LEFT JOIN agenda_tally_shards s ON s.agenda_id = a.id
+                WHERE a.id IN (:agendaIds)
+                  AND a.status = 'IN_PROGRESS'
+                  AND NOT EXISTS (
+                      SELECT 1 FROM sessions o
+                      WHERE o.agenda_id = a.id AND o.end_time > :now AND o.closed_at IS NULL)
+                GROUP BY a.id, a.total_votes, a.yes_votes, a.no_votes
+            ) t
+            ORDER BY t.id
+            """;
+
+    private static final String FINISH_AGENDA_SQL = """
+            UPDATE agendas
+            SET status = 'FINISHED', is_active = FALSE, updated_at = :now, result = :result
+            WHERE id = :id AND status = 'IN_PROGRESS'
+            """;
+
+    /**
+     * Até :limit sessões com início vencido e ainda não ativadas, sem esperar
+     * as travadas por outra transação (varredura de todo o banco)
+     */
+    private static final String LOCK_DUE_SQL = """
+            SELECT id, agenda_id, start_time, end_time
+            FROM sessions
+            WHERE activated_at IS NULL AND start_time <= :now
+            ORDER BY start_time
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    /**
+     * Sessões informadas com início vencido e ainda não ativadas, esperando as
+     * travadas por outra transação, na ordem por ID
+     */
+    private static final String LOCK_DUE_BY_IDS_SQL = """
+            SELECT id, agenda_id, start_time, end_time
+            FROM sessions
+            WHERE id IN (:sessionIds) AND activated_at IS NULL AND start_time <= :now
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String ACTIVATE_SESSIONS_SQL = """
+            UPDATE sessions
+            SET activated_at = :now, updated_at = :now
+            WHERE id IN (:sessionIds)
+            """;
+
+    private static final String START_AGENDA_SQL = """
+            UPDATE agendas
+            SET status = 'IN_PROGRESS', is_active = TRUE, updated_at = :now
+            WHERE id = :id AND status IN ('DRAFT', 'OPEN')
+            """;
+
+    /**
+     * Sessões aguardando ativação, pelo índice parcial
+     * idx_sessions_pending_start_time
+     */
+    private static final String PENDING_STARTS_SQL = """
+            SELECT id, start_time
+            FROM sessions
+            WHERE activated_at IS NULL
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Encerra um lote de sessões expiradas de qualquer pauta e finaliza as
+     * pautas delas. Sessões travadas por outra transação são ignoradas (SKIP
+     * LOCKED) e ficam para o próximo lote.
+     *
+     * @param now   Data/hora de referência
+     * @param limit Máximo de sessões no lote
+     * @return Sessões encerradas e pautas finalizadas no lote
+     */
+    public ExpiredSessionChunk finalizeExpired(LocalDateTime now, int limit) {
+        return closeLocked(LOCK_EXPIRED_SQL, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("limit", limit), now);
+    }
+
+    /**
+     * Encerra as sessões expiradas das pautas informadas e finaliza essas
+     * pautas. Sessões travadas por outra transação são aguardadas.
+     *
+     * @param now       Data/hora de referência
+     * @param agendaIds IDs das pautas (não vazio)
+     * @return Sessões encerradas e pautas finalizadas
+     */
+    public ExpiredSessionChunk finalizeExpired(LocalDateTime now, Collection<String> agendaIds) {
+        return closeLocked(LOCK_EXPIRED_BY_AGENDAS_SQL, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("agendaIds", agendaIds), now);
+    }
+
+    /**
+     * Ativa um lote de sessões de qualquer pauta cujo início já passou e
+     * inicia as pautas delas. Sessões travadas por outra transação são
+     * ignoradas (SKIP LOCKED) e ficam para o próximo lote.
+     *
+     * @param now   Data/hora de referência
+     * @param limit Máximo de sessões no lote
+     * @return Inícios das sessões ativadas e pautas iniciadas no lote
+     */
+    public SessionActivationChunk activateDue(LocalDateTime now, int limit) {
+        return activateLocked(LOCK_DUE_SQL, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("limit", limit), now);
+    }
+
+    /**
+     * Ativa as sessões informadas cujo início já passou e inicia as pautas
+     * delas. Sessões travadas por outra transação são aguardadas.
+     *
+     * @param now        Data/hora de referência
+     * @param sessionIds IDs das sessões (não vazio)
+     * @return Inícios das sessões ativadas e pautas iniciadas
+     */
+    public SessionActivationChunk activateDue(LocalDateTime now, Collection<String> sessionIds) {
+        return activateLocked(LOCK_DUE_BY_IDS_SQL, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("sessionIds", sessionIds), now);
+    }
+
+    /**
+     * Percorre as sessões que aguardam ativação
+     *
+     * @param consumer Recebe o ID e o início de cada sessão
+     */
+    public void forEachPendingStart(BiConsumer<String, LocalDateTime> consumer) {
+        namedParameterJdbcTemplate.getJdbcTemplate().query(PENDING_STARTS_SQL,
+                (ResultSet rs) -> {
+                    consumer.accept(rs.getString(1), rs.getObject(2, LocalDateTime.class));
+                });
+    }
+
+    private ExpiredSessionChunk closeLocked(String lockSql, MapSqlParameterSource params, LocalDateTime now) {
+        List<String> sessionIds = new ArrayList<>();
+        Set<String> closedAgendaIds = new LinkedHashSet<>();
+
+        namedParameterJdbcTemplate.query(lockSql, params, (ResultSet rs) -> {
+            sessionIds.add(rs.getString(1));
+            closedAgendaIds.add(rs.getString(2));
+        });
+        if (sessionIds.isEmpty()) {
+            return new ExpiredSessionChunk(0, List.of(), List.of());
+        }
+
+        namedParameterJdbcTemplate.update(CLOSE_SESSIONS_SQL, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("sessionIds", sessionIds));
+
+        List<MapSqlParameterSource> finishable = new ArrayList<>();
+        namedParameterJdbcTemplate.query(FINISHABLE_AGENDAS_SQL, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("agendaIds", closedAgendaIds),
+                (ResultSet rs) -> {
+                    finishable.add(new MapSqlParameterSource()
+                            .addValue("now", now)
+                            .addValue("id", rs.getString(1))
+                            .addValue("result", rs.getString(2)));
+                });
+
+        return new ExpiredSessionChunk(sessionIds.size(), new ArrayList<>(closedAgendaIds),
+                updated(FINISH_AGENDA_SQL, finishable));
+    }
+
+    private SessionActivationChunk activateLocked(String lockSql, MapSqlParameterSource params, LocalDateTime now) {
+        List<String> sessionIds = new ArrayList<>();
+        List<LocalDateTime> startTimes = new ArrayList<>();
+        Set<String> startableAgendaIds = new LinkedHashSet<>();
+
+        namedParameterJdbcTemplate.query(lockSql, params, (ResultSet rs) -> {
+            sessionIds.add(rs.getString(1));
+            startTimes.add(rs.getObject(3, LocalDateTime.class));
+            if (rs.getObject(4, LocalDateTime.class).isAfter(now)) {
+                startableAgendaIds.add(rs.getString(2));
+            }
+        });
+        if (sessionIds.isEmpty()) {
+            return new SessionActivationChunk(List.of(), List.of());
+        }
+
+        namedParameterJdbcTemplate.update(ACTIVATE_SESSIONS_SQL, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("sessionIds", sessionIds));
+
+        List<MapSqlParameterSource> startable = startableAgendaIds.stream()
+                .map(agendaId -> new MapSqlParameterSource()
+                        .addValue("now", now)
+                        .addValue("id", agendaId))
+                .toList();
+
+        return new SessionActivationChunk(startTimes, updated(START_AGENDA_SQL, startable));
+    }
+
+    /**
+     * Atualiza cada pauta em lote e retorna os IDs das que mudaram
+     */
+    private List<String> updated(String sql, List<MapSqlParameterSource> agendas) {
+        if (agendas.isEmpty()) {
+            return List.of();
+        }
+
+        int[] counts = namedParameterJdbcTemplate.batchUpdate(sql, agendas.toArray(MapSqlParameterSource[]::new));
+        List<String> updatedIds = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                updatedIds.add((String) agendas.get(i).getValue("id"));
+            }
+        }
+        return updatedIds;
+    }
+}
@@ -27,23 +27,29 @@ public interface SessionRepository extends JpaRepository<SessionEntity, String>
     List<SessionEntity> findActiveSessions(@Param("now") LocalDateTime now);
 
     /**
-     * Busca sessões que já terminaram mas ainda não foram processadas
+     * Busca sessão ativa (já iniciada, não encerrada) para uma agenda específica
      * 
-     * @param now Data/hora atual
-     * @return Lista de sessões expiradas
+     * @param agendaId ID da agenda
+     * @param now      Data/hora atual
+     * @return Sessão ativa se existir
      */
-    @Query("SELECT s FROM SessionEntity s WHERE s.endTime <= :now")
-    List<SessionEntity> findExpiredSessions(@Param("now") LocalDateTime now);
+    @Query("SELECT s FROM SessionEntity s WHERE s.agenda.id = :agendaId AND s.startTime <= :now"
+            + " AND s.endTime > :now AND s.closedAt IS NULL")
+    Optional<SessionEntity> findActiveSessionByAgendaId(@Param("agendaId") String agendaId,
+            @Param("now") LocalDateTime now);
 
     /**
-     * Busca sessão ativa para uma agenda específica
+     * Busca a sessão em andamento ou agendada (término no futuro, não
+     * encerrada) de uma agenda; há no máximo uma pelo índice
+     * uk_sessions_agenda_open
      * 
      * @param agendaId ID da agenda
      * @param now      Data/hora atual
-     * @return Sessão ativa se existir
+     * @return Sessão em andamento ou agendada, se existir
      */
-    @Query("SELECT s FROM SessionEntity s WHERE s.agenda.id = :agendaId AND s.endTime > :now")
-    Optional<SessionEntity> findActiveSessionByAgendaId(@Param("agendaId") String agendaId,
+    @Query("SELECT s FROM SessionEntity s WHERE s.agenda.id = :agendaId AND s.endTime > :now"
+            + " AND s.closedAt IS NULL")
+    Optional<SessionEntity> findCurrentSessionByAgendaId(@Param("agendaId") String agendaId,
             @Param("now") LocalDateTime now);
 
     /**
@@ -56,12 +62,24 @@ public interface SessionRepository extends JpaRepository<SessionEntity, String>
     List<SessionEntity> findByAgendaId(@Param("agendaId") String agendaId);
 
     /**
-     * Verifica se existe sessão ativa para uma agenda
+     * Verifica se existe sessão ativa (já iniciada, não encerrada) para uma
+     * agenda
      * 
      * @param agendaId ID da agenda
      * @param now      Data/hora atual
      * @return true se existe sessão ativa
      */
-    @Query("SELECT COUNT(s) > 0 FROM SessionEntity s WHERE s.agenda.id = :agendaId AND s.endTime > :now")
+    @Query("SELECT COUNT(s) > 0 FROM SessionEntity s WHERE s.agenda.id = :agendaId AND s.startTime <= :now"
+            + " AND s.endTime > :now AND s.closedAt IS NULL")
     boolean hasActiveSession(@Param("agendaId") String agendaId, @Param("now") LocalDateTime now);
+
+    /**
+     * Verifica se a agenda tem sessão aberta (em andamento ou agendada), a
+     * mesma condição do índice único uk_sessions_agenda_open
+     * 
+     * @param agendaId ID da agenda
+     * @return true se existe sessão ainda não encerrada
+     */
+    @Query("SELECT COUNT(s) > 0 FROM SessionEntity s WHERE s.agenda.id = :agendaId AND s.closedAt IS NULL")
+    boolean hasOpenSession(@Param("agendaId") String agendaId);
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.mizerski.backend.repositories;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mizerski.backend.models.domains.TallyCheck;
+import com.mizerski.backend.models.domains.VoteTally;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositório JDBC da reconciliação dos contadores de votos com a tabela de
+ * votos, e das marcas d'água dos jobs incrementais.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TallyReconciliationJdbcRepository {
+
+    /**
+     * Pautas que receberam votos ou tiveram os contadores alterados no
+     * intervalo (pelos índices idx_votes_created_at,
+     * idx_agenda_tally_shards_updated_at e idx_agendas_updated_at). Um
+     * incremento sem voto correspondente só aparece pelos contadores.
+     */
+    private static final String AGENDAS_WITH_VOTES_SQL = """
+            SELECT agenda_id
+            FROM votes
+            WHERE created_at > :since AND created_at <= :until
+            UNION
+            SELECT agenda_id
+            FROM agenda_tally_shards
+            WHERE updated_at > :since AND updated_at <= :until
+            UNION
+            SELECT id
+            FROM agendas
+            WHERE updated_at > :since AND updated_at <= :until
+            """;
+
+    /**
+     * Compara, em um único comando (mesmo snapshot), os contadores das pautas
+     * (base mais shards) com a contagem por tipo na tabela de votos. A
+     * contagem usa o prefixo agenda_id do índice
+     * idx_votes_agenda_id_created_at_id.
+     */
+    private static final String CHECK_TALLIES_SQL = """
+            WITH counted AS (
+                SELECT agenda_id, vote_type, COUNT(*) AS votes
+                FROM votes
+                WHERE agenda_id IN (:agendaIds)
+                GROUP BY agenda_id, vote_type
+            ), votes_by_agenda AS (
+                SELECT agenda_id,
+                       SUM(votes) AS total_votes,
+                       SUM(CASE WHEN vote_type = 'YES' THEN votes ELSE 0 END) AS yes_votes,
+                       SUM(CASE WHEN vote_type = 'NO' THEN votes ELSE 0 END) AS no_votes
+                FROM counted
+                GROUP BY agenda_id
+            ), sharded AS (
+                SELECT agenda_id,
+                       SUM(total_votes) AS total_votes,
+                       SUM(yes_votes) AS yes_votes,
+                       SUM(no_votes) AS no_votes
+                FROM agenda_tally_shards
+                WHERE agenda_id IN (:agendaIds)
+                GROUP BY agenda_id
+            )
+            SELECT a.id,
+                   COALESCE(a.total_votes, 0) + COALESCE(s.total_votes, 0),
+                   COALESCE(a.yes_votes, 0) + COALESCE(s.yes_votes, 0),
+                   COALESCE(a.no_votes, 0) + COALESCE(s.no_votes, 0),
+                   COALESCE(v.total_votes, 0),
+                   COALESCE(v.yes_votes, 0),
+                   COALESCE(v.no_votes, 0)
+            FROM agendas a
+            LEFT JOIN sharded s ON s.agenda_id = a.id
+            LEFT JOIN votes_by_agenda v ON v.agenda_id = a.id
+            WHERE a.id IN (:agendaIds)
+            """;
+
+    private static final String FIND_WATERMARK_SQL = """
+            SELECT watermark FROM job_watermarks WHERE name = :name
+            """;
+
+    private static final String UPDATE_WATERMARK_SQL = """
+            UPDATE job_watermarks
+            SET watermark = :watermark, updated_at = LOCALTIMESTAMP
+            WHERE name = :name
+            """;
+
+    private static final String INSERT_WATERMARK_SQL = """
+            INSERT INTO job_watermarks (name, watermark, updated_at)
+            VALUES (:name, :watermark, LOCALTIMESTAMP)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Busca as pautas que receberam votos ou tiveram os contadores alterados
+     * no intervalo (since, until]
+     *
+     * @param since Início exclusivo
+     * @param until Fim inclusivo
+     * @return IDs das pautas
+     */
+    public List<String> findAgendaIdsWithVotesBetween(LocalDateTime since, LocalDateTime until) {
+        return namedParameterJdbcTemplate.queryForList(AGENDAS_WITH_VOTES_SQL, new MapSqlParameterSource()
+                .addValue("since", since)
+                .addValue("until", until), String.class);
+    }
+
+    /**
+     * Compara os contadores das pautas com a contagem real dos votos
+     *
+     * @param agendaIds IDs das pautas (não vazio)
+     * @return Uma comparação por pauta existente
+     */
+    public List<TallyCheck> checkTallies(List<String> agendaIds) {
+        return namedParameterJdbcTemplate.query(CHECK_TALLIES_SQL,
+                new MapSqlParameterSource("agendaIds", agendaIds),
+                (ResultSet rs, int rowNum) -> new TallyCheck(rs.getString(1),
+                        new VoteTally(rs.getInt(2), rs.getInt(3), rs.getInt(4)),
+                        new VoteTally(rs.getInt(5), rs.getInt(6), rs.getInt(7))));
+    }
+
+    /**
+     * Busca a marca d'água de um job
+     *
+     * @param name Nome do job
+     * @return Marca d'água, se o job já rodou
+     */
+    public Optional<LocalDateTime> findWatermark(String name) {
+        return namedParameterJdbcTemplate.query(FIND_WATERMARK_SQL, new MapSqlParameterSource("name", name),
+                (ResultSet rs, int rowNum) -> rs.getObject(1, LocalDateTime.class))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Grava a marca d'água de um job
+     *
+     * @param name      Nome do job
+     * @param watermark Até onde o job já processou
+     */
+    public void saveWatermark(String name, LocalDateTime watermark) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("watermark", watermark);
+
+        if (namedParameterJdbcTemplate.update(UPDATE_WATERMARK_SQL, params) == 0) {
+            namedParameterJdbcTemplate.update(INSERT_WATERMARK_SQL, params);
+        }
+    }
+}
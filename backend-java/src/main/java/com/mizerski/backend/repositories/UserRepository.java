@@ -1,10 +1,13 @@
 package com.mizerski.backend.repositories;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -105,4 +108,37 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
      */
     Page<UserEntity> findByEmailContainingIgnoreCase(String email, Pageable pageable);
 
+    /**
+     * Busca usuários que contenham o email especificado sem contagem
+     * 
+     * @param email    Email ou parte do email
+     * @param pageable Configuração de paginação
+     * @return Slice de usuários
+     */
+    Slice<UserEntity> findSliceByEmailContainingIgnoreCase(String email, Pageable pageable);
+
+    /**
+     * Busca usuários sem contagem (size + 1 itens para hasNext)
+     * 
+     * @param pageable Configuração de paginação
+     * @return Slice de usuários
+     */
+    @Query("SELECT u FROM UserEntity u")
+    Slice<UserEntity> findSlice(Pageable pageable);
+
+    /**
+     * Busca usuários anteriores ao cursor (keyset), na ordem createdAt DESC,
+     * id DESC
+     *
+     * @param createdAt Data de criação do último usuário da página anterior
+     * @param id        ID do último usuário da página anterior
+     * @param limit     Quantidade máxima de usuários
+     * @return Lista de usuários
+     */
+    @Query("""
+            SELECT u FROM UserEntity u
+            WHERE u.createdAt <= :createdAt AND (u.createdAt < :createdAt OR u.id < :id)
+            ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserEntity> findBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") String id, Limit limit);
 }
@@ -0,0 +1,142 @@
+package com.mizerski.backend.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mizerski.backend.models.domains.VoteExportRow;
+import com.mizerski.backend.models.domains.Votes;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Repositório JDBC para escrita e exportação de votos.
+ * Evita o contexto de persistência do Hibernate no caminho quente de votação.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteJdbcRepository {
+
+    /**
+     * Insere o voto apenas se a pauta estiver aberta e o usuário existir.
+     * Votos duplicados (uk_user_agenda_vote) são ignorados e retornam 0 linhas.
+     */
+    private static final String INSERT_VOTE_IF_OPEN_SQL = """
+            INSERT INTO votes (id, vote_type, user_id, agenda_id, created_at, updated_at)
+            SELECT ?, ?, u.id, a.id, ?, ?
+            FROM agendas a
+            JOIN users u ON u.id = ?
+            WHERE a.id = ? AND a.status IN ('OPEN', 'IN_PROGRESS')
+            ON CONFLICT DO NOTHING
+            """;
+
+    /**
+     * Insere o voto apenas se a pauta estiver aberta e o usuário existir.
+     * Votos duplicados violam uk_user_agenda_vote e lançam DuplicateKeyException.
+     */
+    private static final String INSERT_VOTE_SQL = """
+            INSERT INTO votes (id, vote_type, user_id, agenda_id, created_at, updated_at)
+            SELECT ?, ?, u.id, a.id, ?, ?
+            FROM agendas a
+            JOIN users u ON u.id = ?
+            WHERE a.id = ? AND a.status IN ('OPEN', 'IN_PROGRESS')
+            """;
+
+    /**
+     * Votos da pauta em ordem de registro, pelo índice (agenda_id, created_at,
+     * id)
+     */
+    private static final String SELECT_VOTES_FOR_EXPORT_SQL = """
+            SELECT v.id, v.vote_type, v.user_id, u.name, v.created_at
+            FROM votes v
+            JOIN users u ON u.id = v.user_id
+            WHERE v.agenda_id = ?
+            ORDER BY v.created_at, v.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insere um único voto por referência (IDs), sem carregar usuário e pauta
+     *
+     * @param vote Voto a ser inserido
+     * @return 1 se inserido, 0 se a pauta não está aberta ou não existe, ou o
+     *         usuário não existe
+     * @throws org.springframework.dao.DuplicateKeyException se o usuário já votou
+     *                                                       na pauta
+     */
+    public int insert(Votes vote) {
+        return jdbcTemplate.update(INSERT_VOTE_SQL, ps -> setValues(ps, vote));
+    }
+
+    /**
+     * Insere um lote de votos usando JDBC batch
+     *
+     * Cada posição do array retornado indica quantas linhas o voto correspondente
+     * inseriu (1 se aceito, 0 se rejeitado por duplicidade, pauta fechada ou
+     * usuário inexistente). Não habilitar reWriteBatchedInserts no driver, pois
+     * ele esconde as contagens por linha.
+     *
+     * @param votes Votos a serem inseridos
+     * @return Contagem de linhas inseridas por voto
+     */
+    public int[] insertBatch(List<Votes> votes) {
+        return jdbcTemplate.batchUpdate(INSERT_VOTE_IF_OPEN_SQL, new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                VoteJdbcRepository.setValues(ps, votes.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return votes.size();
+            }
+        });
+    }
+
+    /**
+     * Percorre os votos de uma pauta com um cursor somente-avanço, entregando
+     * uma linha por vez sem acumular o resultado em memória.
+     *
+     * A transação somente leitura é necessária para o driver do PostgreSQL
+     * respeitar o fetch size (com autocommit ligado ele carrega tudo).
+     *
+     * @param agendaId  ID da pauta
+     * @param fetchSize Linhas buscadas do banco por ida ao servidor
+     * @param consumer  Recebe cada voto, na ordem de registro
+     */
+    @Transactional(readOnly = true)
+    public void streamByAgendaId(String agendaId, int fetchSize, Consumer<VoteExportRow> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_VOTES_FOR_EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setString(1, agendaId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new VoteExportRow(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getObject(5, LocalDateTime.class))));
+    }
+
+    private static void setValues(PreparedStatement ps, Votes vote) throws SQLException {
+        ps.setString(1, vote.getId());
+        ps.setString(2, vote.getVoteType().name());
+        ps.setObject(3, vote.getCreatedAt());
+        ps.setObject(4, vote.getUpdatedAt());
+        ps.setString(5, vote.getUserId());
+        ps.setString(6, vote.getAgendaId());
+    }
+}
@@ -1,16 +1,25 @@
 package com.mizerski.backend.repositories;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.mizerski.backend.models.entities.VoteEntity;
 
 /**
  * Interface que define os métodos para acessar os dados do voto
+ *
+ * As listagens carregam o usuário na mesma consulta (entity graph ou join
+ * fetch), pois o resumo do voto expõe o nome do votante.
  */
 public interface VoteRepository extends JpaRepository<VoteEntity, String> {
 
@@ -37,6 +46,7 @@ public interface VoteRepository extends JpaRepository<VoteEntity, String> {
      * @param agendaId ID da agenda
      * @return List<Vote>
      */
+    @EntityGraph(attributePaths = "user")
     List<VoteEntity> findByAgendaId(String agendaId);
 
     /**
@@ -45,6 +55,7 @@ public interface VoteRepository extends JpaRepository<VoteEntity, String> {
      * @param userId ID do usuário
      * @return List<Vote>
      */
+    @EntityGraph(attributePaths = "user")
     List<VoteEntity> findByUserId(String userId);
 
     /**
@@ -54,6 +65,7 @@ public interface VoteRepository extends JpaRepository<VoteEntity, String> {
      * @param pageable Configuração de paginação
      * @return Page<VoteEntity>
      */
+    @EntityGraph(attributePaths = "user")
     Page<VoteEntity> findByAgendaId(String agendaId, Pageable pageable);
 
     /**
@@ -63,5 +75,73 @@ public interface VoteRepository extends JpaRepository<VoteEntity, String> {
      * @param pageable Configuração de paginação
      * @return Page<VoteEntity>
      */
+    @EntityGraph(attributePaths = "user")
     Page<VoteEntity> findByUserId(String userId, Pageable pageable);
+
+    /**
+     * Busca votos por agenda sem contagem (size + 1 itens para hasNext)
+     * 
+     * @param agendaId ID da agenda
+     * @param pageable Configuração de paginação
+     * @return Slice<VoteEntity>
+     */
+    @EntityGraph(attributePaths = "user")
+    Slice<VoteEntity> findSliceByAgendaId(String agendaId, Pageable pageable);
+
+    /**
+     * Busca votos por usuário sem contagem (size + 1 itens para hasNext)
+     * 
+     * @param userId   ID do usuário
+     * @param pageable Configuração de paginação
+     * @return Slice<VoteEntity>
+     */
+    @EntityGraph(attributePaths = "user")
+    Slice<VoteEntity> findSliceByUserId(String userId, Pageable pageable);
+
+    /**
+     * Busca apenas os IDs dos usuários que votaram em uma agenda
+     * 
+     * @param agendaId ID da agenda
+     * @return List<String>
+     */
+    @Query("SELECT v.user.id FROM VoteEntity v WHERE v.agenda.id = :agendaId")
+    List<String> findUserIdsByAgendaId(@Param("agendaId") String agendaId);
+
+    /**
+     * Busca votos da agenda anteriores ao cursor (keyset), na ordem
+     * createdAt DESC, id DESC
+     *
+     * @param agendaId  ID da agenda
+     * @param createdAt Data de criação do último voto da página anterior
+     * @param id        ID do último voto da página anterior
+     * @param limit     Quantidade máxima de votos
+     * @return List<VoteEntity>
+     */
+    @Query("""
+            SELECT v FROM VoteEntity v JOIN FETCH v.user
+            WHERE v.agenda.id = :agendaId
+              AND v.createdAt <= :createdAt AND (v.createdAt < :createdAt OR v.id < :id)
+            ORDER BY v.createdAt DESC, v.id DESC
+            """)
+    List<VoteEntity> findByAgendaIdBefore(@Param("agendaId") String agendaId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") String id, Limit limit);
+
+    /**
+     * Busca votos do usuário anteriores ao cursor (keyset), na ordem
+     * createdAt DESC, id DESC
+     *
+     * @param userId    ID do usuário
+     * @param createdAt Data de criação do último voto da página anterior
+     * @param id        ID do último voto da página anterior
+     * @param limit     Quantidade máxima de votos
+     * @return List<VoteEntity>
+     */
+    @Query("""
+            SELECT v FROM VoteEntity v JOIN FETCH v.user
+            WHERE v.user.id = :userId
+              AND v.createdAt <= :createdAt AND (v.createdAt < :createdAt OR v.id < :id)
+            ORDER BY v.createdAt DESC, v.id DESC
+            """)
+    List<VoteEntity> findByUserIdBefore(@Param("userId") String userId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") String id, Limit limit);
 }
@@ -0,0 +1,58 @@
+package com.mizerski.backend.services;
+
+import java.util.function.Supplier;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+
+/**
+ * Interface para o cache em memória de pautas (AgendaResponse) por ID.
+ *
+ * Leitura com carga sob demanda (read-through) e entradas com prazo de
+ * validade. Os caminhos de escrita aplicam os incrementos de votos no cache ou
+ * invalidam a entrada quando o estado da pauta muda.
+ */
+public interface AgendaCacheService {
+
+    /**
+     * Busca a pauta no cache ou a carrega, armazenando o resultado
+     *
+     * @param agendaId ID da pauta
+     * @param loader   Carrega a pauta do banco (null quando não existe)
+     * @return Pauta ou null quando não existe
+     */
+    AgendaResponse getOrLoad(String agendaId, Supplier<AgendaResponse> loader);
+
+    /**
+     * Soma votos registrados aos contadores da pauta em cache, após o commit
+     *
+     * @param agendaId ID da pauta
+     * @param tally    Votos a somar
+     */
+    void applyTally(String agendaId, VoteTally tally);
+
+    /**
+     * Remove a pauta do cache agora e novamente ao fim da transação corrente
+     *
+     * @param agendaId ID da pauta
+     */
+    void evict(String agendaId);
+
+    /**
+     * Obtém as estatísticas do cache
+     *
+     * @return Acertos, faltas, remoções e tamanho atual
+     */
+    CacheStats getStats();
+
+    /**
+     * Estatísticas acumuladas do cache
+     *
+     * @param hits      Leituras atendidas pelo cache
+     * @param misses    Leituras que foram ao banco
+     * @param evictions Entradas removidas por validade ou por limite de tamanho
+     * @param size      Entradas atuais
+     */
+    record CacheStats(long hits, long misses, long evictions, int size) {
+    }
+}
@@ -0,0 +1,258 @@
+package com.mizerski.backend.services;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do cache em memória de pautas.
+ *
+ * As respostas em cache nunca são alteradas: o incremento de votos substitui
+ * a entrada por uma cópia com os contadores somados; a lista de votos
+ * embutida só é renovada quando a entrada vence. Pautas encerradas ou
+ * canceladas não mudam mais e ficam em cache por um prazo bem maior.
+ *
+ * Durante a carga a entrada recebe um marcador; qualquer escrita concorrente
+ * (incremento ou invalidação) remove o marcador e a carga não é armazenada,
+ * evitando guardar um estado lido antes do commit dessa escrita.
+ *
+ * Cada carga armazenada recebe uma geração crescente. O incremento de votos
+ * guarda a geração corrente quando é registrado e, após o commit, só soma os
+ * votos a entradas carregadas antes disso; uma entrada carregada depois pode
+ * já ter lido os votos commitados e é removida em vez de somada duas vezes.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AgendaCacheServiceImpl implements AgendaCacheService {
+
+    private final AgendaResponseCacheService agendaResponseCacheService;
+
+    private final ConcurrentHashMap<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicLong generations = new AtomicLong();
+
+    @Value("${voting.agenda-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.agenda-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${voting.agenda-cache.ttl-seconds:5}")
+    private long ttlSeconds;
+
+    @Value("${voting.agenda-cache.final-ttl-seconds:600}")
+    private long finalTtlSeconds;
+
+    /**
+     * Entrada do cache; value nulo indica carga em andamento. A geração
+     * identifica a carga que produziu a entrada.
+     */
+    private static final class CacheEntry {
+        final AgendaResponse value;
+        final long expiresAt;
+        final long generation;
+
+        CacheEntry(AgendaResponse value, long expiresAt, long generation) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.generation = generation;
+        }
+
+        boolean isLoading() {
+            return value == null;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Busca a pauta no cache ou a carrega, armazenando o resultado
+     *
+     * @param agendaId ID da pauta
+     * @param loader   Carrega a pauta do banco (null quando não existe)
+     * @return Pauta ou null quando não existe
+     */
+    @Override
+    public AgendaResponse getOrLoad(String agendaId, Supplier<AgendaResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long now = System.nanoTime();
+        CacheEntry entry = entries.get(agendaId);
+
+        if (entry != null && !entry.isLoading() && !entry.isExpired(now)) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        if (entry != null && !entry.isLoading() && entries.remove(agendaId, entry)) {
+            evictions.increment();
+        }
+
+        CacheEntry marker = new CacheEntry(null, now + ttlNanos(ttlSeconds), 0);
+        boolean owner = entries.putIfAbsent(agendaId, marker) == null;
+
+        AgendaResponse loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            if (owner) {
+                entries.remove(agendaId, marker);
+            }
+            throw e;
+        }
+
+        if (owner) {
+            if (loaded == null) {
+                entries.remove(agendaId, marker);
+            } else if (entries.replace(agendaId, marker, new CacheEntry(loaded, expiresAt(loaded),
+                    generations.incrementAndGet()))) {
+                enforceMaxSize();
+            }
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Soma votos registrados aos contadores da pauta em cache, após o commit.
+     * Entradas carregadas depois do registro dos votos (e cargas em andamento)
+     * são removidas, pois podem já refletir o commit.
+     *
+     * @param agendaId ID da pauta
+     * @param tally    Votos a somar
+     */
+    @Override
+    public void applyTally(String agendaId, VoteTally tally) {
+        if (!enabled || tally.isEmpty()) {
+            return;
+        }
+
+        long since = generations.get();
+        TransactionCallbacks.afterCommit(() -> entries.computeIfPresent(agendaId,
+                (id, entry) -> entry.isLoading() || entry.generation > since ? null
+                        : new CacheEntry(plus(entry.value, tally), entry.expiresAt, entry.generation)));
+    }
+
+    /**
+     * Remove a pauta do cache agora e novamente ao fim da transação corrente
+     * (commit ou rollback), descartando o que foi lido durante a transação.
+     * A resposta serializada da pauta, se houver, também é removida.
+     *
+     * @param agendaId ID da pauta
+     */
+    @Override
+    public void evict(String agendaId) {
+        agendaResponseCacheService.evict(agendaId);
+
+        if (!enabled) {
+            return;
+        }
+
+        entries.remove(agendaId);
+        TransactionCallbacks.afterCompletion(() -> entries.remove(agendaId));
+    }
+
+    /**
+     * Obtém as estatísticas do cache
+     *
+     * @return Acertos, faltas, remoções e tamanho atual
+     */
+    @Override
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * Remove as entradas vencidas periodicamente
+     */
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void cleanExpiredEntries() {
+        long now = System.nanoTime();
+        int before = entries.size();
+
+        entries.forEach((agendaId, entry) -> {
+            if (!entry.isLoading() && entry.isExpired(now) && entries.remove(agendaId, entry)) {
+                evictions.increment();
+            }
+        });
+
+        log.debug("Limpeza do cache de pautas: {} -> {} entradas", before, entries.size());
+    }
+
+    /**
+     * Mantém o cache dentro do limite, removendo vencidas e, se preciso,
+     * entradas arbitrárias
+     */
+    private void enforceMaxSize() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+
+        cleanExpiredEntries();
+
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private long expiresAt(AgendaResponse response) {
+        boolean immutable = response.getStatus() == AgendaStatus.FINISHED
+                || response.getStatus() == AgendaStatus.CANCELLED;
+        return System.nanoTime() + ttlNanos(immutable ? finalTtlSeconds : ttlSeconds);
+    }
+
+    private static long ttlNanos(long seconds) {
+        return seconds * 1_000_000_000L;
+    }
+
+    /**
+     * Cópia da resposta com os votos somados aos contadores
+     */
+    private static AgendaResponse plus(AgendaResponse response, VoteTally tally) {
+        return AgendaResponse.builder()
+                .id(response.getId())
+                .title(response.getTitle())
+                .description(response.getDescription())
+                .status(response.getStatus())
+                .category(response.getCategory())
+                .result(response.getResult())
+                .totalVotes(valueOf(response.getTotalVotes()) + tally.getTotalVotes())
+                .yesVotes(valueOf(response.getYesVotes()) + tally.getYesVotes())
+                .noVotes(valueOf(response.getNoVotes()) + tally.getNoVotes())
+                .isActive(response.getIsActive())
+                .createdAt(response.getCreatedAt())
+                .updatedAt(response.getUpdatedAt())
+                .votes(response.getVotes())
+                .sessions(response.getSessions())
+                .build();
+    }
+
+    private static int valueOf(Integer counter) {
+        return counter != null ? counter : 0;
+    }
+}
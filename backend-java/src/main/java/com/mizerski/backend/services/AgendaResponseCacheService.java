@@ -0,0 +1,66 @@
+package com.mizerski.backend.services;
+
+import java.util.Optional;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.models.domains.SerializedResponse;
+
+/**
+ * Interface para o cache de respostas já serializadas de pautas encerradas ou
+ * canceladas, que não mudam mais
+ */
+public interface AgendaResponseCacheService {
+
+    /**
+     * Busca a resposta serializada da pauta
+     *
+     * @param agendaId ID da pauta
+     * @return Resposta serializada, se a pauta estiver em cache
+     */
+    Optional<SerializedResponse> get(String agendaId);
+
+    /**
+     * Marca o momento anterior à leitura de uma pauta no banco, para
+     * {@link #put(AgendaResponse, long)} descartar leituras invalidadas no meio
+     * do caminho
+     *
+     * @return Marca atual das invalidações
+     */
+    long stamp();
+
+    /**
+     * Serializa e armazena a pauta se ela estiver encerrada ou cancelada
+     *
+     * @param agenda Pauta lida do banco
+     * @param stamp  Marca obtida antes da leitura
+     * @return Resposta serializada, ou vazio se a pauta ainda pode mudar, foi
+     *         invalidada desde a marca ou o cache está desligado
+     */
+    Optional<SerializedResponse> put(AgendaResponse agenda, long stamp);
+
+    /**
+     * Remove a pauta do cache agora e novamente ao fim da transação corrente
+     *
+     * @param agendaId ID da pauta
+     */
+    void evict(String agendaId);
+
+    /**
+     * Obtém as estatísticas do cache
+     *
+     * @return Acertos, faltas, remoções, tamanho e bytes ocupados
+     */
+    CacheStats getStats();
+
+    /**
+     * Estatísticas do cache de respostas serializadas
+     *
+     * @param hits      Leituras atendidas pelo cache
+     * @param misses    Leituras que não estavam no cache
+     * @param evictions Respostas removidas por invalidação ou limite de bytes
+     * @param size      Respostas em cache
+     * @param bytes     Bytes ocupados pelas respostas em cache
+     */
+    record CacheStats(long hits, long misses, long evictions, int size, long bytes) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.mizerski.backend.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.models.domains.SerializedResponse;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do cache de respostas serializadas de pautas encerradas.
+ *
+ * A pauta é serializada uma única vez com o mesmo ObjectMapper das respostas
+ * HTTP (fuso e formato de datas incluídos) e compactada com gzip quando
+ * compensa. O cache é limitado pelo total de bytes; ao passar do limite, as
+ * respostas acessadas há mais tempo saem primeiro.
+ *
+ * Toda invalidação avança uma marca global; uma leitura iniciada antes da
+ * invalidação não é armazenada, mesmo que termine depois dela.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AgendaResponseCacheServiceImpl implements AgendaResponseCacheService {
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Value("${voting.agenda-response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.agenda-response-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${voting.agenda-response-cache.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    /**
+     * Entrada do cache com o último acesso, usado na remoção por limite
+     */
+    private static final class CacheEntry {
+        final SerializedResponse value;
+        volatile long lastAccess;
+
+        CacheEntry(SerializedResponse value) {
+            this.value = value;
+            this.lastAccess = System.nanoTime();
+        }
+    }
+
+    /**
+     * Busca a resposta serializada da pauta
+     *
+     * @param agendaId ID da pauta
+     * @return Resposta serializada, se a pauta estiver em cache
+     */
+    @Override
+    public Optional<SerializedResponse> get(String agendaId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        CacheEntry entry = entries.get(agendaId);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        entry.lastAccess = System.nanoTime();
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Marca o momento anterior à leitura de uma pauta no banco
+     *
+     * @return Marca atual das invalidações
+     */
+    @Override
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Serializa e armazena a pauta se ela estiver encerrada ou cancelada
+     *
+     * @param agenda Pauta lida do banco
+     * @param stamp  Marca obtida antes da leitura
+     * @return Resposta serializada, ou vazio se a pauta ainda pode mudar, foi
+     *         invalidada desde a marca ou o cache está desligado
+     */
+    @Override
+    public Optional<SerializedResponse> put(AgendaResponse agenda, long stamp) {
+        if (!enabled || !isClosed(agenda) || invalidations.get() != stamp) {
+            return Optional.empty();
+        }
+
+        SerializedResponse serialized;
+        try {
+            serialized = serialize(agenda);
+        } catch (IOException e) {
+            log.warn("Não foi possível serializar a pauta {} para o cache: {}", agenda.getId(), e.getMessage());
+            return Optional.empty();
+        }
+
+        CacheEntry entry = new CacheEntry(serialized);
+        CacheEntry previous = entries.put(agenda.getId(), entry);
+        bytes.addAndGet(serialized.getSize() - (previous != null ? previous.value.getSize() : 0L));
+
+        // Invalidação concorrente com a leitura: a versão lida pode estar velha
+        if (invalidations.get() != stamp) {
+            remove(agenda.getId(), entry);
+            return Optional.of(serialized);
+        }
+
+        enforceMaxBytes();
+        return Optional.of(serialized);
+    }
+
+    /**
+     * Remove a pauta do cache agora e novamente ao fim da transação corrente
+     * (commit ou rollback)
+     *
+     * @param agendaId ID da pauta
+     */
+    @Override
+    public void evict(String agendaId) {
+        if (!enabled) {
+            return;
+        }
+
+        invalidate(agendaId);
+        TransactionCallbacks.afterCompletion(() -> invalidate(agendaId));
+    }
+
+    /**
+     * Obtém as estatísticas do cache
+     *
+     * @return Acertos, faltas, remoções, tamanho e bytes ocupados
+     */
+    @Override
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), bytes.get());
+    }
+
+    private void invalidate(String agendaId) {
+        invalidations.incrementAndGet();
+
+        CacheEntry entry = entries.get(agendaId);
+        if (entry != null) {
+            remove(agendaId, entry);
+        }
+    }
+
+    private void remove(String agendaId, CacheEntry entry) {
+        if (entries.remove(agendaId, entry)) {
+            bytes.addAndGet(-entry.value.getSize());
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Mantém o cache dentro do limite de bytes, removendo as respostas
+     * acessadas há mais tempo até sobrar uma folga de 10%
+     */
+    private void enforceMaxBytes() {
+        if (bytes.get() <= maxBytes) {
+            return;
+        }
+
+        synchronized (this) {
+            long target = maxBytes - maxBytes / 10;
+
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                    .takeWhile(e -> bytes.get() > target)
+                    .forEach(e -> remove(e.getKey(), e.getValue()));
+        }
+
+        log.debug("Cache de respostas de pautas reduzido para {} bytes ({} pautas)", bytes.get(), entries.size());
+    }
+
+    private SerializedResponse serialize(AgendaResponse agenda) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(agenda);
+        byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+
+        if (gzip != null && gzip.length >= json.length) {
+            gzip = null;
+        }
+
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        long lastModified = agenda.getUpdatedAt() != null
+                ? agenda.getUpdatedAt().atZone(zoneId()).toInstant().toEpochMilli()
+                : -1L;
+
+        return new SerializedResponse(json, gzip, eTag, lastModified);
+    }
+
+    /**
+     * Fuso configurado no ObjectMapper (spring.jackson.time-zone), o mesmo das
+     * datas do corpo serializado
+     */
+    private ZoneId zoneId() {
+        return objectMapper.getSerializationConfig().getTimeZone().toZoneId();
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isClosed(AgendaResponse agenda) {
+        return agenda.getStatus() == AgendaStatus.FINISHED || agenda.getStatus() == AgendaStatus.CANCELLED;
+    }
+}
@@ -1,13 +1,19 @@
 package com.mizerski.backend.services;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
 import com.mizerski.backend.dtos.request.CreateAgendaRequest;
 import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
+import com.mizerski.backend.models.domains.AgendaVersion;
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.TotalMode;
 
 /**
  * Interface para serviço de gerenciamento de operações relacionadas a pautas
@@ -30,6 +36,14 @@ public interface AgendaService {
      */
     Result<AgendaResponse> getAgendaById(String id);
 
+    /**
+     * Busca a versão da pauta sem carregá-la, para o GET condicional
+     * 
+     * @param id ID da pauta
+     * @return Versão da pauta, ou vazio se ela não existe ou a consulta falhou
+     */
+    Optional<AgendaVersion> getAgendaVersion(String id);
+
     /**
      * Busca todas as pautas
      * 
@@ -75,6 +89,43 @@ public interface AgendaService {
      */
     PagedResponse<AgendaResponse> getAllAgendasFinished(Pageable pageable);
 
+    /**
+     * Busca resumos de pautas (status e contadores) com paginação, sem votos e
+     * sessões
+     *
+     * @param filter             Filtro de status: ALL (todas), OPEN (abertas e em
+     *                           andamento), FINISHED (encerradas e canceladas) ou
+     *                           um status específico
+     * @param includeDescription Se a descrição deve ser incluída
+     * @param totalMode          NONE dispensa a contagem; EXACT e APPROXIMATE
+     *                           contam (não há contador mantido de pautas)
+     * @param pageable           Configuração de paginação
+     * @return Resposta paginada de resumos de pautas
+     */
+    PagedResponse<AgendaSummaryResponse> getAgendaSummaries(AgendaStatus filter, boolean includeDescription,
+            TotalMode totalMode, Pageable pageable);
+
+    /**
+     * Busca a versão da listagem de resumos de pautas, para o GET condicional
+     *
+     * @param filter Filtro de status (ver getAgendaSummaries)
+     * @return Carimbo de versão da listagem, ou vazio se a consulta falhou
+     */
+    Optional<String> getAgendaListVersion(AgendaStatus filter);
+
+    /**
+     * Busca resumos de pautas com paginação por cursor (mais recentes primeiro)
+     *
+     * @param filter             Filtro de status (ver getAgendaSummaries)
+     * @param includeDescription Se a descrição deve ser incluída
+     * @param after              Cursor da página anterior (null para a primeira
+     *                           página)
+     * @param size               Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    Result<CursorPagedResponse<AgendaSummaryResponse>> getAgendaSummaries(AgendaStatus filter,
+            boolean includeDescription, String after, int size);
+
     /**
      * Inicia uma sessão de votação para uma agenda
      * 
@@ -1,25 +1,41 @@
 package com.mizerski.backend.services;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.mizerski.backend.annotations.Idempotent;
 import com.mizerski.backend.dtos.request.CreateAgendaRequest;
 import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.SessionResponse;
+import com.mizerski.backend.models.domains.AgendaVersion;
 import com.mizerski.backend.models.domains.Agendas;
+import com.mizerski.backend.models.domains.PageCursor;
 import com.mizerski.backend.models.domains.Result;
 import com.mizerski.backend.models.entities.AgendaEntity;
 import com.mizerski.backend.models.enums.AgendaResult;
 import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.TotalMode;
 import com.mizerski.backend.models.mappers.AgendaMapper;
 import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.AgendaVersionJdbcRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,10 +49,18 @@ import lombok.extern.slf4j.Slf4j;
 public class AgendaServiceImpl implements AgendaService {
 
     private final AgendaRepository agendaRepository;
+    private final AgendaVersionJdbcRepository agendaVersionJdbcRepository;
     private final AgendaMapper agendaMapper;
     private final IdempotencyService idempotencyService;
     private final ExceptionMappingService exceptionMappingService;
     private final SessionService sessionService;
+    private final TallyService tallyService;
+    private final AgendaCacheService agendaCacheService;
+    private final AgendaResponseCacheService agendaResponseCacheService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${voting.agenda-response-cache.warm-size:200}")
+    private int warmSize;
 
     /**
      * Cria uma nova pauta com tratamento de idempotência
@@ -103,20 +127,22 @@ public class AgendaServiceImpl implements AgendaService {
     /**
      * Busca uma pauta pelo ID
      * 
+     * Servida pelo cache de pautas; só abre transação quando precisa carregar
+     * a pauta do banco.
+     * 
      * @param id ID da pauta
      * @return Result com dados da pauta encontrada ou erro
      */
     @Override
-    @Transactional(readOnly = true)
     public Result<AgendaResponse> getAgendaById(String id) {
         try {
-            AgendaEntity agendaEntity = agendaRepository.findById(id).orElse(null);
+            AgendaResponse response = agendaCacheService.getOrLoad(id,
+                    () -> transactionTemplate.execute(status -> loadAgenda(id)));
 
-            if (agendaEntity == null) {
+            if (response == null) {
                 return Result.error("AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + id);
             }
 
-            AgendaResponse response = agendaMapper.toResponse(agendaEntity);
             return Result.success(response);
 
         } catch (Exception e) {
@@ -125,6 +151,75 @@ public class AgendaServiceImpl implements AgendaService {
         }
     }
 
+    /**
+     * Busca a versão da pauta sem carregá-la
+     * 
+     * Uma consulta só com colunas de controle e agregados; a resposta completa
+     * só é montada quando o cliente não tem essa versão. Em caso de falha a
+     * pauta é carregada normalmente.
+     * 
+     * @param id ID da pauta
+     * @return Versão da pauta, ou vazio se ela não existe ou a consulta falhou
+     */
+    @Override
+    public Optional<AgendaVersion> getAgendaVersion(String id) {
+        try {
+            return agendaVersionJdbcRepository.findByAgendaId(id);
+        } catch (Exception e) {
+            log.warn("Erro ao buscar versão da pauta {}: {}", id, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Carrega a pauta do banco com os votos ainda nos shards
+     *
+     * @param id ID da pauta
+     * @return Pauta ou null quando não existe
+     */
+    private AgendaResponse loadAgenda(String id) {
+        AgendaEntity agendaEntity = agendaRepository.findById(id).orElse(null);
+
+        if (agendaEntity == null) {
+            return null;
+        }
+
+        AgendaResponse response = agendaMapper.toResponse(agendaEntity);
+        tallyService.applyTo(response);
+        return response;
+    }
+
+    /**
+     * Pré-carrega no cache de respostas serializadas as pautas encerradas ou
+     * canceladas alteradas mais recentemente (as mais consultadas na página
+     * de resultados)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpClosedAgendas() {
+        if (warmSize <= 0) {
+            return;
+        }
+
+        try {
+            List<String> ids = agendaRepository.findRecentlyUpdatedIdsByStatusIn(
+                    EnumSet.of(AgendaStatus.FINISHED, AgendaStatus.CANCELLED), Limit.of(warmSize));
+
+            int warmed = 0;
+            for (String id : ids) {
+                long stamp = agendaResponseCacheService.stamp();
+                if (getAgendaById(id).getValue()
+                        .flatMap(agenda -> agendaResponseCacheService.put(agenda, stamp))
+                        .isPresent()) {
+                    warmed++;
+                }
+            }
+
+            log.info("Cache de respostas pré-carregado com {} pautas encerradas", warmed);
+        } catch (Exception e) {
+            log.warn("Não foi possível pré-carregar o cache de respostas de pautas: {}", e.getMessage());
+        }
+    }
+
     /**
      * Busca todas as pautas
      * 
@@ -135,9 +230,12 @@ public class AgendaServiceImpl implements AgendaService {
     public List<AgendaResponse> getAllAgendas() {
         List<AgendaEntity> agendaEntities = agendaRepository.findAll();
 
-        return agendaEntities.stream()
+        List<AgendaResponse> responses = agendaEntities.stream()
                 .map(agendaMapper::toResponse)
                 .collect(Collectors.toList());
+
+        tallyService.applyTo(responses);
+        return responses;
     }
 
     /**
@@ -155,6 +253,7 @@ public class AgendaServiceImpl implements AgendaService {
                 .map(agendaMapper::toResponse)
                 .collect(Collectors.toList());
 
+        tallyService.applyTo(content);
         return new PagedResponse<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
@@ -169,9 +268,12 @@ public class AgendaServiceImpl implements AgendaService {
         List<AgendaEntity> agendaEntities = agendaRepository.findByStatusIn(
                 List.of(AgendaStatus.OPEN, AgendaStatus.IN_PROGRESS));
 
-        return agendaEntities.stream()
+        List<AgendaResponse> responses = agendaEntities.stream()
                 .map(agendaMapper::toResponse)
                 .collect(Collectors.toList());
+
+        tallyService.applyTo(responses);
+        return responses;
     }
 
     /**
@@ -190,6 +292,7 @@ public class AgendaServiceImpl implements AgendaService {
                 .map(agendaMapper::toResponse)
                 .collect(Collectors.toList());
 
+        tallyService.applyTo(content);
         return new PagedResponse<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
@@ -204,9 +307,12 @@ public class AgendaServiceImpl implements AgendaService {
         List<AgendaEntity> agendaEntities = agendaRepository
                 .findByStatusIn(List.of(AgendaStatus.FINISHED, AgendaStatus.CANCELLED));
 
-        return agendaEntities.stream()
+        List<AgendaResponse> responses = agendaEntities.stream()
                 .map(agendaMapper::toResponse)
                 .collect(Collectors.toList());
+
+        tallyService.applyTo(responses);
+        return responses;
     }
 
     /**
@@ -225,9 +331,115 @@ public class AgendaServiceImpl implements AgendaService {
                 .map(agendaMapper::toResponse)
                 .collect(Collectors.toList());
 
+        tallyService.applyTo(content);
         return new PagedResponse<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
+    /**
+     * Busca resumos de pautas com paginação.
+     *
+     * A consulta projeta apenas as colunas do resumo diretamente no DTO, sem
+     * carregar a entidade nem suas coleções de votos e sessões. Os shards de
+     * contadores são somados em uma única consulta para a página inteira. A
+     * contagem só é executada quando o total é solicitado.
+     *
+     * @param filter             Filtro de status
+     * @param includeDescription Se a descrição deve ser incluída
+     * @param totalMode          Como obter o total de elementos
+     * @param pageable           Configuração de paginação
+     * @return Resposta paginada de resumos de pautas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<AgendaSummaryResponse> getAgendaSummaries(AgendaStatus filter, boolean includeDescription,
+            TotalMode totalMode, Pageable pageable) {
+        Set<AgendaStatus> statuses = resolveStatuses(filter);
+
+        Slice<AgendaSummaryResponse> slice = includeDescription
+                ? agendaRepository.findSummariesWithDescriptionByStatusIn(statuses, pageable)
+                : agendaRepository.findSummariesByStatusIn(statuses, pageable);
+
+        List<AgendaSummaryResponse> content = new ArrayList<>(slice.getContent());
+        tallyService.applySummaries(content);
+
+        if (totalMode == TotalMode.NONE) {
+            return PagedResponse.ofSlice(content, slice);
+        }
+
+        return new PagedResponse<>(content, slice.getNumber(), slice.getSize(),
+                agendaRepository.countByStatusIn(statuses));
+    }
+
+    /**
+     * Busca a versão da listagem de resumos de pautas
+     *
+     * Os agregados das pautas no filtro são lidos em uma única consulta, sem
+     * montar a página; a página só é consultada quando o cliente não tem essa
+     * versão.
+     *
+     * @param filter Filtro de status
+     * @return Carimbo de versão da listagem, ou vazio se a consulta falhou
+     */
+    @Override
+    public Optional<String> getAgendaListVersion(AgendaStatus filter) {
+        try {
+            return Optional.of(agendaVersionJdbcRepository.findListVersion(resolveStatuses(filter)));
+        } catch (Exception e) {
+            log.warn("Erro ao buscar versão da listagem de pautas {}: {}", filter, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Busca resumos de pautas com paginação por cursor (mais recentes primeiro).
+     *
+     * O custo de qualquer página é o mesmo da primeira: a consulta parte da
+     * chave (createdAt, id) do cursor no índice, sem OFFSET nem COUNT.
+     *
+     * @param filter             Filtro de status
+     * @param includeDescription Se a descrição deve ser incluída
+     * @param after              Cursor da página anterior (null para a primeira
+     *                           página)
+     * @param size               Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<CursorPagedResponse<AgendaSummaryResponse>> getAgendaSummaries(AgendaStatus filter,
+            boolean includeDescription, String after, int size) {
+        try {
+            PageCursor cursor = PageCursor.decode(after);
+            Set<AgendaStatus> statuses = resolveStatuses(filter);
+            Limit limit = Limit.of(size + 1);
+
+            List<AgendaSummaryResponse> rows = includeDescription
+                    ? agendaRepository.findSummariesWithDescriptionBefore(statuses, cursor.getCreatedAt(),
+                            cursor.getId(), limit)
+                    : agendaRepository.findSummariesBefore(statuses, cursor.getCreatedAt(), cursor.getId(), limit);
+
+            CursorPagedResponse<AgendaSummaryResponse> response = CursorPagedResponse.of(rows, size,
+                    summary -> new PageCursor(summary.getCreatedAt(), summary.getId()));
+            tallyService.applySummaries(response.getContent());
+            return Result.success(response);
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar resumos de pautas por cursor {}: {}", after, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
+    /**
+     * Converte o filtro de listagem nos status persistidos correspondentes
+     */
+    private static Set<AgendaStatus> resolveStatuses(AgendaStatus filter) {
+        return switch (filter) {
+            case ALL -> EnumSet.complementOf(EnumSet.of(AgendaStatus.ALL));
+            case OPEN -> EnumSet.of(AgendaStatus.OPEN, AgendaStatus.IN_PROGRESS);
+            case FINISHED -> EnumSet.of(AgendaStatus.FINISHED, AgendaStatus.CANCELLED);
+            default -> EnumSet.of(filter);
+        };
+    }
+
     /**
      * Inicia uma sessão de votação para uma agenda
      * 
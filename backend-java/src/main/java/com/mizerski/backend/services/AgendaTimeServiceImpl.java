@@ -28,6 +28,10 @@ public class AgendaTimeServiceImpl implements AgendaTimeService {
     private final AgendaRepository agendaRepository;
     private final AgendaMapper agendaMapper;
     private final ExceptionMappingService exceptionMappingService;
+    private final TallyService tallyService;
+    private final VoterBitmapService voterBitmapService;
+    private final AgendaCacheService agendaCacheService;
+    private final TallyStreamService tallyStreamService;
 
     /**
      * Inicia o timer de uma pauta com tratamento de idempotência
@@ -56,6 +60,9 @@ public class AgendaTimeServiceImpl implements AgendaTimeService {
             agendaEntity.setStatus(AgendaStatus.IN_PROGRESS);
             AgendaEntity savedEntity = agendaRepository.save(agendaEntity);
             AgendaResponse response = agendaMapper.toResponse(savedEntity);
+            tallyService.applyTo(response);
+            voterBitmapService.load(agendaId);
+            agendaCacheService.evict(agendaId);
 
             log.info("Timer da pauta iniciado com sucesso: {}", agendaId);
             return Result.success(response);
@@ -83,16 +90,11 @@ public class AgendaTimeServiceImpl implements AgendaTimeService {
                 return Result.error("AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + agendaId);
             }
 
-            agendaEntity.setTotalVotes(agendaEntity.getTotalVotes() + 1);
+            // Incremento atômico em um shard, sem read-modify-write na linha da pauta
+            tallyService.increment(agendaId, voteType);
 
-            if (voteType == VoteType.YES) {
-                agendaEntity.setYesVotes(agendaEntity.getYesVotes() + 1);
-            } else if (voteType == VoteType.NO) {
-                agendaEntity.setNoVotes(agendaEntity.getNoVotes() + 1);
-            }
-
-            AgendaEntity savedEntity = agendaRepository.save(agendaEntity);
-            AgendaResponse response = agendaMapper.toResponse(savedEntity);
+            AgendaResponse response = agendaMapper.toResponse(agendaEntity);
+            tallyService.applyTo(response);
 
             log.info("Votos da pauta atualizados com sucesso: {}", agendaId);
             return Result.success(response);
@@ -121,6 +123,9 @@ public class AgendaTimeServiceImpl implements AgendaTimeService {
                 return Result.error("AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + agendaId);
             }
 
+            // Consolida os shards nos contadores da pauta antes de apurar
+            tallyService.foldShards(agendaEntity);
+
             final int yes = agendaEntity.getYesVotes();
             final int no = agendaEntity.getNoVotes();
             final int total = agendaEntity.getTotalVotes();
@@ -133,6 +138,9 @@ public class AgendaTimeServiceImpl implements AgendaTimeService {
 
             AgendaEntity savedEntity = agendaRepository.save(agendaEntity);
             AgendaResponse response = agendaMapper.toResponse(savedEntity);
+            voterBitmapService.evict(agendaId);
+            agendaCacheService.evict(agendaId);
+            tallyStreamService.close(agendaId, AgendaStatus.FINISHED);
 
             log.info("Resultado da pauta calculado com sucesso: {} - Resultado: {}", agendaId, result);
             return Result.success(response);
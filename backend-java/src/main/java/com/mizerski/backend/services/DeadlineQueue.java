@@ -0,0 +1,137 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Fila de prazos em memória agrupada em ticks, usada no encerramento e na
+ * ativação de sessões.
+ *
+ * Cada chave entra no tick seguinte ao seu prazo, de modo que nunca é
+ * liberada antes dele. Uma única thread dorme até o tick mais próximo e
+ * entrega ao consumidor, de uma vez, todas as chaves dos ticks vencidos.
+ */
+class DeadlineQueue {
+
+    private final long tickMs;
+
+    /**
+     * Chaves por tick de vencimento, protegidas por {@link #lock}
+     */
+    private final TreeMap<Long, Set<String>> deadlines = new TreeMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private int size = 0;
+
+    private ExecutorService worker;
+
+    DeadlineQueue(long tickMs) {
+        this.tickMs = tickMs;
+    }
+
+    /**
+     * Inicia a thread que entrega os lotes vencidos ao consumidor
+     */
+    void start(String threadName, Consumer<Set<String>> consumer) {
+        worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory(threadName + "-"));
+        worker.execute(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    consumer.accept(awaitDue());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    void stop() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     * Inclui a chave no tick seguinte ao prazo
+     */
+    void add(String key, LocalDateTime deadline) {
+        addToTick(deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / tickMs + 1, List.of(key));
+    }
+
+    /**
+     * Inclui novamente as chaves após o intervalo informado (nova tentativa)
+     */
+    void retry(Collection<String> keys, long delayMs) {
+        addToTick((System.currentTimeMillis() + delayMs) / tickMs + 1, keys);
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bloqueia até haver ticks vencidos e retira todas as chaves deles
+     */
+    Set<String> awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                Map.Entry<Long, Set<String>> first = deadlines.firstEntry();
+
+                if (first == null) {
+                    changed.await();
+                } else if (first.getKey() * tickMs > now) {
+                    changed.await(first.getKey() * tickMs - now, TimeUnit.MILLISECONDS);
+                } else {
+                    Set<String> batch = new HashSet<>();
+                    while ((first = deadlines.firstEntry()) != null && first.getKey() * tickMs <= now) {
+                        deadlines.pollFirstEntry();
+                        size -= first.getValue().size();
+                        batch.addAll(first.getValue());
+                    }
+                    return batch;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addToTick(long tick, Collection<String> keys) {
+        lock.lock();
+        try {
+            Set<String> bucket = deadlines.computeIfAbsent(tick, key -> new HashSet<>());
+            for (String key : keys) {
+                if (bucket.add(key)) {
+                    size++;
+                }
+            }
+
+            if (deadlines.firstKey() == tick) {
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
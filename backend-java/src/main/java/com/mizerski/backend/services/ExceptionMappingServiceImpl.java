@@ -96,10 +96,12 @@ public class ExceptionMappingServiceImpl implements ExceptionMappingService {
 
         // Tratamento específico para violações de constraint de banco relacionadas a
         // votos
-        if ("DataIntegrityViolationException".equals(exceptionName) && message != null) {
+        if (("DataIntegrityViolationException".equals(exceptionName)
+                || "DuplicateKeyException".equals(exceptionName)) && message != null) {
             // Violação de constraint única de voto (usuário + agenda)
             if (message.contains("votes_user_id_agenda_id_key") ||
-                    message.contains("unique_user_agenda_vote")) {
+                    message.contains("unique_user_agenda_vote") ||
+                    message.contains("uk_user_agenda_vote")) {
                 return "USER_ALREADY_VOTED";
             }
 
@@ -39,6 +39,13 @@ public interface IdempotencyService {
      */
     String getCacheStats();
 
+    /**
+     * Obtém a quantidade de entradas no cache
+     *
+     * @return Número de entradas, incluindo as expiradas ainda não removidas
+     */
+    int getCacheSize();
+
     /**
      * Gera uma chave de idempotência baseada em parâmetros
      * 
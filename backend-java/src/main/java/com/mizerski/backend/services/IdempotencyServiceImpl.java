@@ -3,10 +3,8 @@ package com.mizerski.backend.services;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.mizerski.backend.models.domains.Result;
@@ -18,13 +16,15 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Implementação do serviço para gerenciar operações idempotentes.
  * Utiliza cache em memória para evitar operações duplicadas.
+ *
+ * A limpeza periódica roda no scheduler do Spring (que usa threads virtuais
+ * quando spring.threads.virtual.enabled está ativo), sem pool próprio.
  */
 @Service
 @Slf4j
 public class IdempotencyServiceImpl implements IdempotencyService {
 
     private final ConcurrentHashMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
     /**
      * Entrada do cache com resultado e timestamp
@@ -47,14 +47,11 @@ public class IdempotencyServiceImpl implements IdempotencyService {
 
     @PostConstruct
     public void init() {
-        // Limpa cache expirado a cada 5 minutos
-        scheduler.scheduleAtFixedRate(this::cleanExpiredEntries, 5, 5, TimeUnit.MINUTES);
         log.info("IdempotencyService iniciado com limpeza automática de cache");
     }
 
     @PreDestroy
     public void destroy() {
-        scheduler.shutdown();
         log.info("IdempotencyService finalizado");
     }
 
@@ -107,9 +104,10 @@ public class IdempotencyServiceImpl implements IdempotencyService {
     }
 
     /**
-     * Limpa todas as entradas expiradas do cache
+     * Limpa todas as entradas expiradas do cache a cada 5 minutos
      */
-    private void cleanExpiredEntries() {
+    @Scheduled(fixedRate = 300000, initialDelay = 300000) // 5 minutos
+    public void cleanExpiredEntries() {
         int removedCount = 0;
         var iterator = cache.entrySet().iterator();
 
@@ -136,6 +134,16 @@ public class IdempotencyServiceImpl implements IdempotencyService {
         return String.format("Cache: %d entradas ativas", cache.size());
     }
 
+    /**
+     * Obtém a quantidade de entradas no cache
+     *
+     * @return Número de entradas, incluindo as expiradas ainda não removidas
+     */
+    @Override
+    public int getCacheSize() {
+        return cache.size();
+    }
+
     /**
      * Gera uma chave de idempotência baseada em parâmetros
      * 
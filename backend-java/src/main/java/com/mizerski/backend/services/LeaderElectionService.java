@@ -0,0 +1,24 @@
+package com.mizerski.backend.services;
+
+/**
+ * Interface da eleição de líder entre réplicas.
+ *
+ * Apenas o nó líder executa os jobs periódicos que atuam sobre o banco
+ * compartilhado (varredura de sessões expiradas e similares).
+ */
+public interface LeaderElectionService {
+
+    /**
+     * Verifica se este nó é o líder no momento
+     *
+     * @return true se este nó detém uma lease ainda válida
+     */
+    boolean isLeader();
+
+    /**
+     * Obtém o identificador deste nó na eleição
+     *
+     * @return ID do nó
+     */
+    String getNodeId();
+}
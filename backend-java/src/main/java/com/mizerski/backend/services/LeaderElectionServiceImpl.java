@@ -0,0 +1,152 @@
+package com.mizerski.backend.services;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.mizerski.backend.repositories.LeaseJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação da eleição de líder com lease no banco.
+ *
+ * Cada nó tenta adquirir ou renovar a lease a cada
+ * voting.leader.renew-interval-ms. O líder se considera líder apenas até
+ * ttl-ms após o início da última renovação bem-sucedida, medido no relógio
+ * local; se o banco ficar inacessível ele deixa de ser líder antes que outro
+ * nó possa assumir. Com o líder parado, outro nó assume em até ttl-ms +
+ * renew-interval-ms; no desligamento a lease é liberada na hora.
+ *
+ * A renovação roda em uma thread própria, fora do scheduler compartilhado do
+ * Spring: uma varredura demorada não pode atrasá-la além do ttl-ms.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderElectionServiceImpl implements LeaderElectionService {
+
+    private final LeaseJdbcRepository leaseJdbcRepository;
+
+    @Value("${voting.leader.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.leader.lease-name:scheduler}")
+    private String leaseName;
+
+    @Value("${voting.leader.ttl-ms:15000}")
+    private long ttlMs;
+
+    @Value("${voting.leader.renew-interval-ms:5000}")
+    private long renewIntervalMs;
+
+    private ScheduledExecutorService renewer;
+    private String nodeId;
+    private volatile long leaderUntilNanos = 0;
+    private volatile boolean leader = false;
+
+    @PostConstruct
+    public void init() {
+        nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Inicia a renovação periódica da lease
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        renewer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("leader-renewer-"));
+        renewer.scheduleWithFixedDelay(this::renew, 0, renewIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (renewer != null) {
+            renewer.shutdownNow();
+        }
+
+        if (!enabled || !leader) {
+            return;
+        }
+
+        leader = false;
+        try {
+            leaseJdbcRepository.release(leaseName, nodeId);
+            log.info("Nó {} liberou a liderança", nodeId);
+        } catch (Exception e) {
+            log.warn("Não foi possível liberar a lease {}: {}", leaseName, e.getMessage());
+        }
+    }
+
+    /**
+     * Adquire ou renova a lease de liderança
+     */
+    public void renew() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = leaseJdbcRepository.tryAcquire(leaseName, nodeId, Duration.ofMillis(ttlMs));
+        } catch (Exception e) {
+            log.warn("Falha ao renovar a lease {}: {}", leaseName, e.getMessage());
+            acquired = false;
+        }
+
+        if (acquired) {
+            leaderUntilNanos = started + Duration.ofMillis(ttlMs).toNanos();
+        }
+
+        if (acquired != leader) {
+            log.info(acquired ? "Nó {} assumiu a liderança" : "Nó {} deixou de ser líder", nodeId);
+        }
+        leader = acquired;
+    }
+
+    /**
+     * Verifica se este nó é o líder no momento
+     *
+     * @return true se este nó detém uma lease ainda válida
+     */
+    @Override
+    public boolean isLeader() {
+        return !enabled || (leader && System.nanoTime() - leaderUntilNanos < 0);
+    }
+
+    /**
+     * Obtém o identificador deste nó na eleição
+     *
+     * @return ID do nó
+     */
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interface da ativação de sessões agendadas.
+ *
+ * Sessões criadas com início no futuro ficam pendentes no banco
+ * (activated_at nulo) e em uma fila de prazos em memória; no horário de início
+ * a pauta passa para IN_PROGRESS.
+ */
+public interface SessionActivatorService {
+
+    /**
+     * Agenda a ativação da sessão para o horário de início, após o commit
+     * quando houver transação
+     *
+     * @param sessionId ID da sessão
+     * @param startTime Início da sessão
+     */
+    void schedule(String sessionId, LocalDateTime startTime);
+
+    /**
+     * Ativa as sessões cujo início já passou e inicia as pautas delas
+     *
+     * @param now Data/hora de referência
+     * @return Número de pautas que passaram para IN_PROGRESS
+     */
+    int activateDue(LocalDateTime now);
+
+    /**
+     * Obtém a quantidade de sessões aguardando ativação nesta instância
+     *
+     * @return Número de ativações agendadas
+     */
+    int getPendingCount();
+
+    /**
+     * Obtém as estatísticas de atraso das ativações
+     *
+     * @return Estatísticas acumuladas
+     */
+    ActivationStats getStats();
+
+    /**
+     * Estatísticas acumuladas das ativações
+     *
+     * @param activations Sessões ativadas
+     * @param totalLagMs  Soma dos atrasos entre o início previsto e a ativação
+     * @param maxLagMs    Maior atraso observado
+     */
+    record ActivationStats(long activations, long totalLagMs, long maxLagMs) {
+    }
+}
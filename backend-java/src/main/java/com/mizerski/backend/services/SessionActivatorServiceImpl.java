@@ -0,0 +1,217 @@
+package com.mizerski.backend.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.models.domains.SessionActivationChunk;
+import com.mizerski.backend.repositories.SessionJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação da ativação de sessões agendadas com fila de prazos em
+ * memória.
+ *
+ * Os inícios das sessões ficam em uma DeadlineQueue com ticks de
+ * voting.session-activator.tick-ms; as sessões do mesmo tick são ativadas em
+ * um único lote do SessionJdbcRepository, restrito a elas. A fila é recuperada
+ * na inicialização com uma consulta pelo índice parcial das sessões pendentes,
+ * e a varredura de garantia do SessionSchedulerConfig, só no líder, cobre
+ * sessões agendadas por outra réplica que parou.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SessionActivatorServiceImpl implements SessionActivatorService {
+
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final SessionJdbcRepository sessionJdbcRepository;
+    private final VoterBitmapService voterBitmapService;
+    private final AgendaCacheService agendaCacheService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${voting.session-activator.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.session-activator.tick-ms:10}")
+    private long tickMs;
+
+    @Value("${voting.session-activator.chunk-size:500}")
+    private int chunkSize;
+
+    private DeadlineQueue deadlines;
+
+    private final LongAdder activations = new LongAdder();
+    private final LongAdder totalLagMs = new LongAdder();
+    private final LongAccumulator maxLagMs = new LongAccumulator(Math::max, 0);
+
+    @PostConstruct
+    public void init() {
+        deadlines = new DeadlineQueue(tickMs);
+    }
+
+    /**
+     * Recupera as sessões pendentes de ativação e inicia a thread de ativação
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Ativação de sessões em memória desativada, apenas a varredura periódica está ativa");
+            return;
+        }
+
+        try {
+            sessionJdbcRepository.forEachPendingStart(deadlines::add);
+            log.info("Fila de ativação de sessões recuperada: {} sessões agendadas", getPendingCount());
+        } catch (Exception e) {
+            log.warn("Não foi possível recuperar a fila de ativação, a varredura periódica assume: {}",
+                    e.getMessage());
+        }
+
+        deadlines.start("session-activator", this::activate);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        deadlines.stop();
+    }
+
+    /**
+     * Agenda a ativação da sessão para o horário de início, após o commit
+     * quando houver transação
+     *
+     * @param sessionId ID da sessão
+     * @param startTime Início da sessão
+     */
+    @Override
+    public void schedule(String sessionId, LocalDateTime startTime) {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> deadlines.add(sessionId, startTime));
+    }
+
+    /**
+     * Ativa as sessões de todo o banco com início vencido em lotes de
+     * voting.session-activator.chunk-size, cada um em sua própria transação.
+     * Usado pela varredura de garantia, que roda só no líder.
+     *
+     * @param now Data/hora de referência
+     * @return Número de pautas que passaram para IN_PROGRESS
+     */
+    @Override
+    public int activateDue(LocalDateTime now) {
+        int started = 0;
+        SessionActivationChunk chunk;
+
+        do {
+            chunk = transactionTemplate.execute(
+                    status -> start(sessionJdbcRepository.activateDue(now, chunkSize)));
+
+            recordLag(chunk, LocalDateTime.now());
+            started += chunk.getStartedAgendaIds().size();
+        } while (chunk.getActivatedSessions() >= chunkSize);
+
+        return started;
+    }
+
+    /**
+     * Ativa apenas as sessões de um tick, em lotes de
+     * voting.session-activator.chunk-size, sem varrer o banco
+     *
+     * @param sessionIds IDs das sessões com início vencido
+     * @param now        Data/hora de referência
+     * @return Número de pautas que passaram para IN_PROGRESS
+     */
+    int activateScheduled(Collection<String> sessionIds, LocalDateTime now) {
+        List<String> pending = new ArrayList<>(sessionIds);
+        int started = 0;
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<String> chunkIds = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            SessionActivationChunk chunk = transactionTemplate.execute(
+                    status -> start(sessionJdbcRepository.activateDue(now, chunkIds)));
+
+            recordLag(chunk, LocalDateTime.now());
+            started += chunk.getStartedAgendaIds().size();
+        }
+
+        return started;
+    }
+
+    /**
+     * Obtém a quantidade de sessões aguardando ativação nesta instância
+     *
+     * @return Número de ativações agendadas
+     */
+    @Override
+    public int getPendingCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * Obtém as estatísticas de atraso das ativações
+     *
+     * @return Estatísticas acumuladas
+     */
+    @Override
+    public ActivationStats getStats() {
+        return new ActivationStats(activations.sum(), totalLagMs.sum(), maxLagMs.get());
+    }
+
+    /**
+     * Ativa o lote; em caso de falha, tenta novamente após um intervalo
+     */
+    private void activate(Set<String> batch) {
+        try {
+            int started = activateScheduled(batch, LocalDateTime.now());
+            log.debug("Tick de ativação: {} pautas iniciadas para {} sessões", started, batch.size());
+        } catch (Exception e) {
+            log.warn("Falha ao ativar {} sessões, nova tentativa em {} ms: {}", batch.size(), RETRY_DELAY_MS,
+                    e.getMessage());
+            deadlines.retry(batch, RETRY_DELAY_MS);
+        }
+    }
+
+    /**
+     * Atualiza o estado em memória das pautas iniciadas no lote; o bitmap de
+     * eleitores só é carregado após o commit
+     */
+    private SessionActivationChunk start(SessionActivationChunk activated) {
+        activated.getStartedAgendaIds().forEach(agendaId -> {
+            voterBitmapService.load(agendaId);
+            agendaCacheService.evict(agendaId);
+            log.info("Agenda {} iniciada automaticamente - início da sessão agendada", agendaId);
+        });
+        return activated;
+    }
+
+    /**
+     * Atraso entre o início previsto de cada sessão e o commit da ativação
+     */
+    private void recordLag(SessionActivationChunk chunk, LocalDateTime activatedAt) {
+        chunk.getStartTimes().forEach(startTime -> {
+            long lag = Math.max(0, Duration.between(startTime, activatedAt).toMillis());
+            activations.increment();
+            totalLagMs.add(lag);
+            maxLagMs.accumulate(lag);
+        });
+    }
+}
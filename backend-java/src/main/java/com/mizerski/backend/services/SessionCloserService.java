@@ -0,0 +1,37 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interface do encerramento de pautas no término das sessões de votação.
+ *
+ * Mantém em memória o término de cada sessão aberta e finaliza a pauta assim
+ * que o prazo passa, sem depender da varredura periódica do banco.
+ */
+public interface SessionCloserService {
+
+    /**
+     * Agenda o encerramento da pauta para o término da sessão, após o commit
+     * quando houver transação
+     *
+     * @param agendaId ID da pauta
+     * @param endTime  Término da sessão
+     */
+    void schedule(String agendaId, LocalDateTime endTime);
+
+    /**
+     * Encerra as sessões expiradas ainda não processadas e finaliza as pautas
+     * em andamento delas
+     *
+     * @param now Data/hora de referência
+     * @return Número de pautas finalizadas
+     */
+    int closeExpired(LocalDateTime now);
+
+    /**
+     * Obtém a quantidade de pautas aguardando encerramento
+     *
+     * @return Número de encerramentos agendados
+     */
+    int getPendingCount();
+}
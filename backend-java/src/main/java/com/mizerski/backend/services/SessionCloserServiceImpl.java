@@ -0,0 +1,198 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.models.domains.ExpiredSessionChunk;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.repositories.SessionJdbcRepository;
+import com.mizerski.backend.repositories.SessionRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do encerramento de pautas com fila de prazos em memória.
+ *
+ * Os términos das sessões ficam em uma DeadlineQueue com ticks de
+ * voting.session-closer.tick-ms; a cada tick vencido, as sessões das pautas
+ * dele são encerradas de uma vez, com o encerramento em lote do
+ * SessionJdbcRepository restrito a essas pautas. A fila é reconstruída a partir
+ * das sessões ativas na inicialização; a varredura de todo o banco fica com o
+ * SessionSchedulerConfig, apenas no líder e como garantia.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SessionCloserServiceImpl implements SessionCloserService {
+
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final SessionRepository sessionRepository;
+    private final SessionJdbcRepository sessionJdbcRepository;
+    private final VoterBitmapService voterBitmapService;
+    private final AgendaCacheService agendaCacheService;
+    private final TallyStreamService tallyStreamService;
+    private final SessionWindowService sessionWindowService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${voting.session-closer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.session-closer.tick-ms:50}")
+    private long tickMs;
+
+    @Value("${voting.session-closer.chunk-size:500}")
+    private int chunkSize;
+
+    private DeadlineQueue deadlines;
+
+    @PostConstruct
+    public void init() {
+        deadlines = new DeadlineQueue(tickMs);
+    }
+
+    /**
+     * Reconstrói a fila a partir das sessões ativas e inicia a thread de
+     * encerramento
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void start() {
+        if (!enabled) {
+            log.info("Encerramento de sessões em memória desativado, apenas a varredura periódica está ativa");
+            return;
+        }
+
+        try {
+            sessionRepository.findActiveSessions(LocalDateTime.now())
+                    .forEach(session -> deadlines.add(session.getAgenda().getId(), session.getEndTime()));
+            log.info("Fila de encerramento de sessões reconstruída: {} pautas agendadas", getPendingCount());
+        } catch (Exception e) {
+            log.warn("Não foi possível reconstruir a fila de encerramento, a varredura periódica assume: {}",
+                    e.getMessage());
+        }
+
+        deadlines.start("session-closer", this::close);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        deadlines.stop();
+    }
+
+    /**
+     * Agenda o encerramento da pauta para o término da sessão, após o commit
+     * quando houver transação
+     *
+     * @param agendaId ID da pauta
+     * @param endTime  Término da sessão
+     */
+    @Override
+    public void schedule(String agendaId, LocalDateTime endTime) {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> deadlines.add(agendaId, endTime));
+    }
+
+    /**
+     * Encerra as sessões expiradas de todo o banco em lotes de
+     * voting.session-closer.chunk-size, cada um em sua própria transação, e
+     * finaliza as pautas delas. Pautas com outra sessão ainda aberta são
+     * mantidas; o término dessa sessão já está agendado. Usado pela varredura
+     * de garantia, que roda só no líder.
+     *
+     * @param now Data/hora de referência
+     * @return Número de pautas finalizadas
+     */
+    @Override
+    public int closeExpired(LocalDateTime now) {
+        int finished = 0;
+        ExpiredSessionChunk chunk;
+
+        do {
+            chunk = transactionTemplate.execute(
+                    status -> finish(sessionJdbcRepository.finalizeExpired(now, chunkSize)));
+            finished += chunk.getFinishedAgendaIds().size();
+        } while (chunk.getClosedSessions() >= chunkSize);
+
+        return finished;
+    }
+
+    /**
+     * Encerra apenas as sessões expiradas das pautas de um tick, em lotes de
+     * voting.session-closer.chunk-size, sem varrer o banco
+     *
+     * @param agendaIds IDs das pautas com término vencido
+     * @param now       Data/hora de referência
+     * @return Número de pautas finalizadas
+     */
+    int closeDue(Collection<String> agendaIds, LocalDateTime now) {
+        List<String> pending = new ArrayList<>(agendaIds);
+        int finished = 0;
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<String> chunkIds = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            ExpiredSessionChunk chunk = transactionTemplate.execute(
+                    status -> finish(sessionJdbcRepository.finalizeExpired(now, chunkIds)));
+            finished += chunk.getFinishedAgendaIds().size();
+
+            // O lote espera as sessões travadas: as que não encerrou, outra réplica já encerrou
+            chunkIds.forEach(sessionWindowService::evict);
+        }
+
+        return finished;
+    }
+
+    /**
+     * Obtém a quantidade de pautas aguardando encerramento
+     *
+     * @return Número de encerramentos agendados
+     */
+    @Override
+    public int getPendingCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * Finaliza o lote; em caso de falha, tenta novamente após um intervalo
+     */
+    private void close(Set<String> batch) {
+        try {
+            int closed = closeDue(batch, LocalDateTime.now());
+            log.debug("Tick de encerramento: {} de {} pautas finalizadas", closed, batch.size());
+        } catch (Exception e) {
+            log.warn("Falha ao encerrar {} pautas, nova tentativa em {} ms: {}", batch.size(), RETRY_DELAY_MS,
+                    e.getMessage());
+            deadlines.retry(batch, RETRY_DELAY_MS);
+        }
+    }
+
+    /**
+     * Limpa o estado em memória das pautas encerradas e finalizadas no lote
+     */
+    private ExpiredSessionChunk finish(ExpiredSessionChunk closed) {
+        closed.getClosedAgendaIds().forEach(sessionWindowService::evict);
+        closed.getFinishedAgendaIds().forEach(agendaId -> {
+            voterBitmapService.evict(agendaId);
+            agendaCacheService.evict(agendaId);
+            tallyStreamService.close(agendaId, AgendaStatus.FINISHED);
+            log.info("Agenda {} finalizada automaticamente - sessão expirada", agendaId);
+        });
+        return closed;
+    }
+}
@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.mizerski.backend.annotations.Idempotent;
 import com.mizerski.backend.dtos.request.CreateSessionRequest;
@@ -30,10 +32,26 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SessionServiceImpl implements SessionService {
 
+    private static final int SESSION_START_STRIPES = 64;
+    private static final String OPEN_SESSION_CONSTRAINT = "uk_sessions_agenda_open";
+
     private final SessionRepository sessionRepository;
     private final AgendaRepository agendaRepository;
     private final SessionMapper sessionMapper;
     private final ExceptionMappingService exceptionMappingService;
+    private final VoterBitmapService voterBitmapService;
+    private final SessionWindowService sessionWindowService;
+    private final AgendaCacheService agendaCacheService;
+    private final TallyStreamService tallyStreamService;
+    private final SessionCloserService sessionCloserService;
+    private final SessionActivatorService sessionActivatorService;
+
+    /**
+     * Serializa a abertura de sessões da mesma pauta nesta instância; entre
+     * réplicas, o índice único parcial uk_sessions_agenda_open garante uma
+     * única sessão aberta por pauta
+     */
+    private final StripedLocks sessionStartLocks = new StripedLocks(SESSION_START_STRIPES);
 
     /**
      * Inicia uma nova sessão de votação para uma agenda
@@ -52,6 +70,9 @@ public class SessionServiceImpl implements SessionService {
                 return Result.error("INVALID_DURATION", "Duração deve ser entre 1 e 1440 minutos");
             }
 
+            // Até o fim da transação, nenhuma outra abertura da mesma pauta passa daqui
+            sessionStartLocks.lockUntilCompletion(agendaId);
+
             // Busca a agenda
             Optional<AgendaEntity> agendaOpt = agendaRepository.findById(agendaId);
             if (agendaOpt.isEmpty()) {
@@ -66,9 +87,9 @@ public class SessionServiceImpl implements SessionService {
                         "Agenda deve estar em status DRAFT ou OPEN para iniciar sessão");
             }
 
-            // Verifica se já existe sessão ativa
+            // Verifica se já existe sessão aberta (em andamento ou agendada) em qualquer réplica
             LocalDateTime now = LocalDateTime.now();
-            if (sessionRepository.hasActiveSession(agendaId, now)) {
+            if (sessionRepository.hasOpenSession(agendaId)) {
                 return Result.error("SESSION_ALREADY_ACTIVE", "Já existe uma sessão ativa para esta agenda");
             }
 
@@ -80,22 +101,29 @@ public class SessionServiceImpl implements SessionService {
             SessionEntity session = new SessionEntity();
             session.setStartTime(startTime);
             session.setEndTime(endTime);
+            session.setActivatedAt(startTime);
             session.setAgenda(agenda);
 
             // Salva a sessão
-            SessionEntity savedSession = sessionRepository.save(session);
+            SessionEntity savedSession = sessionRepository.saveAndFlush(session);
 
             // Atualiza status da agenda para IN_PROGRESS
             agenda.setStatus(AgendaStatus.IN_PROGRESS);
             agenda.setIsActive(true);
             agendaRepository.save(agenda);
+            voterBitmapService.load(agendaId);
+            agendaCacheService.evict(agendaId);
 
             // Converte para response
             SessionResponse response = sessionMapper.toResponse(savedSession);
+            sessionWindowService.register(response);
+            sessionCloserService.schedule(agenda.getId(), response.getEndTime());
 
             log.info("Sessão iniciada com sucesso para agenda {}: {} minutos", agendaId, durationInMinutes);
             return Result.success(response);
 
+        } catch (DataIntegrityViolationException e) {
+            return openSessionConflict(agendaId, e);
         } catch (Exception e) {
             log.error("Erro ao iniciar sessão para agenda {}: {}", agendaId, e.getMessage(), e);
             return exceptionMappingService.mapExceptionToResult(e);
@@ -121,6 +149,9 @@ public class SessionServiceImpl implements SessionService {
                 return Result.error("INVALID_START_TIME", "Hora de início deve ser no futuro");
             }
 
+            // Até o fim da transação, nenhuma outra abertura da mesma pauta passa daqui
+            sessionStartLocks.lockUntilCompletion(request.getAgendaId());
+
             // Busca a agenda
             Optional<AgendaEntity> agendaOpt = agendaRepository.findById(request.getAgendaId());
             if (agendaOpt.isEmpty()) {
@@ -129,8 +160,8 @@ public class SessionServiceImpl implements SessionService {
 
             AgendaEntity agenda = agendaOpt.get();
 
-            // Verifica se já existe sessão ativa
-            if (sessionRepository.hasActiveSession(request.getAgendaId(), LocalDateTime.now())) {
+            // Verifica se já existe sessão aberta (em andamento ou agendada) em qualquer réplica
+            if (sessionRepository.hasOpenSession(request.getAgendaId())) {
                 return Result.error("SESSION_ALREADY_ACTIVE", "Já existe uma sessão ativa para esta agenda");
             }
 
@@ -141,20 +172,22 @@ public class SessionServiceImpl implements SessionService {
             session.setAgenda(agenda);
 
             // Salva a sessão
-            SessionEntity savedSession = sessionRepository.save(session);
+            SessionEntity savedSession = sessionRepository.saveAndFlush(session);
 
-            // Atualiza status da agenda se a sessão começar agora
-            if (request.getStartTime().isBefore(LocalDateTime.now().plusMinutes(1))) {
-                agenda.setStatus(AgendaStatus.IN_PROGRESS);
-                agenda.setIsActive(true);
-                agendaRepository.save(agenda);
-            }
+            // A nova sessão entra na lista de sessões da pauta em cache
+            agendaCacheService.evict(agenda.getId());
 
+            // A pauta passa para IN_PROGRESS no horário de início
             SessionResponse response = sessionMapper.toResponse(savedSession);
+            sessionWindowService.register(response);
+            sessionActivatorService.schedule(savedSession.getId(), response.getStartTime());
+            sessionCloserService.schedule(agenda.getId(), response.getEndTime());
 
             log.info("Sessão criada com sucesso para agenda {}", request.getAgendaId());
             return Result.success(response);
 
+        } catch (DataIntegrityViolationException e) {
+            return openSessionConflict(request.getAgendaId(), e);
         } catch (Exception e) {
             log.error("Erro ao criar sessão: {}", e.getMessage(), e);
             return exceptionMappingService.mapExceptionToResult(e);
@@ -164,22 +197,23 @@ public class SessionServiceImpl implements SessionService {
     /**
      * Busca sessão ativa para uma agenda
      * 
+     * Respondida pelo índice de janelas de sessão; só consulta o banco quando a
+     * janela da pauta não está no índice ou venceu.
+     * 
      * @param agendaId ID da agenda
      * @return Result com dados da sessão ativa ou erro
      */
     @Override
-    @Transactional(readOnly = true)
     public Result<SessionResponse> getActiveSession(String agendaId) {
         try {
-            Optional<SessionEntity> sessionOpt = sessionRepository
-                    .findActiveSessionByAgendaId(agendaId, LocalDateTime.now());
+            Optional<SessionResponse> sessionOpt = sessionWindowService.findActiveSession(agendaId,
+                    LocalDateTime.now());
 
             if (sessionOpt.isEmpty()) {
                 return Result.error("NO_ACTIVE_SESSION", "Nenhuma sessão ativa encontrada para esta agenda");
             }
 
-            SessionResponse response = sessionMapper.toResponse(sessionOpt.get());
-            return Result.success(response);
+            return Result.success(sessionOpt.get());
 
         } catch (Exception e) {
             log.error("Erro ao buscar sessão ativa para agenda {}: {}", agendaId, e.getMessage(), e);
@@ -220,10 +254,15 @@ public class SessionServiceImpl implements SessionService {
             SessionEntity session = sessionOpt.get();
             AgendaEntity agenda = session.getAgenda();
 
-            // Finaliza a agenda
+            // Finaliza a agenda; a sessão deixa de contar como aberta
+            session.setClosedAt(LocalDateTime.now());
             agenda.setStatus(AgendaStatus.FINISHED);
             agenda.setIsActive(false);
             agendaRepository.save(agenda);
+            voterBitmapService.evict(agenda.getId());
+            agendaCacheService.evict(agenda.getId());
+            sessionWindowService.evict(agenda.getId());
+            tallyStreamService.close(agenda.getId(), AgendaStatus.FINISHED);
 
             log.info("Sessão {} finalizada manualmente", sessionId);
             return Result.success(null);
@@ -241,26 +280,10 @@ public class SessionServiceImpl implements SessionService {
      * @return Número de sessões processadas
      */
     @Override
-    @Transactional
     public int processExpiredSessions() {
         try {
-            LocalDateTime now = LocalDateTime.now();
-            List<SessionEntity> expiredSessions = sessionRepository.findExpiredSessions(now);
-
-            int processedCount = 0;
-            for (SessionEntity session : expiredSessions) {
-                AgendaEntity agenda = session.getAgenda();
-
-                // Só processa se a agenda ainda estiver ativa
-                if (agenda.getStatus() == AgendaStatus.IN_PROGRESS) {
-                    agenda.setStatus(AgendaStatus.FINISHED);
-                    agenda.setIsActive(false);
-                    agendaRepository.save(agenda);
-                    processedCount++;
-
-                    log.info("Agenda {} finalizada automaticamente - sessão expirada", agenda.getId());
-                }
-            }
+            // Normalmente sem nada a fazer: o SessionCloserService encerra as pautas no término
+            int processedCount = sessionCloserService.closeExpired(LocalDateTime.now());
 
             if (processedCount > 0) {
                 log.info("Processadas {} sessões expiradas", processedCount);
@@ -281,8 +304,24 @@ public class SessionServiceImpl implements SessionService {
      * @return true se tem sessão ativa
      */
     @Override
-    @Transactional(readOnly = true)
     public boolean hasActiveSession(String agendaId) {
-        return sessionRepository.hasActiveSession(agendaId, LocalDateTime.now());
+        return sessionWindowService.hasActiveSession(agendaId, LocalDateTime.now());
+    }
+
+    /**
+     * Trata a violação da sessão aberta única por pauta: outra réplica abriu a
+     * sessão entre a verificação e a gravação. A transação é marcada para
+     * rollback sem propagar a exceção
+     */
+    private <T> Result<T> openSessionConflict(String agendaId, DataIntegrityViolationException e) {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+
+        if (e.getMessage() == null || !e.getMessage().contains(OPEN_SESSION_CONSTRAINT)) {
+            log.error("Erro ao abrir sessão para agenda {}: {}", agendaId, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+
+        log.warn("Sessão concorrente já aberta para agenda {}", agendaId);
+        return Result.error("SESSION_ALREADY_ACTIVE", "Já existe uma sessão ativa para esta agenda");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.mizerski.backend.dtos.response.SessionResponse;
+
+/**
+ * Interface para as janelas de sessão por pauta.
+ *
+ * As verificações de sessão ativa são respondidas por um índice em memória,
+ * preenchido na criação das sessões, reconstruído na inicialização e
+ * carregado do banco na primeira consulta de cada pauta. O índice também
+ * recusa votos após o término da sessão sem esperar a varredura de sessões
+ * expiradas. Sessões abertas ou encerradas em outra réplica aparecem em até
+ * um intervalo de revalidação; a gravação do voto continua condicionada ao
+ * status da pauta no banco.
+ */
+public interface SessionWindowService {
+
+    /**
+     * Registra a janela de uma sessão. Dentro de uma transação, o registro só é
+     * aplicado após o commit.
+     *
+     * @param session Sessão criada
+     */
+    void register(SessionResponse session);
+
+    /**
+     * Remove a janela da pauta, após o commit quando houver transação (sessão
+     * encerrada antes do término previsto)
+     *
+     * @param agendaId ID da pauta
+     */
+    void evict(String agendaId);
+
+    /**
+     * Busca a sessão ativa (já iniciada, término no futuro e não encerrada) de
+     * uma pauta
+     *
+     * @param agendaId ID da pauta
+     * @param now      Data/hora de referência
+     * @return Sessão ativa, se existir
+     */
+    Optional<SessionResponse> findActiveSession(String agendaId, LocalDateTime now);
+
+    /**
+     * Verifica se uma pauta tem sessão ativa
+     *
+     * @param agendaId ID da pauta
+     * @param now      Data/hora de referência
+     * @return true se tem sessão ativa
+     */
+    boolean hasActiveSession(String agendaId, LocalDateTime now);
+
+    /**
+     * Verifica se o prazo de votação da sessão da pauta já terminou
+     *
+     * @param agendaId ID da pauta
+     * @param now      Data/hora de referência
+     * @return true somente se a pauta tem sessão conhecida, o término já passou
+     *         e não há outra sessão ativa no banco
+     */
+    boolean isVotingClosed(String agendaId, LocalDateTime now);
+
+    /**
+     * Número de janelas já encerradas que aguardam a varredura de sessões
+     * expiradas, apurado na última limpeza do índice (sem percorrê-lo)
+     *
+     * @return Número de sessões encerradas ainda não processadas
+     */
+    int getExpiredCount();
+}
@@ -0,0 +1,238 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mizerski.backend.dtos.response.SessionResponse;
+import com.mizerski.backend.models.mappers.SessionMapper;
+import com.mizerski.backend.repositories.SessionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação das janelas de sessão por pauta.
+ *
+ * Sessão ativa é respondida pelo índice local. As janelas de sessões criadas
+ * neste nó são registradas no commit; nos demais nós, a primeira consulta da
+ * pauta carrega a janela do banco (ou a ausência de sessão) e a registra. A
+ * janela é removida no encerramento e conferida de novo no banco a cada
+ * intervalo de revalidação, o que limita o atraso de uma sessão aberta ou
+ * encerrada em outro nó. Quando o término passa, o banco confirma uma única
+ * vez que não há sessão mais recente; a partir daí a recusa de votos não
+ * consulta o banco. Janelas terminadas saem do índice após o prazo de
+ * retenção, mesmo que o encerramento tenha ocorrido em outra réplica.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SessionWindowServiceImpl implements SessionWindowService {
+
+    private final SessionRepository sessionRepository;
+    private final SessionMapper sessionMapper;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicInteger expired = new AtomicInteger();
+
+    @Value("${voting.session-window.revalidate-ms:5000}")
+    private long revalidateMs;
+
+    @Value("${voting.session-window.retention-ms:600000}")
+    private long retentionMs;
+
+    /**
+     * Janela conhecida de uma pauta (sessão em andamento, agendada ou já
+     * terminada) e quando ela foi conferida no banco; sem sessão quando a pauta
+     * não tinha sessão na conferência
+     */
+    private record Window(SessionResponse session, LocalDateTime checkedAt) {
+
+        boolean hasEnded(LocalDateTime now) {
+            return session != null && !session.getEndTime().isAfter(now);
+        }
+
+        boolean isActive(LocalDateTime now) {
+            return session != null && !session.getStartTime().isAfter(now) && session.getEndTime().isAfter(now);
+        }
+
+        /**
+         * A janela vale até o intervalo de revalidação; uma janela que terminou
+         * depois da última conferência é conferida mais uma vez
+         */
+        boolean isCurrent(LocalDateTime now, long revalidateMs) {
+            if (checkedAt.plus(revalidateMs, ChronoUnit.MILLIS).isBefore(now)) {
+                return false;
+            }
+            return !hasEnded(now) || !checkedAt.isBefore(session.getEndTime());
+        }
+    }
+
+    /**
+     * Reconstrói o índice a partir das sessões ativas na inicialização
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            sessionRepository.findActiveSessions(now)
+                    .forEach(session -> put(new Window(sessionMapper.toResponse(session), now)));
+            log.info("Índice de sessões reconstruído: {} sessões ativas", windows.size());
+        } catch (Exception e) {
+            log.warn("Não foi possível reconstruir o índice de sessões, janelas serão carregadas sob demanda: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Registra a janela de uma sessão, após o commit quando houver transação
+     *
+     * @param session Sessão criada
+     */
+    @Override
+    public void register(SessionResponse session) {
+        TransactionCallbacks.afterCommit(() -> put(new Window(session, LocalDateTime.now())));
+    }
+
+    /**
+     * Remove a janela da pauta, após o commit quando houver transação (sessão
+     * encerrada antes do término previsto)
+     *
+     * @param agendaId ID da pauta
+     */
+    @Override
+    public void evict(String agendaId) {
+        TransactionCallbacks.afterCommit(() -> windows.remove(agendaId));
+    }
+
+    /**
+     * Busca a sessão ativa (já iniciada, término no futuro e não encerrada) de
+     * uma pauta
+     *
+     * @param agendaId ID da pauta
+     * @param now      Data/hora de referência
+     * @return Sessão ativa, se existir
+     */
+    @Override
+    public Optional<SessionResponse> findActiveSession(String agendaId, LocalDateTime now) {
+        Window window = resolve(agendaId, now);
+        return window.isActive(now) ? Optional.of(window.session()) : Optional.empty();
+    }
+
+    /**
+     * Verifica se uma pauta tem sessão ativa
+     *
+     * @param agendaId ID da pauta
+     * @param now      Data/hora de referência
+     * @return true se tem sessão ativa
+     */
+    @Override
+    public boolean hasActiveSession(String agendaId, LocalDateTime now) {
+        return resolve(agendaId, now).isActive(now);
+    }
+
+    /**
+     * Verifica se o prazo de votação da sessão da pauta já terminou. Vai ao
+     * banco uma vez quando a janela termina: se outra réplica abriu uma nova
+     * sessão, ela substitui a janela antiga e o voto segue.
+     *
+     * @param agendaId ID da pauta
+     * @param now      Data/hora de referência
+     * @return true somente se a pauta tem sessão conhecida, o término já passou
+     *         e não há outra sessão ativa no banco
+     */
+    @Override
+    public boolean isVotingClosed(String agendaId, LocalDateTime now) {
+        return resolve(agendaId, now).hasEnded(now);
+    }
+
+    /**
+     * Número de janelas já encerradas que aguardam a varredura de sessões
+     * expiradas, apurado na última limpeza do índice
+     *
+     * @return Número de sessões encerradas ainda não processadas
+     */
+    @Override
+    public int getExpiredCount() {
+        return expired.get();
+    }
+
+    /**
+     * Remove do índice as janelas terminadas há mais que o prazo de retenção
+     * (encerradas por outra réplica ou com o encerramento desligado) e as
+     * ausências de sessão vencidas, e apura as janelas terminadas restantes
+     */
+    @Scheduled(fixedDelayString = "${voting.session-window.purge-interval-ms:30000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime retainedSince = now.minus(retentionMs, ChronoUnit.MILLIS);
+        int remaining = 0;
+
+        for (Map.Entry<String, Window> entry : windows.entrySet()) {
+            Window window = entry.getValue();
+
+            if (window.session() == null) {
+                if (!window.isCurrent(now, revalidateMs)) {
+                    windows.remove(entry.getKey(), window);
+                }
+            } else if (window.hasEnded(now)) {
+                if (window.session().getEndTime().isBefore(retainedSince)) {
+                    windows.remove(entry.getKey(), window);
+                } else {
+                    remaining++;
+                }
+            }
+        }
+
+        expired.set(remaining);
+        log.debug("Limpeza do índice de sessões: {} janelas, {} terminadas", windows.size(), remaining);
+    }
+
+    /**
+     * Janela vigente da pauta, carregada do banco quando ausente, vencida ou
+     * terminada desde a última conferência
+     */
+    private Window resolve(String agendaId, LocalDateTime now) {
+        Window current = windows.get(agendaId);
+        if (current != null && current.isCurrent(now, revalidateMs)) {
+            return current;
+        }
+
+        // Sem sessão em andamento ou agendada: uma janela já terminada é mantida
+        // para recusar votos; uma ainda aberta foi encerrada em outra réplica
+        Window loaded = sessionRepository.findCurrentSessionByAgendaId(agendaId, now)
+                .map(session -> new Window(sessionMapper.toResponse(session), now))
+                .orElseGet(() -> new Window(current != null && current.hasEnded(now) ? current.session() : null,
+                        now));
+
+        // Não sobrescreve um registro ou remoção feitos durante a consulta
+        if (current == null) {
+            windows.putIfAbsent(agendaId, loaded);
+        } else {
+            windows.replace(agendaId, current, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Mantém a janela de maior término por pauta
+     */
+    private void put(Window window) {
+        windows.merge(window.session().getAgendaId(), window,
+                (current, candidate) -> current.session() == null
+                        || candidate.session().getEndTime().isAfter(current.session().getEndTime())
+                                ? candidate
+                                : current);
+    }
+}
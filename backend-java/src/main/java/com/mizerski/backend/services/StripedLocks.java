@@ -0,0 +1,58 @@
+package com.mizerski.backend.services;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Conjunto fixo de locks indexados pelo hash da chave.
+ *
+ * Chaves diferentes quase sempre caem em locks diferentes, então a disputa por
+ * uma chave não bloqueia as demais, e a memória não cresce com o número de
+ * chaves. O lock é mantido até o fim da transação corrente, para que a próxima
+ * thread com a mesma chave já enxergue o que foi gravado.
+ */
+class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+
+    StripedLocks(int stripes) {
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Adquire o lock da chave e o libera após o commit ou rollback da
+     * transação corrente
+     *
+     * @param key Chave a ser protegida
+     * @throws IllegalStateException se não houver transação ativa
+     */
+    void lockUntilCompletion(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Lock por chave exige uma transação ativa");
+        }
+
+        ReentrantLock lock = stripes[indexOf(key)];
+        lock.lock();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Índice do lock da chave, com o hash espalhado para aproveitar os bits
+     * altos
+     */
+    int indexOf(String key) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+}
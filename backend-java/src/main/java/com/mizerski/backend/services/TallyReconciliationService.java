@@ -0,0 +1,43 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interface da reconciliação dos contadores de votos.
+ *
+ * Os contadores das pautas (base mais shards) são comparados com a contagem
+ * real da tabela de votos e as diferenças são corrigidas. A reconciliação é
+ * incremental: só confere as pautas que receberam votos ou tiveram os
+ * contadores alterados desde a última execução.
+ */
+public interface TallyReconciliationService {
+
+    /**
+     * Confere as pautas com votos registrados ou contadores alterados desde a
+     * última execução até o instante informado e corrige os contadores
+     * divergentes
+     *
+     * @param until Fim do intervalo a conferir
+     * @return Número de pautas com contadores corrigidos
+     */
+    int reconcile(LocalDateTime until);
+
+    /**
+     * Obtém as estatísticas acumuladas da reconciliação
+     *
+     * @return Estatísticas acumuladas
+     */
+    ReconciliationStats getStats();
+
+    /**
+     * Estatísticas acumuladas da reconciliação
+     *
+     * @param checkedAgendas Pautas conferidas
+     * @param driftedAgendas Pautas com contadores divergentes
+     * @param correctedVotes Votos SIM e NÃO corrigidos (em valor absoluto)
+     * @param lastRunDrifted Pautas divergentes na última execução
+     */
+    record ReconciliationStats(long checkedAgendas, long driftedAgendas, long correctedVotes,
+            long lastRunDrifted) {
+    }
+}
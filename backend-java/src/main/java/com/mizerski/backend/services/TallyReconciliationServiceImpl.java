@@ -0,0 +1,192 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.models.domains.TallyCheck;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.repositories.TallyReconciliationJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação da reconciliação incremental dos contadores de votos.
+ *
+ * A cada execução, as pautas com votos registrados ou contadores alterados
+ * entre a marca d'água e agora - voting.reconciliation.settle-ms são divididas em lotes de
+ * voting.reconciliation.chunk-size, conferidos em paralelo. A diferença entre
+ * a contagem real e os contadores é somada a um shard da pauta com o mesmo
+ * incremento atômico dos votos, sem read-modify-write: votos concorrentes e a
+ * consolidação dos shards não interferem na correção. A marca d'água só avança
+ * quando todos os lotes terminam sem erro.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TallyReconciliationServiceImpl implements TallyReconciliationService {
+
+    static final String WATERMARK_NAME = "tally-reconciliation";
+
+    private final TallyReconciliationJdbcRepository tallyReconciliationJdbcRepository;
+    private final TallyService tallyService;
+    private final AgendaCacheService agendaCacheService;
+    private final LeaderElectionService leaderElectionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${voting.reconciliation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voting.reconciliation.settle-ms:10000}")
+    private long settleMs;
+
+    @Value("${voting.reconciliation.initial-lookback-ms:3600000}")
+    private long initialLookbackMs;
+
+    @Value("${voting.reconciliation.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${voting.reconciliation.threads:4}")
+    private int threads;
+
+    private ExecutorService workers;
+
+    private final LongAdder checkedAgendas = new LongAdder();
+    private final LongAdder driftedAgendas = new LongAdder();
+    private final LongAdder correctedVotes = new LongAdder();
+    private volatile long lastRunDrifted = 0;
+
+    @PostConstruct
+    public void init() {
+        workers = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("tally-reconciler-"));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Execução periódica; com várias réplicas, apenas o líder reconcilia
+     */
+    @Scheduled(fixedDelayString = "${voting.reconciliation.interval-ms:60000}")
+    public void scheduledReconcile() {
+        if (!enabled || !leaderElectionService.isLeader()) {
+            return;
+        }
+
+        try {
+            reconcile(LocalDateTime.now().minusNanos(settleMs * 1_000_000));
+        } catch (Exception e) {
+            log.error("Erro na reconciliação dos contadores de votos: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Confere as pautas com votos registrados ou contadores alterados desde a
+     * última execução até o instante informado e corrige os contadores divergentes
+     *
+     * @param until Fim do intervalo de votos a conferir
+     * @return Número de pautas com contadores corrigidos
+     */
+    @Override
+    public int reconcile(LocalDateTime until) {
+        LocalDateTime since = tallyReconciliationJdbcRepository.findWatermark(WATERMARK_NAME)
+                .orElse(until.minusNanos(initialLookbackMs * 1_000_000));
+        if (!until.isAfter(since)) {
+            return 0;
+        }
+
+        List<String> agendaIds = tallyReconciliationJdbcRepository.findAgendaIdsWithVotesBetween(since, until);
+
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < agendaIds.size(); from += chunkSize) {
+            List<String> chunk = agendaIds.subList(from, Math.min(from + chunkSize, agendaIds.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> reconcileChunk(chunk), workers));
+        }
+
+        int drifted = 0;
+        try {
+            for (CompletableFuture<Integer> chunk : chunks) {
+                drifted += chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return drifted;
+        } catch (ExecutionException e) {
+            // Sem avançar a marca d'água: o intervalo é conferido de novo na próxima execução
+            log.warn("Reconciliação interrompida, intervalo desde {} será conferido novamente: {}", since,
+                    e.getCause().getMessage());
+            return drifted;
+        }
+
+        tallyReconciliationJdbcRepository.saveWatermark(WATERMARK_NAME, until);
+        lastRunDrifted = drifted;
+
+        if (drifted > 0) {
+            log.warn("Reconciliação: {} de {} pautas com contadores divergentes corrigidas", drifted,
+                    agendaIds.size());
+        } else {
+            log.debug("Reconciliação: {} pautas conferidas sem divergência", agendaIds.size());
+        }
+        return drifted;
+    }
+
+    /**
+     * Obtém as estatísticas acumuladas da reconciliação
+     *
+     * @return Estatísticas acumuladas
+     */
+    @Override
+    public ReconciliationStats getStats() {
+        return new ReconciliationStats(checkedAgendas.sum(), driftedAgendas.sum(), correctedVotes.sum(),
+                lastRunDrifted);
+    }
+
+    /**
+     * Confere um lote de pautas e corrige as divergentes em uma transação
+     */
+    private int reconcileChunk(List<String> agendaIds) {
+        return transactionTemplate.execute(status -> {
+            int drifted = 0;
+
+            for (TallyCheck check : tallyReconciliationJdbcRepository.checkTallies(agendaIds)) {
+                checkedAgendas.increment();
+                if (!check.hasDrift()) {
+                    continue;
+                }
+
+                VoteTally drift = check.getDrift();
+                log.warn("Contadores da pauta {} divergentes: registrado={}/{}/{}, votos={}/{}/{}",
+                        check.getAgendaId(),
+                        check.getStored().getTotalVotes(), check.getStored().getYesVotes(),
+                        check.getStored().getNoVotes(),
+                        check.getCounted().getTotalVotes(), check.getCounted().getYesVotes(),
+                        check.getCounted().getNoVotes());
+
+                tallyService.add(check.getAgendaId(), drift);
+                agendaCacheService.evict(check.getAgendaId());
+
+                driftedAgendas.increment();
+                correctedVotes.add(Math.abs(drift.getYesVotes()) + Math.abs(drift.getNoVotes()));
+                drifted++;
+            }
+
+            return drifted;
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.mizerski.backend.services;
+
+import java.util.List;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.enums.VoteType;
+
+/**
+ * Interface para serviço de contagem de votos com contadores fragmentados.
+ * O total de uma agenda é a soma dos contadores base da agenda com seus shards.
+ */
+public interface TallyService {
+
+    /**
+     * Contabiliza um voto em um shard aleatório da agenda
+     *
+     * @param agendaId ID da agenda
+     * @param voteType Tipo do voto
+     */
+    void increment(String agendaId, VoteType voteType);
+
+    /**
+     * Contabiliza vários votos de uma vez em um shard aleatório da agenda
+     *
+     * @param agendaId ID da agenda
+     * @param tally    Votos a contabilizar
+     */
+    void add(String agendaId, VoteTally tally);
+
+    /**
+     * Soma os shards ainda não consolidados de uma agenda
+     *
+     * @param agendaId ID da agenda
+     * @return Soma dos shards
+     */
+    VoteTally getShardTally(String agendaId);
+
+    /**
+     * Soma os shards da agenda aos contadores da resposta
+     *
+     * @param response Resposta da agenda
+     */
+    void applyTo(AgendaResponse response);
+
+    /**
+     * Soma os shards das agendas aos contadores das respostas em uma única consulta
+     *
+     * @param responses Respostas das agendas
+     */
+    void applyTo(List<AgendaResponse> responses);
+
+    /**
+     * Soma os shards das agendas aos contadores dos resumos em uma única consulta
+     *
+     * @param summaries Resumos das agendas
+     */
+    void applySummaries(List<AgendaSummaryResponse> summaries);
+
+    /**
+     * Consolida os shards nos contadores base da agenda e os remove.
+     * Deve ser chamado dentro de uma transação; a agenda deve ser salva em seguida.
+     *
+     * @param agenda Agenda a ser consolidada
+     */
+    void foldShards(AgendaEntity agenda);
+}
@@ -0,0 +1,170 @@
+package com.mizerski.backend.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.repositories.AgendaTallyShardRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do serviço de contagem de votos com contadores fragmentados.
+ *
+ * Cada voto incrementa atomicamente um de N shards escolhido ao acaso, de modo
+ * que votos concorrentes na mesma agenda disputam N linhas em vez de uma.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TallyServiceImpl implements TallyService {
+
+    private final AgendaTallyShardRepository agendaTallyShardRepository;
+    private final AgendaCacheService agendaCacheService;
+    private final TallyStreamService tallyStreamService;
+
+    @Value("${voting.tally.shard-count:16}")
+    private int shardCount;
+
+    /**
+     * Contabiliza um voto em um shard aleatório da agenda
+     *
+     * @param agendaId ID da agenda
+     * @param voteType Tipo do voto
+     */
+    @Override
+    public void increment(String agendaId, VoteType voteType) {
+        add(agendaId, new VoteTally(1, voteType == VoteType.YES ? 1 : 0, voteType == VoteType.NO ? 1 : 0));
+    }
+
+    /**
+     * Contabiliza vários votos de uma vez em um shard aleatório da agenda
+     *
+     * @param agendaId ID da agenda
+     * @param tally    Votos a contabilizar
+     */
+    @Override
+    public void add(String agendaId, VoteTally tally) {
+        if (tally.isEmpty()) {
+            return;
+        }
+
+        int shardId = ThreadLocalRandom.current().nextInt(shardCount);
+        agendaTallyShardRepository.increment(agendaId, shardId, tally);
+        agendaCacheService.applyTally(agendaId, tally);
+        tallyStreamService.publish(agendaId, tally);
+    }
+
+    /**
+     * Soma os shards ainda não consolidados de uma agenda
+     *
+     * @param agendaId ID da agenda
+     * @return Soma dos shards
+     */
+    @Override
+    public VoteTally getShardTally(String agendaId) {
+        return agendaTallyShardRepository.sumByAgendaId(agendaId);
+    }
+
+    /**
+     * Soma os shards da agenda aos contadores da resposta
+     *
+     * @param response Resposta da agenda
+     */
+    @Override
+    public void applyTo(AgendaResponse response) {
+        apply(response, getShardTally(response.getId()));
+    }
+
+    /**
+     * Soma os shards das agendas aos contadores das respostas em uma única consulta
+     *
+     * @param responses Respostas das agendas
+     */
+    @Override
+    public void applyTo(List<AgendaResponse> responses) {
+        List<String> agendaIds = new ArrayList<>(responses.size());
+        responses.forEach(response -> agendaIds.add(response.getId()));
+
+        Map<String, VoteTally> tallies = agendaTallyShardRepository.sumByAgendaIds(agendaIds);
+        if (tallies.isEmpty()) {
+            return;
+        }
+
+        responses.forEach(response -> apply(response, tallies.getOrDefault(response.getId(), VoteTally.EMPTY)));
+    }
+
+    /**
+     * Soma os shards das agendas aos contadores dos resumos em uma única consulta
+     *
+     * @param summaries Resumos das agendas
+     */
+    @Override
+    public void applySummaries(List<AgendaSummaryResponse> summaries) {
+        List<String> agendaIds = new ArrayList<>(summaries.size());
+        summaries.forEach(summary -> agendaIds.add(summary.getId()));
+
+        Map<String, VoteTally> tallies = agendaTallyShardRepository.sumByAgendaIds(agendaIds);
+        if (tallies.isEmpty()) {
+            return;
+        }
+
+        summaries.forEach(summary -> {
+            VoteTally tally = tallies.getOrDefault(summary.getId(), VoteTally.EMPTY);
+            summary.setTotalVotes(valueOf(summary.getTotalVotes()) + tally.getTotalVotes());
+            summary.setYesVotes(valueOf(summary.getYesVotes()) + tally.getYesVotes());
+            summary.setNoVotes(valueOf(summary.getNoVotes()) + tally.getNoVotes());
+        });
+    }
+
+    /**
+     * Consolida os shards nos contadores base da agenda e os remove.
+     *
+     * Apenas os shards bloqueados são removidos: um shard criado por outra
+     * transação após o bloqueio permanece e continua sendo somado na leitura.
+     *
+     * @param agenda Agenda a ser consolidada
+     */
+    @Override
+    public void foldShards(AgendaEntity agenda) {
+        Map<Integer, VoteTally> shards = agendaTallyShardRepository.lockByAgendaId(agenda.getId());
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        VoteTally folded = shards.values().stream().reduce(VoteTally.EMPTY, VoteTally::plus);
+
+        agenda.setTotalVotes(valueOf(agenda.getTotalVotes()) + folded.getTotalVotes());
+        agenda.setYesVotes(valueOf(agenda.getYesVotes()) + folded.getYesVotes());
+        agenda.setNoVotes(valueOf(agenda.getNoVotes()) + folded.getNoVotes());
+
+        agendaTallyShardRepository.deleteShards(agenda.getId(), new ArrayList<>(shards.keySet()));
+
+        log.debug("Shards da agenda {} consolidados: {} shards, total={}", agenda.getId(), shards.size(),
+                folded.getTotalVotes());
+    }
+
+    private void apply(AgendaResponse response, VoteTally tally) {
+        if (tally.isEmpty()) {
+            return;
+        }
+
+        response.setTotalVotes(valueOf(response.getTotalVotes()) + tally.getTotalVotes());
+        response.setYesVotes(valueOf(response.getYesVotes()) + tally.getYesVotes());
+        response.setNoVotes(valueOf(response.getNoVotes()) + tally.getNoVotes());
+    }
+
+    private static int valueOf(Integer counter) {
+        return counter != null ? counter : 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mizerski.backend.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+/**
+ * Interface para o stream (Server-Sent Events) da contagem de votos das pautas
+ * em andamento
+ */
+public interface TallyStreamService {
+
+    /**
+     * Inscreve um cliente no stream da pauta
+     *
+     * @param snapshot Pauta atual, enviada como primeiro evento
+     * @return Emitter SSE do cliente
+     */
+    SseEmitter subscribe(AgendaResponse snapshot);
+
+    /**
+     * Acumula votos registrados para o próximo evento da pauta, após o commit
+     *
+     * @param agendaId ID da pauta
+     * @param tally    Votos registrados
+     */
+    void publish(String agendaId, VoteTally tally);
+
+    /**
+     * Envia o evento final da pauta e encerra os streams, após o commit
+     *
+     * @param agendaId ID da pauta
+     * @param status   Status final da pauta
+     */
+    void close(String agendaId, AgendaStatus status);
+
+    /**
+     * Obtém a quantidade de clientes inscritos
+     *
+     * @return Número de streams abertos
+     */
+    int getSubscriberCount();
+}
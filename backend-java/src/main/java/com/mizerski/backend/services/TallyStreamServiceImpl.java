@@ -0,0 +1,314 @@
+package com.mizerski.backend.services;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.TallyEventResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do stream de contagem de votos com distribuição em memória.
+ *
+ * Os votos de cada pauta são acumulados e enviados a todos os inscritos a cada
+ * intervalo, em um único evento. Cada inscrito tem uma fila limitada de
+ * eventos esvaziada por um pool compartilhado de threads (sem thread por
+ * cliente); quem deixa a fila encher é desconectado.
+ */
+@Service
+@Slf4j
+public class TallyStreamServiceImpl implements TallyStreamService {
+
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String TALLY_EVENT = "tally";
+    private static final String CLOSED_EVENT = "closed";
+
+    @Value("${voting.tally-stream.buffer-size:16}")
+    private int bufferSize;
+
+    @Value("${voting.tally-stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${voting.tally-stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final ConcurrentHashMap<String, Topic> topics = new ConcurrentHashMap<>();
+    private ExecutorService senders;
+
+    /**
+     * Inscritos de uma pauta e votos acumulados desde o último envio
+     */
+    private static class Topic {
+        final AtomicReference<VoteTally> pending = new AtomicReference<>(VoteTally.EMPTY);
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Cliente inscrito com fila limitada e controle de envio único
+     */
+    private static class Subscriber {
+        final String agendaId;
+        final SseEmitter emitter;
+        final ArrayBlockingQueue<Event> events;
+        final AtomicBoolean draining = new AtomicBoolean(false);
+        volatile boolean closed = false;
+
+        Subscriber(String agendaId, SseEmitter emitter, int capacity) {
+            this.agendaId = agendaId;
+            this.emitter = emitter;
+            this.events = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private record Event(String name, TallyEventResponse data, boolean last) {
+    }
+
+    @PostConstruct
+    public void init() {
+        senders = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("tally-stream-"));
+    }
+
+    /**
+     * Encerra os streams abertos no início do desligamento. O evento é
+     * publicado antes do desligamento gracioso do servidor web, que de outro
+     * modo aguardaria as conexões SSE até o fim do prazo.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void disconnectAll() {
+        topics.values().forEach(topic -> topic.subscribers.forEach(this::disconnect));
+        topics.clear();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        disconnectAll();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Inscreve um cliente no stream da pauta. Pautas que não estão em votação
+     * recebem o snapshot e o evento final em seguida.
+     *
+     * @param snapshot Pauta atual, enviada como primeiro evento
+     * @return Emitter SSE do cliente
+     */
+    @Override
+    public SseEmitter subscribe(AgendaResponse snapshot) {
+        String agendaId = snapshot.getId();
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(agendaId, emitter, bufferSize);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> disconnect(subscriber));
+        emitter.onError(error -> disconnect(subscriber));
+
+        boolean voting = snapshot.getStatus() == AgendaStatus.OPEN
+                || snapshot.getStatus() == AgendaStatus.IN_PROGRESS;
+
+        offer(subscriber, new Event(SNAPSHOT_EVENT, TallyEventResponse.builder()
+                .agendaId(agendaId)
+                .status(snapshot.getStatus())
+                .totalVotes(snapshot.getTotalVotes())
+                .yesVotes(snapshot.getYesVotes())
+                .noVotes(snapshot.getNoVotes())
+                .build(), false));
+
+        if (voting) {
+            topics.compute(agendaId, (id, topic) -> {
+                Topic current = topic != null ? topic : new Topic();
+                current.subscribers.add(subscriber);
+                return current;
+            });
+        } else {
+            offer(subscriber, closedEvent(agendaId, snapshot.getStatus()));
+        }
+
+        return emitter;
+    }
+
+    /**
+     * Acumula votos registrados para o próximo evento da pauta, após o commit
+     *
+     * @param agendaId ID da pauta
+     * @param tally    Votos registrados
+     */
+    @Override
+    public void publish(String agendaId, VoteTally tally) {
+        if (tally.isEmpty() || !topics.containsKey(agendaId)) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            Topic topic = topics.get(agendaId);
+            if (topic != null) {
+                topic.pending.accumulateAndGet(tally, VoteTally::plus);
+            }
+        });
+    }
+
+    /**
+     * Envia o evento final da pauta e encerra os streams, após o commit
+     *
+     * @param agendaId ID da pauta
+     * @param status   Status final da pauta
+     */
+    @Override
+    public void close(String agendaId, AgendaStatus status) {
+        if (!topics.containsKey(agendaId)) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            Topic topic = topics.remove(agendaId);
+            if (topic == null) {
+                return;
+            }
+
+            flush(agendaId, topic);
+            topic.subscribers.forEach(subscriber -> offer(subscriber, closedEvent(agendaId, status)));
+            log.info("Stream de contagem da pauta {} encerrado para {} inscritos", agendaId,
+                    topic.subscribers.size());
+        });
+    }
+
+    /**
+     * Obtém a quantidade de clientes inscritos
+     *
+     * @return Número de streams abertos
+     */
+    @Override
+    public int getSubscriberCount() {
+        return topics.values().stream().mapToInt(topic -> topic.subscribers.size()).sum();
+    }
+
+    /**
+     * Envia os votos acumulados de cada pauta aos inscritos
+     */
+    @Scheduled(fixedDelayString = "${voting.tally-stream.interval-ms:500}")
+    public void flush() {
+        topics.forEach(this::flush);
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void flush(String agendaId, Topic topic) {
+        VoteTally delta = topic.pending.getAndSet(VoteTally.EMPTY);
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        Event event = new Event(TALLY_EVENT, TallyEventResponse.builder()
+                .agendaId(agendaId)
+                .totalVotes(delta.getTotalVotes())
+                .yesVotes(delta.getYesVotes())
+                .noVotes(delta.getNoVotes())
+                .build(), false);
+
+        topic.subscribers.forEach(subscriber -> offer(subscriber, event));
+    }
+
+    /**
+     * Enfileira o evento para o inscrito; fila cheia indica cliente lento, que é
+     * desconectado
+     */
+    private void offer(Subscriber subscriber, Event event) {
+        if (subscriber.closed) {
+            return;
+        }
+
+        if (!subscriber.events.offer(event)) {
+            log.warn("Cliente lento desconectado do stream da pauta {}", subscriber.agendaId);
+            disconnect(subscriber);
+            return;
+        }
+
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    /**
+     * Envia os eventos enfileirados do inscrito, um envio por vez
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            Event event;
+            while (!subscriber.closed && (event = subscriber.events.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(event.name())
+                        .data(event.data(), MediaType.APPLICATION_JSON));
+
+                if (event.last()) {
+                    disconnect(subscriber);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Falha ao enviar evento do stream da pauta {}: {}", subscriber.agendaId, e.getMessage());
+            disconnect(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (!subscriber.closed && !subscriber.events.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+
+        subscriber.closed = true;
+        subscriber.events.clear();
+        unsubscribe(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        topics.computeIfPresent(subscriber.agendaId, (id, topic) -> {
+            topic.subscribers.remove(subscriber);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+    }
+
+    private static Event closedEvent(String agendaId, AgendaStatus status) {
+        return new Event(CLOSED_EVENT, TallyEventResponse.builder()
+                .agendaId(agendaId)
+                .status(status)
+                .build(), true);
+    }
+}
@@ -0,0 +1,54 @@
+package com.mizerski.backend.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ações sobre o estado em memória (caches, índices, filas de prazos) amarradas
+ * ao fim da transação corrente, para que só reflitam o que o banco confirmou.
+ * Fora de uma transação, a ação roda na hora.
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente; no rollback ela é
+     * descartada
+     *
+     * @param action Ação a executar
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Executa a ação ao fim da transação corrente, com commit ou rollback
+     *
+     * @param action Ação a executar
+     */
+    static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,9 +3,11 @@ package com.mizerski.backend.services;
 import org.springframework.data.domain.Pageable;
 
 import com.mizerski.backend.dtos.request.CreateUserRequest;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.UserResponse;
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.TotalMode;
 
 /**
  * Interface para serviço de gerenciamento de operações relacionadas a usuários
@@ -36,6 +38,24 @@ public interface UserService {
      */
     Result<PagedResponse<UserResponse>> getAllUsers(Pageable pageable);
 
+    /**
+     * Busca todos os usuários com paginação, escolhendo como o total é obtido
+     * 
+     * @param pageable  Configuração de paginação
+     * @param totalMode NONE dispensa a contagem; EXACT e APPROXIMATE contam
+     * @return Result com resposta paginada de usuários ou erro
+     */
+    Result<PagedResponse<UserResponse>> getAllUsers(Pageable pageable, TotalMode totalMode);
+
+    /**
+     * Busca usuários com paginação por cursor (mais recentes primeiro)
+     * 
+     * @param after Cursor da página anterior (null para a primeira página)
+     * @param size  Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    Result<CursorPagedResponse<UserResponse>> getAllUsers(String after, int size);
+
     /**
      * Busca usuários por email com paginação
      * 
@@ -44,4 +64,14 @@ public interface UserService {
      * @return Result com resposta paginada de usuários encontrados ou erro
      */
     Result<PagedResponse<UserResponse>> searchUsersByEmail(String email, Pageable pageable);
+
+    /**
+     * Busca usuários por email com paginação, escolhendo como o total é obtido
+     * 
+     * @param email     Email ou parte do email para busca
+     * @param pageable  Configuração de paginação
+     * @param totalMode NONE dispensa a contagem; EXACT e APPROXIMATE contam
+     * @return Result com resposta paginada de usuários encontrados ou erro
+     */
+    Result<PagedResponse<UserResponse>> searchUsersByEmail(String email, Pageable pageable, TotalMode totalMode);
 }
\ No newline at end of file
@@ -3,19 +3,24 @@ package com.mizerski.backend.services;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mizerski.backend.annotations.Idempotent;
 import com.mizerski.backend.dtos.request.CreateUserRequest;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.UserResponse;
+import com.mizerski.backend.models.domains.PageCursor;
 import com.mizerski.backend.models.domains.Result;
 import com.mizerski.backend.models.domains.Users;
 import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.enums.TotalMode;
 import com.mizerski.backend.models.mappers.UserMapper;
 import com.mizerski.backend.repositories.UserRepository;
 
@@ -152,6 +157,62 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Busca todos os usuários com paginação, escolhendo como o total é obtido
+     * 
+     * @param pageable  Configuração de paginação
+     * @param totalMode NONE dispensa a contagem; EXACT e APPROXIMATE contam
+     * @return Result com resposta paginada de usuários ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<PagedResponse<UserResponse>> getAllUsers(Pageable pageable, TotalMode totalMode) {
+        if (totalMode != TotalMode.NONE) {
+            return getAllUsers(pageable);
+        }
+
+        try {
+            Slice<UserEntity> slice = userRepository.findSlice(pageable);
+
+            List<UserResponse> content = slice.getContent().stream()
+                    .map(userMapper::toResponse)
+                    .collect(Collectors.toList());
+
+            return Result.success(PagedResponse.ofSlice(content, slice));
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar todos os usuários: {}", e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
+    /**
+     * Busca usuários com paginação por cursor (mais recentes primeiro)
+     * 
+     * @param after Cursor da página anterior (null para a primeira página)
+     * @param size  Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<CursorPagedResponse<UserResponse>> getAllUsers(String after, int size) {
+        try {
+            PageCursor cursor = PageCursor.decode(after);
+
+            List<UserResponse> rows = userRepository
+                    .findBefore(cursor.getCreatedAt(), cursor.getId(), Limit.of(size + 1)).stream()
+                    .map(userMapper::toResponse)
+                    .collect(Collectors.toList());
+
+            return Result.success(CursorPagedResponse.of(rows, size,
+                    user -> new PageCursor(user.getCreatedAt(), user.getId())));
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar usuários por cursor {}: {}", after, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
     /**
      * Busca usuários por email com paginação
      * 
@@ -179,4 +240,35 @@ public class UserServiceImpl implements UserService {
             return exceptionMappingService.mapExceptionToResult(e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Busca usuários por email com paginação, escolhendo como o total é obtido
+     * 
+     * @param email     Email ou parte do email para busca
+     * @param pageable  Configuração de paginação
+     * @param totalMode NONE dispensa a contagem; EXACT e APPROXIMATE contam
+     * @return Result com resposta paginada de usuários encontrados ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<PagedResponse<UserResponse>> searchUsersByEmail(String email, Pageable pageable,
+            TotalMode totalMode) {
+        if (totalMode != TotalMode.NONE) {
+            return searchUsersByEmail(email, pageable);
+        }
+
+        try {
+            Slice<UserEntity> slice = userRepository.findSliceByEmailContainingIgnoreCase(email, pageable);
+
+            List<UserResponse> content = slice.getContent().stream()
+                    .map(userMapper::toResponse)
+                    .collect(Collectors.toList());
+
+            return Result.success(PagedResponse.ofSlice(content, slice));
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar usuários por email {}: {}", email, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+}
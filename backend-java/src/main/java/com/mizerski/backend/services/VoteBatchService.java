@@ -0,0 +1,23 @@
+package com.mizerski.backend.services;
+
+import java.util.List;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.BatchVoteResponse;
+import com.mizerski.backend.models.domains.Result;
+
+/**
+ * Interface para serviço de envio de votos em lote (ex.: terminais que coletam
+ * votos offline e enviam em rajadas)
+ */
+public interface VoteBatchService {
+
+    /**
+     * Registra um lote de votos com resultado individual por voto.
+     * Um voto rejeitado não invalida os demais.
+     *
+     * @param requests Votos a serem registrados
+     * @return Result com o resultado de cada voto ou erro do lote como um todo
+     */
+    Result<BatchVoteResponse> submitBatch(List<CreateVoteRequest> requests);
+}
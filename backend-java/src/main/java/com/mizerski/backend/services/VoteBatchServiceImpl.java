@@ -0,0 +1,289 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.BatchVoteItemResponse;
+import com.mizerski.backend.dtos.response.BatchVoteResponse;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.domains.Votes;
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.models.mappers.VoteMapper;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do serviço de envio de votos em lote.
+ *
+ * O status de cada pauta é verificado uma única vez por lote. Os votos aceitos
+ * são gravados via JDBC batch e os contadores recebem um único incremento
+ * agregado por pauta, tudo na mesma transação. Duplicados são ignorados pelo
+ * banco (ON CONFLICT) e reportados individualmente.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VoteBatchServiceImpl implements VoteBatchService {
+
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final AgendaRepository agendaRepository;
+    private final UserRepository userRepository;
+    private final TallyService tallyService;
+    private final VoteMapper voteMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExceptionMappingService exceptionMappingService;
+    private final VoterBitmapService voterBitmapService;
+    private final SessionWindowService sessionWindowService;
+
+    @Value("${voting.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${voting.batch.jdbc-batch-size:500}")
+    private int jdbcBatchSize;
+
+    /**
+     * Registra um lote de votos com resultado individual por voto
+     *
+     * @param requests Votos a serem registrados
+     * @return Result com o resultado de cada voto ou erro do lote como um todo
+     */
+    @Override
+    public Result<BatchVoteResponse> submitBatch(List<CreateVoteRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return Result.error("INVALID_DATA", "O lote de votos não pode ser vazio");
+        }
+
+        if (requests.size() > maxBatchSize) {
+            return Result.error("INVALID_DATA", "O lote excede o limite de " + maxBatchSize + " votos");
+        }
+
+        try {
+            BatchVoteItemResponse[] results = new BatchVoteItemResponse[requests.size()];
+            List<Integer> candidates = validate(requests, results);
+            List<Integer> accepted = filterByAgendaStatus(requests, candidates, results);
+
+            if (!accepted.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> insert(requests, accepted, results));
+                markVoted(requests, accepted, results);
+            }
+
+            List<BatchVoteItemResponse> items = Arrays.asList(results);
+            int acceptedCount = (int) items.stream().filter(BatchVoteItemResponse::isSuccess).count();
+
+            log.info("Lote de votos processado: {} enviados, {} aceitos, {} rejeitados",
+                    requests.size(), acceptedCount, requests.size() - acceptedCount);
+            return Result.success(new BatchVoteResponse(items, acceptedCount, requests.size() - acceptedCount));
+
+        } catch (Exception e) {
+            log.error("Erro ao processar lote de {} votos: {}", requests.size(), e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
+    /**
+     * Valida os campos de cada voto
+     *
+     * @return Índices dos votos válidos
+     */
+    private List<Integer> validate(List<CreateVoteRequest> requests, BatchVoteItemResponse[] results) {
+        List<Integer> valid = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateVoteRequest request = requests.get(i);
+
+            if (request == null) {
+                results[i] = error(i, "INVALID_DATA", "Voto não informado");
+                continue;
+            }
+
+            Set<ConstraintViolation<CreateVoteRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = error(i, "INVALID_DATA", violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+
+            valid.add(i);
+        }
+
+        return valid;
+    }
+
+    /**
+     * Verifica o status de cada pauta distinta do lote com uma única consulta
+     *
+     * @return Índices dos votos cujas pautas estão abertas
+     */
+    private List<Integer> filterByAgendaStatus(List<CreateVoteRequest> requests, List<Integer> candidates,
+            BatchVoteItemResponse[] results) {
+
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> agendaIds = new LinkedHashSet<>();
+        candidates.forEach(i -> agendaIds.add(requests.get(i).getAgendaId()));
+
+        Map<String, AgendaStatus> statusByAgenda = new HashMap<>();
+        agendaRepository.findAllById(agendaIds)
+                .forEach(agenda -> statusByAgenda.put(agenda.getId(), agenda.getStatus()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> accepted = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            String agendaId = requests.get(i).getAgendaId();
+            AgendaStatus status = statusByAgenda.get(agendaId);
+
+            if (status == null) {
+                results[i] = error(i, "AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + agendaId);
+            } else if (status != AgendaStatus.OPEN && status != AgendaStatus.IN_PROGRESS) {
+                results[i] = error(i, "AGENDA_NOT_OPEN", "A pauta não está aberta para votação");
+            } else if (sessionWindowService.isVotingClosed(agendaId, now)) {
+                results[i] = error(i, "AGENDA_NOT_OPEN", "A sessão de votação da pauta está encerrada");
+            } else if (voterBitmapService.hasVoted(agendaId, requests.get(i).getUserId())) {
+                results[i] = error(i, "USER_ALREADY_VOTED", "O usuário já votou na pauta");
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        return accepted;
+    }
+
+    /**
+     * Insere os votos em lotes JDBC e aplica um incremento agregado por pauta
+     */
+    private void insert(List<CreateVoteRequest> requests, List<Integer> accepted, BatchVoteItemResponse[] results) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Votes> votes = new ArrayList<>(accepted.size());
+
+        for (int i : accepted) {
+            CreateVoteRequest request = requests.get(i);
+            votes.add(Votes.builder()
+                    .id(UUID.randomUUID().toString())
+                    .voteType(request.getVoteType())
+                    .userId(request.getUserId())
+                    .agendaId(request.getAgendaId())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        Map<String, VoteTally> deltas = new HashMap<>();
+        List<Integer> rejected = new ArrayList<>();
+
+        for (int from = 0; from < votes.size(); from += jdbcBatchSize) {
+            List<Votes> chunk = votes.subList(from, Math.min(from + jdbcBatchSize, votes.size()));
+            int[] inserted = voteJdbcRepository.insertBatch(chunk);
+
+            for (int j = 0; j < chunk.size(); j++) {
+                int position = from + j;
+                Votes vote = chunk.get(j);
+
+                if (inserted[j] > 0) {
+                    deltas.merge(vote.getAgendaId(), toTally(vote.getVoteType()), VoteTally::plus);
+                    results[accepted.get(position)] = BatchVoteItemResponse.builder()
+                            .index(accepted.get(position))
+                            .success(true)
+                            .vote(voteMapper.toResponse(vote))
+                            .build();
+                } else {
+                    rejected.add(position);
+                }
+            }
+        }
+
+        deltas.forEach(tallyService::add);
+
+        if (!rejected.isEmpty()) {
+            classifyRejected(votes, accepted, rejected, results);
+        }
+    }
+
+    /**
+     * Determina o motivo dos votos não inseridos, na mesma ordem do voto
+     * individual: pauta encerrada durante o lote (status consultado de novo,
+     * dentro da transação), usuário inexistente ou voto duplicado (já
+     * registrado ou repetido no próprio lote)
+     */
+    private void classifyRejected(List<Votes> votes, List<Integer> accepted, List<Integer> rejected,
+            BatchVoteItemResponse[] results) {
+
+        Map<String, AgendaStatus> statusByAgenda = new HashMap<>();
+        agendaRepository.findAllById(rejected.stream().map(position -> votes.get(position).getAgendaId())
+                .collect(Collectors.toSet()))
+                .forEach(agenda -> statusByAgenda.put(agenda.getId(), agenda.getStatus()));
+
+        Set<String> existingUsers = new HashSet<>();
+        userRepository.findAllById(rejected.stream().map(position -> votes.get(position).getUserId())
+                .collect(Collectors.toSet()))
+                .stream()
+                .map(UserEntity::getId)
+                .forEach(existingUsers::add);
+
+        for (int position : rejected) {
+            int index = accepted.get(position);
+            String userId = votes.get(position).getUserId();
+            AgendaStatus status = statusByAgenda.get(votes.get(position).getAgendaId());
+
+            if (status != AgendaStatus.OPEN && status != AgendaStatus.IN_PROGRESS) {
+                results[index] = error(index, "AGENDA_NOT_OPEN", "A pauta não está aberta para votação");
+            } else if (!existingUsers.contains(userId)) {
+                results[index] = error(index, "USER_NOT_FOUND", "Usuário não encontrado com ID: " + userId);
+            } else {
+                results[index] = error(index, "USER_ALREADY_VOTED", "O usuário já votou na pauta");
+            }
+        }
+    }
+
+    /**
+     * Registra no bitmap de eleitores os votos gravados (após o commit)
+     */
+    private void markVoted(List<CreateVoteRequest> requests, List<Integer> accepted,
+            BatchVoteItemResponse[] results) {
+        for (int i : accepted) {
+            if (results[i].isSuccess()) {
+                voterBitmapService.markVoted(requests.get(i).getAgendaId(), requests.get(i).getUserId());
+            }
+        }
+    }
+
+    private static VoteTally toTally(VoteType voteType) {
+        return new VoteTally(1, voteType == VoteType.YES ? 1 : 0, voteType == VoteType.NO ? 1 : 0);
+    }
+
+    private static BatchVoteItemResponse error(int index, String errorCode, String message) {
+        return BatchVoteItemResponse.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+}
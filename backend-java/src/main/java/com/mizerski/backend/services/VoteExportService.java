@@ -0,0 +1,22 @@
+package com.mizerski.backend.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.ExportFormat;
+
+/**
+ * Interface para exportação dos votos de uma pauta em formato de arquivo
+ */
+public interface VoteExportService {
+
+    /**
+     * Prepara a exportação dos votos da pauta, escritos direto na resposta
+     * conforme são lidos do banco
+     *
+     * @param agendaId ID da pauta
+     * @param format   Formato da exportação
+     * @return Result com o corpo da resposta ou erro se a pauta não existir
+     */
+    Result<StreamingResponseBody> exportVotesByAgendaId(String agendaId, ExportFormat format);
+}
@@ -0,0 +1,156 @@
+package com.mizerski.backend.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.VoteExportRow;
+import com.mizerski.backend.models.enums.ExportFormat;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação da exportação de votos com memória constante.
+ *
+ * Os votos são lidos por um cursor JDBC somente-avanço (sem entidades nem
+ * contexto de persistência) e cada linha é escrita na resposta assim que
+ * chega; só o buffer de escrita e o lote do fetch size ficam em memória.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VoteExportServiceImpl implements VoteExportService {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String CSV_HEADER = "id,voteType,userId,userName,createdAt\n";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final AgendaRepository agendaRepository;
+    private final ExceptionMappingService exceptionMappingService;
+
+    @Value("${voting.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Prepara a exportação dos votos da pauta. A existência da pauta é
+     * verificada antes de a resposta começar; a leitura só acontece quando o
+     * corpo é escrito.
+     *
+     * @param agendaId ID da pauta
+     * @param format   Formato da exportação
+     * @return Result com o corpo da resposta ou erro se a pauta não existir
+     */
+    @Override
+    public Result<StreamingResponseBody> exportVotesByAgendaId(String agendaId, ExportFormat format) {
+        try {
+            if (!agendaRepository.existsById(agendaId)) {
+                return Result.error("AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + agendaId);
+            }
+
+            return Result.success(out -> writeVotes(agendaId, format, out));
+
+        } catch (Exception e) {
+            log.error("Erro ao preparar exportação dos votos da pauta {}: {}", agendaId, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
+    private void writeVotes(String agendaId, ExportFormat format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        AtomicLong rows = new AtomicLong();
+
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                stream(agendaId, rows, row -> writeCsv(writer, row));
+            } else {
+                try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+                    json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    json.setRootValueSeparator(null);
+                    stream(agendaId, rows, row -> writeNdjson(json, row));
+                }
+            }
+        } catch (UncheckedIOException e) {
+            // Normalmente o cliente encerrou o download; a consulta é abortada
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("Exportados {} votos da pauta {} em {} ({} ms)", rows.get(), agendaId, format,
+                System.currentTimeMillis() - start);
+    }
+
+    private void stream(String agendaId, AtomicLong rows, IoConsumer<VoteExportRow> writeRow) {
+        Consumer<VoteExportRow> consumer = row -> {
+            try {
+                writeRow.accept(row);
+                rows.incrementAndGet();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        voteJdbcRepository.streamByAgendaId(agendaId, fetchSize, consumer);
+    }
+
+    private static void writeNdjson(JsonGenerator json, VoteExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", row.getId());
+        json.writeStringField("voteType", row.getVoteType());
+        json.writeStringField("userId", row.getUserId());
+        json.writeStringField("userName", row.getUserName());
+        json.writeStringField("createdAt", row.getCreatedAt() != null ? row.getCreatedAt().toString() : null);
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static void writeCsv(Writer writer, VoteExportRow row) throws IOException {
+        writer.write(row.getId());
+        writer.write(',');
+        writer.write(row.getVoteType());
+        writer.write(',');
+        writer.write(row.getUserId());
+        writer.write(',');
+        writer.write(csvField(row.getUserName()));
+        writer.write(',');
+        writer.write(row.getCreatedAt() != null ? row.getCreatedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    /**
+     * Coloca o campo entre aspas quando contém separador, aspas ou quebra de
+     * linha (RFC 4180)
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface IoConsumer<T> {
+        void accept(T value) throws IOException;
+    }
+}
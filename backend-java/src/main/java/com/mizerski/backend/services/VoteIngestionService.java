@@ -0,0 +1,34 @@
+package com.mizerski.backend.services;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.models.domains.Result;
+
+/**
+ * Interface para o pipeline de ingestão de votos em modo write-behind.
+ * Votos são enfileirados por pauta e gravados em lote por um único escritor.
+ */
+public interface VoteIngestionService {
+
+    /**
+     * Indica se o modo write-behind está habilitado
+     *
+     * @return true se os votos devem passar pelo pipeline
+     */
+    boolean isEnabled();
+
+    /**
+     * Enfileira um voto e aguarda até que o lote que o contém seja gravado
+     *
+     * @param request Dados do voto
+     * @return Result com dados do voto aceito ou erro
+     */
+    Result<VoteResponse> submit(CreateVoteRequest request);
+
+    /**
+     * Obtém a quantidade de votos aguardando gravação
+     *
+     * @return Número de votos pendentes em todas as filas
+     */
+    int getPendingCount();
+}
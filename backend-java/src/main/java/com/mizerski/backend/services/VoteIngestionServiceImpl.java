@@ -0,0 +1,401 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.domains.Votes;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do pipeline de ingestão de votos em modo write-behind.
+ *
+ * Cada pauta possui uma fila própria com no máximo um escritor ativo por vez.
+ * O escritor drena a fila em lotes, grava os votos via JDBC batch e atualiza
+ * os contadores da pauta com um único incremento de shard por lote, tudo na mesma
+ * transação. O chamador aguarda apenas o commit do lote que contém seu voto.
+ * A fila de uma pauta é removida quando esvazia e recriada no próximo voto.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VoteIngestionServiceImpl implements VoteIngestionService {
+
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final AgendaRepository agendaRepository;
+    private final UserRepository userRepository;
+    private final TallyService tallyService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExceptionMappingService exceptionMappingService;
+    private final VoterBitmapService voterBitmapService;
+    private final SessionWindowService sessionWindowService;
+
+    @Value("${voting.ingestion.write-behind-enabled:false}")
+    private boolean enabled;
+
+    @Value("${voting.ingestion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${voting.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${voting.ingestion.writer-threads:4}")
+    private int writerThreads;
+
+    @Value("${voting.ingestion.accept-timeout-ms:5000}")
+    private long acceptTimeoutMs;
+
+    @Value("${voting.ingestion.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    private final ConcurrentHashMap<String, AgendaQueue> queues = new ConcurrentHashMap<>();
+    private ExecutorService writers;
+
+    /**
+     * Fila de votos de uma pauta com controle de escritor único
+     */
+    private static class AgendaQueue {
+        final LinkedBlockingQueue<PendingVote> votes;
+        final AtomicBoolean draining = new AtomicBoolean(false);
+
+        AgendaQueue(int capacity) {
+            this.votes = new LinkedBlockingQueue<>(capacity);
+        }
+    }
+
+    /**
+     * Voto aguardando gravação e o futuro que libera o chamador
+     */
+    private static class PendingVote {
+        final Votes vote;
+        final CompletableFuture<Result<VoteResponse>> future = new CompletableFuture<>();
+
+        PendingVote(Votes vote) {
+            this.vote = vote;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        writers = Executors.newFixedThreadPool(writerThreads, new CustomizableThreadFactory("vote-writer-"));
+        log.info("Pipeline de ingestão de votos iniciado: {} escritores, lotes de até {} votos",
+                writerThreads, batchSize);
+    }
+
+    /**
+     * Encerra o pipeline: os escritores gravam o que já está nas filas dentro
+     * do tempo limite e os votos que sobrarem são recusados com
+     * VOTE_INGESTION_STOPPED, para que nenhum chamador espere até o
+     * VOTE_PROCESSING_TIMEOUT por um lote que não será mais gravado
+     */
+    @PreDestroy
+    public void destroy() {
+        if (writers == null) {
+            return;
+        }
+
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Pipeline de ingestão não gravou {} votos pendentes no tempo limite", getPendingCount());
+                writers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        queues.forEach(this::rejectPending);
+        log.info("Pipeline de ingestão de votos finalizado");
+    }
+
+    /**
+     * Indica se o modo write-behind está habilitado
+     *
+     * @return true se os votos devem passar pelo pipeline
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enfileira um voto e aguarda até que o lote que o contém seja gravado
+     *
+     * @param request Dados do voto
+     * @return Result com dados do voto aceito ou erro
+     */
+    @Override
+    public Result<VoteResponse> submit(CreateVoteRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (sessionWindowService.isVotingClosed(request.getAgendaId(), now)) {
+            return Result.error("AGENDA_NOT_OPEN", "A sessão de votação da pauta está encerrada");
+        }
+
+        if (voterBitmapService.hasVoted(request.getAgendaId(), request.getUserId())) {
+            return Result.error("USER_ALREADY_VOTED", "O usuário já votou na pauta");
+        }
+
+        Votes vote = Votes.builder()
+                .id(UUID.randomUUID().toString())
+                .voteType(request.getVoteType())
+                .userId(request.getUserId())
+                .agendaId(request.getAgendaId())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        PendingVote pending = new PendingVote(vote);
+        boolean[] offered = { false };
+
+        // O voto entra na fila sob o lock da entrada do mapa, assim a remoção
+        // de filas vazias nunca descarta uma fila que acabou de receber um voto
+        AgendaQueue queue = queues.compute(request.getAgendaId(), (id, current) -> {
+            AgendaQueue agendaQueue = current != null ? current : new AgendaQueue(queueCapacity);
+            offered[0] = agendaQueue.votes.offer(pending);
+            return agendaQueue;
+        });
+
+        if (!offered[0]) {
+            log.warn("Fila de votos cheia para pauta {}", request.getAgendaId());
+            return Result.error("VOTE_QUEUE_FULL", "Fila de votos cheia para a pauta, tente novamente");
+        }
+
+        scheduleDrain(request.getAgendaId(), queue);
+
+        try {
+            return pending.future.get(acceptTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Tempo esgotado aguardando gravação do voto {} na pauta {}", vote.getId(),
+                    request.getAgendaId());
+            return Result.error("VOTE_PROCESSING_TIMEOUT", "Voto ainda em processamento, tente novamente");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error("VOTE_PROCESSING_TIMEOUT", "Aguardo do voto interrompido");
+        } catch (ExecutionException e) {
+            return exceptionMappingService.mapExceptionToResult((Exception) e.getCause());
+        }
+    }
+
+    /**
+     * Obtém a quantidade de votos aguardando gravação
+     *
+     * @return Número de votos pendentes em todas as filas
+     */
+    @Override
+    public int getPendingCount() {
+        return queues.values().stream()
+                .mapToInt(queue -> queue.votes.size())
+                .sum();
+    }
+
+    /**
+     * Obtém a quantidade de pautas com fila em memória
+     *
+     * @return Número de filas
+     */
+    int getQueueCount() {
+        return queues.size();
+    }
+
+    /**
+     * Agenda a drenagem da fila caso nenhum escritor esteja ativo para a pauta.
+     * Com o pipeline encerrado, os votos da fila são recusados em vez de
+     * aguardarem o tempo limite.
+     */
+    private void scheduleDrain(String agendaId, AgendaQueue queue) {
+        if (!queue.draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            writers.execute(() -> drain(agendaId, queue));
+        } catch (RejectedExecutionException e) {
+            queue.draining.set(false);
+            rejectPending(agendaId, queue);
+        }
+    }
+
+    /**
+     * Grava um lote da fila e devolve o escritor, reagendando se ainda houver
+     * votos ou removendo a fila vazia. Um lote por tarefa mantém a justiça
+     * entre pautas concorrentes; com o pipeline em encerramento o escritor
+     * grava a fila inteira, já que não pode mais reagendar.
+     */
+    private void drain(String agendaId, AgendaQueue queue) {
+        try {
+            do {
+                List<PendingVote> batch = new ArrayList<>(Math.min(batchSize, queue.votes.size()));
+                queue.votes.drainTo(batch, batchSize);
+
+                if (!batch.isEmpty()) {
+                    flush(agendaId, batch);
+                }
+            } while (writers.isShutdown() && !queue.votes.isEmpty() && !Thread.currentThread().isInterrupted());
+        } finally {
+            queue.draining.set(false);
+            if (!queue.votes.isEmpty()) {
+                scheduleDrain(agendaId, queue);
+            } else {
+                queues.computeIfPresent(agendaId, (id, current) -> current == queue
+                        && current.votes.isEmpty() && !current.draining.get() ? null : current);
+            }
+        }
+    }
+
+    /**
+     * Recusa os votos enfileirados quando o pipeline já foi encerrado
+     */
+    private void rejectPending(String agendaId, AgendaQueue queue) {
+        List<PendingVote> pending = new ArrayList<>();
+        queue.votes.drainTo(pending);
+        queues.remove(agendaId, queue);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        log.warn("Pipeline de ingestão encerrado, {} votos da pauta {} recusados", pending.size(), agendaId);
+        Result<VoteResponse> error = Result.error("VOTE_INGESTION_STOPPED",
+                "Recebimento de votos encerrado, tente novamente");
+        pending.forEach(vote -> vote.future.complete(error));
+    }
+
+    /**
+     * Grava o lote em uma única transação e libera os chamadores
+     */
+    private void flush(String agendaId, List<PendingVote> batch) {
+        try {
+            List<Result<VoteResponse>> results = transactionTemplate.execute(status -> writeBatch(agendaId, batch));
+
+            for (int i = 0; i < batch.size(); i++) {
+                PendingVote pending = batch.get(i);
+                if (results.get(i).isSuccess()) {
+                    voterBitmapService.markVoted(agendaId, pending.vote.getUserId());
+                }
+                pending.future.complete(results.get(i));
+            }
+        } catch (Exception e) {
+            log.error("Erro ao gravar lote de {} votos da pauta {}: {}", batch.size(), agendaId, e.getMessage(), e);
+            Result<VoteResponse> error = exceptionMappingService.mapExceptionToResult(e);
+            batch.forEach(pending -> pending.future.complete(error));
+        }
+    }
+
+    /**
+     * Insere os votos do lote e aplica um único incremento de contadores
+     *
+     * @return Resultado de cada voto, na mesma ordem do lote
+     */
+    private List<Result<VoteResponse>> writeBatch(String agendaId, List<PendingVote> batch) {
+        List<Votes> votes = batch.stream().map(pending -> pending.vote).toList();
+        int[] inserted = voteJdbcRepository.insertBatch(votes);
+
+        int yes = 0;
+        int no = 0;
+        List<Integer> rejected = new ArrayList<>();
+
+        for (int i = 0; i < votes.size(); i++) {
+            if (inserted[i] > 0) {
+                if (votes.get(i).getVoteType() == VoteType.YES) {
+                    yes++;
+                } else if (votes.get(i).getVoteType() == VoteType.NO) {
+                    no++;
+                }
+            } else {
+                rejected.add(i);
+            }
+        }
+
+        tallyService.add(agendaId, new VoteTally(yes + no, yes, no));
+
+        List<Result<VoteResponse>> results = new ArrayList<>(votes.size());
+        for (Votes vote : votes) {
+            results.add(Result.success(VoteResponse.builder()
+                    .id(vote.getId())
+                    .voteType(vote.getVoteType())
+                    .createdAt(vote.getCreatedAt())
+                    .updatedAt(vote.getUpdatedAt())
+                    .build()));
+        }
+
+        if (!rejected.isEmpty()) {
+            classifyRejected(agendaId, votes, rejected, results);
+        }
+
+        log.debug("Lote gravado para pauta {}: {} aceitos, {} rejeitados", agendaId, yes + no, rejected.size());
+        return results;
+    }
+
+    /**
+     * Determina o motivo da rejeição dos votos que não foram inseridos.
+     * Caminho raro: executa no máximo duas consultas por lote.
+     */
+    private void classifyRejected(String agendaId, List<Votes> votes, List<Integer> rejected,
+            List<Result<VoteResponse>> results) {
+
+        AgendaEntity agenda = agendaRepository.findById(agendaId).orElse(null);
+
+        if (agenda == null) {
+            rejected.forEach(i -> results.set(i,
+                    Result.error("AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + agendaId)));
+            return;
+        }
+
+        if (agenda.getStatus() != AgendaStatus.OPEN && agenda.getStatus() != AgendaStatus.IN_PROGRESS) {
+            rejected.forEach(i -> results.set(i,
+                    Result.error("AGENDA_NOT_OPEN", "A pauta não está aberta para votação")));
+            return;
+        }
+
+        Set<String> existingUsers = new HashSet<>();
+        userRepository.findAllById(rejected.stream().map(i -> votes.get(i).getUserId()).toList())
+                .stream()
+                .map(UserEntity::getId)
+                .forEach(existingUsers::add);
+
+        for (int i : rejected) {
+            String userId = votes.get(i).getUserId();
+            results.set(i, existingUsers.contains(userId)
+                    ? Result.error("USER_ALREADY_VOTED", "O usuário já votou na pauta")
+                    : Result.error("USER_NOT_FOUND", "Usuário não encontrado com ID: " + userId));
+        }
+    }
+}
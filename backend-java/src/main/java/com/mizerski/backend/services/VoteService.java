@@ -5,9 +5,12 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 
 import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.dtos.response.VoteSummaryResponse;
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.TotalMode;
 
 /**
  * Interface para serviço de gerenciamento de operações relacionadas a votos
@@ -37,7 +40,7 @@ public interface VoteService {
      * @param agendaId ID da pauta
      * @return Result com lista de votos encontrados ou erro
      */
-    Result<List<VoteResponse>> getAllVotesByAgendaId(String agendaId);
+    Result<List<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId);
 
     /**
      * Busca todos os votos por pauta com paginação
@@ -46,7 +49,29 @@ public interface VoteService {
      * @param pageable Configuração de paginação
      * @return Result com resposta paginada de votos ou erro
      */
-    Result<PagedResponse<VoteResponse>> getAllVotesByAgendaId(String agendaId, Pageable pageable);
+    Result<PagedResponse<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId, Pageable pageable);
+
+    /**
+     * Busca todos os votos por pauta com paginação, escolhendo como o total é
+     * obtido
+     * 
+     * @param agendaId  ID da pauta
+     * @param pageable  Configuração de paginação
+     * @param totalMode EXACT (COUNT), APPROXIMATE (contadores da pauta) ou NONE
+     * @return Result com resposta paginada de votos ou erro
+     */
+    Result<PagedResponse<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId, Pageable pageable,
+            TotalMode totalMode);
+
+    /**
+     * Busca os votos da pauta com paginação por cursor (mais recentes primeiro)
+     * 
+     * @param agendaId ID da pauta
+     * @param after    Cursor da página anterior (null para a primeira página)
+     * @param size     Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    Result<CursorPagedResponse<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId, String after, int size);
 
     /**
      * Busca todos os votos por usuário
@@ -54,7 +79,7 @@ public interface VoteService {
      * @param userId ID do usuário
      * @return Result com lista de votos encontrados ou erro
      */
-    Result<List<VoteResponse>> getAllVotesByUserId(String userId);
+    Result<List<VoteSummaryResponse>> getAllVotesByUserId(String userId);
 
     /**
      * Busca todos os votos por usuário com paginação
@@ -63,7 +88,29 @@ public interface VoteService {
      * @param pageable Configuração de paginação
      * @return Result com resposta paginada de votos ou erro
      */
-    Result<PagedResponse<VoteResponse>> getAllVotesByUserId(String userId, Pageable pageable);
+    Result<PagedResponse<VoteSummaryResponse>> getAllVotesByUserId(String userId, Pageable pageable);
+
+    /**
+     * Busca todos os votos por usuário com paginação, escolhendo como o total é
+     * obtido
+     * 
+     * @param userId    ID do usuário
+     * @param pageable  Configuração de paginação
+     * @param totalMode NONE dispensa a contagem; EXACT e APPROXIMATE contam
+     * @return Result com resposta paginada de votos ou erro
+     */
+    Result<PagedResponse<VoteSummaryResponse>> getAllVotesByUserId(String userId, Pageable pageable,
+            TotalMode totalMode);
+
+    /**
+     * Busca os votos do usuário com paginação por cursor (mais recentes primeiro)
+     * 
+     * @param userId ID do usuário
+     * @param after  Cursor da página anterior (null para a primeira página)
+     * @param size   Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    Result<CursorPagedResponse<VoteSummaryResponse>> getAllVotesByUserId(String userId, String after, int size);
 
     /**
      * Busca todos os votos por pauta e usuário
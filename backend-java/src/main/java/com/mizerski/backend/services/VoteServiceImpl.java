@@ -1,26 +1,35 @@
 package com.mizerski.backend.services;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.dtos.response.VoteSummaryResponse;
+import com.mizerski.backend.models.domains.PageCursor;
 import com.mizerski.backend.models.domains.Result;
 import com.mizerski.backend.models.domains.Votes;
 import com.mizerski.backend.models.entities.AgendaEntity;
-import com.mizerski.backend.models.entities.UserEntity;
 import com.mizerski.backend.models.entities.VoteEntity;
 import com.mizerski.backend.models.enums.AgendaStatus;
-import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.models.enums.TotalMode;
 import com.mizerski.backend.models.mappers.VoteMapper;
 import com.mizerski.backend.repositories.AgendaRepository;
 import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
 import com.mizerski.backend.repositories.VoteRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -39,72 +48,98 @@ public class VoteServiceImpl implements VoteService {
     private final AgendaRepository agendaRepository;
     private final UserRepository userRepository;
     private final ExceptionMappingService exceptionMappingService;
+    private final TallyService tallyService;
+    private final VoteJdbcRepository voteJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VoterBitmapService voterBitmapService;
+    private final SessionWindowService sessionWindowService;
 
     /**
      * Cria um novo voto
+     *
+     * Caminho enxuto: o voto é inserido por referência em um único comando, que
+     * só grava se a pauta estiver aberta e o usuário existir. Votos duplicados
+     * são rejeitados pela constraint uk_user_agenda_vote. As consultas de
+     * diagnóstico só acontecem quando o voto é rejeitado. Em pautas em andamento,
+     * o bitmap de eleitores rejeita duplicados sem acessar o banco.
      * 
      * @param request Dados do voto a ser criado
      * @return Result com dados do voto criado ou erro
      */
     @Override
-    @Transactional
     public Result<VoteResponse> createVote(CreateVoteRequest request) {
         try {
-            // Valida se a sessão está aberta
-            AgendaEntity agendaEntity = agendaRepository.findById(request.getAgendaId()).orElse(null);
+            LocalDateTime now = LocalDateTime.now();
 
-            if (agendaEntity == null) {
-                return Result.error("AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + request.getAgendaId());
+            // Prazo exato da sessão, sem esperar a varredura de sessões expiradas
+            if (sessionWindowService.isVotingClosed(request.getAgendaId(), now)) {
+                return Result.error("AGENDA_NOT_OPEN", "A sessão de votação da pauta está encerrada");
             }
 
-            if (agendaEntity.getStatus() != AgendaStatus.OPEN && agendaEntity.getStatus() != AgendaStatus.IN_PROGRESS) {
-                return Result.error("AGENDA_NOT_OPEN", "A pauta não está aberta para votação");
-            }
-
-            // Valida se o usuário já votou na pauta
-            if (voteRepository.findByUserIdAndAgendaId(request.getUserId(), request.getAgendaId()).isPresent()) {
+            if (voterBitmapService.hasVoted(request.getAgendaId(), request.getUserId())) {
                 return Result.error("USER_ALREADY_VOTED", "O usuário já votou na pauta");
             }
 
-            // Busca o usuário
-            UserEntity userEntity = userRepository.findById(request.getUserId()).orElse(null);
-            if (userEntity == null) {
-                return Result.error("USER_NOT_FOUND", "Usuário não encontrado com ID: " + request.getUserId());
+            Votes vote = voteMapper.fromCreateRequest(request);
+            vote.setId(UUID.randomUUID().toString());
+            vote.setCreatedAt(now);
+            vote.setUpdatedAt(now);
+
+            Result<VoteResponse> result = transactionTemplate.execute(status -> insertVote(vote));
+
+            if (result.isSuccess()) {
+                // Só após o commit, para o bitmap nunca conter votos desfeitos
+                voterBitmapService.markVoted(request.getAgendaId(), request.getUserId());
+                log.info("Voto criado com sucesso: {} - pauta={}, tipo={}",
+                        vote.getId(), request.getAgendaId(), request.getVoteType());
             }
+            return result;
+
+        } catch (DuplicateKeyException e) {
+            // Caso de negócio comum sob concorrência: a constraint uk_user_agenda_vote rejeitou o voto
+            log.debug("Voto duplicado rejeitado: pauta={}, usuário={}", request.getAgendaId(), request.getUserId());
+            return Result.error("USER_ALREADY_VOTED", "O usuário já votou na pauta");
 
-            // Converte DTO para Domínio
-            Votes voteDomain = voteMapper.fromCreateRequest(request);
+        } catch (Exception e) {
+            log.error("Erro ao criar voto: {}", e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
 
-            // Converte Domínio para Entity para persistir
-            VoteEntity voteEntityToSave = voteMapper.toEntity(voteDomain);
+    /**
+     * Insere o voto e contabiliza o incremento no shard, na mesma transação
+     */
+    private Result<VoteResponse> insertVote(Votes vote) {
+        if (voteJdbcRepository.insert(vote) == 0) {
+            return classifyRejected(vote);
+        }
 
-            // Seta as entidades relacionadas
-            voteEntityToSave.setUser(userEntity);
-            voteEntityToSave.setAgenda(agendaEntity);
+        // Contabiliza o voto em um shard de contadores (incremento atômico)
+        tallyService.increment(vote.getAgendaId(), vote.getVoteType());
 
-            // Salva no banco
-            VoteEntity savedEntity = voteRepository.save(voteEntityToSave);
+        return Result.success(voteMapper.toResponse(vote));
+    }
 
-            // Atualiza os contadores de votos na agenda diretamente
-            agendaEntity.setTotalVotes(agendaEntity.getTotalVotes() + 1);
-            if (request.getVoteType() == VoteType.YES) {
-                agendaEntity.setYesVotes(agendaEntity.getYesVotes() + 1);
-            } else if (request.getVoteType() == VoteType.NO) {
-                agendaEntity.setNoVotes(agendaEntity.getNoVotes() + 1);
-            }
-            agendaRepository.save(agendaEntity);
+    /**
+     * Determina por que o voto não foi inserido (caminho raro)
+     */
+    private Result<VoteResponse> classifyRejected(Votes vote) {
+        AgendaEntity agendaEntity = agendaRepository.findById(vote.getAgendaId()).orElse(null);
 
-            VoteResponse response = voteMapper.toResponse(savedEntity);
+        if (agendaEntity == null) {
+            return Result.error("AGENDA_NOT_FOUND", "Pauta não encontrada com ID: " + vote.getAgendaId());
+        }
 
-            log.info("Voto criado com sucesso: {} - Contadores atualizados: total={}, yes={}, no={}",
-                    savedEntity.getId(), agendaEntity.getTotalVotes(), agendaEntity.getYesVotes(),
-                    agendaEntity.getNoVotes());
-            return Result.success(response);
+        if (agendaEntity.getStatus() != AgendaStatus.OPEN && agendaEntity.getStatus() != AgendaStatus.IN_PROGRESS) {
+            return Result.error("AGENDA_NOT_OPEN", "A pauta não está aberta para votação");
+        }
 
-        } catch (Exception e) {
-            log.error("Erro ao criar voto: {}", e.getMessage(), e);
-            return exceptionMappingService.mapExceptionToResult(e);
+        if (!userRepository.existsById(vote.getUserId())) {
+            return Result.error("USER_NOT_FOUND", "Usuário não encontrado com ID: " + vote.getUserId());
         }
+
+        // A pauta foi encerrada entre o INSERT e a consulta
+        return Result.error("AGENDA_NOT_OPEN", "A pauta não está aberta para votação");
     }
 
     /**
@@ -142,12 +177,12 @@ public class VoteServiceImpl implements VoteService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Result<List<VoteResponse>> getAllVotesByAgendaId(String agendaId) {
+    public Result<List<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId) {
         try {
             List<VoteEntity> voteEntities = voteRepository.findByAgendaId(agendaId);
 
-            List<VoteResponse> responses = voteEntities.stream()
-                    .map(voteMapper::toResponse)
+            List<VoteSummaryResponse> responses = voteEntities.stream()
+                    .map(voteMapper::toSummaryResponse)
                     .collect(Collectors.toList());
 
             return Result.success(responses);
@@ -167,15 +202,15 @@ public class VoteServiceImpl implements VoteService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Result<PagedResponse<VoteResponse>> getAllVotesByAgendaId(String agendaId, Pageable pageable) {
+    public Result<PagedResponse<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId, Pageable pageable) {
         try {
             Page<VoteEntity> page = voteRepository.findByAgendaId(agendaId, pageable);
 
-            List<VoteResponse> content = page.getContent().stream()
-                    .map(voteMapper::toResponse)
+            List<VoteSummaryResponse> content = page.getContent().stream()
+                    .map(voteMapper::toSummaryResponse)
                     .collect(Collectors.toList());
 
-            PagedResponse<VoteResponse> response = new PagedResponse<>(
+            PagedResponse<VoteSummaryResponse> response = new PagedResponse<>(
                     content, page.getNumber(), page.getSize(), page.getTotalElements());
 
             return Result.success(response);
@@ -186,6 +221,72 @@ public class VoteServiceImpl implements VoteService {
         }
     }
 
+    /**
+     * Busca todos os votos por pauta com paginação, escolhendo como o total é
+     * obtido.
+     *
+     * Em NONE e APPROXIMATE não há COUNT(*): a fatia busca size + 1 votos. O
+     * total aproximado vem dos contadores da pauta (base + shards), que podem
+     * divergir da contagem real por votos em andamento.
+     * 
+     * @param agendaId  ID da pauta
+     * @param pageable  Configuração de paginação
+     * @param totalMode Como obter o total de elementos
+     * @return Result com resposta paginada de votos ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<PagedResponse<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId, Pageable pageable,
+            TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return getAllVotesByAgendaId(agendaId, pageable);
+        }
+
+        try {
+            Slice<VoteEntity> slice = voteRepository.findSliceByAgendaId(agendaId, pageable);
+
+            List<VoteSummaryResponse> content = slice.getContent().stream()
+                    .map(voteMapper::toSummaryResponse)
+                    .collect(Collectors.toList());
+
+            if (totalMode == TotalMode.NONE) {
+                return Result.success(PagedResponse.ofSlice(content, slice));
+            }
+
+            long total = agendaRepository.findTotalVotesById(agendaId).orElse(0)
+                    + tallyService.getShardTally(agendaId).getTotalVotes();
+            return Result.success(PagedResponse.ofSlice(content, slice, total));
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar votos paginados por pauta {}: {}", agendaId, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
+    /**
+     * Busca os votos da pauta com paginação por cursor (mais recentes primeiro)
+     * 
+     * @param agendaId ID da pauta
+     * @param after    Cursor da página anterior (null para a primeira página)
+     * @param size     Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<CursorPagedResponse<VoteSummaryResponse>> getAllVotesByAgendaId(String agendaId, String after, int size) {
+        try {
+            PageCursor cursor = PageCursor.decode(after);
+            List<VoteEntity> rows = voteRepository.findByAgendaIdBefore(agendaId, cursor.getCreatedAt(),
+                    cursor.getId(), Limit.of(size + 1));
+
+            return Result.success(toCursorPage(rows, size));
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar votos por cursor da pauta {}: {}", agendaId, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
     /**
      * Busca todos os votos por usuário
      * 
@@ -194,12 +295,12 @@ public class VoteServiceImpl implements VoteService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Result<List<VoteResponse>> getAllVotesByUserId(String userId) {
+    public Result<List<VoteSummaryResponse>> getAllVotesByUserId(String userId) {
         try {
             List<VoteEntity> voteEntities = voteRepository.findByUserId(userId);
 
-            List<VoteResponse> responses = voteEntities.stream()
-                    .map(voteMapper::toResponse)
+            List<VoteSummaryResponse> responses = voteEntities.stream()
+                    .map(voteMapper::toSummaryResponse)
                     .collect(Collectors.toList());
 
             return Result.success(responses);
@@ -219,15 +320,15 @@ public class VoteServiceImpl implements VoteService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Result<PagedResponse<VoteResponse>> getAllVotesByUserId(String userId, Pageable pageable) {
+    public Result<PagedResponse<VoteSummaryResponse>> getAllVotesByUserId(String userId, Pageable pageable) {
         try {
             Page<VoteEntity> page = voteRepository.findByUserId(userId, pageable);
 
-            List<VoteResponse> content = page.getContent().stream()
-                    .map(voteMapper::toResponse)
+            List<VoteSummaryResponse> content = page.getContent().stream()
+                    .map(voteMapper::toSummaryResponse)
                     .collect(Collectors.toList());
 
-            PagedResponse<VoteResponse> response = new PagedResponse<>(
+            PagedResponse<VoteSummaryResponse> response = new PagedResponse<>(
                     content, page.getNumber(), page.getSize(), page.getTotalElements());
 
             return Result.success(response);
@@ -238,6 +339,70 @@ public class VoteServiceImpl implements VoteService {
         }
     }
 
+    /**
+     * Busca todos os votos por usuário com paginação, escolhendo como o total é
+     * obtido
+     * 
+     * @param userId    ID do usuário
+     * @param pageable  Configuração de paginação
+     * @param totalMode NONE dispensa a contagem; EXACT e APPROXIMATE contam
+     * @return Result com resposta paginada de votos ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<PagedResponse<VoteSummaryResponse>> getAllVotesByUserId(String userId, Pageable pageable,
+            TotalMode totalMode) {
+        if (totalMode != TotalMode.NONE) {
+            return getAllVotesByUserId(userId, pageable);
+        }
+
+        try {
+            Slice<VoteEntity> slice = voteRepository.findSliceByUserId(userId, pageable);
+
+            List<VoteSummaryResponse> content = slice.getContent().stream()
+                    .map(voteMapper::toSummaryResponse)
+                    .collect(Collectors.toList());
+
+            return Result.success(PagedResponse.ofSlice(content, slice));
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar votos paginados por usuário {}: {}", userId, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
+    /**
+     * Busca os votos do usuário com paginação por cursor (mais recentes primeiro)
+     * 
+     * @param userId ID do usuário
+     * @param after  Cursor da página anterior (null para a primeira página)
+     * @param size   Tamanho da página
+     * @return Result com resposta paginada por cursor ou erro
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Result<CursorPagedResponse<VoteSummaryResponse>> getAllVotesByUserId(String userId, String after, int size) {
+        try {
+            PageCursor cursor = PageCursor.decode(after);
+            List<VoteEntity> rows = voteRepository.findByUserIdBefore(userId, cursor.getCreatedAt(),
+                    cursor.getId(), Limit.of(size + 1));
+
+            return Result.success(toCursorPage(rows, size));
+
+        } catch (Exception e) {
+            log.error("Erro ao buscar votos por cursor do usuário {}: {}", userId, e.getMessage(), e);
+            return exceptionMappingService.mapExceptionToResult(e);
+        }
+    }
+
+    private CursorPagedResponse<VoteSummaryResponse> toCursorPage(List<VoteEntity> rows, int size) {
+        List<VoteSummaryResponse> content = rows.stream()
+                .map(voteMapper::toSummaryResponse)
+                .collect(Collectors.toList());
+
+        return CursorPagedResponse.of(content, size, vote -> new PageCursor(vote.getCreatedAt(), vote.getId()));
+    }
+
     /**
      * Busca todos os votos por pauta e usuário
      * 
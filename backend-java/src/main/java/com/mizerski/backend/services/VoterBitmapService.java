@@ -0,0 +1,45 @@
+package com.mizerski.backend.services;
+
+/**
+ * Interface para o índice em memória de eleitores por pauta.
+ *
+ * Mantém um bitmap comprimido de ordinais de usuários que já votaram em cada
+ * pauta em andamento, permitindo rejeitar votos duplicados sem acessar o banco.
+ * A constraint única do banco continua sendo a fonte da verdade: o índice só
+ * pode responder "já votou" para votos efetivamente gravados.
+ */
+public interface VoterBitmapService {
+
+    /**
+     * Carrega o bitmap de uma pauta a partir dos votos gravados, após o commit
+     * quando houver transação
+     *
+     * @param agendaId ID da pauta
+     */
+    void load(String agendaId);
+
+    /**
+     * Verifica se o usuário já votou na pauta segundo o índice em memória
+     *
+     * @param agendaId ID da pauta
+     * @param userId   ID do usuário
+     * @return true somente se o voto consta no bitmap; false se não consta ou se a
+     *         pauta não está carregada
+     */
+    boolean hasVoted(String agendaId, String userId);
+
+    /**
+     * Registra um voto gravado com sucesso no bitmap da pauta
+     *
+     * @param agendaId ID da pauta
+     * @param userId   ID do usuário
+     */
+    void markVoted(String agendaId, String userId);
+
+    /**
+     * Descarta o bitmap de uma pauta que deixou de receber votos
+     *
+     * @param agendaId ID da pauta
+     */
+    void evict(String agendaId);
+}
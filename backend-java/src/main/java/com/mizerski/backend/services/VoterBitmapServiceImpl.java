@@ -0,0 +1,181 @@
+package com.mizerski.backend.services;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.VoteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementação do índice em memória de eleitores por pauta.
+ *
+ * Cada usuário recebe um ordinal inteiro compacto na primeira vez que aparece,
+ * de modo que o ID de 36 caracteres é guardado uma única vez e os bitmaps das
+ * pautas guardam apenas inteiros (RoaringBitmap).
+ *
+ * Cada bitmap é protegido por um ReentrantReadWriteLock em vez de synchronized:
+ * consultas concorrentes não se bloqueiam e threads virtuais não ficam presas
+ * (pinning) à thread portadora.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VoterBitmapServiceImpl implements VoterBitmapService {
+
+    private final VoteRepository voteRepository;
+    private final AgendaRepository agendaRepository;
+
+    @Value("${voting.voter-bitmap.enabled:true}")
+    private boolean enabled;
+
+    private final ConcurrentHashMap<String, Integer> userOrdinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final ConcurrentHashMap<String, LockedBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    /**
+     * Bitmap de uma pauta com seu lock de leitura/escrita
+     */
+    private static final class LockedBitmap {
+        final RoaringBitmap bitmap = new RoaringBitmap();
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Carrega os bitmaps das pautas que já estavam em andamento na inicialização
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInProgressAgendas() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<AgendaEntity> agendas = agendaRepository.findByStatusIn(List.of(AgendaStatus.IN_PROGRESS));
+            agendas.forEach(agenda -> load(agenda.getId()));
+        } catch (Exception e) {
+            log.warn("Não foi possível carregar os bitmaps de eleitores na inicialização: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Carrega o bitmap de uma pauta a partir dos votos gravados, após o commit
+     * quando houver transação: a leitura não prende a transação de quem iniciou
+     * a pauta, e um rollback não deixa bitmap publicado.
+     *
+     * O bitmap é publicado antes da leitura dos votos, para que votos gravados
+     * durante o carregamento também sejam registrados nele.
+     *
+     * @param agendaId ID da pauta
+     */
+    @Override
+    public void load(String agendaId) {
+        if (!enabled) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> loadNow(agendaId));
+    }
+
+    private void loadNow(String agendaId) {
+        LockedBitmap bitmap = new LockedBitmap();
+        if (bitmaps.putIfAbsent(agendaId, bitmap) != null) {
+            return;
+        }
+
+        try {
+            List<String> userIds = voteRepository.findUserIdsByAgendaId(agendaId);
+
+            bitmap.lock.writeLock().lock();
+            try {
+                userIds.forEach(userId -> bitmap.bitmap.add(ordinalOf(userId)));
+                bitmap.bitmap.runOptimize();
+            } finally {
+                bitmap.lock.writeLock().unlock();
+            }
+
+            log.debug("Bitmap de eleitores carregado para pauta {}: {} votos", agendaId, userIds.size());
+        } catch (Exception e) {
+            // Um bitmap incompleto não pode ficar publicado
+            bitmaps.remove(agendaId, bitmap);
+            log.warn("Falha ao carregar bitmap de eleitores da pauta {}: {}", agendaId, e.getMessage());
+        }
+    }
+
+    /**
+     * Verifica se o usuário já votou na pauta segundo o índice em memória
+     *
+     * @param agendaId ID da pauta
+     * @param userId   ID do usuário
+     * @return true somente se o voto consta no bitmap
+     */
+    @Override
+    public boolean hasVoted(String agendaId, String userId) {
+        LockedBitmap bitmap = bitmaps.get(agendaId);
+        if (bitmap == null) {
+            return false;
+        }
+
+        Integer ordinal = userOrdinals.get(userId);
+        if (ordinal == null) {
+            return false;
+        }
+
+        bitmap.lock.readLock().lock();
+        try {
+            return bitmap.bitmap.contains(ordinal);
+        } finally {
+            bitmap.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registra um voto gravado com sucesso no bitmap da pauta
+     *
+     * @param agendaId ID da pauta
+     * @param userId   ID do usuário
+     */
+    @Override
+    public void markVoted(String agendaId, String userId) {
+        LockedBitmap bitmap = bitmaps.get(agendaId);
+        if (bitmap == null) {
+            return;
+        }
+
+        int ordinal = ordinalOf(userId);
+        bitmap.lock.writeLock().lock();
+        try {
+            bitmap.bitmap.add(ordinal);
+        } finally {
+            bitmap.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Descarta o bitmap de uma pauta que deixou de receber votos
+     *
+     * @param agendaId ID da pauta
+     */
+    @Override
+    public void evict(String agendaId) {
+        if (bitmaps.remove(agendaId) != null) {
+            log.debug("Bitmap de eleitores descartado para pauta {}", agendaId);
+        }
+    }
+
+    private int ordinalOf(String userId) {
+        return userOrdinals.computeIfAbsent(userId, id -> nextOrdinal.getAndIncrement());
+    }
+}
@@ -0,0 +1,12 @@
+-- Migração para criar a tabela de marcas d'água dos jobs incrementais
+-- V10__create_job_watermarks.sql
+
+-- Até onde cada job incremental já processou (ex.: votos conferidos pela
+-- reconciliação de contadores); a próxima execução parte daqui
+CREATE TABLE IF NOT EXISTS job_watermarks (
+    name VARCHAR(64) PRIMARY KEY,
+    watermark TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE job_watermarks IS 'Marcas d''água dos jobs periódicos incrementais';
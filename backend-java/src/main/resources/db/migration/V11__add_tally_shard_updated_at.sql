@@ -0,0 +1,15 @@
+-- Migração para registrar a última alteração dos contadores fragmentados
+-- V11__add_tally_shard_updated_at.sql
+
+-- A reconciliação confere as pautas cujos contadores mudaram desde a marca
+-- d'água, não só as que receberam votos: incrementos sem voto correspondente
+-- (ex.: PUT /api/v1/agendas/{agendaId}/votes) também geram divergência
+ALTER TABLE agenda_tally_shards
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_agenda_tally_shards_updated_at ON agenda_tally_shards (updated_at);
+
+-- Contadores base alterados pela JPA (consolidação dos shards, cálculo do resultado)
+CREATE INDEX IF NOT EXISTS idx_agendas_updated_at ON agendas (updated_at);
+
+COMMENT ON COLUMN agenda_tally_shards.updated_at IS 'Data/hora do último incremento do shard';
@@ -0,0 +1,28 @@
+-- Migração para criar os contadores fragmentados (shards) de votos por agenda
+-- V4__create_agenda_tally_shards.sql
+
+-- Cada agenda possui até N linhas de contadores. Os votos incrementam um shard
+-- aleatório, distribuindo a contenção que antes ficava na linha da agenda.
+-- O total de uma agenda é a soma dos contadores base (agendas) com seus shards.
+CREATE TABLE agenda_tally_shards (
+    agenda_id VARCHAR(36) NOT NULL,
+    shard_id INTEGER NOT NULL,
+    total_votes INTEGER NOT NULL DEFAULT 0,
+    yes_votes INTEGER NOT NULL DEFAULT 0,
+    no_votes INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT pk_agenda_tally_shards PRIMARY KEY (agenda_id, shard_id),
+    CONSTRAINT fk_tally_shards_agenda FOREIGN KEY (agenda_id) REFERENCES agendas (id) ON DELETE CASCADE
+);
+
+-- Comentários para documentação
+COMMENT ON TABLE agenda_tally_shards IS 'Contadores de votos fragmentados por agenda, somados aos contadores base na leitura';
+
+COMMENT ON COLUMN agenda_tally_shards.agenda_id IS 'Referência para a agenda dona do shard';
+
+COMMENT ON COLUMN agenda_tally_shards.shard_id IS 'Índice do shard (0 a N-1)';
+
+COMMENT ON COLUMN agenda_tally_shards.total_votes IS 'Total de votos acumulados neste shard';
+
+COMMENT ON COLUMN agenda_tally_shards.yes_votes IS 'Votos SIM acumulados neste shard';
+
+COMMENT ON COLUMN agenda_tally_shards.no_votes IS 'Votos NÃO acumulados neste shard';
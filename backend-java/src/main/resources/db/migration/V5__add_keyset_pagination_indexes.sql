@@ -0,0 +1,16 @@
+-- Migração para criar os índices da paginação por cursor (keyset)
+-- V5__add_keyset_pagination_indexes.sql
+
+-- As listagens por cursor filtram pelo prefixo e ordenam por (created_at DESC,
+-- id DESC), partindo da chave do cursor. Com o índice composto, qualquer
+-- página custa o mesmo que a primeira: uma busca no índice e a leitura de
+-- size + 1 entradas, sem OFFSET nem COUNT.
+CREATE INDEX IF NOT EXISTS idx_agendas_created_at_id ON agendas (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_agendas_status_created_at_id ON agendas (status, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_votes_agenda_id_created_at_id ON votes (agenda_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_votes_user_id_created_at_id ON votes (user_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
@@ -0,0 +1,20 @@
+-- Migração para registrar o encerramento processado das sessões
+-- V6__add_session_closed_at.sql
+
+-- Momento em que a varredura de sessões expiradas processou a sessão; nulo
+-- enquanto a sessão não foi encerrada
+ALTER TABLE sessions ADD COLUMN closed_at TIMESTAMP;
+
+-- Sessões já vencidas cuja pauta não está mais em votação já foram
+-- processadas pela varredura antiga
+UPDATE sessions s
+SET closed_at = s.end_time
+FROM agendas a
+WHERE a.id = s.agenda_id
+  AND s.end_time <= CURRENT_TIMESTAMP
+  AND a.status <> 'IN_PROGRESS';
+
+-- Índice parcial só com as sessões pendentes: a varredura custa o mesmo
+-- independentemente do histórico e o índice não cresce com ele
+CREATE INDEX IF NOT EXISTS idx_sessions_unclosed_end_time ON sessions (end_time)
+WHERE closed_at IS NULL;
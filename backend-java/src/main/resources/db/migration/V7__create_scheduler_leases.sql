@@ -0,0 +1,13 @@
+-- Migração para criar a tabela de leases dos jobs periódicos
+-- V7__create_scheduler_leases.sql
+
+-- Uma linha por lease; o nó dono renova expires_at periodicamente e os demais
+-- só assumem depois que ela vence
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(64) PRIMARY KEY,
+    owner_id VARCHAR(128) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE scheduler_leases IS 'Leases de liderança dos jobs periódicos entre réplicas';
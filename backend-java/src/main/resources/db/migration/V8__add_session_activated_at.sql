@@ -0,0 +1,19 @@
+-- Migração para registrar a ativação das sessões agendadas
+-- V8__add_session_activated_at.sql
+
+-- Momento em que a pauta da sessão passou para IN_PROGRESS; nulo enquanto a
+-- sessão aguarda o horário de início
+ALTER TABLE sessions ADD COLUMN activated_at TIMESTAMP;
+
+-- Sessões já encerradas ou cuja pauta já saiu de DRAFT/OPEN não precisam mais
+-- de ativação
+UPDATE sessions s
+SET activated_at = s.start_time
+FROM agendas a
+WHERE a.id = s.agenda_id
+  AND (s.end_time <= CURRENT_TIMESTAMP OR a.status NOT IN ('DRAFT', 'OPEN'));
+
+-- Índice parcial com as sessões pendentes de ativação: a recuperação na
+-- inicialização e a varredura de garantia leem só essas entradas
+CREATE INDEX IF NOT EXISTS idx_sessions_pending_start_time ON sessions (start_time)
+WHERE activated_at IS NULL;
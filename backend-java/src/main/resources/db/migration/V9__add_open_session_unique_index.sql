@@ -0,0 +1,19 @@
+-- Migração para garantir uma única sessão aberta por pauta
+-- V9__add_open_session_unique_index.sql
+
+-- Sessões duplicadas abertas por corridas anteriores: a de maior término é a
+-- que define o encerramento da pauta, as demais são dadas como encerradas
+UPDATE sessions s
+SET closed_at = CURRENT_TIMESTAMP
+WHERE s.closed_at IS NULL
+  AND EXISTS (
+      SELECT 1
+      FROM sessions o
+      WHERE o.agenda_id = s.agenda_id
+        AND o.closed_at IS NULL
+        AND (o.end_time > s.end_time OR (o.end_time = s.end_time AND o.id > s.id)));
+
+-- Uma sessão fica aberta até ser encerrada (closed_at): aberturas concorrentes
+-- em réplicas diferentes esbarram neste índice em vez de criar duas sessões
+CREATE UNIQUE INDEX IF NOT EXISTS uk_sessions_agenda_open ON sessions (agenda_id)
+WHERE closed_at IS NULL;
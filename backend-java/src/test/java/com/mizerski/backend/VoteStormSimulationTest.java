@@ -0,0 +1,300 @@
+package com.mizerski.backend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.enums.AgendaCategory;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.services.JwtService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Simulação de uma assembleia grande contra o contexto completo em H2 (modo
+ * PostgreSQL).
+ *
+ * Semeia N usuários e M pautas, abre as sessões pelo endpoint de início de
+ * sessão e dispara votos autenticados concorrentes em POST /api/v1/votes,
+ * incluindo uma fração de votos repetidos. Uma pauta extra é votada antes da
+ * medição para aquecer a JVM. Ao final, registra no log vazão, percentis de
+ * latência e distribuição de códigos de resposta, e verifica que toda
+ * repetição foi recusada como USER_ALREADY_VOTED e que
+ * totalVotes == yesVotes + noVotes == count(votes) em todas as pautas.
+ *
+ * O tamanho da carga é configurável por propriedades de sistema:
+ *
+ * <pre>
+ * mvn test -Dtest=VoteStormSimulationTest -Dloadtest.users=5000 -Dloadtest.agendas=10 \
+ *     -Dloadtest.concurrency=64 -Dloadtest.duplicate-ratio=0.05
+ * </pre>
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@DisplayName("Simulação de carga - Tempestade de votos")
+class VoteStormSimulationTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 100);
+    private static final int AGENDAS = Integer.getInteger("loadtest.agendas", 4);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final double DUPLICATE_RATIO = Double
+            .parseDouble(System.getProperty("loadtest.duplicate-ratio", "0.05"));
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AgendaRepository agendaRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Cliente HTTP bloqueante simples: o cliente padrão (java.net.http) cria
+     * threads por resposta em máquinas com poucos núcleos e distorce a medição
+     */
+    @BeforeEach
+    void setUp() {
+        restTemplate.getRestTemplate().setRequestFactory(new SimpleClientHttpRequestFactory());
+    }
+
+    @Test
+    @DisplayName("Deve manter os contadores consistentes sob votação concorrente")
+    void deveManterContadoresConsistentesSobVotacaoConcorrente() throws Exception {
+        // Arrange
+        List<UserEntity> users = seedUsers();
+        List<String> tokens = users.stream().map(jwtService::generateToken).toList();
+        List<AgendaEntity> agendas = seedAgendas();
+
+        for (AgendaEntity agenda : agendas) {
+            ResponseEntity<String> response = exchange(HttpMethod.POST,
+                    "/api/v1/agendas/" + agenda.getId() + "/start", tokens.get(0), Map.of("durationInMinutes", 30));
+            assertEquals(200, response.getStatusCode().value(), "Falha ao abrir sessão: " + response.getBody());
+        }
+
+        // A última pauta só aquece a JVM (JIT, pools); fica fora das métricas
+        List<AgendaEntity> measured = agendas.subList(0, AGENDAS);
+        List<VoteCall> warmup = IntStream.range(0, USERS)
+                .mapToObj(user -> new VoteCall(user, AGENDAS, VoteType.YES))
+                .toList();
+        List<VoteCall> calls = buildCalls(users, measured);
+
+        // Act
+        fire(warmup, users, tokens, agendas);
+        Storm storm = fire(calls, users, tokens, agendas);
+
+        report(calls.size(), storm);
+
+        // Assert
+        long accepted = storm.outcomes().getOrDefault("201 CREATED", new AtomicLong()).get();
+        assertEquals((long) USERS * AGENDAS, accepted, "Cada usuário deve ter exatamente um voto aceito por pauta");
+        long rejected = storm.outcomes().getOrDefault("409 USER_ALREADY_VOTED", new AtomicLong()).get();
+        assertEquals(calls.size() - accepted, rejected, "Respostas inesperadas: " + storm.outcomes());
+
+        for (AgendaEntity agenda : agendas) {
+            JsonNode body = objectMapper.readTree(
+                    exchange(HttpMethod.GET, "/api/v1/agendas/" + agenda.getId(), tokens.get(0), null).getBody());
+            long stored = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM votes WHERE agenda_id = ?", Long.class, agenda.getId());
+
+            int totalVotes = body.get("totalVotes").asInt();
+            int yesVotes = body.get("yesVotes").asInt();
+            int noVotes = body.get("noVotes").asInt();
+
+            assertEquals(totalVotes, yesVotes + noVotes, "totalVotes != yesVotes + noVotes na pauta " + agenda.getId());
+            assertEquals(stored, totalVotes, "totalVotes != count(votes) na pauta " + agenda.getId());
+            assertEquals(USERS, stored, "Votos gravados divergentes na pauta " + agenda.getId());
+        }
+    }
+
+    /**
+     * Dispara as chamadas com concorrência fixa e mede a latência de cada uma
+     */
+    private Storm fire(List<VoteCall> calls, List<UserEntity> users, List<String> tokens,
+            List<AgendaEntity> agendas) throws Exception {
+
+        Map<String, AtomicLong> outcomes = new ConcurrentHashMap<>();
+        long[] latencies = new long[calls.size()];
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        List<Future<?>> pending = new ArrayList<>(calls.size());
+
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < calls.size(); i++) {
+                final int index = i;
+                final VoteCall call = calls.get(i);
+                pending.add(clients.submit(() -> {
+                    long sent = System.nanoTime();
+                    String outcome = vote(tokens.get(call.user()), users.get(call.user()).getId(),
+                            agendas.get(call.agenda()).getId(), call.voteType());
+                    latencies[index] = System.nanoTime() - sent;
+                    outcomes.computeIfAbsent(outcome, key -> new AtomicLong()).incrementAndGet();
+                }));
+            }
+            for (Future<?> future : pending) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            return new Storm(outcomes, latencies, System.nanoTime() - start);
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private List<UserEntity> seedUsers() {
+        List<UserEntity> users = IntStream.range(0, USERS)
+                .mapToObj(i -> UserEntity.builder()
+                        .name("Eleitor " + i)
+                        .email("eleitor" + i + "@votestorm.test")
+                        .password("senha-nao-utilizada")
+                        .build())
+                .toList();
+        return userRepository.saveAll(users);
+    }
+
+    private List<AgendaEntity> seedAgendas() {
+        List<AgendaEntity> agendas = IntStream.range(0, AGENDAS + 1)
+                .mapToObj(i -> AgendaEntity.builder()
+                        .title("Pauta de carga " + i)
+                        .description("Pauta criada pela simulação de carga")
+                        .status(AgendaStatus.OPEN)
+                        .category(AgendaCategory.OUTROS)
+                        .result(AgendaResult.UNVOTED)
+                        .totalVotes(0)
+                        .yesVotes(0)
+                        .noVotes(0)
+                        .isActive(true)
+                        .build())
+                .toList();
+        return agendaRepository.saveAll(agendas);
+    }
+
+    /**
+     * Um voto por usuário e pauta, mais uma fração de repetições, em ordem
+     * aleatória (semente fixa para execuções comparáveis)
+     */
+    private List<VoteCall> buildCalls(List<UserEntity> users, List<AgendaEntity> agendas) {
+        Random random = new Random(42);
+        List<VoteCall> calls = new ArrayList<>();
+
+        for (int user = 0; user < users.size(); user++) {
+            for (int agenda = 0; agenda < agendas.size(); agenda++) {
+                VoteType voteType = random.nextBoolean() ? VoteType.YES : VoteType.NO;
+                calls.add(new VoteCall(user, agenda, voteType));
+
+                if (random.nextDouble() < DUPLICATE_RATIO) {
+                    calls.add(new VoteCall(user, agenda, voteType == VoteType.YES ? VoteType.NO : VoteType.YES));
+                }
+            }
+        }
+
+        Collections.shuffle(calls, random);
+        return calls;
+    }
+
+    /**
+     * Envia um voto e classifica a resposta como "status CÓDIGO"
+     */
+    private String vote(String token, String userId, String agendaId, VoteType voteType) {
+        try {
+            ResponseEntity<String> response = exchange(HttpMethod.POST, "/api/v1/votes", token,
+                    Map.of("voteType", voteType, "agendaId", agendaId, "userId", userId));
+
+            if (response.getStatusCode().value() == 201) {
+                return "201 CREATED";
+            }
+
+            String errorCode = "-";
+            if (response.getBody() != null && !response.getBody().isBlank()) {
+                JsonNode error = objectMapper.readTree(response.getBody());
+                errorCode = error.hasNonNull("errorCode") ? error.get("errorCode").asText() : "-";
+            }
+            return response.getStatusCode().value() + " " + errorCode;
+
+        } catch (Exception e) {
+            return "CLIENT_ERROR " + e.getClass().getSimpleName();
+        }
+    }
+
+    private ResponseEntity<String> exchange(HttpMethod method, String path, String token, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(path, method, new HttpEntity<>(body, headers), String.class);
+    }
+
+    /**
+     * Registra vazão, percentis de latência e distribuição de respostas no log
+     * da simulação
+     */
+    private static void report(int requests, Storm storm) {
+        long[] latencies = storm.latencies();
+        Arrays.sort(latencies);
+
+        log.info("Tempestade de votos: {} usuários x {} pautas, {} requisições, concorrência {}",
+                USERS, AGENDAS, requests, CONCURRENCY);
+        log.info("Vazão: {} req/s em {}s",
+                String.format("%.0f", requests * 1_000_000_000.0 / storm.elapsedNanos()),
+                String.format("%.2f", storm.elapsedNanos() / 1_000_000_000.0));
+        log.info("Latência (ms): p50={} p95={} p99={} max={}",
+                String.format("%.2f", percentile(latencies, 0.50)),
+                String.format("%.2f", percentile(latencies, 0.95)),
+                String.format("%.2f", percentile(latencies, 0.99)),
+                String.format("%.2f", latencies[latencies.length - 1] / 1_000_000.0));
+        new TreeMap<>(storm.outcomes()).forEach((outcome, count) -> log.info("Respostas {}: {}", outcome, count.get()));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(sorted.length * percentile) - 1] / 1_000_000.0;
+    }
+
+    private record VoteCall(int user, int agenda, VoteType voteType) {
+    }
+
+    private record Storm(Map<String, AtomicLong> outcomes, long[] latencies, long elapsedNanos) {
+    }
+}
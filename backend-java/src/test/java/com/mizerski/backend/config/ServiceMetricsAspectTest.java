@@ -0,0 +1,119 @@
+package com.mizerski.backend.config;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.models.mappers.VoteMapper;
+import com.mizerski.backend.repositories.VoteRepository;
+import com.mizerski.backend.services.SessionWindowService;
+import com.mizerski.backend.services.VoteService;
+import com.mizerski.backend.services.VoteServiceImpl;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes unitários para o aspecto de métricas da camada de serviço
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ServiceMetricsAspect - Testes Unitários")
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private VoteMapper voteMapper;
+
+    @Mock
+    private SessionWindowService sessionWindowService;
+
+    @InjectMocks
+    private VoteServiceImpl voteServiceImpl;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VoteService voteService;
+    private CreateVoteRequest request;
+
+    /**
+     * Configuração inicial dos dados de teste
+     */
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(voteServiceImpl);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        voteService = factory.getProxy();
+
+        request = new CreateVoteRequest(VoteType.YES, "agenda-123", "user-123");
+    }
+
+    @Nested
+    @DisplayName("Testes de medição")
+    class MeasureTests {
+
+        @Test
+        @DisplayName("Deve registrar o código de erro do Result")
+        void deveRegistrarCodigoDeErroDoResult() {
+            // Arrange
+            when(sessionWindowService.isVotingClosed(anyString(), any())).thenReturn(true);
+
+            // Act
+            Result<?> result = voteService.createVote(request);
+
+            // Assert
+            assertEquals("AGENDA_NOT_OPEN", result.getErrorCode().get());
+
+            Timer timer = meterRegistry.find(ServiceMetricsAspect.CALLS_METRIC)
+                    .tags("service", "VoteService", "operation", "createVote",
+                            "outcome", "error", "error_code", "AGENDA_NOT_OPEN")
+                    .timer();
+            assertNotNull(timer);
+            assertEquals(1, timer.count());
+            assertEquals(1.0, meterRegistry.get(ServiceMetricsAspect.ERRORS_METRIC)
+                    .tag("error_code", "AGENDA_NOT_OPEN")
+                    .counter()
+                    .count());
+        }
+
+        @Test
+        @DisplayName("Deve registrar chamadas bem-sucedidas sem contar erro")
+        void deveRegistrarChamadasBemSucedidasSemContarErro() {
+            // Arrange
+            when(voteRepository.findByAgendaId("agenda-123")).thenReturn(List.of());
+
+            // Act
+            Result<?> result = voteService.getAllVotesByAgendaId("agenda-123");
+
+            // Assert
+            assertTrue(result.isSuccess());
+
+            Timer timer = meterRegistry.find(ServiceMetricsAspect.CALLS_METRIC)
+                    .tags("operation", "getAllVotesByAgendaId", "outcome", "success", "error_code", "NONE")
+                    .timer();
+            assertNotNull(timer);
+            assertEquals(1, timer.count());
+            assertNull(meterRegistry.find(ServiceMetricsAspect.ERRORS_METRIC).counter());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.mizerski.backend.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.dtos.response.PagedResponse;
+import com.mizerski.backend.models.domains.AgendaVersion;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.enums.AgendaCategory;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.TotalMode;
+import com.mizerski.backend.services.AgendaResponseCacheService;
+import com.mizerski.backend.services.AgendaService;
+import com.mizerski.backend.services.ErrorMappingService;
+import com.mizerski.backend.services.TallyStreamService;
+
+/**
+ * Testes do AgendaController com MockMvc standalone e serviços simulados
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AgendaController - Testes Unitários")
+class AgendaControllerTest {
+
+    private static final String AGENDA_ID = "5f0c6d1e-8a4b-4c2d-9e7f-1a2b3c4d5e6f";
+
+    @Mock
+    private ErrorMappingService errorMappingService;
+
+    @Mock
+    private AgendaService agendaService;
+
+    @Mock
+    private TallyStreamService tallyStreamService;
+
+    @Mock
+    private AgendaResponseCacheService agendaResponseCacheService;
+
+    private MockMvc mockMvc;
+    private AgendaResponse agenda;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new AgendaController(errorMappingService, agendaService,
+                tallyStreamService, agendaResponseCacheService)).build();
+
+        agenda = comVotos(6, 4);
+    }
+
+    private static AgendaResponse comVotos(int yesVotes, int noVotes) {
+        return AgendaResponse.builder()
+                .id(AGENDA_ID)
+                .title("Pauta em votação")
+                .status(AgendaStatus.IN_PROGRESS)
+                .category(AgendaCategory.OUTROS)
+                .result(AgendaResult.UNVOTED)
+                .totalVotes(yesVotes + noVotes)
+                .yesVotes(yesVotes)
+                .noVotes(noVotes)
+                .isActive(true)
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+    }
+
+    private static AgendaVersion versao(int yesVotes, int noVotes) {
+        return new AgendaVersion(AGENDA_ID, LocalDateTime.of(2025, 1, 1, 10, 0), AgendaStatus.IN_PROGRESS,
+                AgendaResult.UNVOTED, true, yesVotes + noVotes, yesVotes, noVotes, 0, 0);
+    }
+
+    @Nested
+    @DisplayName("Testes de GET condicional")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("Deve responder 304 sem corpo quando o cliente já tem a versão da pauta")
+        void deveResponderNaoModificadoQuandoClienteTemVersaoAtual() throws Exception {
+            // Arrange
+            when(agendaService.getAgendaById(AGENDA_ID)).thenReturn(Result.success(agenda));
+            String eTag = mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotNull(eTag);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 pela versão da pauta sem carregá-la")
+        void deveResponderNaoModificadoSemCarregarPauta() throws Exception {
+            // Arrange
+            when(agendaService.getAgendaById(AGENDA_ID)).thenReturn(Result.success(agenda));
+            when(agendaService.getAgendaVersion(AGENDA_ID)).thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(versao(6, 4)));
+            String eTag = mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Act
+            mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+            // Assert
+            verify(agendaService, times(1)).getAgendaById(AGENDA_ID);
+        }
+
+        @Test
+        @DisplayName("Deve responder com o ETag da pauta carregada quando ela difere da versão conferida")
+        void deveResponderETagDaPautaCarregada() throws Exception {
+            // Arrange
+            when(agendaService.getAgendaVersion(AGENDA_ID)).thenReturn(Optional.of(versao(7, 4)));
+            when(agendaService.getAgendaById(AGENDA_ID)).thenReturn(Result.success(agenda));
+            String versionETag = "\"" + DigestUtils.md5DigestAsHex(
+                    versao(7, 4).getStamp().getBytes(StandardCharsets.UTF_8)) + "\"";
+
+            // Act
+            String eTag = mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Assert
+            assertNotEquals(versionETag, eTag);
+            mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID).header(HttpHeaders.IF_NONE_MATCH, versionETag))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Deve responder 200 com novo ETag quando a contagem muda")
+        void deveResponderNovaVersaoQuandoContagemMuda() throws Exception {
+            // Arrange
+            when(agendaService.getAgendaById(AGENDA_ID))
+                    .thenReturn(Result.success(agenda))
+                    .thenReturn(Result.success(comVotos(7, 4)));
+            String eTag = mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID)
+                    .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            // Assert
+            assertNotEquals(eTag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("Deve informar Last-Modified de pauta encerrada no fuso da aplicação")
+        void deveInformarLastModifiedNoFusoDaAplicacao() throws Exception {
+            // Arrange
+            AgendaResponse encerrada = AgendaResponse.builder()
+                    .id(AGENDA_ID)
+                    .title("Pauta encerrada")
+                    .status(AgendaStatus.FINISHED)
+                    .result(AgendaResult.APPROVED)
+                    .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                    .build();
+            when(agendaService.getAgendaById(AGENDA_ID)).thenReturn(Result.success(encerrada));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Wed, 01 Jan 2025 13:00:00 GMT"));
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 na listagem quando os resumos não mudaram")
+        void deveResponderNaoModificadoNaListagem() throws Exception {
+            // Arrange
+            List<AgendaSummaryResponse> summaries = List.of(AgendaSummaryResponse.builder()
+                    .id(AGENDA_ID)
+                    .title(agenda.getTitle())
+                    .status(AgendaStatus.IN_PROGRESS)
+                    .totalVotes(10)
+                    .yesVotes(6)
+                    .noVotes(4)
+                    .build());
+            when(agendaService.getAgendaListVersion(AgendaStatus.OPEN)).thenReturn(Optional.of("1|2025-01-01|10"));
+            when(agendaService.getAgendaSummaries(eq(AgendaStatus.OPEN), anyBoolean(), eq(TotalMode.EXACT), any()))
+                    .thenReturn(PagedResponse.ofSlice(summaries,
+                            new SliceImpl<>(summaries, PageRequest.of(0, 20), false), 1));
+            String eTag = mockMvc.perform(get("/api/v1/agendas/open"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/agendas/open").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+            verify(agendaService, times(1)).getAgendaSummaries(eq(AgendaStatus.OPEN), anyBoolean(),
+                    eq(TotalMode.EXACT), any());
+        }
+
+        @Test
+        @DisplayName("Deve diferenciar o ETag da listagem pelos parâmetros da página")
+        void deveDiferenciarETagDaListagemPelaPagina() throws Exception {
+            // Arrange
+            when(agendaService.getAgendaListVersion(AgendaStatus.ALL)).thenReturn(Optional.of("1|2025-01-01|10"));
+            when(agendaService.getAgendaSummaries(eq(AgendaStatus.ALL), anyBoolean(), eq(TotalMode.EXACT), any()))
+                    .thenReturn(new PagedResponse<>(List.of(), 0, 20, 0));
+            String eTag = mockMvc.perform(get("/api/v1/agendas"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/agendas").param("page", "1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do stream de contagem")
+    class TallyStreamTests {
+
+        @Test
+        @DisplayName("Deve inscrever o cliente com a pauta atual como snapshot")
+        void deveInscreverClienteComPautaAtual() throws Exception {
+            // Arrange
+            when(agendaService.getAgendaById(AGENDA_ID)).thenReturn(Result.success(agenda));
+            when(tallyStreamService.subscribe(agenda)).thenReturn(new SseEmitter());
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/v1/agendas/" + AGENDA_ID + "/tally/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Assert
+            verify(tallyStreamService).subscribe(agenda);
+            assertEquals(200, result.getResponse().getStatus());
+        }
+    }
+}
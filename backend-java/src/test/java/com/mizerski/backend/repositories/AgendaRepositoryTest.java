@@ -0,0 +1,140 @@
+package com.mizerski.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.models.domains.PageCursor;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.SessionEntity;
+import com.mizerski.backend.models.enums.AgendaCategory;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+/**
+ * Testes dos resumos de pautas (projeção) contra o H2, com o schema gerado
+ * pelo Hibernate (perfil loadtest, sem Flyway)
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@DisplayName("AgendaRepository - Testes com H2")
+class AgendaRepositoryTest {
+
+    @Autowired
+    private AgendaRepository agendaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private AgendaEntity aberta;
+    private LocalDateTime ultimoInicio;
+    private LocalDateTime ultimoTermino;
+
+    /**
+     * Grava uma pauta aberta com duas sessões e uma pauta encerrada
+     */
+    @BeforeEach
+    void setUp() {
+        aberta = entityManager.persist(pauta("Pauta aberta", AgendaStatus.OPEN, 7, 3));
+        entityManager.persist(pauta("Pauta encerrada", AgendaStatus.FINISHED, 1, 1));
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        ultimoInicio = now.minusMinutes(5);
+        ultimoTermino = now.plusMinutes(25);
+        entityManager.persist(sessao(aberta, now.minusHours(2), now.minusHours(1)));
+        entityManager.persist(sessao(aberta, ultimoInicio, ultimoTermino));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static AgendaEntity pauta(String title, AgendaStatus status, int yesVotes, int noVotes) {
+        return AgendaEntity.builder()
+                .title(title)
+                .description("Descrição da " + title.toLowerCase())
+                .status(status)
+                .category(AgendaCategory.OUTROS)
+                .result(AgendaResult.UNVOTED)
+                .totalVotes(yesVotes + noVotes)
+                .yesVotes(yesVotes)
+                .noVotes(noVotes)
+                .isActive(true)
+                .build();
+    }
+
+    private static SessionEntity sessao(AgendaEntity agenda, LocalDateTime startTime, LocalDateTime endTime) {
+        SessionEntity session = new SessionEntity();
+        session.setAgenda(agenda);
+        session.setStartTime(startTime);
+        session.setEndTime(endTime);
+        return session;
+    }
+
+    @Nested
+    @DisplayName("Testes da projeção de resumo")
+    class SummaryTests {
+
+        @Test
+        @DisplayName("Deve listar resumo com contadores e janela da última sessão, sem descrição")
+        void deveListarResumoComJanelaDaUltimaSessao() {
+            // Act
+            Slice<AgendaSummaryResponse> slice = agendaRepository.findSummariesByStatusIn(
+                    List.of(AgendaStatus.OPEN), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            // Assert
+            assertEquals(1, slice.getNumberOfElements());
+            assertFalse(slice.hasNext());
+
+            AgendaSummaryResponse summary = slice.getContent().get(0);
+            assertEquals(aberta.getId(), summary.getId());
+            assertEquals(10, summary.getTotalVotes());
+            assertEquals(7, summary.getYesVotes());
+            assertEquals(3, summary.getNoVotes());
+            assertEquals(ultimoInicio, summary.getSessionStartTime());
+            assertEquals(ultimoTermino, summary.getSessionEndTime());
+            assertNull(summary.getDescription());
+        }
+
+        @Test
+        @DisplayName("Deve incluir a descrição apenas quando solicitada")
+        void deveIncluirDescricaoQuandoSolicitada() {
+            // Act
+            Slice<AgendaSummaryResponse> slice = agendaRepository.findSummariesWithDescriptionByStatusIn(
+                    List.of(AgendaStatus.OPEN, AgendaStatus.FINISHED), PageRequest.of(0, 10));
+
+            // Assert
+            assertEquals(2, slice.getNumberOfElements());
+            slice.forEach(summary -> assertEquals("Descrição da " + summary.getTitle().toLowerCase(),
+                    summary.getDescription()));
+        }
+
+        @Test
+        @DisplayName("Deve listar resumos por cursor a partir do início")
+        void deveListarResumosPorCursor() {
+            // Act
+            List<AgendaSummaryResponse> rows = agendaRepository.findSummariesBefore(
+                    List.of(AgendaStatus.OPEN, AgendaStatus.FINISHED), PageCursor.START.getCreatedAt(),
+                    PageCursor.START.getId(), Limit.of(1));
+
+            // Assert
+            assertEquals(1, rows.size());
+            assertNull(rows.get(0).getDescription());
+        }
+    }
+}
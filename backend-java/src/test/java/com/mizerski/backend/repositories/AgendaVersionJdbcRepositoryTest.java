@@ -0,0 +1,200 @@
+package com.mizerski.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.mizerski.backend.models.domains.AgendaVersion;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+/**
+ * Testes das versões de pautas contra o H2 em modo PostgreSQL, com as colunas
+ * usadas das tabelas agendas, agenda_tally_shards, sessions e votes
+ */
+@DisplayName("AgendaVersionJdbcRepository - Testes com H2")
+class AgendaVersionJdbcRepositoryTest {
+
+    private static final Set<AgendaStatus> OPEN = EnumSet.of(AgendaStatus.OPEN, AgendaStatus.IN_PROGRESS);
+
+    private JdbcTemplate jdbcTemplate;
+    private AgendaVersionJdbcRepository agendaVersionJdbcRepository;
+
+    private LocalDateTime now;
+
+    /**
+     * Cria um banco H2 isolado com o schema mínimo das versões
+     */
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:agenda-version-" + UUID.randomUUID()
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE agendas (
+                    id VARCHAR(36) PRIMARY KEY,
+                    status VARCHAR(50) NOT NULL,
+                    result VARCHAR(50) NOT NULL,
+                    total_votes INTEGER NOT NULL DEFAULT 0,
+                    yes_votes INTEGER NOT NULL DEFAULT 0,
+                    no_votes INTEGER NOT NULL DEFAULT 0,
+                    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE agenda_tally_shards (
+                    agenda_id VARCHAR(36) NOT NULL,
+                    shard_id INTEGER NOT NULL,
+                    total_votes INTEGER NOT NULL DEFAULT 0,
+                    yes_votes INTEGER NOT NULL DEFAULT 0,
+                    no_votes INTEGER NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP NOT NULL,
+                    PRIMARY KEY (agenda_id, shard_id)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE sessions (
+                    id VARCHAR(36) PRIMARY KEY,
+                    agenda_id VARCHAR(36) NOT NULL,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE votes (
+                    id VARCHAR(36) PRIMARY KEY,
+                    agenda_id VARCHAR(36) NOT NULL
+                )
+                """);
+
+        agendaVersionJdbcRepository = new AgendaVersionJdbcRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    private void pauta(String id, AgendaStatus status, int yesVotes, int noVotes) {
+        jdbcTemplate.update("""
+                INSERT INTO agendas (id, status, result, total_votes, yes_votes, no_votes, updated_at)
+                VALUES (?, ?, 'UNVOTED', ?, ?, ?, ?)
+                """, id, status.name(), yesVotes + noVotes, yesVotes, noVotes, now);
+    }
+
+    private void shard(String agendaId, int shardId, int yesVotes, int noVotes, LocalDateTime updatedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO agenda_tally_shards (agenda_id, shard_id, total_votes, yes_votes, no_votes, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, agendaId, shardId, yesVotes + noVotes, yesVotes, noVotes, updatedAt);
+    }
+
+    private void voto(String agendaId) {
+        jdbcTemplate.update("INSERT INTO votes (id, agenda_id) VALUES (?, ?)", UUID.randomUUID().toString(),
+                agendaId);
+    }
+
+    private void sessao(String agendaId) {
+        jdbcTemplate.update("INSERT INTO sessions (id, agenda_id, updated_at) VALUES (?, ?, ?)",
+                UUID.randomUUID().toString(), agendaId, now);
+    }
+
+    @Nested
+    @DisplayName("Testes do método findByAgendaId")
+    class FindByAgendaIdTests {
+
+        @Test
+        @DisplayName("Deve somar os shards aos contadores base e contar votos e sessões")
+        void deveSomarShardsEContarVotosESessoes() {
+            // Arrange
+            pauta("agenda-123", AgendaStatus.IN_PROGRESS, 2, 1);
+            shard("agenda-123", 0, 1, 0, now);
+            shard("agenda-123", 1, 0, 2, now);
+            shard("agenda-456", 0, 5, 5, now);
+            voto("agenda-123");
+            voto("agenda-123");
+            sessao("agenda-123");
+
+            // Act
+            Optional<AgendaVersion> version = agendaVersionJdbcRepository.findByAgendaId("agenda-123");
+
+            // Assert
+            assertTrue(version.isPresent());
+            assertEquals(now, version.get().getUpdatedAt());
+            assertEquals(AgendaStatus.IN_PROGRESS, version.get().getStatus());
+            assertEquals(AgendaResult.UNVOTED, version.get().getResult());
+            assertEquals(6, version.get().getTotalVotes());
+            assertEquals(3, version.get().getYesVotes());
+            assertEquals(3, version.get().getNoVotes());
+            assertEquals(2, version.get().getVotes());
+            assertEquals(1, version.get().getSessions());
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio para pauta inexistente")
+        void deveRetornarVazioParaPautaInexistente() {
+            // Act & Assert
+            assertFalse(agendaVersionJdbcRepository.findByAgendaId("agenda-999").isPresent());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método findListVersion")
+    class FindListVersionTests {
+
+        @Test
+        @DisplayName("Deve mudar a versão quando uma pauta do filtro recebe votos")
+        void deveMudarVersaoQuandoPautaDoFiltroRecebeVotos() {
+            // Arrange
+            pauta("agenda-123", AgendaStatus.IN_PROGRESS, 0, 0);
+            String before = agendaVersionJdbcRepository.findListVersion(OPEN);
+
+            // Act
+            shard("agenda-123", 0, 1, 0, now);
+
+            // Assert
+            assertNotEquals(before, agendaVersionJdbcRepository.findListVersion(OPEN));
+        }
+
+        @Test
+        @DisplayName("Deve mudar a versão quando uma sessão é criada")
+        void deveMudarVersaoQuandoSessaoECriada() {
+            // Arrange
+            pauta("agenda-123", AgendaStatus.OPEN, 0, 0);
+            String before = agendaVersionJdbcRepository.findListVersion(OPEN);
+
+            // Act
+            sessao("agenda-123");
+
+            // Assert
+            assertNotEquals(before, agendaVersionJdbcRepository.findListVersion(OPEN));
+        }
+
+        @Test
+        @DisplayName("Não deve mudar a versão por pautas fora do filtro")
+        void naoDeveMudarVersaoPorPautasForaDoFiltro() {
+            // Arrange
+            pauta("agenda-123", AgendaStatus.IN_PROGRESS, 1, 0);
+            String before = agendaVersionJdbcRepository.findListVersion(OPEN);
+
+            // Act
+            pauta("agenda-456", AgendaStatus.FINISHED, 3, 2);
+            shard("agenda-456", 0, 1, 0, now);
+
+            // Assert
+            assertEquals(before, agendaVersionJdbcRepository.findListVersion(OPEN));
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.mizerski.backend.repositories;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.mizerski.backend.models.domains.ExpiredSessionChunk;
+import com.mizerski.backend.models.domains.SessionActivationChunk;
+
+/**
+ * Testes do encerramento e da ativação em lote das sessões contra o H2 em
+ * modo PostgreSQL, com as colunas usadas das tabelas agendas, sessions e
+ * agenda_tally_shards
+ */
+@DisplayName("SessionJdbcRepository - Testes com H2")
+class SessionJdbcRepositoryTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SessionJdbcRepository sessionJdbcRepository;
+
+    private LocalDateTime now;
+
+    /**
+     * Cria um banco H2 isolado com o schema mínimo das sessões
+     */
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sessions-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE agendas (
+                    id VARCHAR(36) PRIMARY KEY,
+                    status VARCHAR(50) NOT NULL,
+                    result VARCHAR(50) NOT NULL DEFAULT 'UNVOTED',
+                    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+                    total_votes INTEGER NOT NULL DEFAULT 0,
+                    yes_votes INTEGER NOT NULL DEFAULT 0,
+                    no_votes INTEGER NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE sessions (
+                    id VARCHAR(36) PRIMARY KEY,
+                    agenda_id VARCHAR(36) NOT NULL REFERENCES agendas (id),
+                    start_time TIMESTAMP NOT NULL,
+                    end_time TIMESTAMP NOT NULL,
+                    closed_at TIMESTAMP,
+                    activated_at TIMESTAMP,
+                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE agenda_tally_shards (
+                    agenda_id VARCHAR(36) NOT NULL REFERENCES agendas (id),
+                    shard_id INTEGER NOT NULL,
+                    total_votes INTEGER NOT NULL DEFAULT 0,
+                    yes_votes INTEGER NOT NULL DEFAULT 0,
+                    no_votes INTEGER NOT NULL DEFAULT 0,
+                    PRIMARY KEY (agenda_id, shard_id)
+                )
+                """);
+
+        sessionJdbcRepository = new SessionJdbcRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+        now = LocalDateTime.now();
+    }
+
+    private void pauta(String id, String status, int yesVotes, int noVotes) {
+        jdbcTemplate.update(
+                "INSERT INTO agendas (id, status, total_votes, yes_votes, no_votes) VALUES (?, ?, ?, ?, ?)",
+                id, status, yesVotes + noVotes, yesVotes, noVotes);
+    }
+
+    private void sessao(String id, String agendaId, LocalDateTime startTime, LocalDateTime endTime) {
+        jdbcTemplate.update("INSERT INTO sessions (id, agenda_id, start_time, end_time) VALUES (?, ?, ?, ?)",
+                id, agendaId, startTime, endTime);
+    }
+
+    private String status(String agendaId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM agendas WHERE id = ?", String.class, agendaId);
+    }
+
+    private String resultado(String agendaId) {
+        return jdbcTemplate.queryForObject("SELECT result FROM agendas WHERE id = ?", String.class, agendaId);
+    }
+
+    private LocalDateTime encerradaEm(String sessionId) {
+        return jdbcTemplate.queryForObject("SELECT closed_at FROM sessions WHERE id = ?", LocalDateTime.class,
+                sessionId);
+    }
+
+    private LocalDateTime ativadaEm(String sessionId) {
+        return jdbcTemplate.queryForObject("SELECT activated_at FROM sessions WHERE id = ?", LocalDateTime.class,
+                sessionId);
+    }
+
+    @Nested
+    @DisplayName("Testes do encerramento de sessões expiradas")
+    class FinalizeExpiredTests {
+
+        @Test
+        @DisplayName("Deve encerrar as sessões vencidas e finalizar as pautas com base mais shards")
+        void deveEncerrarSessoesEFinalizarPautas() {
+            // Arrange
+            pauta("agenda-rejeitada", "IN_PROGRESS", 1, 0);
+            jdbcTemplate.update("INSERT INTO agenda_tally_shards (agenda_id, shard_id, total_votes, no_votes) "
+                    + "VALUES ('agenda-rejeitada', 0, 2, 2)");
+            pauta("agenda-sem-votos", "IN_PROGRESS", 0, 0);
+            pauta("agenda-aberta", "IN_PROGRESS", 0, 0);
+            sessao("s-rejeitada", "agenda-rejeitada", now.minusMinutes(10), now.minusMinutes(1));
+            sessao("s-sem-votos", "agenda-sem-votos", now.minusMinutes(10), now.minusSeconds(1));
+            sessao("s-aberta", "agenda-aberta", now.minusMinutes(10), now.plusMinutes(1));
+
+            // Act
+            ExpiredSessionChunk chunk = sessionJdbcRepository.finalizeExpired(now, 10);
+
+            // Assert
+            assertEquals(2, chunk.getClosedSessions());
+            assertEquals(List.of("agenda-rejeitada", "agenda-sem-votos"), chunk.getClosedAgendaIds());
+            assertEquals(List.of("agenda-rejeitada", "agenda-sem-votos"), chunk.getFinishedAgendaIds());
+            assertEquals("FINISHED", status("agenda-rejeitada"));
+            assertEquals("REJECTED", resultado("agenda-rejeitada"));
+            assertEquals("UNVOTED", resultado("agenda-sem-votos"));
+            assertEquals("IN_PROGRESS", status("agenda-aberta"));
+            assertNull(encerradaEm("s-aberta"));
+        }
+
+        @Test
+        @DisplayName("Deve respeitar o limite do lote pela ordem de término")
+        void deveRespeitarLimiteDoLote() {
+            // Arrange
+            pauta("agenda-1", "IN_PROGRESS", 0, 0);
+            pauta("agenda-2", "IN_PROGRESS", 0, 0);
+            sessao("s-1", "agenda-1", now.minusMinutes(10), now.minusMinutes(2));
+            sessao("s-2", "agenda-2", now.minusMinutes(10), now.minusMinutes(1));
+
+            // Act
+            ExpiredSessionChunk chunk = sessionJdbcRepository.finalizeExpired(now, 1);
+
+            // Assert
+            assertEquals(1, chunk.getClosedSessions());
+            assertEquals(List.of("agenda-1"), chunk.getFinishedAgendaIds());
+            assertNull(encerradaEm("s-2"));
+        }
+
+        @Test
+        @DisplayName("Deve encerrar apenas as sessões das pautas informadas")
+        void deveEncerrarApenasPautasInformadas() {
+            // Arrange
+            pauta("agenda-1", "IN_PROGRESS", 0, 0);
+            pauta("agenda-2", "IN_PROGRESS", 0, 0);
+            sessao("s-1", "agenda-1", now.minusMinutes(10), now.minusMinutes(1));
+            sessao("s-2", "agenda-2", now.minusMinutes(10), now.minusMinutes(1));
+
+            // Act
+            ExpiredSessionChunk chunk = sessionJdbcRepository.finalizeExpired(now, List.of("agenda-1"));
+
+            // Assert
+            assertEquals(List.of("agenda-1"), chunk.getFinishedAgendaIds());
+            assertNotNull(encerradaEm("s-1"));
+            assertNull(encerradaEm("s-2"));
+            assertEquals("IN_PROGRESS", status("agenda-2"));
+        }
+
+        @Test
+        @DisplayName("Deve manter a pauta com outra sessão ainda aberta")
+        void deveManterPautaComOutraSessaoAberta() {
+            // Arrange
+            pauta("agenda-123", "IN_PROGRESS", 0, 0);
+            sessao("s-antiga", "agenda-123", now.minusMinutes(10), now.minusMinutes(1));
+            sessao("s-nova", "agenda-123", now.minusMinutes(1), now.plusMinutes(10));
+
+            // Act
+            ExpiredSessionChunk chunk = sessionJdbcRepository.finalizeExpired(now, 10);
+
+            // Assert
+            assertEquals(1, chunk.getClosedSessions());
+            assertEquals(List.of(), chunk.getFinishedAgendaIds());
+            assertEquals("IN_PROGRESS", status("agenda-123"));
+        }
+
+        @Test
+        @DisplayName("Deve finalizar a pauta cuja outra sessão foi encerrada antes do prazo")
+        void deveFinalizarPautaComOutraSessaoEncerradaAntesDoPrazo() {
+            // Arrange
+            pauta("agenda-123", "IN_PROGRESS", 0, 0);
+            sessao("s-antiga", "agenda-123", now.minusMinutes(10), now.minusMinutes(1));
+            sessao("s-encerrada", "agenda-123", now.minusMinutes(1), now.plusMinutes(10));
+            jdbcTemplate.update("UPDATE sessions SET closed_at = ? WHERE id = 's-encerrada'", now.minusSeconds(30));
+
+            // Act
+            ExpiredSessionChunk chunk = sessionJdbcRepository.finalizeExpired(now, 10);
+
+            // Assert
+            assertEquals(1, chunk.getClosedSessions());
+            assertEquals(List.of("agenda-123"), chunk.getFinishedAgendaIds());
+            assertEquals("FINISHED", status("agenda-123"));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar sessões travadas por outra transação")
+        void deveIgnorarSessoesTravadas() throws Exception {
+            // Arrange
+            pauta("agenda-1", "IN_PROGRESS", 0, 0);
+            pauta("agenda-2", "IN_PROGRESS", 0, 0);
+            sessao("s-1", "agenda-1", now.minusMinutes(10), now.minusMinutes(2));
+            sessao("s-2", "agenda-2", now.minusMinutes(10), now.minusMinutes(1));
+
+            try (Connection other = dataSource.getConnection()) {
+                other.setAutoCommit(false);
+                try (PreparedStatement lock = other.prepareStatement(
+                        "SELECT id FROM sessions WHERE id = 's-1' FOR UPDATE")) {
+                    lock.executeQuery().close();
+                }
+
+                // Act
+                ExpiredSessionChunk chunk = sessionJdbcRepository.finalizeExpired(now, 10);
+
+                // Assert
+                assertEquals(List.of("agenda-2"), chunk.getClosedAgendaIds());
+                other.rollback();
+            }
+            assertNull(encerradaEm("s-1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da ativação de sessões agendadas")
+    class ActivateDueTests {
+
+        @Test
+        @DisplayName("Deve ativar as sessões vencidas e iniciar apenas as pautas com sessão em andamento")
+        void deveAtivarSessoesEIniciarPautas() {
+            // Arrange
+            pauta("agenda-iniciada", "OPEN", 0, 0);
+            pauta("agenda-perdida", "DRAFT", 0, 0);
+            pauta("agenda-futura", "DRAFT", 0, 0);
+            sessao("s-iniciada", "agenda-iniciada", now.minusSeconds(5), now.plusMinutes(10));
+            sessao("s-perdida", "agenda-perdida", now.minusMinutes(10), now.minusMinutes(1));
+            sessao("s-futura", "agenda-futura", now.plusMinutes(1), now.plusMinutes(10));
+
+            // Act
+            SessionActivationChunk chunk = sessionJdbcRepository.activateDue(now, 10);
+
+            // Assert
+            assertEquals(2, chunk.getActivatedSessions());
+            assertEquals(List.of("agenda-iniciada"), chunk.getStartedAgendaIds());
+            assertEquals("IN_PROGRESS", status("agenda-iniciada"));
+            assertEquals("DRAFT", status("agenda-perdida"));
+            assertNotNull(ativadaEm("s-perdida"));
+            assertNull(ativadaEm("s-futura"));
+        }
+
+        @Test
+        @DisplayName("Deve ativar apenas as sessões informadas")
+        void deveAtivarApenasSessoesInformadas() {
+            // Arrange
+            pauta("agenda-1", "OPEN", 0, 0);
+            pauta("agenda-2", "OPEN", 0, 0);
+            sessao("s-1", "agenda-1", now.minusSeconds(5), now.plusMinutes(10));
+            sessao("s-2", "agenda-2", now.minusSeconds(5), now.plusMinutes(10));
+
+            // Act
+            SessionActivationChunk chunk = sessionJdbcRepository.activateDue(now, List.of("s-2"));
+
+            // Assert
+            assertEquals(List.of("agenda-2"), chunk.getStartedAgendaIds());
+            assertNull(ativadaEm("s-1"));
+            assertEquals("OPEN", status("agenda-1"));
+        }
+
+        @Test
+        @DisplayName("Não deve reativar sessões já ativadas")
+        void naoDeveReativarSessoes() {
+            // Arrange
+            pauta("agenda-123", "OPEN", 0, 0);
+            sessao("s-123", "agenda-123", now.minusSeconds(5), now.plusMinutes(10));
+            sessionJdbcRepository.activateDue(now, 10);
+
+            // Act
+            SessionActivationChunk chunk = sessionJdbcRepository.activateDue(now.plusSeconds(1), 10);
+
+            // Assert
+            assertEquals(0, chunk.getActivatedSessions());
+        }
+    }
+}
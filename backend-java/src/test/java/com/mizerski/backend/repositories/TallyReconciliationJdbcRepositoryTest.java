@@ -0,0 +1,235 @@
+package com.mizerski.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.mizerski.backend.models.domains.TallyCheck;
+import com.mizerski.backend.models.domains.VoteTally;
+
+/**
+ * Testes das consultas da reconciliação contra o H2 em modo PostgreSQL, com
+ * as colunas usadas das tabelas agendas, votes, agenda_tally_shards e
+ * job_watermarks
+ */
+@DisplayName("TallyReconciliationJdbcRepository - Testes com H2")
+class TallyReconciliationJdbcRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AgendaTallyShardRepository agendaTallyShardRepository;
+    private TallyReconciliationJdbcRepository tallyReconciliationJdbcRepository;
+
+    private LocalDateTime now;
+
+    /**
+     * Cria um banco H2 isolado com o schema mínimo da reconciliação
+     */
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:reconciliation-" + UUID.randomUUID()
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE agendas (
+                    id VARCHAR(36) PRIMARY KEY,
+                    total_votes INTEGER NOT NULL DEFAULT 0,
+                    yes_votes INTEGER NOT NULL DEFAULT 0,
+                    no_votes INTEGER NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE votes (
+                    id VARCHAR(36) PRIMARY KEY,
+                    agenda_id VARCHAR(36) NOT NULL REFERENCES agendas (id),
+                    vote_type VARCHAR(10) NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE agenda_tally_shards (
+                    agenda_id VARCHAR(36) NOT NULL REFERENCES agendas (id),
+                    shard_id INTEGER NOT NULL,
+                    total_votes INTEGER NOT NULL DEFAULT 0,
+                    yes_votes INTEGER NOT NULL DEFAULT 0,
+                    no_votes INTEGER NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    PRIMARY KEY (agenda_id, shard_id)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE job_watermarks (
+                    name VARCHAR(64) PRIMARY KEY,
+                    watermark TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        agendaTallyShardRepository = new AgendaTallyShardRepository(jdbcTemplate, namedParameterJdbcTemplate);
+        tallyReconciliationJdbcRepository = new TallyReconciliationJdbcRepository(namedParameterJdbcTemplate);
+
+        now = LocalDateTime.now();
+    }
+
+    private void pauta(String agendaId, int yesVotes, int noVotes, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO agendas (id, total_votes, yes_votes, no_votes, updated_at) VALUES (?, ?, ?, ?, ?)",
+                agendaId, yesVotes + noVotes, yesVotes, noVotes, updatedAt);
+    }
+
+    private void voto(String agendaId, String voteType, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO votes (id, agenda_id, vote_type, created_at) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID().toString(), agendaId, voteType, createdAt);
+    }
+
+    private static void assertTally(int total, int yes, int no, VoteTally tally) {
+        assertEquals(total, tally.getTotalVotes());
+        assertEquals(yes, tally.getYesVotes());
+        assertEquals(no, tally.getNoVotes());
+    }
+
+    @Nested
+    @DisplayName("Testes de comparação dos contadores")
+    class CheckTalliesTests {
+
+        @Test
+        @DisplayName("Deve comparar base mais shards com a contagem dos votos")
+        void deveCompararBaseMaisShardsComContagem() {
+            // Arrange
+            LocalDateTime antes = now.minusHours(1);
+            pauta("agenda-ok", 1, 0, antes);
+            pauta("agenda-divergente", 0, 0, antes);
+            pauta("agenda-sem-votos", 0, 0, antes);
+            voto("agenda-ok", "YES", antes);
+            voto("agenda-ok", "NO", antes);
+            agendaTallyShardRepository.increment("agenda-ok", 3, new VoteTally(1, 0, 1));
+            voto("agenda-divergente", "YES", antes);
+            agendaTallyShardRepository.increment("agenda-divergente", 0, new VoteTally(2, 2, 0));
+
+            // Act
+            Map<String, TallyCheck> checks = tallyReconciliationJdbcRepository
+                    .checkTallies(List.of("agenda-ok", "agenda-divergente", "agenda-sem-votos"))
+                    .stream()
+                    .collect(Collectors.toMap(TallyCheck::getAgendaId, Function.identity()));
+
+            // Assert
+            assertEquals(3, checks.size());
+            assertFalse(checks.get("agenda-ok").hasDrift());
+            assertTally(2, 1, 1, checks.get("agenda-ok").getStored());
+            assertTally(2, 2, 0, checks.get("agenda-divergente").getStored());
+            assertTally(1, 1, 0, checks.get("agenda-divergente").getCounted());
+            assertTally(-1, -1, 0, checks.get("agenda-divergente").getDrift());
+            assertFalse(checks.get("agenda-sem-votos").hasDrift());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de seleção das pautas a conferir")
+    class FindAgendasTests {
+
+        @Test
+        @DisplayName("Deve selecionar pautas com votos no intervalo")
+        void deveSelecionarPautasComVotosNoIntervalo() {
+            // Arrange
+            LocalDateTime antes = now.minusHours(1);
+            pauta("agenda-nova", 0, 0, antes);
+            pauta("agenda-antiga", 0, 0, antes);
+            voto("agenda-nova", "YES", now.minusSeconds(30));
+            voto("agenda-antiga", "YES", now.minusMinutes(30));
+
+            // Act
+            List<String> agendaIds = tallyReconciliationJdbcRepository
+                    .findAgendaIdsWithVotesBetween(now.minusMinutes(1), now);
+
+            // Assert
+            assertEquals(List.of("agenda-nova"), agendaIds);
+        }
+
+        @Test
+        @DisplayName("Deve selecionar pautas com shards alterados sem voto correspondente")
+        void deveSelecionarPautasComShardsAlteradosSemVoto() {
+            // Arrange
+            pauta("agenda-incrementada", 0, 0, now.minusHours(1));
+            LocalDateTime since = LocalDateTime.now();
+            agendaTallyShardRepository.increment("agenda-incrementada", 0, new VoteTally(1, 1, 0));
+
+            // Act
+            List<String> agendaIds = tallyReconciliationJdbcRepository
+                    .findAgendaIdsWithVotesBetween(since.minusNanos(1), LocalDateTime.now());
+
+            // Assert
+            assertEquals(List.of("agenda-incrementada"), agendaIds);
+        }
+
+        @Test
+        @DisplayName("Deve selecionar pautas com contadores base alterados")
+        void deveSelecionarPautasComContadoresBaseAlterados() {
+            // Arrange
+            pauta("agenda-consolidada", 5, 0, now.minusSeconds(30));
+            pauta("agenda-parada", 5, 0, now.minusHours(1));
+
+            // Act
+            List<String> agendaIds = tallyReconciliationJdbcRepository
+                    .findAgendaIdsWithVotesBetween(now.minusMinutes(1), now);
+
+            // Assert
+            assertEquals(List.of("agenda-consolidada"), agendaIds);
+        }
+
+        @Test
+        @DisplayName("Deve listar cada pauta uma única vez")
+        void deveListarCadaPautaUmaUnicaVez() {
+            // Arrange
+            pauta("agenda-123", 0, 0, now.minusSeconds(30));
+            voto("agenda-123", "YES", now.minusSeconds(20));
+            voto("agenda-123", "NO", now.minusSeconds(10));
+            agendaTallyShardRepository.increment("agenda-123", 0, new VoteTally(2, 1, 1));
+
+            // Act
+            List<String> agendaIds = tallyReconciliationJdbcRepository
+                    .findAgendaIdsWithVotesBetween(now.minusMinutes(1), LocalDateTime.now());
+
+            // Assert
+            assertEquals(List.of("agenda-123"), agendaIds);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de marca d'água")
+    class WatermarkTests {
+
+        @Test
+        @DisplayName("Deve gravar e atualizar a marca d'água")
+        void deveGravarEAtualizarMarcaDagua() {
+            // Arrange
+            LocalDateTime primeira = now.minusMinutes(1).withNano(0);
+            LocalDateTime segunda = now.withNano(0);
+
+            // Act & Assert
+            assertTrue(tallyReconciliationJdbcRepository.findWatermark("job").isEmpty());
+
+            tallyReconciliationJdbcRepository.saveWatermark("job", primeira);
+            assertEquals(Optional.of(primeira), tallyReconciliationJdbcRepository.findWatermark("job"));
+
+            tallyReconciliationJdbcRepository.saveWatermark("job", segunda);
+            assertEquals(Optional.of(segunda), tallyReconciliationJdbcRepository.findWatermark("job"));
+        }
+    }
+}
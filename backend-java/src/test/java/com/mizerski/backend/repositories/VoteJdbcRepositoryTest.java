@@ -0,0 +1,106 @@
+package com.mizerski.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.mizerski.backend.models.domains.VoteExportRow;
+
+/**
+ * Testes da exportação de votos contra o H2 em modo PostgreSQL, com as
+ * colunas usadas das tabelas users e votes
+ */
+@DisplayName("VoteJdbcRepository - Testes com H2")
+class VoteJdbcRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private VoteJdbcRepository voteJdbcRepository;
+
+    private LocalDateTime now;
+
+    /**
+     * Cria um banco H2 isolado com o schema mínimo da exportação
+     */
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:vote-export-" + UUID.randomUUID()
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE users (
+                    id VARCHAR(36) PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE votes (
+                    id VARCHAR(36) PRIMARY KEY,
+                    agenda_id VARCHAR(36) NOT NULL,
+                    user_id VARCHAR(36) NOT NULL REFERENCES users (id),
+                    vote_type VARCHAR(10) NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+
+        voteJdbcRepository = new VoteJdbcRepository(jdbcTemplate);
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    private void voto(String id, String agendaId, String userName, LocalDateTime createdAt) {
+        String userId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO users (id, name) VALUES (?, ?)", userId, userName);
+        jdbcTemplate.update("INSERT INTO votes (id, agenda_id, user_id, vote_type, created_at) VALUES (?, ?, ?, ?, ?)",
+                id, agendaId, userId, "YES", createdAt);
+    }
+
+    @Nested
+    @DisplayName("Testes do método streamByAgendaId")
+    class StreamTests {
+
+        @Test
+        @DisplayName("Deve entregar um voto por linha com o nome do votante, na ordem de registro")
+        void deveEntregarUmVotoPorLinhaNaOrdemDeRegistro() {
+            // Arrange
+            voto("vote-c", "agenda-123", "Carla", now);
+            voto("vote-a", "agenda-123", "Ana", now.minusMinutes(1));
+            voto("vote-b", "agenda-123", "Bruno", now);
+            voto("vote-x", "agenda-456", "Xavier", now.minusMinutes(2));
+            List<VoteExportRow> rows = new ArrayList<>();
+
+            // Act
+            voteJdbcRepository.streamByAgendaId("agenda-123", 2, rows::add);
+
+            // Assert
+            assertEquals(List.of("vote-a", "vote-b", "vote-c"), rows.stream().map(VoteExportRow::getId).toList());
+            assertEquals(List.of("Ana", "Bruno", "Carla"), rows.stream().map(VoteExportRow::getUserName).toList());
+            assertEquals("YES", rows.get(0).getVoteType());
+            assertEquals(now.minusMinutes(1), rows.get(0).getCreatedAt());
+        }
+
+        @Test
+        @DisplayName("Não deve entregar linhas para pauta sem votos")
+        void naoDeveEntregarLinhasParaPautaSemVotos() {
+            // Arrange
+            voto("vote-x", "agenda-456", "Xavier", now);
+            List<VoteExportRow> rows = new ArrayList<>();
+
+            // Act
+            voteJdbcRepository.streamByAgendaId("agenda-123", 2, rows::add);
+
+            // Assert
+            assertTrue(rows.isEmpty());
+        }
+    }
+}
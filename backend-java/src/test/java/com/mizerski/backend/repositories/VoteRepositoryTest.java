@@ -0,0 +1,176 @@
+package com.mizerski.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.hibernate.Hibernate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mizerski.backend.models.domains.PageCursor;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.entities.VoteEntity;
+import com.mizerski.backend.models.enums.AgendaCategory;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.VoteType;
+
+/**
+ * Testes das listagens de votos contra o H2, com o schema gerado pelo
+ * Hibernate (perfil loadtest, sem Flyway)
+ */
+@DataJpaTest
+@ActiveProfiles("loadtest")
+@DisplayName("VoteRepository - Testes com H2")
+class VoteRepositoryTest {
+
+    private static final int VOTES = 23;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AgendaEntity agenda;
+
+    /**
+     * Grava uma pauta com um voto por usuário; metade dos votos compartilha o
+     * mesmo created_at para exercitar o desempate por ID no cursor
+     */
+    @BeforeEach
+    void setUp() {
+        agenda = entityManager.persist(AgendaEntity.builder()
+                .title("Pauta listada")
+                .description("Pauta com votos para listagem")
+                .status(AgendaStatus.IN_PROGRESS)
+                .category(AgendaCategory.OUTROS)
+                .result(AgendaResult.UNVOTED)
+                .totalVotes(0)
+                .yesVotes(0)
+                .noVotes(0)
+                .isActive(true)
+                .build());
+
+        IntStream.range(0, VOTES).forEach(i -> {
+            UserEntity user = entityManager.persist(UserEntity.builder()
+                    .name("Eleitor " + i)
+                    .email("eleitor" + i + "@votes.test")
+                    .password("senha-nao-utilizada")
+                    .build());
+
+            VoteEntity vote = new VoteEntity();
+            vote.setVoteType(i % 2 == 0 ? VoteType.YES : VoteType.NO);
+            vote.setUser(user);
+            vote.setAgenda(agenda);
+            entityManager.persist(vote);
+        });
+        entityManager.flush();
+
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        List<String> ids = jdbcTemplate.queryForList("SELECT id FROM votes ORDER BY id", String.class);
+        for (int i = 0; i < ids.size(); i++) {
+            LocalDateTime createdAt = i % 2 == 0 ? base : base.minusSeconds(i);
+            jdbcTemplate.update("UPDATE votes SET created_at = ? WHERE id = ?", createdAt, ids.get(i));
+        }
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("Testes da paginação por cursor")
+    class CursorTests {
+
+        @Test
+        @DisplayName("Deve percorrer todos os votos da pauta sem repetir nem pular")
+        void devePercorrerTodosOsVotosSemRepetirNemPular() {
+            // Arrange
+            Set<String> walked = new HashSet<>();
+            List<VoteEntity> ordered = new ArrayList<>();
+            PageCursor cursor = PageCursor.START;
+
+            // Act
+            List<VoteEntity> page;
+            do {
+                page = voteRepository.findByAgendaIdBefore(agenda.getId(), cursor.getCreatedAt(), cursor.getId(),
+                        Limit.of(5));
+                page.forEach(vote -> assertTrue(walked.add(vote.getId()), "Voto repetido: " + vote.getId()));
+                ordered.addAll(page);
+                if (!page.isEmpty()) {
+                    VoteEntity last = page.get(page.size() - 1);
+                    cursor = new PageCursor(last.getCreatedAt(), last.getId());
+                }
+            } while (page.size() == 5);
+
+            // Assert
+            assertEquals(VOTES, walked.size());
+            for (int i = 1; i < ordered.size(); i++) {
+                VoteEntity previous = ordered.get(i - 1);
+                VoteEntity current = ordered.get(i);
+                assertTrue(previous.getCreatedAt().isAfter(current.getCreatedAt())
+                        || (previous.getCreatedAt().isEqual(current.getCreatedAt())
+                                && previous.getId().compareTo(current.getId()) > 0),
+                        "Ordem fora de createdAt DESC, id DESC");
+            }
+        }
+
+        @Test
+        @DisplayName("Deve carregar o votante na mesma consulta")
+        void deveCarregarVotanteNaMesmaConsulta() {
+            // Act
+            List<VoteEntity> page = voteRepository.findByAgendaIdBefore(agenda.getId(),
+                    PageCursor.START.getCreatedAt(), PageCursor.START.getId(), Limit.of(10));
+
+            // Assert
+            assertEquals(10, page.size());
+            page.forEach(vote -> {
+                assertTrue(Hibernate.isInitialized(vote.getUser()), "Votante carregado sob demanda");
+                assertFalse(vote.getUser().getName().isEmpty());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da listagem sem contagem")
+    class SliceTests {
+
+        @Test
+        @DisplayName("Deve informar se há próxima página sem contar os votos")
+        void deveInformarProximaPaginaSemContar() {
+            // Arrange
+            Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+
+            // Act
+            Slice<VoteEntity> first = voteRepository.findSliceByAgendaId(agenda.getId(), PageRequest.of(0, 10, sort));
+            Slice<VoteEntity> last = voteRepository.findSliceByAgendaId(agenda.getId(), PageRequest.of(2, 10, sort));
+
+            // Assert
+            assertEquals(10, first.getNumberOfElements());
+            assertTrue(first.hasNext());
+            assertEquals(VOTES - 20, last.getNumberOfElements());
+            assertFalse(last.hasNext());
+            first.forEach(vote -> assertTrue(Hibernate.isInitialized(vote.getUser())));
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.mizerski.backend.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+/**
+ * Testes unitários para o cache em memória de pautas
+ */
+@DisplayName("AgendaCacheService - Testes Unitários")
+class AgendaCacheServiceTest {
+
+    private static final String AGENDA_ID = "agenda-123";
+
+    private AgendaCacheServiceImpl agendaCacheService;
+    private AgendaResponseCacheService agendaResponseCacheService;
+    private AtomicInteger loads;
+
+    /**
+     * Configuração inicial do cache
+     */
+    @BeforeEach
+    void setUp() {
+        agendaResponseCacheService = mock(AgendaResponseCacheService.class);
+        agendaCacheService = new AgendaCacheServiceImpl(agendaResponseCacheService);
+        ReflectionTestUtils.setField(agendaCacheService, "enabled", true);
+        ReflectionTestUtils.setField(agendaCacheService, "maxSize", 100);
+        ReflectionTestUtils.setField(agendaCacheService, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(agendaCacheService, "finalTtlSeconds", 600L);
+        loads = new AtomicInteger();
+    }
+
+    private AgendaResponse agenda(String id, AgendaStatus status) {
+        return AgendaResponse.builder()
+                .id(id)
+                .status(status)
+                .totalVotes(3)
+                .yesVotes(2)
+                .noVotes(1)
+                .build();
+    }
+
+    private AgendaResponse load(String id, AgendaStatus status) {
+        return agendaCacheService.getOrLoad(id, () -> {
+            loads.incrementAndGet();
+            return agenda(id, status);
+        });
+    }
+
+    @Nested
+    @DisplayName("Testes do método getOrLoad")
+    class GetOrLoadTests {
+
+        @Test
+        @DisplayName("Deve carregar uma vez e servir as leituras seguintes do cache")
+        void deveCarregarUmaVezEServirDoCache() {
+            // Act
+            AgendaResponse first = load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+            AgendaResponse second = load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertSame(first, second);
+            assertEquals(1, loads.get());
+            assertEquals(1, agendaCacheService.getStats().hits());
+            assertEquals(1, agendaCacheService.getStats().misses());
+        }
+
+        @Test
+        @DisplayName("Não deve armazenar pauta inexistente")
+        void naoDeveArmazenarPautaInexistente() {
+            // Act
+            AgendaResponse result = agendaCacheService.getOrLoad(AGENDA_ID, () -> null);
+
+            // Assert
+            assertNull(result);
+            assertEquals(0, agendaCacheService.getStats().size());
+        }
+
+        @Test
+        @DisplayName("Deve recarregar pauta em andamento após o prazo de validade")
+        void deveRecarregarPautaEmAndamentoAposPrazo() {
+            // Arrange
+            ReflectionTestUtils.setField(agendaCacheService, "ttlSeconds", 0L);
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Act
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertEquals(2, loads.get());
+            assertEquals(1, agendaCacheService.getStats().evictions());
+        }
+
+        @Test
+        @DisplayName("Deve manter pauta encerrada pelo prazo longo")
+        void deveManterPautaEncerradaPeloPrazoLongo() {
+            // Arrange
+            ReflectionTestUtils.setField(agendaCacheService, "ttlSeconds", 0L);
+            load(AGENDA_ID, AgendaStatus.FINISHED);
+
+            // Act
+            load(AGENDA_ID, AgendaStatus.FINISHED);
+
+            // Assert
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("Não deve armazenar carga concorrente com uma escrita")
+        void naoDeveArmazenarCargaConcorrenteComEscrita() {
+            // Act - voto registrado enquanto a pauta era lida do banco
+            agendaCacheService.getOrLoad(AGENDA_ID, () -> {
+                agendaCacheService.applyTally(AGENDA_ID, new VoteTally(1, 1, 0));
+                return agenda(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+            });
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertEquals(1, loads.get());
+            assertEquals(2, agendaCacheService.getStats().misses());
+        }
+
+        @Test
+        @DisplayName("Deve liberar a entrada quando a carga falha")
+        void deveLiberarEntradaQuandoCargaFalha() {
+            // Act
+            assertThrows(IllegalStateException.class, () -> agendaCacheService.getOrLoad(AGENDA_ID, () -> {
+                throw new IllegalStateException("Erro de banco de dados");
+            }));
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("Deve respeitar o tamanho máximo do cache")
+        void deveRespeitarTamanhoMaximo() {
+            // Arrange
+            ReflectionTestUtils.setField(agendaCacheService, "maxSize", 2);
+
+            // Act
+            load("agenda-1", AgendaStatus.IN_PROGRESS);
+            load("agenda-2", AgendaStatus.IN_PROGRESS);
+            load("agenda-3", AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertEquals(2, agendaCacheService.getStats().size());
+            assertEquals(1, agendaCacheService.getStats().evictions());
+        }
+
+        @Test
+        @DisplayName("Deve ir sempre ao banco quando o cache está desabilitado")
+        void deveIrAoBancoQuandoDesabilitado() {
+            // Arrange
+            ReflectionTestUtils.setField(agendaCacheService, "enabled", false);
+
+            // Act
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertEquals(2, loads.get());
+            assertEquals(0, agendaCacheService.getStats().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes das escritas")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Deve somar votos em uma cópia da pauta em cache")
+        void deveSomarVotosEmCopiaDaPauta() {
+            // Arrange
+            AgendaResponse cached = load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Act
+            agendaCacheService.applyTally(AGENDA_ID, new VoteTally(2, 1, 1));
+            AgendaResponse updated = load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertEquals(1, loads.get());
+            assertEquals(5, updated.getTotalVotes());
+            assertEquals(3, updated.getYesVotes());
+            assertEquals(2, updated.getNoVotes());
+            assertEquals(3, cached.getTotalVotes());
+        }
+
+        @Test
+        @DisplayName("Deve somar votos após o commit a pauta carregada antes da escrita")
+        void deveSomarVotosAposCommitAPautaCarregadaAntes() {
+            // Arrange
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // Act
+                agendaCacheService.applyTally(AGENDA_ID, new VoteTally(1, 1, 0));
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            AgendaResponse updated = load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Assert
+            assertEquals(1, loads.get());
+            assertEquals(4, updated.getTotalVotes());
+        }
+
+        @Test
+        @DisplayName("Não deve somar votos a pauta carregada entre o commit e o callback")
+        void naoDeveSomarVotosAPautaCarregadaAposCommit() {
+            // Arrange
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                agendaCacheService.applyTally(AGENDA_ID, new VoteTally(1, 1, 0));
+
+                // Act - outra requisição carrega a pauta já com o voto commitado
+                agendaCacheService.getOrLoad(AGENDA_ID, () -> {
+                    loads.incrementAndGet();
+                    return AgendaResponse.builder().id(AGENDA_ID).status(AgendaStatus.IN_PROGRESS)
+                            .totalVotes(4).yesVotes(3).noVotes(1).build();
+                });
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // Assert - a entrada é descartada e a próxima leitura vai ao banco
+            assertEquals(0, agendaCacheService.getStats().size());
+            AgendaResponse reloaded = load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+            assertEquals(2, loads.get());
+            assertEquals(3, reloaded.getTotalVotes());
+        }
+
+        @Test
+        @DisplayName("Não deve criar entrada ao somar votos de pauta fora do cache")
+        void naoDeveCriarEntradaAoSomarVotos() {
+            // Act
+            agendaCacheService.applyTally(AGENDA_ID, new VoteTally(1, 1, 0));
+
+            // Assert
+            assertEquals(0, agendaCacheService.getStats().size());
+        }
+
+        @Test
+        @DisplayName("Deve recarregar a pauta após invalidação")
+        void deveRecarregarPautaAposInvalidacao() {
+            // Arrange
+            load(AGENDA_ID, AgendaStatus.IN_PROGRESS);
+
+            // Act
+            agendaCacheService.evict(AGENDA_ID);
+            AgendaResponse reloaded = load(AGENDA_ID, AgendaStatus.FINISHED);
+
+            // Assert
+            assertEquals(2, loads.get());
+            assertEquals(AgendaStatus.FINISHED, reloaded.getStatus());
+            verify(agendaResponseCacheService).evict(AGENDA_ID);
+        }
+
+        @Test
+        @DisplayName("Deve remover entradas vencidas na limpeza periódica")
+        void deveRemoverEntradasVencidasNaLimpeza() {
+            // Arrange
+            ReflectionTestUtils.setField(agendaCacheService, "ttlSeconds", 0L);
+            load("agenda-1", AgendaStatus.IN_PROGRESS);
+            load("agenda-2", AgendaStatus.FINISHED);
+
+            // Act
+            agendaCacheService.cleanExpiredEntries();
+
+            // Assert
+            assertEquals(1, agendaCacheService.getStats().size());
+            assertEquals(1, agendaCacheService.getStats().evictions());
+        }
+    }
+}
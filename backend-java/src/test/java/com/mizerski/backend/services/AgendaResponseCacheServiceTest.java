@@ -0,0 +1,200 @@
+package com.mizerski.backend.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.models.domains.SerializedResponse;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+/**
+ * Testes unitários para o cache de respostas serializadas de pautas
+ */
+@DisplayName("AgendaResponseCacheService - Testes Unitários")
+class AgendaResponseCacheServiceTest {
+
+    private static final String AGENDA_ID = "agenda-123";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private AgendaResponseCacheServiceImpl agendaResponseCacheService;
+
+    /**
+     * Configuração inicial do cache
+     */
+    @BeforeEach
+    void setUp() {
+        agendaResponseCacheService = new AgendaResponseCacheServiceImpl(objectMapper);
+        ReflectionTestUtils.setField(agendaResponseCacheService, "enabled", true);
+        ReflectionTestUtils.setField(agendaResponseCacheService, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(agendaResponseCacheService, "gzipMinBytes", 1024);
+    }
+
+    private AgendaResponse agenda(String id, AgendaStatus status, String description) {
+        return AgendaResponse.builder()
+                .id(id)
+                .title("Pauta " + id)
+                .description(description)
+                .status(status)
+                .totalVotes(10)
+                .yesVotes(7)
+                .noVotes(3)
+                .updatedAt(LocalDateTime.of(2025, 1, 10, 14, 30))
+                .build();
+    }
+
+    private Optional<SerializedResponse> put(AgendaResponse agenda) {
+        return agendaResponseCacheService.put(agenda, agendaResponseCacheService.stamp());
+    }
+
+    @Nested
+    @DisplayName("Testes de armazenamento")
+    class PutTests {
+
+        @Test
+        @DisplayName("Deve armazenar o JSON serializado de pauta encerrada")
+        void deveArmazenarPautaEncerrada() throws Exception {
+            // Arrange
+            AgendaResponse agenda = agenda(AGENDA_ID, AgendaStatus.FINISHED, "curta");
+
+            // Act
+            put(agenda);
+            Optional<SerializedResponse> cached = agendaResponseCacheService.get(AGENDA_ID);
+
+            // Assert
+            assertTrue(cached.isPresent());
+            assertArrayEquals(objectMapper.writeValueAsBytes(agenda), cached.get().getJson());
+            assertNull(cached.get().getGzip());
+            assertTrue(cached.get().getETag().startsWith("\""));
+            assertTrue(cached.get().getLastModified() > 0);
+            assertEquals(1, agendaResponseCacheService.getStats().hits());
+        }
+
+        @Test
+        @DisplayName("Deve calcular o Last-Modified no fuso configurado no ObjectMapper")
+        void deveCalcularLastModifiedNoFusoDoObjectMapper() {
+            // Arrange
+            ObjectMapper saoPaulo = new ObjectMapper().registerModule(new JavaTimeModule())
+                    .setTimeZone(TimeZone.getTimeZone("America/Sao_Paulo"));
+            AgendaResponseCacheServiceImpl cache = new AgendaResponseCacheServiceImpl(saoPaulo);
+            ReflectionTestUtils.setField(cache, "enabled", true);
+            ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+            ReflectionTestUtils.setField(cache, "gzipMinBytes", 1024);
+
+            // Act
+            Optional<SerializedResponse> serialized = cache.put(agenda(AGENDA_ID, AgendaStatus.FINISHED, "curta"),
+                    cache.stamp());
+
+            // Assert
+            assertTrue(serialized.isPresent());
+            assertEquals(Instant.parse("2025-01-10T17:30:00Z").toEpochMilli(), serialized.get().getLastModified());
+        }
+
+        @Test
+        @DisplayName("Não deve armazenar pauta que ainda pode mudar")
+        void naoDeveArmazenarPautaEmAndamento() {
+            // Act
+            Optional<SerializedResponse> serialized = put(agenda(AGENDA_ID, AgendaStatus.IN_PROGRESS, "curta"));
+
+            // Assert
+            assertFalse(serialized.isPresent());
+            assertFalse(agendaResponseCacheService.get(AGENDA_ID).isPresent());
+            assertEquals(1, agendaResponseCacheService.getStats().misses());
+        }
+
+        @Test
+        @DisplayName("Deve compactar respostas grandes com ETag próprio")
+        void deveCompactarRespostasGrandes() throws Exception {
+            // Arrange
+            AgendaResponse agenda = agenda(AGENDA_ID, AgendaStatus.CANCELLED, "x".repeat(5000));
+
+            // Act
+            SerializedResponse serialized = put(agenda).orElseThrow();
+
+            // Assert
+            assertTrue(serialized.getGzip().length < serialized.getJson().length);
+            assertArrayEquals(serialized.getJson(), gunzip(serialized.getGzip()));
+            assertNotEquals(serialized.getETag(), serialized.getGzipETag());
+            assertTrue(serialized.getGzipETag().endsWith("-gzip\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de invalidação e limite")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Deve remover a pauta invalidada")
+        void deveRemoverPautaInvalidada() {
+            // Arrange
+            put(agenda(AGENDA_ID, AgendaStatus.FINISHED, "curta"));
+
+            // Act
+            agendaResponseCacheService.evict(AGENDA_ID);
+
+            // Assert
+            assertFalse(agendaResponseCacheService.get(AGENDA_ID).isPresent());
+            assertEquals(0, agendaResponseCacheService.getStats().bytes());
+            assertEquals(1, agendaResponseCacheService.getStats().evictions());
+        }
+
+        @Test
+        @DisplayName("Não deve armazenar leitura iniciada antes de uma invalidação")
+        void naoDeveArmazenarLeituraAnteriorAInvalidacao() {
+            // Arrange
+            long stamp = agendaResponseCacheService.stamp();
+            agendaResponseCacheService.evict(AGENDA_ID);
+
+            // Act
+            Optional<SerializedResponse> serialized = agendaResponseCacheService
+                    .put(agenda(AGENDA_ID, AgendaStatus.FINISHED, "curta"), stamp);
+
+            // Assert
+            assertFalse(serialized.isPresent());
+            assertEquals(0, agendaResponseCacheService.getStats().size());
+        }
+
+        @Test
+        @DisplayName("Deve remover as respostas acessadas há mais tempo ao passar do limite de bytes")
+        void deveRemoverMenosRecentesAoPassarDoLimite() {
+            // Arrange - cabem duas respostas e meia
+            long size = put(agenda("agenda-1", AgendaStatus.FINISHED, "x".repeat(400))).orElseThrow().getSize();
+            ReflectionTestUtils.setField(agendaResponseCacheService, "maxBytes", size * 5 / 2);
+            put(agenda("agenda-2", AgendaStatus.FINISHED, "x".repeat(400)));
+            agendaResponseCacheService.get("agenda-1");
+
+            // Act
+            put(agenda("agenda-3", AgendaStatus.FINISHED, "x".repeat(400)));
+
+            // Assert
+            assertTrue(agendaResponseCacheService.get("agenda-1").isPresent());
+            assertFalse(agendaResponseCacheService.get("agenda-2").isPresent());
+            assertTrue(agendaResponseCacheService.get("agenda-3").isPresent());
+            assertEquals(size * 2, agendaResponseCacheService.getStats().bytes());
+        }
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -49,6 +50,18 @@ class AgendaTimeServiceTest {
     @Mock
     private ExceptionMappingService exceptionMappingService;
 
+    @Mock
+    private TallyService tallyService;
+
+    @Mock
+    private VoterBitmapService voterBitmapService;
+
+    @Mock
+    private AgendaCacheService agendaCacheService;
+
+    @Mock
+    private TallyStreamService tallyStreamService;
+
     @InjectMocks
     private AgendaTimeServiceImpl agendaTimeService;
 
@@ -232,12 +245,6 @@ class AgendaTimeServiceTest {
             agendaEntity.setYesVotes(3);
             agendaEntity.setNoVotes(2);
 
-            AgendaEntity savedEntity = new AgendaEntity();
-            savedEntity.setId(agendaId);
-            savedEntity.setTotalVotes(6);
-            savedEntity.setYesVotes(4);
-            savedEntity.setNoVotes(2);
-
             AgendaResponse updatedResponse = AgendaResponse.builder()
                     .id(agendaId)
                     .totalVotes(6)
@@ -246,8 +253,7 @@ class AgendaTimeServiceTest {
                     .build();
 
             when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agendaEntity));
-            when(agendaRepository.save(any(AgendaEntity.class))).thenReturn(savedEntity);
-            when(agendaMapper.toResponse((AgendaEntity) savedEntity)).thenReturn(updatedResponse);
+            when(agendaMapper.toResponse(agendaEntity)).thenReturn(updatedResponse);
 
             // Act
             Result<AgendaResponse> result = agendaTimeService.updateAgendaVotes(agendaId, VoteType.YES);
@@ -259,10 +265,11 @@ class AgendaTimeServiceTest {
             assertEquals(4, result.getValue().get().getYesVotes());
             assertEquals(2, result.getValue().get().getNoVotes());
 
-            // Verificações de interação
+            // Verificações de interação - incremento atômico em shard, sem salvar a pauta
             verify(agendaRepository).findById(agendaId);
-            verify(agendaRepository).save(any(AgendaEntity.class));
-            verify(agendaMapper).toResponse(savedEntity);
+            verify(tallyService).increment(agendaId, VoteType.YES);
+            verify(tallyService).applyTo(updatedResponse);
+            verify(agendaRepository, never()).save(any());
         }
 
         @Test
@@ -273,12 +280,6 @@ class AgendaTimeServiceTest {
             agendaEntity.setYesVotes(3);
             agendaEntity.setNoVotes(2);
 
-            AgendaEntity savedEntity = new AgendaEntity();
-            savedEntity.setId(agendaId);
-            savedEntity.setTotalVotes(6);
-            savedEntity.setYesVotes(3);
-            savedEntity.setNoVotes(3);
-
             AgendaResponse updatedResponse = AgendaResponse.builder()
                     .id(agendaId)
                     .totalVotes(6)
@@ -287,8 +288,7 @@ class AgendaTimeServiceTest {
                     .build();
 
             when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agendaEntity));
-            when(agendaRepository.save(any(AgendaEntity.class))).thenReturn(savedEntity);
-            when(agendaMapper.toResponse((AgendaEntity) savedEntity)).thenReturn(updatedResponse);
+            when(agendaMapper.toResponse(agendaEntity)).thenReturn(updatedResponse);
 
             // Act
             Result<AgendaResponse> result = agendaTimeService.updateAgendaVotes(agendaId, VoteType.NO);
@@ -302,8 +302,8 @@ class AgendaTimeServiceTest {
 
             // Verificações de interação
             verify(agendaRepository).findById(agendaId);
-            verify(agendaRepository).save(any(AgendaEntity.class));
-            verify(agendaMapper).toResponse(savedEntity);
+            verify(tallyService).increment(agendaId, VoteType.NO);
+            verify(agendaRepository, never()).save(any());
         }
 
         @Test
@@ -333,7 +333,7 @@ class AgendaTimeServiceTest {
             // Arrange
             RuntimeException exception = new RuntimeException("Erro de conexão");
             when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agendaEntity));
-            when(agendaRepository.save(any(AgendaEntity.class))).thenThrow(exception);
+            doThrow(exception).when(tallyService).increment(agendaId, VoteType.YES);
             when(exceptionMappingService.mapExceptionToResult(exception))
                     .thenReturn(Result.error("CONNECTION_ERROR", "Erro de conexão"));
 
@@ -657,7 +657,6 @@ class AgendaTimeServiceTest {
 
             when(agendaRepository.save(any(AgendaEntity.class)))
                     .thenReturn(pautaEmProgresso)
-                    .thenReturn(pautaComVotos)
                     .thenReturn(pautaFinalizada);
 
             when(agendaMapper.toResponse(any(AgendaEntity.class))).thenReturn(agendaResponse);
@@ -674,9 +673,10 @@ class AgendaTimeServiceTest {
             Result<AgendaResponse> resultCalculate = agendaTimeService.calculateAgendaResult(agendaId);
             assertTrue(resultCalculate.isSuccess());
 
-            // Verificações - deve ser chamado 3 vezes (timer, voto e resultado)
+            // Verificações - busca 3 vezes (timer, voto e resultado); o voto não salva a pauta
             verify(agendaRepository, times(3)).findById(agendaId);
-            verify(agendaRepository, times(3)).save(any(AgendaEntity.class));
+            verify(agendaRepository, times(2)).save(any(AgendaEntity.class));
+            verify(tallyService).increment(agendaId, VoteType.YES);
             verify(agendaMapper, times(3)).toResponse(any(AgendaEntity.class));
         }
     }
@@ -0,0 +1,109 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para a fila de prazos em memória
+ */
+@DisplayName("DeadlineQueue - Testes Unitários")
+class DeadlineQueueTest {
+
+    private static final long TICK_MS = 50;
+
+    private DeadlineQueue deadlines;
+    private LocalDateTime now;
+
+    /**
+     * Configuração inicial da fila
+     */
+    @BeforeEach
+    void setUp() {
+        deadlines = new DeadlineQueue(TICK_MS);
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlines.stop();
+    }
+
+    @Nested
+    @DisplayName("Testes do método awaitDue")
+    class AwaitDueTests {
+
+        @Test
+        @DisplayName("Deve agrupar no mesmo lote as chaves de todos os ticks vencidos")
+        void deveAgruparChavesDosTicksVencidos() throws Exception {
+            // Arrange
+            deadlines.add("agenda-1", now.minusSeconds(1));
+            deadlines.add("agenda-2", now.minusSeconds(1));
+            deadlines.add("agenda-3", now.minusSeconds(2));
+            deadlines.add("agenda-4", now.plusMinutes(5));
+
+            // Act
+            Set<String> batch = deadlines.awaitDue();
+
+            // Assert - todos os ticks vencidos saem juntos; a chave futura fica na fila
+            assertEquals(Set.of("agenda-1", "agenda-2", "agenda-3"), batch);
+            assertEquals(1, deadlines.size());
+        }
+
+        @Test
+        @DisplayName("Não deve liberar a chave antes do prazo")
+        void naoDeveLiberarAntesDoPrazo() throws Exception {
+            // Arrange
+            LocalDateTime deadline = LocalDateTime.now().plusNanos(200_000_000);
+            deadlines.add("agenda-1", deadline);
+            assertEquals(1, deadlines.size());
+
+            // Act
+            Set<String> batch = deadlines.awaitDue();
+
+            // Assert
+            assertEquals(Set.of("agenda-1"), batch);
+            assertFalse(LocalDateTime.now().isBefore(deadline));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da thread de entrega")
+    class WorkerTests {
+
+        @Test
+        @DisplayName("Deve entregar o lote ao consumidor e aceitar nova tentativa")
+        void deveEntregarLoteEAceitarNovaTentativa() throws Exception {
+            // Arrange - o primeiro lote falha e volta para a fila
+            List<Set<String>> batches = new CopyOnWriteArrayList<>();
+            CountDownLatch delivered = new CountDownLatch(2);
+            deadlines.start("deadline-test", batch -> {
+                batches.add(batch);
+                if (batches.size() == 1) {
+                    deadlines.retry(batch, TICK_MS);
+                }
+                delivered.countDown();
+            });
+
+            // Act
+            deadlines.add("agenda-1", LocalDateTime.now().plusNanos(50_000_000));
+
+            // Assert
+            assertTrue(delivered.await(2, TimeUnit.SECONDS));
+            assertEquals(List.of(Set.of("agenda-1"), Set.of("agenda-1")), batches);
+            assertEquals(0, deadlines.size());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.mizerski.backend.services;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mizerski.backend.repositories.LeaseJdbcRepository;
+
+/**
+ * Testes da eleição de líder contra o H2 em modo PostgreSQL, com dois nós
+ * disputando a mesma lease
+ */
+@DisplayName("LeaderElectionService - Testes com H2")
+class LeaderElectionServiceTest {
+
+    private static final long TTL_MS = 300;
+
+    private LeaseJdbcRepository leaseJdbcRepository;
+    private LeaderElectionServiceImpl nodeA;
+    private LeaderElectionServiceImpl nodeB;
+
+    /**
+     * Cria um banco H2 isolado com a tabela de leases e dois nós
+     */
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:leader-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE scheduler_leases (
+                    name VARCHAR(64) PRIMARY KEY,
+                    owner_id VARCHAR(128) NOT NULL,
+                    expires_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+
+        leaseJdbcRepository = new LeaseJdbcRepository(jdbcTemplate);
+        nodeA = node();
+        nodeB = node();
+    }
+
+    private LeaderElectionServiceImpl node() {
+        LeaderElectionServiceImpl node = new LeaderElectionServiceImpl(leaseJdbcRepository);
+        ReflectionTestUtils.setField(node, "enabled", true);
+        ReflectionTestUtils.setField(node, "leaseName", "scheduler");
+        ReflectionTestUtils.setField(node, "ttlMs", TTL_MS);
+        node.init();
+        return node;
+    }
+
+    @Nested
+    @DisplayName("Testes de aquisição da lease")
+    class AcquireTests {
+
+        @Test
+        @DisplayName("Deve eleger apenas um nó")
+        void deveElegerApenasUmNo() {
+            // Act
+            nodeA.renew();
+            nodeB.renew();
+
+            // Assert
+            assertNotEquals(nodeA.getNodeId(), nodeB.getNodeId());
+            assertTrue(nodeA.isLeader());
+            assertFalse(nodeB.isLeader());
+        }
+
+        @Test
+        @DisplayName("Deve manter a liderança enquanto o líder renova")
+        void deveManterLiderancaEnquantoRenova() throws Exception {
+            // Arrange
+            nodeA.renew();
+
+            // Act - renovações dentro da validade da lease
+            for (int i = 0; i < 3; i++) {
+                Thread.sleep(TTL_MS / 2);
+                nodeA.renew();
+                nodeB.renew();
+            }
+
+            // Assert
+            assertTrue(nodeA.isLeader());
+            assertFalse(nodeB.isLeader());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de troca de líder")
+    class FailoverTests {
+
+        @Test
+        @DisplayName("Deve transferir a liderança quando o líder para de renovar")
+        void deveTransferirQuandoLiderPara() throws Exception {
+            // Arrange
+            nodeA.renew();
+
+            // Act - o líder para; a lease vence
+            Thread.sleep(TTL_MS + 100);
+            nodeB.renew();
+
+            // Assert - o antigo líder já se considera fora antes de renovar
+            assertFalse(nodeA.isLeader());
+            assertTrue(nodeB.isLeader());
+
+            nodeA.renew();
+            assertFalse(nodeA.isLeader());
+        }
+
+        @Test
+        @DisplayName("Deve liberar a lease no desligamento para outro nó assumir na hora")
+        void deveLiberarLeaseNoDesligamento() {
+            // Arrange
+            nodeA.renew();
+
+            // Act
+            nodeA.destroy();
+            nodeB.renew();
+
+            // Assert
+            assertFalse(nodeA.isLeader());
+            assertTrue(nodeB.isLeader());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da renovação periódica")
+    class RenewalTests {
+
+        @Test
+        @DisplayName("Deve manter a liderança renovando em thread própria")
+        void deveManterLiderancaEmThreadPropria() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(nodeA, "renewIntervalMs", TTL_MS / 3);
+
+            // Act
+            nodeA.start();
+            try {
+                Thread.sleep(TTL_MS * 3);
+
+                // Assert - a lease segue válida sem chamadas externas a renew()
+                assertTrue(nodeA.isLeader());
+                nodeB.renew();
+                assertFalse(nodeB.isLeader());
+            } finally {
+                nodeA.destroy();
+            }
+        }
+    }
+}
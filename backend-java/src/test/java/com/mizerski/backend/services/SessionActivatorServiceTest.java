@@ -0,0 +1,161 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.models.domains.SessionActivationChunk;
+import com.mizerski.backend.repositories.SessionJdbcRepository;
+
+/**
+ * Testes unitários para a ativação de sessões agendadas
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionActivatorService - Testes Unitários")
+class SessionActivatorServiceTest {
+
+    private static final long TICK_MS = 10;
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private SessionJdbcRepository sessionJdbcRepository;
+
+    @Mock
+    private VoterBitmapService voterBitmapService;
+
+    @Mock
+    private AgendaCacheService agendaCacheService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SessionActivatorServiceImpl sessionActivatorService;
+
+    private LocalDateTime now;
+
+    /**
+     * Configuração inicial do serviço e da transação simulada
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sessionActivatorService, "enabled", true);
+        ReflectionTestUtils.setField(sessionActivatorService, "tickMs", TICK_MS);
+        ReflectionTestUtils.setField(sessionActivatorService, "chunkSize", CHUNK_SIZE);
+        sessionActivatorService.init();
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionActivatorService.destroy();
+    }
+
+    @Nested
+    @DisplayName("Testes do método activateDue")
+    class ActivateDueTests {
+
+        @Test
+        @DisplayName("Deve carregar o estado em memória das pautas iniciadas e medir o atraso")
+        void deveCarregarEstadoEMedirAtraso() {
+            // Arrange - duas sessões da mesma pauta, uma delas atrasada em 5 segundos
+            when(sessionJdbcRepository.activateDue(now, CHUNK_SIZE)).thenReturn(new SessionActivationChunk(
+                    List.of(now, now.minusSeconds(5)), List.of("agenda-1")));
+
+            // Act
+            int started = sessionActivatorService.activateDue(now);
+
+            // Assert
+            assertEquals(1, started);
+            verify(voterBitmapService).load("agenda-1");
+            verify(agendaCacheService).evict("agenda-1");
+
+            SessionActivatorService.ActivationStats stats = sessionActivatorService.getStats();
+            assertEquals(2, stats.activations());
+            assertTrue(stats.maxLagMs() >= 5000);
+            assertTrue(stats.totalLagMs() >= stats.maxLagMs());
+        }
+
+        @Test
+        @DisplayName("Deve processar lotes até sobrar menos sessões que o tamanho do lote")
+        void deveProcessarEmLotes() {
+            // Arrange
+            List<LocalDateTime> fullChunk = Collections.nCopies(CHUNK_SIZE, now);
+            when(sessionJdbcRepository.activateDue(now, CHUNK_SIZE))
+                    .thenReturn(new SessionActivationChunk(fullChunk, List.of("agenda-1", "agenda-2")))
+                    .thenReturn(new SessionActivationChunk(List.of(now), List.of("agenda-3")));
+
+            // Act
+            int started = sessionActivatorService.activateDue(now);
+
+            // Assert
+            assertEquals(3, started);
+            verify(sessionJdbcRepository, times(2)).activateDue(now, CHUNK_SIZE);
+            assertEquals(CHUNK_SIZE + 1, sessionActivatorService.getStats().activations());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da ativação no início")
+    class DeadlineTests {
+
+        @Test
+        @DisplayName("Deve recuperar as sessões pendentes na inicialização e ativar no início")
+        void deveRecuperarPendentesEAtivarNoInicio() {
+            // Arrange
+            LocalDateTime startTime = LocalDateTime.now().plusNanos(100_000_000);
+            doAnswer(invocation -> {
+                invocation.<BiConsumer<String, LocalDateTime>>getArgument(0).accept("session-1", startTime);
+                return null;
+            }).when(sessionJdbcRepository).forEachPendingStart(any());
+            when(sessionJdbcRepository.activateDue(any(LocalDateTime.class), eq(List.of("session-1"))))
+                    .thenReturn(new SessionActivationChunk(List.of(startTime), List.of("agenda-1")));
+
+            // Act
+            sessionActivatorService.start();
+
+            // Assert
+            verify(voterBitmapService, timeout(2000)).load("agenda-1");
+            assertEquals(0, sessionActivatorService.getPendingCount());
+            verify(sessionJdbcRepository, never()).activateDue(any(LocalDateTime.class), anyInt());
+        }
+
+        @Test
+        @DisplayName("Deve agendar a ativação de nova sessão fora de transação na hora")
+        void deveAgendarNovaSessao() {
+            // Act
+            sessionActivatorService.schedule("session-1", now.plusMinutes(5));
+
+            // Assert
+            assertEquals(1, sessionActivatorService.getPendingCount());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.models.domains.ExpiredSessionChunk;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.SessionEntity;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.repositories.SessionJdbcRepository;
+import com.mizerski.backend.repositories.SessionRepository;
+
+/**
+ * Testes unitários para o encerramento de pautas no término das sessões
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionCloserService - Testes Unitários")
+class SessionCloserServiceTest {
+
+    private static final long TICK_MS = 50;
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionJdbcRepository sessionJdbcRepository;
+
+    @Mock
+    private VoterBitmapService voterBitmapService;
+
+    @Mock
+    private AgendaCacheService agendaCacheService;
+
+    @Mock
+    private TallyStreamService tallyStreamService;
+
+    @Mock
+    private SessionWindowService sessionWindowService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SessionCloserServiceImpl sessionCloserService;
+
+    private LocalDateTime now;
+
+    /**
+     * Configuração inicial do serviço e da transação simulada
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sessionCloserService, "enabled", true);
+        ReflectionTestUtils.setField(sessionCloserService, "tickMs", TICK_MS);
+        ReflectionTestUtils.setField(sessionCloserService, "chunkSize", CHUNK_SIZE);
+        sessionCloserService.init();
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionCloserService.destroy();
+    }
+
+    private AgendaEntity pauta(String id, AgendaStatus status) {
+        AgendaEntity agenda = new AgendaEntity();
+        agenda.setId(id);
+        agenda.setStatus(status);
+        agenda.setIsActive(true);
+        return agenda;
+    }
+
+    @Nested
+    @DisplayName("Testes do método closeExpired")
+    class CloseExpiredTests {
+
+        @Test
+        @DisplayName("Deve limpar o estado em memória das pautas finalizadas")
+        void deveLimparEstadoDasPautasFinalizadas() {
+            // Arrange
+            when(sessionJdbcRepository.finalizeExpired(now, CHUNK_SIZE))
+                    .thenReturn(new ExpiredSessionChunk(2, List.of("agenda-1", "agenda-2"), List.of("agenda-1")));
+
+            // Act
+            int closed = sessionCloserService.closeExpired(now);
+
+            // Assert
+            assertEquals(1, closed);
+            verify(voterBitmapService).evict("agenda-1");
+            verify(agendaCacheService).evict("agenda-1");
+            verify(tallyStreamService).close("agenda-1", AgendaStatus.FINISHED);
+            verify(sessionWindowService).evict("agenda-1");
+            verify(sessionWindowService).evict("agenda-2");
+            verifyNoMoreInteractions(sessionWindowService);
+        }
+
+        @Test
+        @DisplayName("Deve processar lotes até sobrar menos sessões que o tamanho do lote")
+        void deveProcessarEmLotes() {
+            // Arrange
+            when(sessionJdbcRepository.finalizeExpired(now, CHUNK_SIZE))
+                    .thenReturn(new ExpiredSessionChunk(CHUNK_SIZE, List.of("agenda-1", "agenda-2"),
+                            List.of("agenda-1", "agenda-2")))
+                    .thenReturn(new ExpiredSessionChunk(1, List.of("agenda-3"), List.of()));
+
+            // Act
+            int closed = sessionCloserService.closeExpired(now);
+
+            // Assert
+            assertEquals(2, closed);
+            verify(sessionJdbcRepository, times(2)).finalizeExpired(now, CHUNK_SIZE);
+            verify(transactionTemplate, times(2)).execute(any());
+            verify(tallyStreamService).close("agenda-2", AgendaStatus.FINISHED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método closeDue")
+    class CloseDueTests {
+
+        @Test
+        @DisplayName("Deve encerrar apenas as pautas do tick, sem varrer o banco")
+        void deveEncerrarApenasPautasDoTick() {
+            // Arrange - agenda-2 já foi encerrada por outra réplica
+            when(sessionJdbcRepository.finalizeExpired(now, List.of("agenda-1", "agenda-2")))
+                    .thenReturn(new ExpiredSessionChunk(1, List.of("agenda-1"), List.of("agenda-1")));
+
+            // Act
+            int closed = sessionCloserService.closeDue(List.of("agenda-1", "agenda-2"), now);
+
+            // Assert
+            assertEquals(1, closed);
+            verify(tallyStreamService).close("agenda-1", AgendaStatus.FINISHED);
+            verify(sessionWindowService, times(2)).evict("agenda-1");
+            verify(sessionWindowService).evict("agenda-2");
+            verify(sessionJdbcRepository, never()).finalizeExpired(any(LocalDateTime.class), anyInt());
+        }
+
+        @Test
+        @DisplayName("Não deve remover janelas de lote que falhou")
+        void naoDeveRemoverJanelasDeLoteQueFalhou() {
+            // Arrange
+            when(sessionJdbcRepository.finalizeExpired(now, List.of("agenda-1")))
+                    .thenThrow(new QueryTimeoutException("timeout"));
+
+            // Act & Assert
+            assertThrows(QueryTimeoutException.class,
+                    () -> sessionCloserService.closeDue(List.of("agenda-1"), now));
+            verifyNoInteractions(sessionWindowService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do encerramento no término")
+    class DeadlineTests {
+
+        @Test
+        @DisplayName("Deve reconstruir a fila na inicialização e encerrar a pauta no término")
+        void deveReconstruirFilaEEncerrarNoTermino() {
+            // Arrange
+            SessionEntity session = new SessionEntity();
+            session.setAgenda(pauta("agenda-1", AgendaStatus.IN_PROGRESS));
+            session.setEndTime(LocalDateTime.now().plusNanos(100_000_000));
+            when(sessionRepository.findActiveSessions(any(LocalDateTime.class))).thenReturn(List.of(session));
+            when(sessionJdbcRepository.finalizeExpired(any(LocalDateTime.class), eq(List.of("agenda-1"))))
+                    .thenReturn(new ExpiredSessionChunk(1, List.of("agenda-1"), List.of("agenda-1")));
+
+            // Act
+            sessionCloserService.start();
+
+            // Assert
+            verify(tallyStreamService, timeout(2000)).close("agenda-1", AgendaStatus.FINISHED);
+            assertEquals(0, sessionCloserService.getPendingCount());
+        }
+    }
+}
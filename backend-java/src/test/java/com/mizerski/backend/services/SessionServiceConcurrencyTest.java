@@ -0,0 +1,168 @@
+package com.mizerski.backend.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.dtos.response.SessionResponse;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.enums.AgendaCategory;
+import com.mizerski.backend.models.enums.AgendaResult;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.repositories.AgendaRepository;
+
+/**
+ * Abertura concorrente de sessões contra o contexto completo em H2 (perfil
+ * loadtest): N aberturas simultâneas da mesma pauta resultam em uma única
+ * sessão, e a disputa por uma pauta não bloqueia a abertura de outra
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@DisplayName("SessionService - Abertura concorrente de sessões")
+class SessionServiceConcurrencyTest {
+
+    private static final int STARTS = 16;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private AgendaRepository agendaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(STARTS + 1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private AgendaEntity pauta() {
+        return agendaRepository.save(AgendaEntity.builder()
+                .title("Pauta concorrente")
+                .description("Pauta criada pelo teste de abertura concorrente")
+                .status(AgendaStatus.OPEN)
+                .category(AgendaCategory.OUTROS)
+                .result(AgendaResult.UNVOTED)
+                .totalVotes(0)
+                .yesVotes(0)
+                .noVotes(0)
+                .isActive(true)
+                .build());
+    }
+
+    private int countSessions(String agendaId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sessions WHERE agenda_id = ?", Integer.class,
+                agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve abrir uma única sessão com N aberturas simultâneas da mesma pauta")
+    void deveAbrirUmaUnicaSessao() throws Exception {
+        // Arrange
+        String agendaId = pauta().getId();
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Result<SessionResponse>>> starts = new ArrayList<>();
+
+        // Act - todas as threads partem juntas
+        for (int i = 0; i < STARTS; i++) {
+            starts.add(executor.submit(() -> {
+                go.await();
+                return sessionService.startSession(agendaId, 30);
+            }));
+        }
+        go.countDown();
+
+        Map<String, Integer> outcomes = new ConcurrentHashMap<>();
+        for (Future<Result<SessionResponse>> start : starts) {
+            Result<SessionResponse> result = start.get(30, TimeUnit.SECONDS);
+            outcomes.merge(result.isSuccess() ? "SUCCESS" : result.getErrorCode().orElse("?"), 1, Integer::sum);
+        }
+
+        // Assert - as demais encontram a pauta já em andamento
+        assertEquals(1, outcomes.get("SUCCESS"), outcomes.toString());
+        assertEquals(STARTS - 1, outcomes.getOrDefault("INVALID_AGENDA_STATUS", 0)
+                + outcomes.getOrDefault("SESSION_ALREADY_ACTIVE", 0), outcomes.toString());
+        assertEquals(1, countSessions(agendaId));
+        assertEquals(AgendaStatus.IN_PROGRESS, agendaRepository.findById(agendaId).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve bloquear a abertura de outra pauta enquanto uma está em disputa")
+    void naoDeveBloquearOutraPauta() throws Exception {
+        // Arrange - pautas em locks diferentes
+        StripedLocks locks = new StripedLocks(64);
+        String busyId = pauta().getId();
+        AgendaEntity other = pauta();
+        while (locks.indexOf(other.getId()) == locks.indexOf(busyId)) {
+            other = pauta();
+        }
+        String otherId = other.getId();
+
+        // A abertura da primeira pauta fica com a transação aberta até o fim do teste
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Result<SessionResponse>> busy = executor.submit(() -> transactionTemplate.execute(status -> {
+            Result<SessionResponse> result = sessionService.startSession(busyId, 30);
+            holding.countDown();
+            await(release);
+            return result;
+        }));
+        assertTrue(holding.await(10, TimeUnit.SECONDS));
+
+        // Act
+        Future<Result<SessionResponse>> contender = executor.submit(() -> sessionService.startSession(busyId, 30));
+        Future<Result<SessionResponse>> independent = executor
+                .submit(() -> sessionService.startSession(otherId, 30));
+
+        // Assert - a outra pauta abre com a primeira ainda travada; a disputa espera
+        assertTrue(independent.get(10, TimeUnit.SECONDS).isSuccess());
+        Thread.sleep(200);
+        assertFalse(contender.isDone());
+
+        release.countDown();
+        assertTrue(busy.get(10, TimeUnit.SECONDS).isSuccess());
+        assertFalse(contender.get(10, TimeUnit.SECONDS).isSuccess());
+        assertEquals(1, countSessions(busyId));
+        assertEquals(1, countSessions(otherId));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mizerski.backend.dtos.response.SessionResponse;
+import com.mizerski.backend.models.entities.SessionEntity;
+import com.mizerski.backend.models.mappers.SessionMapper;
+import com.mizerski.backend.repositories.SessionRepository;
+
+/**
+ * Testes unitários para o índice em memória das janelas de sessão
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionWindowService - Testes Unitários")
+class SessionWindowServiceTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionMapper sessionMapper;
+
+    @InjectMocks
+    private SessionWindowServiceImpl sessionWindowService;
+
+    private LocalDateTime now;
+
+    /**
+     * Configuração inicial dos dados de teste
+     */
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        ReflectionTestUtils.setField(sessionWindowService, "revalidateMs", 5000L);
+        ReflectionTestUtils.setField(sessionWindowService, "retentionMs", 60000L);
+    }
+
+    private SessionResponse sessao(String agendaId, LocalDateTime endTime) {
+        return SessionResponse.builder()
+                .id("session-" + agendaId)
+                .agendaId(agendaId)
+                .startTime(endTime.minusMinutes(10))
+                .endTime(endTime)
+                .build();
+    }
+
+    private void sessaoNoBanco(String agendaId, SessionResponse sessao) {
+        SessionEntity entity = new SessionEntity();
+        when(sessionRepository.findCurrentSessionByAgendaId(eq(agendaId), any())).thenReturn(Optional.of(entity));
+        when(sessionMapper.toResponse(entity)).thenReturn(sessao);
+    }
+
+    @Nested
+    @DisplayName("Testes de sessão ativa")
+    class ActiveSessionTests {
+
+        @Test
+        @DisplayName("Deve responder pela janela registrada sem consultar o banco")
+        void deveResponderPelaJanelaRegistrada() {
+            // Arrange
+            SessionResponse sessao = sessao("agenda-123", now.plusMinutes(5));
+            sessionWindowService.register(sessao);
+
+            // Act & Assert
+            assertTrue(sessionWindowService.hasActiveSession("agenda-123", now));
+            assertEquals(Optional.of(sessao), sessionWindowService.findActiveSession("agenda-123", now));
+            verify(sessionRepository, never()).findCurrentSessionByAgendaId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve carregar uma vez a sessão aberta em outra réplica")
+        void deveCarregarSessaoAbertaEmOutraReplica() {
+            // Arrange
+            SessionResponse sessao = sessao("agenda-123", now.plusMinutes(5));
+            sessaoNoBanco("agenda-123", sessao);
+
+            // Act
+            Optional<SessionResponse> primeira = sessionWindowService.findActiveSession("agenda-123", now);
+            Optional<SessionResponse> segunda = sessionWindowService.findActiveSession("agenda-123", now);
+
+            // Assert
+            assertEquals(Optional.of(sessao), primeira);
+            assertEquals(Optional.of(sessao), segunda);
+            verify(sessionRepository, times(1)).findCurrentSessionByAgendaId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve lembrar a ausência de sessão até o intervalo de revalidação")
+        void deveLembrarAusenciaDeSessaoAteRevalidacao() {
+            // Act
+            assertFalse(sessionWindowService.hasActiveSession("agenda-123", now));
+            assertFalse(sessionWindowService.hasActiveSession("agenda-123", now.plusSeconds(1)));
+            assertFalse(sessionWindowService.hasActiveSession("agenda-123", now.plusSeconds(6)));
+
+            // Assert
+            verify(sessionRepository, times(2)).findCurrentSessionByAgendaId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve conferir no banco a pauta cuja janela foi removida no encerramento")
+        void deveConferirBancoAposRemocaoDaJanela() {
+            // Arrange
+            sessionWindowService.register(sessao("agenda-123", now.plusMinutes(10)));
+
+            // Act
+            sessionWindowService.evict("agenda-123");
+
+            // Assert
+            assertFalse(sessionWindowService.hasActiveSession("agenda-123", now));
+            verify(sessionRepository).findCurrentSessionByAgendaId("agenda-123", now);
+        }
+
+        @Test
+        @DisplayName("Deve reconstruir o índice a partir das sessões ativas")
+        void deveReconstruirIndiceDasSessoesAtivas() {
+            // Arrange
+            SessionEntity entity = new SessionEntity();
+            when(sessionRepository.findActiveSessions(any())).thenReturn(List.of(entity));
+            when(sessionMapper.toResponse(entity)).thenReturn(sessao("agenda-123", now.minusSeconds(10)));
+
+            // Act
+            sessionWindowService.rebuild();
+            sessionWindowService.purgeExpired();
+
+            // Assert
+            assertEquals(1, sessionWindowService.getExpiredCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de prazo de votação")
+    class DeadlineTests {
+
+        @Test
+        @DisplayName("Deve encerrar a votação exatamente no término da sessão")
+        void deveEncerrarVotacaoNoTerminoDaSessao() {
+            // Arrange
+            LocalDateTime termino = now.plusMinutes(1);
+            sessionWindowService.register(sessao("agenda-123", termino));
+
+            // Act & Assert
+            assertFalse(sessionWindowService.isVotingClosed("agenda-123", now.plusSeconds(1)));
+            assertTrue(sessionWindowService.isVotingClosed("agenda-123", termino));
+            assertFalse(sessionWindowService.isVotingClosed("agenda-sem-sessao", termino));
+        }
+
+        @Test
+        @DisplayName("Não deve consultar o banco enquanto a janela local está aberta")
+        void naoDeveConsultarBancoComJanelaAberta() {
+            // Arrange
+            sessionWindowService.register(sessao("agenda-123", now.plusMinutes(1)));
+
+            // Act
+            boolean encerrada = sessionWindowService.isVotingClosed("agenda-123", now);
+
+            // Assert
+            assertFalse(encerrada);
+            verify(sessionRepository, never()).findCurrentSessionByAgendaId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve confirmar o término no banco uma única vez")
+        void deveConfirmarTerminoNoBancoUmaVez() {
+            // Arrange
+            LocalDateTime termino = now.plusMinutes(1);
+            sessionWindowService.register(sessao("agenda-123", termino));
+
+            // Act
+            boolean primeira = sessionWindowService.isVotingClosed("agenda-123", termino);
+            boolean segunda = sessionWindowService.isVotingClosed("agenda-123", termino.plusSeconds(1));
+
+            // Assert
+            assertTrue(primeira);
+            assertTrue(segunda);
+            verify(sessionRepository, times(1)).findCurrentSessionByAgendaId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve aceitar votos de nova sessão aberta em outra réplica")
+        void deveAceitarNovaSessaoDeOutraReplica() {
+            // Arrange
+            LocalDateTime termino = now.plusMinutes(1);
+            sessionWindowService.register(sessao("agenda-123", termino));
+            sessaoNoBanco("agenda-123", sessao("agenda-123", termino.plusMinutes(10)));
+
+            // Act
+            boolean encerrada = sessionWindowService.isVotingClosed("agenda-123", termino);
+
+            // Assert - a nova janela substitui a antiga e não consulta o banco de novo
+            assertFalse(encerrada);
+            assertFalse(sessionWindowService.isVotingClosed("agenda-123", termino.plusSeconds(1)));
+            verify(sessionRepository, times(1)).findCurrentSessionByAgendaId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve manter a janela de maior término por pauta")
+        void deveManterJanelaDeMaiorTermino() {
+            // Arrange
+            sessionWindowService.register(sessao("agenda-123", now.plusMinutes(10)));
+            sessionWindowService.register(sessao("agenda-123", now.minusMinutes(1)));
+
+            // Act & Assert
+            assertFalse(sessionWindowService.isVotingClosed("agenda-123", now));
+        }
+
+        @Test
+        @DisplayName("Deve remover a janela da sessão finalizada antes do término")
+        void deveRemoverJanelaDaSessaoFinalizada() {
+            // Arrange
+            sessionWindowService.register(sessao("agenda-123", now.plusMinutes(10)));
+
+            // Act
+            sessionWindowService.evict("agenda-123");
+
+            // Assert
+            assertFalse(sessionWindowService.isVotingClosed("agenda-123", now.plusMinutes(20)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da limpeza do índice")
+    class PurgeTests {
+
+        @Test
+        @DisplayName("Deve remover janelas terminadas após o prazo de retenção e contar as restantes")
+        void deveRemoverJanelasAposRetencao() {
+            // Arrange
+            sessionWindowService.register(sessao("agenda-antiga", now.minusMinutes(5)));
+            sessionWindowService.register(sessao("agenda-recente", now.minusSeconds(10)));
+            sessionWindowService.register(sessao("agenda-aberta", now.plusMinutes(5)));
+
+            // Act
+            sessionWindowService.purgeExpired();
+
+            // Assert - a janela antiga saiu: a pauta volta a ser conferida no banco
+            assertEquals(1, sessionWindowService.getExpiredCount());
+            assertTrue(sessionWindowService.isVotingClosed("agenda-recente", now));
+            assertFalse(sessionWindowService.isVotingClosed("agenda-antiga", now));
+            verify(sessionRepository, times(1)).findCurrentSessionByAgendaId(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve remover ausências de sessão vencidas")
+        void deveRemoverAusenciasVencidas() {
+            // Arrange
+            sessionWindowService.hasActiveSession("agenda-123", now.minusMinutes(1));
+
+            // Act
+            sessionWindowService.purgeExpired();
+            sessionWindowService.hasActiveSession("agenda-123", now.minusMinutes(1));
+
+            // Assert
+            assertEquals(0, sessionWindowService.getExpiredCount());
+            verify(sessionRepository, times(2)).findCurrentSessionByAgendaId(anyString(), any());
+        }
+    }
+}
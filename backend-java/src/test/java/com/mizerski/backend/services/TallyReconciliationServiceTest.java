@@ -0,0 +1,182 @@
+package com.mizerski.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.models.domains.TallyCheck;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.repositories.TallyReconciliationJdbcRepository;
+
+/**
+ * Testes unitários para a reconciliação dos contadores de votos
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TallyReconciliationService - Testes Unitários")
+class TallyReconciliationServiceTest {
+
+    private static final String WATERMARK = TallyReconciliationServiceImpl.WATERMARK_NAME;
+
+    @Mock
+    private TallyReconciliationJdbcRepository tallyReconciliationJdbcRepository;
+
+    @Mock
+    private TallyService tallyService;
+
+    @Mock
+    private AgendaCacheService agendaCacheService;
+
+    @Mock
+    private LeaderElectionService leaderElectionService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TallyReconciliationServiceImpl tallyReconciliationService;
+
+    private LocalDateTime since;
+    private LocalDateTime until;
+
+    /**
+     * Configuração inicial do serviço e da transação simulada
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tallyReconciliationService, "enabled", true);
+        ReflectionTestUtils.setField(tallyReconciliationService, "settleMs", 10000L);
+        ReflectionTestUtils.setField(tallyReconciliationService, "initialLookbackMs", 3600000L);
+        ReflectionTestUtils.setField(tallyReconciliationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(tallyReconciliationService, "threads", 2);
+        tallyReconciliationService.init();
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        until = LocalDateTime.now();
+        since = until.minusMinutes(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tallyReconciliationService.destroy();
+    }
+
+    private static TallyCheck check(String agendaId, VoteTally stored, VoteTally counted) {
+        return new TallyCheck(agendaId, stored, counted);
+    }
+
+    @Nested
+    @DisplayName("Testes do método reconcile")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Deve somar a diferença aos contadores das pautas divergentes e avançar a marca d'água")
+        void deveCorrigirPautasDivergentes() {
+            // Arrange - a pauta 2 perdeu um voto SIM e a pauta 3 contou um NÃO a mais
+            when(tallyReconciliationJdbcRepository.findWatermark(WATERMARK)).thenReturn(Optional.of(since));
+            when(tallyReconciliationJdbcRepository.findAgendaIdsWithVotesBetween(since, until))
+                    .thenReturn(List.of("agenda-1", "agenda-2", "agenda-3"));
+            when(tallyReconciliationJdbcRepository.checkTallies(List.of("agenda-1", "agenda-2"))).thenReturn(List.of(
+                    check("agenda-1", new VoteTally(3, 2, 1), new VoteTally(3, 2, 1)),
+                    check("agenda-2", new VoteTally(4, 3, 1), new VoteTally(5, 4, 1))));
+            when(tallyReconciliationJdbcRepository.checkTallies(List.of("agenda-3"))).thenReturn(List.of(
+                    check("agenda-3", new VoteTally(2, 0, 2), new VoteTally(1, 0, 1))));
+
+            // Act
+            int drifted = tallyReconciliationService.reconcile(until);
+
+            // Assert
+            assertEquals(2, drifted);
+            verify(tallyService).add(eq("agenda-2"), argThat(delta -> delta.getTotalVotes() == 1
+                    && delta.getYesVotes() == 1 && delta.getNoVotes() == 0));
+            verify(tallyService).add(eq("agenda-3"), argThat(delta -> delta.getTotalVotes() == -1
+                    && delta.getYesVotes() == 0 && delta.getNoVotes() == -1));
+            verify(tallyService, never()).add(eq("agenda-1"), any());
+            verify(agendaCacheService).evict("agenda-2");
+            verify(agendaCacheService).evict("agenda-3");
+            verify(tallyReconciliationJdbcRepository).saveWatermark(WATERMARK, until);
+
+            TallyReconciliationService.ReconciliationStats stats = tallyReconciliationService.getStats();
+            assertEquals(3, stats.checkedAgendas());
+            assertEquals(2, stats.driftedAgendas());
+            assertEquals(2, stats.correctedVotes());
+            assertEquals(2, stats.lastRunDrifted());
+        }
+
+        @Test
+        @DisplayName("Não deve avançar a marca d'água quando um lote falha")
+        void naoDeveAvancarMarcaDaguaQuandoLoteFalha() {
+            // Arrange
+            when(tallyReconciliationJdbcRepository.findWatermark(WATERMARK)).thenReturn(Optional.of(since));
+            when(tallyReconciliationJdbcRepository.findAgendaIdsWithVotesBetween(since, until))
+                    .thenReturn(List.of("agenda-1"));
+            when(tallyReconciliationJdbcRepository.checkTallies(anyList()))
+                    .thenThrow(new IllegalStateException("conexão perdida"));
+
+            // Act
+            int drifted = tallyReconciliationService.reconcile(until);
+
+            // Assert
+            assertEquals(0, drifted);
+            verify(tallyReconciliationJdbcRepository, never()).saveWatermark(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve conferir o intervalo inicial na primeira execução")
+        void deveConferirIntervaloInicialNaPrimeiraExecucao() {
+            // Arrange
+            when(tallyReconciliationJdbcRepository.findWatermark(WATERMARK)).thenReturn(Optional.empty());
+            when(tallyReconciliationJdbcRepository.findAgendaIdsWithVotesBetween(until.minusHours(1), until))
+                    .thenReturn(List.of());
+
+            // Act
+            int drifted = tallyReconciliationService.reconcile(until);
+
+            // Assert
+            assertEquals(0, drifted);
+            verify(tallyReconciliationJdbcRepository, never()).checkTallies(anyList());
+            verify(tallyReconciliationJdbcRepository).saveWatermark(WATERMARK, until);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes da execução periódica")
+    class ScheduledTests {
+
+        @Test
+        @DisplayName("Não deve reconciliar em nó que não é o líder")
+        void naoDeveReconciliarSemLideranca() {
+            // Arrange
+            when(leaderElectionService.isLeader()).thenReturn(false);
+
+            // Act
+            tallyReconciliationService.scheduledReconcile();
+
+            // Assert
+            verify(tallyReconciliationJdbcRepository, times(0)).findWatermark(any());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.mizerski.backend.services;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.AgendaSummaryResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.repositories.AgendaTallyShardRepository;
+
+/**
+ * Testes unitários para o serviço de contadores fragmentados
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TallyService - Testes Unitários")
+class TallyServiceTest {
+
+    @Mock
+    private AgendaTallyShardRepository agendaTallyShardRepository;
+
+    @Mock
+    private AgendaCacheService agendaCacheService;
+
+    @Mock
+    private TallyStreamService tallyStreamService;
+
+    @InjectMocks
+    private TallyServiceImpl tallyService;
+
+    /**
+     * Configuração inicial dos dados de teste
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tallyService, "shardCount", 4);
+    }
+
+    @Nested
+    @DisplayName("Testes de incremento")
+    class IncrementTests {
+
+        @Test
+        @DisplayName("Deve incrementar um shard válido com voto SIM")
+        void deveIncrementarShardComVotoSim() {
+            // Act
+            tallyService.increment("agenda-123", VoteType.YES);
+
+            // Assert
+            verify(agendaTallyShardRepository).increment(eq("agenda-123"),
+                    intThat(shardId -> shardId >= 0 && shardId < 4),
+                    argThat(tally -> tally.getTotalVotes() == 1 && tally.getYesVotes() == 1
+                            && tally.getNoVotes() == 0));
+            verify(agendaCacheService).applyTally(eq("agenda-123"), argThat(tally -> tally.getYesVotes() == 1));
+        }
+
+        @Test
+        @DisplayName("Não deve acessar o banco quando a contagem está zerada")
+        void naoDeveAcessarBancoQuandoContagemZerada() {
+            // Act
+            tallyService.add("agenda-123", VoteTally.EMPTY);
+
+            // Assert
+            verify(agendaTallyShardRepository, never()).increment(anyString(), anyInt(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de leitura")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Deve somar shards aos contadores base da resposta")
+        void deveSomarShardsAosContadoresBase() {
+            // Arrange
+            AgendaResponse response = AgendaResponse.builder()
+                    .id("agenda-123")
+                    .totalVotes(10)
+                    .yesVotes(6)
+                    .noVotes(4)
+                    .build();
+            when(agendaTallyShardRepository.sumByAgendaId("agenda-123")).thenReturn(new VoteTally(3, 1, 2));
+
+            // Act
+            tallyService.applyTo(response);
+
+            // Assert
+            assertEquals(13, response.getTotalVotes());
+            assertEquals(7, response.getYesVotes());
+            assertEquals(6, response.getNoVotes());
+        }
+
+        @Test
+        @DisplayName("Deve somar shards de várias agendas com uma única consulta")
+        void deveSomarShardsDeVariasAgendas() {
+            // Arrange
+            AgendaResponse comShards = AgendaResponse.builder().id("agenda-1").totalVotes(1).yesVotes(1).noVotes(0)
+                    .build();
+            AgendaResponse semShards = AgendaResponse.builder().id("agenda-2").totalVotes(2).yesVotes(0).noVotes(2)
+                    .build();
+            when(agendaTallyShardRepository.sumByAgendaIds(List.of("agenda-1", "agenda-2")))
+                    .thenReturn(Map.of("agenda-1", new VoteTally(2, 2, 0)));
+
+            // Act
+            tallyService.applyTo(List.of(comShards, semShards));
+
+            // Assert
+            assertEquals(3, comShards.getTotalVotes());
+            assertEquals(3, comShards.getYesVotes());
+            assertEquals(2, semShards.getTotalVotes());
+        }
+
+        @Test
+        @DisplayName("Deve somar shards aos resumos de agendas com uma única consulta")
+        void deveSomarShardsAosResumos() {
+            // Arrange
+            AgendaSummaryResponse comShards = AgendaSummaryResponse.builder().id("agenda-1").totalVotes(1)
+                    .yesVotes(0).noVotes(1).build();
+            AgendaSummaryResponse semShards = AgendaSummaryResponse.builder().id("agenda-2").totalVotes(0)
+                    .yesVotes(0).noVotes(0).build();
+            when(agendaTallyShardRepository.sumByAgendaIds(List.of("agenda-1", "agenda-2")))
+                    .thenReturn(Map.of("agenda-1", new VoteTally(3, 2, 1)));
+
+            // Act
+            tallyService.applySummaries(List.of(comShards, semShards));
+
+            // Assert
+            assertEquals(4, comShards.getTotalVotes());
+            assertEquals(2, comShards.getYesVotes());
+            assertEquals(2, comShards.getNoVotes());
+            assertEquals(0, semShards.getTotalVotes());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de consolidação")
+    class FoldTests {
+
+        @Test
+        @DisplayName("Deve consolidar shards bloqueados na agenda e removê-los")
+        void deveConsolidarShardsBloqueados() {
+            // Arrange
+            AgendaEntity agenda = new AgendaEntity();
+            agenda.setId("agenda-123");
+            agenda.setTotalVotes(5);
+            agenda.setYesVotes(3);
+            agenda.setNoVotes(2);
+
+            Map<Integer, VoteTally> shards = new LinkedHashMap<>();
+            shards.put(0, new VoteTally(2, 2, 0));
+            shards.put(3, new VoteTally(1, 0, 1));
+            when(agendaTallyShardRepository.lockByAgendaId("agenda-123")).thenReturn(shards);
+
+            // Act
+            tallyService.foldShards(agenda);
+
+            // Assert
+            assertEquals(8, agenda.getTotalVotes());
+            assertEquals(5, agenda.getYesVotes());
+            assertEquals(3, agenda.getNoVotes());
+            verify(agendaTallyShardRepository).deleteShards("agenda-123", List.of(0, 3));
+        }
+    }
+}
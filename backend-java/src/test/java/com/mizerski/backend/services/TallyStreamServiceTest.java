@@ -0,0 +1,239 @@
+package com.mizerski.backend.services;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mizerski.backend.dtos.response.AgendaResponse;
+import com.mizerski.backend.dtos.response.TallyEventResponse;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.enums.AgendaStatus;
+
+/**
+ * Testes unitários para o stream de contagem de votos
+ */
+@DisplayName("TallyStreamService - Testes Unitários")
+class TallyStreamServiceTest {
+
+    private static final String AGENDA_ID = "agenda-123";
+    private static final long WAIT_MS = 2000;
+
+    private TallyStreamServiceImpl tallyStreamService;
+    private RecordingEmitter emitter;
+
+    /**
+     * Emitter que registra os eventos enviados em vez de escrever na resposta
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        final List<TallyEventResponse> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile CountDownLatch blockSend;
+        final CountDownLatch sending = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            awaitQuietly(blockSend);
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(TallyEventResponse.class::isInstance)
+                    .map(TallyEventResponse.class::cast)
+                    .forEach(events::add);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        boolean awaitCompletion() {
+            return awaitQuietly(completed);
+        }
+
+        List<TallyEventResponse> awaitEvents(int count) {
+            long deadline = System.currentTimeMillis() + WAIT_MS;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            return events;
+        }
+
+        private static boolean awaitQuietly(CountDownLatch latch) {
+            try {
+                return latch == null || latch.await(WAIT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Configuração inicial do serviço com o emitter de teste
+     */
+    @BeforeEach
+    void setUp() {
+        tallyStreamService = spy(new TallyStreamServiceImpl());
+        ReflectionTestUtils.setField(tallyStreamService, "bufferSize", 2);
+        ReflectionTestUtils.setField(tallyStreamService, "senderThreads", 1);
+        tallyStreamService.init();
+
+        emitter = new RecordingEmitter();
+        doAnswer(invocation -> emitter).when(tallyStreamService).createEmitter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tallyStreamService.destroy();
+    }
+
+    private AgendaResponse agenda(AgendaStatus status) {
+        return AgendaResponse.builder()
+                .id(AGENDA_ID)
+                .status(status)
+                .totalVotes(3)
+                .yesVotes(2)
+                .noVotes(1)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Testes do método subscribe")
+    class SubscribeTests {
+
+        @Test
+        @DisplayName("Deve enviar snapshot e manter inscrito em pauta em andamento")
+        void deveEnviarSnapshotEManterInscrito() {
+            // Act
+            tallyStreamService.subscribe(agenda(AgendaStatus.IN_PROGRESS));
+
+            // Assert
+            List<TallyEventResponse> events = emitter.awaitEvents(1);
+            assertEquals(1, events.size());
+            assertEquals(3, events.get(0).getTotalVotes());
+            assertEquals(1, tallyStreamService.getSubscriberCount());
+            assertEquals(1, emitter.completed.getCount());
+        }
+
+        @Test
+        @DisplayName("Deve enviar snapshot e evento final para pauta encerrada")
+        void deveEnviarSnapshotEEventoFinalParaPautaEncerrada() {
+            // Act
+            tallyStreamService.subscribe(agenda(AgendaStatus.FINISHED));
+
+            // Assert
+            assertTrue(emitter.awaitCompletion());
+            assertEquals(2, emitter.events.size());
+            assertEquals(AgendaStatus.FINISHED, emitter.events.get(1).getStatus());
+            assertEquals(0, tallyStreamService.getSubscriberCount());
+        }
+
+        @Test
+        @DisplayName("Deve encerrar os streams abertos no fechamento do contexto")
+        void deveEncerrarStreamsNoFechamentoDoContexto() {
+            // Arrange
+            tallyStreamService.subscribe(agenda(AgendaStatus.IN_PROGRESS));
+
+            // Act
+            tallyStreamService.disconnectAll();
+
+            // Assert
+            assertTrue(emitter.awaitCompletion());
+            assertEquals(0, tallyStreamService.getSubscriberCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de publicação")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Deve agrupar os votos do intervalo em um único evento")
+        void deveAgruparVotosDoIntervalo() throws Exception {
+            // Arrange
+            tallyStreamService.subscribe(agenda(AgendaStatus.IN_PROGRESS));
+
+            // Act
+            tallyStreamService.publish(AGENDA_ID, new VoteTally(1, 1, 0));
+            tallyStreamService.publish(AGENDA_ID, new VoteTally(1, 0, 1));
+            tallyStreamService.publish(AGENDA_ID, new VoteTally(2, 2, 0));
+            tallyStreamService.flush();
+            tallyStreamService.flush();
+
+            // Assert - snapshot + um evento tally com o delta acumulado
+            List<TallyEventResponse> events = emitter.awaitEvents(2);
+            Thread.sleep(100);
+            assertEquals(2, events.size());
+            assertEquals(4, events.get(1).getTotalVotes());
+            assertEquals(3, events.get(1).getYesVotes());
+            assertEquals(1, events.get(1).getNoVotes());
+        }
+
+        @Test
+        @DisplayName("Não deve acumular votos de pauta sem inscritos")
+        void naoDeveAcumularVotosSemInscritos() throws Exception {
+            // Act
+            tallyStreamService.publish(AGENDA_ID, new VoteTally(1, 1, 0));
+            tallyStreamService.subscribe(agenda(AgendaStatus.IN_PROGRESS));
+            tallyStreamService.flush();
+
+            // Assert - somente o snapshot
+            emitter.awaitEvents(1);
+            Thread.sleep(100);
+            assertEquals(1, emitter.events.size());
+        }
+
+        @Test
+        @DisplayName("Deve enviar votos pendentes e evento final ao fechar a pauta")
+        void deveEncerrarStreamsAoFecharPauta() {
+            // Arrange
+            tallyStreamService.subscribe(agenda(AgendaStatus.IN_PROGRESS));
+            emitter.awaitEvents(1); // fila de 2 eventos: o snapshot precisa sair antes
+            tallyStreamService.publish(AGENDA_ID, new VoteTally(1, 1, 0));
+
+            // Act
+            tallyStreamService.close(AGENDA_ID, AgendaStatus.FINISHED);
+
+            // Assert - snapshot + votos pendentes + evento final
+            assertTrue(emitter.awaitCompletion());
+            assertEquals(3, emitter.events.size());
+            assertEquals(1, emitter.events.get(1).getTotalVotes());
+            assertEquals(AgendaStatus.FINISHED, emitter.events.get(2).getStatus());
+            assertEquals(0, tallyStreamService.getSubscriberCount());
+        }
+
+        @Test
+        @DisplayName("Deve desconectar cliente lento quando a fila enche")
+        void deveDesconectarClienteLento() throws Exception {
+            // Arrange - o primeiro envio fica preso até o fim do teste
+            CountDownLatch release = new CountDownLatch(1);
+            emitter.blockSend = release;
+            tallyStreamService.subscribe(agenda(AgendaStatus.IN_PROGRESS));
+            emitter.sending.await();
+
+            // Act - fila de 2 eventos
+            for (int i = 0; i < 3; i++) {
+                tallyStreamService.publish(AGENDA_ID, new VoteTally(1, 1, 0));
+                tallyStreamService.flush();
+            }
+
+            // Assert
+            assertEquals(0, emitter.completed.getCount());
+            assertEquals(0, tallyStreamService.getSubscriberCount());
+            release.countDown();
+        }
+    }
+}
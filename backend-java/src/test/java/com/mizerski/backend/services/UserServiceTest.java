@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,8 +32,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.mizerski.backend.dtos.request.CreateUserRequest;
+import com.mizerski.backend.dtos.response.CursorPagedResponse;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.UserResponse;
+import com.mizerski.backend.models.domains.PageCursor;
 import com.mizerski.backend.models.domains.Result;
 import com.mizerski.backend.models.domains.Users;
 import com.mizerski.backend.models.entities.UserEntity;
@@ -567,6 +572,76 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes do método getAllUsers (por cursor)")
+    class GetAllUsersByCursorTests {
+
+        @Test
+        @DisplayName("Deve retornar o cursor do último item quando há próxima página")
+        void deveRetornarCursorQuandoHaProximaPagina() {
+            // Arrange
+            LocalDateTime criadoEm = LocalDateTime.of(2025, 1, 10, 12, 0);
+            UserEntity primeiro = new UserEntity();
+            primeiro.setId("user-2");
+            UserEntity excedente = new UserEntity();
+            excedente.setId("user-1");
+            UserResponse primeiroResponse = UserResponse.builder().id("user-2").createdAt(criadoEm).build();
+
+            when(userRepository.findBefore(PageCursor.START.getCreatedAt(), "", Limit.of(2)))
+                    .thenReturn(List.of(primeiro, excedente));
+            when(userMapper.toResponse(primeiro)).thenReturn(primeiroResponse);
+            when(userMapper.toResponse(excedente)).thenReturn(UserResponse.builder().id("user-1").build());
+
+            // Act
+            Result<CursorPagedResponse<UserResponse>> result = userService.getAllUsers(null, 1);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            CursorPagedResponse<UserResponse> page = result.getValue().get();
+            assertEquals(List.of(primeiroResponse), page.getContent());
+            assertTrue(page.isHasNext());
+
+            PageCursor next = PageCursor.decode(page.getNextCursor());
+            assertEquals(criadoEm, next.getCreatedAt());
+            assertEquals("user-2", next.getId());
+        }
+
+        @Test
+        @DisplayName("Deve continuar a partir da chave do cursor recebido")
+        void deveContinuarAPartirDoCursor() {
+            // Arrange
+            LocalDateTime criadoEm = LocalDateTime.of(2025, 1, 10, 12, 0);
+            String after = new PageCursor(criadoEm, "user-2").encode();
+
+            when(userRepository.findBefore(criadoEm, "user-2", Limit.of(21))).thenReturn(List.of());
+
+            // Act
+            Result<CursorPagedResponse<UserResponse>> result = userService.getAllUsers(after, 20);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            assertTrue(result.getValue().get().getContent().isEmpty());
+            assertFalse(result.getValue().get().isHasNext());
+            assertNull(result.getValue().get().getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro quando o cursor é inválido")
+        void deveRetornarErroQuandoCursorInvalido() {
+            // Arrange
+            when(exceptionMappingService.mapExceptionToResult(any(IllegalArgumentException.class)))
+                    .thenReturn(Result.error("INVALID_DATA", "Cursor de paginação inválido"));
+
+            // Act
+            Result<CursorPagedResponse<UserResponse>> result = userService.getAllUsers("nao-e-um-cursor", 20);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("INVALID_DATA", result.getErrorCode().get());
+            verify(userRepository, never()).findBefore(any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Testes do método searchUsersByEmail")
     class SearchUsersByEmailTests {
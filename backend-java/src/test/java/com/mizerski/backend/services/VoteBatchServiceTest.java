@@ -0,0 +1,296 @@
+package com.mizerski.backend.services;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.BatchVoteResponse;
+import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.Votes;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.models.mappers.VoteMapper;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
+
+import jakarta.validation.Validator;
+
+/**
+ * Testes unitários para o serviço de envio de votos em lote
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteBatchService - Testes Unitários")
+class VoteBatchServiceTest {
+
+    private static final String AGENDA_ABERTA = "11111111-1111-1111-1111-111111111111";
+    private static final String AGENDA_FECHADA = "22222222-2222-2222-2222-222222222222";
+    private static final String USUARIO_1 = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+    private static final String USUARIO_2 = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb";
+
+    @Mock
+    private VoteJdbcRepository voteJdbcRepository;
+
+    @Mock
+    private AgendaRepository agendaRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TallyService tallyService;
+
+    @Mock
+    private VoterBitmapService voterBitmapService;
+
+    @Mock
+    private SessionWindowService sessionWindowService;
+
+    @Mock
+    private VoteMapper voteMapper;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ExceptionMappingService exceptionMappingService;
+
+    @InjectMocks
+    private VoteBatchServiceImpl voteBatchService;
+
+    private AgendaEntity agendaAberta;
+    private AgendaEntity agendaFechada;
+
+    /**
+     * Configuração inicial dos dados de teste
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(voteBatchService, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(voteBatchService, "jdbcBatchSize", 2);
+
+        agendaAberta = new AgendaEntity();
+        agendaAberta.setId(AGENDA_ABERTA);
+        agendaAberta.setStatus(AgendaStatus.IN_PROGRESS);
+
+        agendaFechada = new AgendaEntity();
+        agendaFechada.setId(AGENDA_FECHADA);
+        agendaFechada.setStatus(AgendaStatus.FINISHED);
+    }
+
+    private void executarTransacaoDiretamente() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Nested
+    @DisplayName("Testes do método submitBatch")
+    class SubmitBatchTests {
+
+        @Test
+        @DisplayName("Deve retornar resultado individual e agregar contadores por pauta")
+        void deveRetornarResultadoIndividualEAgregarContadores() {
+            // Arrange
+            executarTransacaoDiretamente();
+            List<CreateVoteRequest> requests = List.of(
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_1),
+                    new CreateVoteRequest(VoteType.NO, AGENDA_ABERTA, USUARIO_2),
+                    new CreateVoteRequest(VoteType.YES, AGENDA_FECHADA, USUARIO_1));
+
+            when(validator.validate(any(CreateVoteRequest.class))).thenReturn(Set.of());
+            when(agendaRepository.findAllById(any())).thenReturn(List.of(agendaAberta, agendaFechada));
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 1, 1 });
+            when(voteMapper.toResponse(any(Votes.class))).thenReturn(new VoteResponse());
+
+            // Act
+            Result<BatchVoteResponse> result = voteBatchService.submitBatch(requests);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            BatchVoteResponse response = result.getValue().get();
+            assertEquals(2, response.getAccepted());
+            assertEquals(1, response.getRejected());
+            assertTrue(response.getResults().get(0).isSuccess());
+            assertTrue(response.getResults().get(1).isSuccess());
+            assertEquals("AGENDA_NOT_OPEN", response.getResults().get(2).getErrorCode());
+
+            // Status da pauta consultado uma vez e um único incremento agregado
+            verify(agendaRepository, times(1)).findAllById(any());
+            verify(tallyService).add(eq(AGENDA_ABERTA), argThat(tally -> tally.getTotalVotes() == 2
+                    && tally.getYesVotes() == 1 && tally.getNoVotes() == 1));
+        }
+
+        @Test
+        @DisplayName("Não deve falhar o lote inteiro quando há voto duplicado")
+        void naoDeveFalharLoteQuandoHaVotoDuplicado() {
+            // Arrange
+            executarTransacaoDiretamente();
+            List<CreateVoteRequest> requests = List.of(
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_1),
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_2));
+
+            UserEntity usuario = new UserEntity();
+            usuario.setId(USUARIO_2);
+
+            when(validator.validate(any(CreateVoteRequest.class))).thenReturn(Set.of());
+            when(agendaRepository.findAllById(any())).thenReturn(List.of(agendaAberta));
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 1, 0 });
+            when(userRepository.findAllById(any())).thenReturn(List.of(usuario));
+            when(voteMapper.toResponse(any(Votes.class))).thenReturn(new VoteResponse());
+
+            // Act
+            Result<BatchVoteResponse> result = voteBatchService.submitBatch(requests);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            BatchVoteResponse response = result.getValue().get();
+            assertTrue(response.getResults().get(0).isSuccess());
+            assertFalse(response.getResults().get(1).isSuccess());
+            assertEquals("USER_ALREADY_VOTED", response.getResults().get(1).getErrorCode());
+            assertEquals(1, response.getResults().get(1).getIndex());
+        }
+
+        @Test
+        @DisplayName("Deve informar pauta encerrada quando ela fecha durante o lote")
+        void deveInformarPautaEncerradaDuranteOLote() {
+            // Arrange - aberta na verificação inicial, encerrada quando o INSERT roda
+            executarTransacaoDiretamente();
+            List<CreateVoteRequest> requests = List.of(
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_1));
+
+            AgendaEntity agendaEncerrada = new AgendaEntity();
+            agendaEncerrada.setId(AGENDA_ABERTA);
+            agendaEncerrada.setStatus(AgendaStatus.FINISHED);
+
+            UserEntity usuario = new UserEntity();
+            usuario.setId(USUARIO_1);
+
+            when(validator.validate(any(CreateVoteRequest.class))).thenReturn(Set.of());
+            when(agendaRepository.findAllById(any()))
+                    .thenReturn(List.of(agendaAberta))
+                    .thenReturn(List.of(agendaEncerrada));
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 0 });
+            when(userRepository.findAllById(any())).thenReturn(List.of(usuario));
+
+            // Act
+            Result<BatchVoteResponse> result = voteBatchService.submitBatch(requests);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            BatchVoteResponse response = result.getValue().get();
+            assertEquals(0, response.getAccepted());
+            assertEquals("AGENDA_NOT_OPEN", response.getResults().get(0).getErrorCode());
+            verify(agendaRepository, times(2)).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Deve gravar em lotes JDBC conforme o tamanho configurado")
+        void deveGravarEmLotesJdbc() {
+            // Arrange
+            executarTransacaoDiretamente();
+            List<CreateVoteRequest> requests = List.of(
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_1),
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_2),
+                    new CreateVoteRequest(VoteType.NO, AGENDA_ABERTA, "cccccccc-cccc-cccc-cccc-cccccccccccc"));
+
+            when(validator.validate(any(CreateVoteRequest.class))).thenReturn(Set.of());
+            when(agendaRepository.findAllById(any())).thenReturn(List.of(agendaAberta));
+            when(voteJdbcRepository.insertBatch(anyList()))
+                    .thenReturn(new int[] { 1, 1 })
+                    .thenReturn(new int[] { 1 });
+            when(voteMapper.toResponse(any(Votes.class))).thenReturn(new VoteResponse());
+
+            // Act
+            Result<BatchVoteResponse> result = voteBatchService.submitBatch(requests);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            assertEquals(3, result.getValue().get().getAccepted());
+            verify(voteJdbcRepository, times(2)).insertBatch(anyList());
+            verify(tallyService, times(1)).add(eq(AGENDA_ABERTA), any());
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro quando lote está vazio")
+        void deveRetornarErroQuandoLoteVazio() {
+            // Act
+            Result<BatchVoteResponse> result = voteBatchService.submitBatch(List.of());
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("INVALID_DATA", result.getErrorCode().get());
+            verify(voteJdbcRepository, never()).insertBatch(anyList());
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro quando lote excede o limite")
+        void deveRetornarErroQuandoLoteExcedeLimite() {
+            // Arrange
+            ReflectionTestUtils.setField(voteBatchService, "maxBatchSize", 1);
+            List<CreateVoteRequest> requests = List.of(
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_1),
+                    new CreateVoteRequest(VoteType.YES, AGENDA_ABERTA, USUARIO_2));
+
+            // Act
+            Result<BatchVoteResponse> result = voteBatchService.submitBatch(requests);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("INVALID_DATA", result.getErrorCode().get());
+            verify(agendaRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Não deve acessar o banco quando nenhuma pauta está aberta")
+        void naoDeveAcessarBancoQuandoNenhumaPautaAberta() {
+            // Arrange
+            List<CreateVoteRequest> requests = List.of(
+                    new CreateVoteRequest(VoteType.YES, AGENDA_FECHADA, USUARIO_1));
+
+            when(validator.validate(any(CreateVoteRequest.class))).thenReturn(Set.of());
+            when(agendaRepository.findAllById(any())).thenReturn(List.of(agendaFechada));
+
+            // Act
+            Result<BatchVoteResponse> result = voteBatchService.submitBatch(requests);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            assertEquals(0, result.getValue().get().getAccepted());
+            verify(transactionTemplate, never()).executeWithoutResult(any());
+            verify(tallyService, never()).add(anyString(), any());
+        }
+    }
+}
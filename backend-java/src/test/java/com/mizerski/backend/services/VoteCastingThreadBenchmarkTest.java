@@ -0,0 +1,177 @@
+package com.mizerski.backend.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.models.domains.Votes;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.models.mappers.VoteMapper;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
+import com.mizerski.backend.repositories.VoteRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Benchmark comparativo de registro de votos com threads de plataforma (pool
+ * padrão do Tomcat) e threads virtuais.
+ *
+ * O caminho de votação é o real (VoteServiceImpl); o banco é simulado por um
+ * semáforo do tamanho do pool do Hikari e uma latência fixa por transação.
+ * Só roda em JRE 21+ e quando solicitado explicitamente:
+ *
+ * <pre>
+ * mvn -Pjava21 test -Dtest=VoteCastingThreadBenchmarkTest -Dbenchmark=true \
+ *     -Dbenchmark.requests=20000 -Dbenchmark.db-pool=10 -Dbenchmark.db-latency-ms=2
+ * </pre>
+ */
+@Slf4j
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("VoteService - Benchmark de threads virtuais")
+class VoteCastingThreadBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20000);
+    private static final int DB_POOL_SIZE = Integer.getInteger("benchmark.db-pool", 10);
+    private static final int DB_LATENCY_MS = Integer.getInteger("benchmark.db-latency-ms", 2);
+    private static final int PLATFORM_THREADS = Integer.getInteger("benchmark.platform-threads", 200);
+
+    private VoteServiceImpl voteService;
+
+    /**
+     * Monta o serviço real com dependências simuladas (sem registro de chamadas)
+     */
+    @BeforeEach
+    void setUp() {
+        VoteMapper voteMapper = stub(VoteMapper.class);
+        VoteJdbcRepository voteJdbcRepository = stub(VoteJdbcRepository.class);
+        TransactionTemplate transactionTemplate = stub(TransactionTemplate.class);
+        Semaphore connections = new Semaphore(DB_POOL_SIZE, true);
+
+        when(voteMapper.fromCreateRequest(any())).thenAnswer(invocation -> {
+            CreateVoteRequest request = invocation.getArgument(0);
+            return Votes.builder()
+                    .voteType(request.getVoteType())
+                    .agendaId(request.getAgendaId())
+                    .userId(request.getUserId())
+                    .build();
+        });
+        when(voteMapper.toResponse(any(Votes.class))).thenReturn(new VoteResponse());
+        when(voteJdbcRepository.insert(any())).thenReturn(1);
+
+        // A conexão fica presa durante toda a transação, como no Hikari
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            connections.acquire();
+            try {
+                Thread.sleep(DB_LATENCY_MS);
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                connections.release();
+            }
+        });
+
+        voteService = new VoteServiceImpl(stub(VoteRepository.class), voteMapper, stub(AgendaRepository.class),
+                stub(UserRepository.class), stub(ExceptionMappingService.class), stub(TallyService.class),
+                voteJdbcRepository, transactionTemplate, stub(VoterBitmapService.class),
+                stub(SessionWindowService.class));
+    }
+
+    @Test
+    @DisplayName("Deve comparar vazão e p99 entre threads de plataforma e virtuais")
+    void deveCompararVazaoELatencia() throws Exception {
+        ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        try {
+            run("aquecimento", platform::submit);
+
+            Measurement platformResult = run("plataforma (" + PLATFORM_THREADS + " threads)", platform::submit);
+            Measurement virtualResult = run("virtuais", new VirtualThreadTaskExecutor("vote-")::submit);
+
+            log.info("Benchmark: {} votos, pool do banco={}, latência={}ms", REQUESTS, DB_POOL_SIZE, DB_LATENCY_MS);
+            log.info("{}", platformResult);
+            log.info("{}", virtualResult);
+
+            assertEquals(REQUESTS, platformResult.succeeded);
+            assertEquals(REQUESTS, virtualResult.succeeded);
+        } finally {
+            platform.shutdownNow();
+            platform.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Dispara todas as requisições de uma vez e mede a latência de cada uma
+     * desde a chegada (inclui o tempo na fila do executor)
+     */
+    private Measurement run(String label, Submitter executor) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger succeeded = new AtomicInteger();
+        List<CompletableFuture<Void>> done = new ArrayList<>(REQUESTS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            final int index = i;
+            final long arrival = System.nanoTime();
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            done.add(future);
+
+            executor.submit(() -> {
+                CreateVoteRequest request = new CreateVoteRequest(VoteType.YES, "agenda-benchmark",
+                        "user-" + index);
+                if (voteService.createVote(request).isSuccess()) {
+                    succeeded.incrementAndGet();
+                }
+                latencies[index] = System.nanoTime() - arrival;
+                future.complete(null);
+            });
+        }
+
+        CompletableFuture.allOf(done.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Measurement(label, succeeded.get(), REQUESTS * 1_000_000_000.0 / elapsed,
+                latencies[(int) Math.ceil(REQUESTS * 0.99) - 1] / 1_000_000.0);
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    @FunctionalInterface
+    private interface Submitter {
+        Object submit(Runnable task);
+    }
+
+    private record Measurement(String label, int succeeded, double throughput, double p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %10.0f votos/s   p99=%8.2fms", label, throughput, p99Millis);
+        }
+    }
+}
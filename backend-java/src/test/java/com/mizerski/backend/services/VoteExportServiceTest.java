@@ -0,0 +1,187 @@
+package com.mizerski.backend.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.VoteExportRow;
+import com.mizerski.backend.models.enums.ExportFormat;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
+
+/**
+ * Testes unitários para a exportação de votos
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteExportService - Testes Unitários")
+class VoteExportServiceTest {
+
+    private static final String AGENDA_ID = "11111111-1111-1111-1111-111111111111";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 10, 14, 30, 15);
+
+    @Mock
+    private VoteJdbcRepository voteJdbcRepository;
+
+    @Mock
+    private AgendaRepository agendaRepository;
+
+    @Mock
+    private ExceptionMappingService exceptionMappingService;
+
+    @InjectMocks
+    private VoteExportServiceImpl voteExportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(voteExportService, "fetchSize", 500);
+    }
+
+    /**
+     * Simula o cursor do banco entregando as linhas uma a uma
+     */
+    @SuppressWarnings("unchecked")
+    private void givenRows(VoteExportRow... rows) {
+        when(agendaRepository.existsById(AGENDA_ID)).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<VoteExportRow> consumer = invocation.getArgument(2);
+            List.of(rows).forEach(consumer);
+            return null;
+        }).when(voteJdbcRepository).streamByAgendaId(eq(AGENDA_ID), eq(500), any(Consumer.class));
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        Result<StreamingResponseBody> result = voteExportService.exportVotesByAgendaId(AGENDA_ID, format);
+        assertTrue(result.isSuccess());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getValue().orElseThrow().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Testes de formato")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Deve exportar um objeto JSON por linha em NDJSON")
+        void deveExportarNdjson() throws Exception {
+            // Arrange
+            givenRows(new VoteExportRow("v1", "YES", "u1", "Ana", CREATED_AT),
+                    new VoteExportRow("v2", "NO", "u2", "José \"Zé\"", CREATED_AT));
+
+            // Act
+            String body = export(ExportFormat.NDJSON);
+
+            // Assert
+            assertEquals("""
+                    {"id":"v1","voteType":"YES","userId":"u1","userName":"Ana","createdAt":"2025-01-10T14:30:15"}
+                    {"id":"v2","voteType":"NO","userId":"u2","userName":"José \\"Zé\\"","createdAt":"2025-01-10T14:30:15"}
+                    """, body);
+        }
+
+        @Test
+        @DisplayName("Deve exportar CSV com cabeçalho e campos escapados")
+        void deveExportarCsv() throws Exception {
+            // Arrange
+            givenRows(new VoteExportRow("v1", "YES", "u1", "Silva, Ana", CREATED_AT),
+                    new VoteExportRow("v2", "NO", "u2", "José \"Zé\"", CREATED_AT));
+
+            // Act
+            String body = export(ExportFormat.CSV);
+
+            // Assert
+            assertEquals("""
+                    id,voteType,userId,userName,createdAt
+                    v1,YES,u1,"Silva, Ana",2025-01-10T14:30:15
+                    v2,NO,u2,"José ""Zé\"\"",2025-01-10T14:30:15
+                    """, body);
+        }
+
+        @Test
+        @DisplayName("Deve exportar apenas o cabeçalho quando a pauta não tem votos")
+        void deveExportarApenasCabecalhoSemVotos() throws Exception {
+            // Arrange
+            givenRows();
+
+            // Act & Assert
+            assertEquals("id,voteType,userId,userName,createdAt\n", export(ExportFormat.CSV));
+            assertEquals("", export(ExportFormat.NDJSON));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar o formato sem diferenciar maiúsculas e rejeitar desconhecidos")
+        void deveResolverFormato() {
+            assertEquals(ExportFormat.CSV, ExportFormat.of("csv"));
+            assertEquals(ExportFormat.NDJSON, ExportFormat.of(" NDJSON "));
+            assertThrows(IllegalArgumentException.class, () -> ExportFormat.of("xml"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de erro")
+    class ErrorTests {
+
+        @Test
+        @DisplayName("Deve retornar erro quando a pauta não existe, sem consultar votos")
+        void deveRetornarErroQuandoPautaNaoExiste() {
+            // Arrange
+            when(agendaRepository.existsById(AGENDA_ID)).thenReturn(false);
+
+            // Act
+            Result<StreamingResponseBody> result = voteExportService.exportVotesByAgendaId(AGENDA_ID,
+                    ExportFormat.NDJSON);
+
+            // Assert
+            assertFalse(result.isSuccess());
+            assertEquals("AGENDA_NOT_FOUND", result.getErrorCode().orElse(null));
+            verify(voteJdbcRepository, never()).streamByAgendaId(any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Deve propagar a falha de escrita quando o cliente encerra o download")
+        void devePropagarFalhaQuandoClienteDesconecta() {
+            // Arrange
+            givenRows(new VoteExportRow("v1", "YES", "u1", "Ana", CREATED_AT));
+            OutputStream closed = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            // Act
+            StreamingResponseBody body = voteExportService.exportVotesByAgendaId(AGENDA_ID, ExportFormat.CSV)
+                    .getValue().orElseThrow();
+
+            // Assert
+            assertThrows(IOException.class, () -> body.writeTo(closed));
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.mizerski.backend.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mizerski.backend.dtos.request.CreateVoteRequest;
+import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.VoteTally;
+import com.mizerski.backend.models.entities.AgendaEntity;
+import com.mizerski.backend.models.entities.UserEntity;
+import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.VoteType;
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
+
+/**
+ * Testes unitários para o pipeline de ingestão de votos (write-behind)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteIngestionService - Testes Unitários")
+class VoteIngestionServiceTest {
+
+    @Mock
+    private VoteJdbcRepository voteJdbcRepository;
+
+    @Mock
+    private AgendaRepository agendaRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TallyService tallyService;
+
+    @Mock
+    private VoterBitmapService voterBitmapService;
+
+    @Mock
+    private SessionWindowService sessionWindowService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ExceptionMappingService exceptionMappingService;
+
+    @InjectMocks
+    private VoteIngestionServiceImpl voteIngestionService;
+
+    private CreateVoteRequest createVoteRequest;
+
+    /**
+     * Configuração inicial dos dados de teste
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(voteIngestionService, "enabled", true);
+        ReflectionTestUtils.setField(voteIngestionService, "batchSize", 100);
+        ReflectionTestUtils.setField(voteIngestionService, "queueCapacity", 100);
+        ReflectionTestUtils.setField(voteIngestionService, "writerThreads", 1);
+        ReflectionTestUtils.setField(voteIngestionService, "acceptTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(voteIngestionService, "shutdownTimeoutMs", 5000L);
+        voteIngestionService.init();
+
+        createVoteRequest = new CreateVoteRequest(VoteType.YES, "agenda-123", "user-123");
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteIngestionService.destroy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executarTransacaoDiretamente() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0))
+                        .doInTransaction(null));
+    }
+
+    @Nested
+    @DisplayName("Testes do método submit")
+    class SubmitTests {
+
+        @Test
+        @DisplayName("Deve aceitar voto e incrementar contadores uma vez por lote")
+        void deveAceitarVotoEIncrementarContadores() {
+            // Arrange
+            executarTransacaoDiretamente();
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 1 });
+
+            // Act
+            Result<VoteResponse> result = voteIngestionService.submit(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isSuccess());
+            assertEquals(VoteType.YES, result.getValue().get().getVoteType());
+            verify(tallyService).add(eq("agenda-123"), argThat(tally -> tally.getTotalVotes() == 1 && tally.getYesVotes() == 1));
+            assertEquals(0, voteIngestionService.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("Deve retornar USER_ALREADY_VOTED quando o insert é ignorado por duplicidade")
+        void deveRetornarErroQuandoUsuarioJaVotou() {
+            // Arrange
+            executarTransacaoDiretamente();
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 0 });
+
+            AgendaEntity agenda = new AgendaEntity();
+            agenda.setId("agenda-123");
+            agenda.setStatus(AgendaStatus.IN_PROGRESS);
+            when(agendaRepository.findById("agenda-123")).thenReturn(Optional.of(agenda));
+
+            UserEntity user = new UserEntity();
+            user.setId("user-123");
+            when(userRepository.findAllById(List.of("user-123"))).thenReturn(List.of(user));
+
+            // Act
+            Result<VoteResponse> result = voteIngestionService.submit(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("USER_ALREADY_VOTED", result.getErrorCode().get());
+            verify(tallyService).add(eq("agenda-123"), argThat(VoteTally::isEmpty));
+        }
+
+        @Test
+        @DisplayName("Deve retornar AGENDA_NOT_OPEN quando a pauta está encerrada")
+        void deveRetornarErroQuandoPautaEncerrada() {
+            // Arrange
+            executarTransacaoDiretamente();
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 0 });
+
+            AgendaEntity agenda = new AgendaEntity();
+            agenda.setId("agenda-123");
+            agenda.setStatus(AgendaStatus.FINISHED);
+            when(agendaRepository.findById("agenda-123")).thenReturn(Optional.of(agenda));
+
+            // Act
+            Result<VoteResponse> result = voteIngestionService.submit(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("AGENDA_NOT_OPEN", result.getErrorCode().get());
+        }
+
+        @Test
+        @DisplayName("Deve propagar erro mapeado quando a gravação do lote falha")
+        void deveRetornarErroQuandoGravacaoFalha() {
+            // Arrange
+            when(transactionTemplate.execute(any()))
+                    .thenThrow(new DataAccessResourceFailureException("Conexão perdida"));
+            when(exceptionMappingService.mapExceptionToResult(any(Exception.class)))
+                    .thenReturn(Result.error("UNKNOWN_ERROR", "Conexão perdida"));
+
+            // Act
+            Result<VoteResponse> result = voteIngestionService.submit(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("UNKNOWN_ERROR", result.getErrorCode().get());
+        }
+
+        @Test
+        @DisplayName("Deve remover a fila da pauta depois de esvaziá-la")
+        void deveRemoverFilaVazia() throws Exception {
+            // Arrange
+            executarTransacaoDiretamente();
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 1 });
+
+            // Act
+            voteIngestionService.submit(createVoteRequest);
+
+            // Assert - o escritor remove a fila logo após liberar o chamador
+            long deadline = System.currentTimeMillis() + 2000;
+            while (voteIngestionService.getQueueCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, voteIngestionService.getQueueCount());
+        }
+
+        @Test
+        @DisplayName("Deve recusar o voto sem lançar exceção quando o pipeline foi encerrado")
+        void deveRecusarVotoComPipelineEncerrado() {
+            // Arrange
+            voteIngestionService.destroy();
+
+            // Act
+            Result<VoteResponse> result = voteIngestionService.submit(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("VOTE_INGESTION_STOPPED", result.getErrorCode().get());
+            assertEquals(0, voteIngestionService.getPendingCount());
+            verify(voteJdbcRepository, never()).insertBatch(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método destroy")
+    class DestroyTests {
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        /**
+         * Segura o escritor dentro da transação do primeiro lote até o release
+         */
+        @SuppressWarnings("unchecked")
+        private void segurarPrimeiroLote() {
+            when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+                writing.countDown();
+                release.await();
+                return ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null);
+            });
+        }
+
+        private CompletableFuture<Result<VoteResponse>> votar(String agendaId, String userId) {
+            return CompletableFuture.supplyAsync(
+                    () -> voteIngestionService.submit(new CreateVoteRequest(VoteType.YES, agendaId, userId)));
+        }
+
+        private void aguardarPendentes(int pending) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000;
+            while (voteIngestionService.getPendingCount() < pending && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(pending, voteIngestionService.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("Deve gravar os votos que ainda estavam na fila ao encerrar")
+        void deveGravarVotosDaFilaAoEncerrar() throws Exception {
+            // Arrange
+            segurarPrimeiroLote();
+            when(voteJdbcRepository.insertBatch(anyList())).thenReturn(new int[] { 1 });
+            CompletableFuture<Result<VoteResponse>> first = votar("agenda-123", "user-1");
+            assertTrue(writing.await(2, TimeUnit.SECONDS));
+            CompletableFuture<Result<VoteResponse>> second = votar("agenda-123", "user-2");
+            aguardarPendentes(1);
+
+            // Act
+            CompletableFuture<Void> stopped = CompletableFuture.runAsync(voteIngestionService::destroy);
+            ExecutorService writers = (ExecutorService) ReflectionTestUtils.getField(voteIngestionService, "writers");
+            long deadline = System.currentTimeMillis() + 2000;
+            while (!writers.isShutdown() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            stopped.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertTrue(first.get(1, TimeUnit.SECONDS).isSuccess());
+            assertTrue(second.get(1, TimeUnit.SECONDS).isSuccess());
+            assertEquals(0, voteIngestionService.getPendingCount());
+        }
+
+        @Test
+        @DisplayName("Deve recusar com VOTE_INGESTION_STOPPED os votos não gravados no tempo limite")
+        void deveRecusarVotosNaoGravadosNoTempoLimite() throws Exception {
+            // Arrange - um único escritor preso no lote da primeira pauta
+            ReflectionTestUtils.setField(voteIngestionService, "shutdownTimeoutMs", 100L);
+            segurarPrimeiroLote();
+            votar("agenda-123", "user-1");
+            assertTrue(writing.await(2, TimeUnit.SECONDS));
+            CompletableFuture<Result<VoteResponse>> waiting = votar("agenda-456", "user-2");
+            aguardarPendentes(1);
+
+            // Act
+            voteIngestionService.destroy();
+
+            // Assert - o chamador é liberado antes do tempo de aceite (5s)
+            Result<VoteResponse> result = waiting.get(1, TimeUnit.SECONDS);
+            assertTrue(result.isError());
+            assertEquals("VOTE_INGESTION_STOPPED", result.getErrorCode().get());
+            assertEquals(0, voteIngestionService.getPendingCount());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,31 +15,41 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.mizerski.backend.dtos.request.CreateVoteRequest;
 import com.mizerski.backend.dtos.response.PagedResponse;
 import com.mizerski.backend.dtos.response.UserResponse;
 import com.mizerski.backend.dtos.response.VoteResponse;
+import com.mizerski.backend.dtos.response.VoteSummaryResponse;
 import com.mizerski.backend.models.domains.Result;
+import com.mizerski.backend.models.domains.VoteTally;
 import com.mizerski.backend.models.domains.Votes;
 import com.mizerski.backend.models.entities.AgendaEntity;
 import com.mizerski.backend.models.entities.UserEntity;
 import com.mizerski.backend.models.entities.VoteEntity;
 import com.mizerski.backend.models.enums.AgendaStatus;
+import com.mizerski.backend.models.enums.TotalMode;
 import com.mizerski.backend.models.enums.VoteType;
 import com.mizerski.backend.models.mappers.VoteMapper;
 import com.mizerski.backend.repositories.AgendaRepository;
 import com.mizerski.backend.repositories.UserRepository;
+import com.mizerski.backend.repositories.VoteJdbcRepository;
 import com.mizerski.backend.repositories.VoteRepository;
 
 /**
@@ -65,12 +76,28 @@ class VoteServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TallyService tallyService;
+
+    @Mock
+    private VoterBitmapService voterBitmapService;
+
+    @Mock
+    private SessionWindowService sessionWindowService;
+
+    @Mock
+    private VoteJdbcRepository voteJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private VoteServiceImpl voteService;
 
     private CreateVoteRequest createVoteRequest;
     private VoteEntity voteEntity;
     private VoteResponse voteResponse;
+    private VoteSummaryResponse voteSummaryResponse;
     private Votes voteDomain;
     private AgendaEntity agendaEntityOpen;
     private AgendaEntity agendaEntityClosed;
@@ -131,13 +158,29 @@ class VoteServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        voteSummaryResponse = VoteSummaryResponse.builder()
+                .id("vote-123")
+                .voteType(VoteType.YES)
+                .userId("user-123")
+                .userName(userEntity.getName())
+                .createdAt(LocalDateTime.now())
+                .build();
+
         // Domínio de voto
         voteDomain = Votes.builder()
-                .id("vote-123")
                 .voteType(VoteType.YES)
+                .userId("user-123")
+                .agendaId("agenda-123")
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
+    private void executarTransacaoDiretamente() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0))
+                        .doInTransaction(null));
+    }
+
     @Nested
     @DisplayName("Testes do método createVote")
     class CreateVoteTests {
@@ -146,14 +189,10 @@ class VoteServiceTest {
         @DisplayName("Deve criar voto com sucesso quando dados válidos")
         void deveCriarVotoComSucessoQuandoDadosValidos() {
             // Arrange
-            when(agendaRepository.findById(createVoteRequest.getAgendaId())).thenReturn(Optional.of(agendaEntityOpen));
-            when(voteRepository.findByUserIdAndAgendaId(createVoteRequest.getUserId(), createVoteRequest.getAgendaId()))
-                    .thenReturn(Optional.empty());
-            when(userRepository.findById(createVoteRequest.getUserId())).thenReturn(Optional.of(userEntity));
+            executarTransacaoDiretamente();
             when(voteMapper.fromCreateRequest(createVoteRequest)).thenReturn(voteDomain);
-            when(voteMapper.toEntity(voteDomain)).thenReturn(voteEntity);
-            when(voteRepository.save(voteEntity)).thenReturn(voteEntity);
-            when(voteMapper.toResponse(voteEntity)).thenReturn(voteResponse);
+            when(voteJdbcRepository.insert(voteDomain)).thenReturn(1);
+            when(voteMapper.toResponse(voteDomain)).thenReturn(voteResponse);
 
             // Act
             Result<VoteResponse> result = voteService.createVote(createVoteRequest);
@@ -164,22 +203,25 @@ class VoteServiceTest {
             assertTrue(result.getValue().isPresent());
             assertEquals(voteResponse, result.getValue().get());
             assertEquals(VoteType.YES, result.getValue().get().getVoteType());
-
-            // Verificações de interação
-            verify(agendaRepository).findById(createVoteRequest.getAgendaId());
-            verify(voteRepository).findByUserIdAndAgendaId(createVoteRequest.getUserId(),
-                    createVoteRequest.getAgendaId());
-            verify(userRepository).findById(createVoteRequest.getUserId());
-            verify(voteMapper).fromCreateRequest(createVoteRequest);
-            verify(voteMapper).toEntity(voteDomain);
-            verify(voteRepository).save(voteEntity);
-            verify(voteMapper).toResponse(voteEntity);
+            assertNotNull(voteDomain.getId());
+            assertNotNull(voteDomain.getCreatedAt());
+
+            // Verificações de interação - apenas INSERT e incremento do shard
+            verify(voteJdbcRepository).insert(voteDomain);
+            verify(tallyService).increment(createVoteRequest.getAgendaId(), VoteType.YES);
+            verify(voterBitmapService).markVoted(createVoteRequest.getAgendaId(), createVoteRequest.getUserId());
+            verify(agendaRepository, never()).findById(any());
+            verify(userRepository, never()).findById(any());
+            verify(voteRepository, never()).findByUserIdAndAgendaId(any(), any());
         }
 
         @Test
         @DisplayName("Deve retornar erro quando agenda não existe")
         void deveRetornarErroQuandoAgendaNaoExiste() {
             // Arrange
+            executarTransacaoDiretamente();
+            when(voteMapper.fromCreateRequest(createVoteRequest)).thenReturn(voteDomain);
+            when(voteJdbcRepository.insert(voteDomain)).thenReturn(0);
             when(agendaRepository.findById(createVoteRequest.getAgendaId())).thenReturn(Optional.empty());
 
             // Act
@@ -193,14 +235,16 @@ class VoteServiceTest {
 
             // Verificações de interação
             verify(agendaRepository).findById(createVoteRequest.getAgendaId());
-            verify(voteRepository, never()).findByUserIdAndAgendaId(any(), any());
-            verify(voteRepository, never()).save(any());
+            verify(tallyService, never()).increment(any(), any());
         }
 
         @Test
         @DisplayName("Deve retornar erro quando agenda não está aberta")
         void deveRetornarErroQuandoAgendaNaoEstaAberta() {
             // Arrange
+            executarTransacaoDiretamente();
+            when(voteMapper.fromCreateRequest(createVoteRequest)).thenReturn(voteDomain);
+            when(voteJdbcRepository.insert(voteDomain)).thenReturn(0);
             when(agendaRepository.findById(createVoteRequest.getAgendaId()))
                     .thenReturn(Optional.of(agendaEntityClosed));
 
@@ -215,17 +259,37 @@ class VoteServiceTest {
 
             // Verificações de interação
             verify(agendaRepository).findById(createVoteRequest.getAgendaId());
-            verify(voteRepository, never()).findByUserIdAndAgendaId(any(), any());
-            verify(voteRepository, never()).save(any());
+            verify(tallyService, never()).increment(any(), any());
         }
 
         @Test
-        @DisplayName("Deve retornar erro quando usuário já votou")
-        void deveRetornarErroQuandoUsuarioJaVotou() {
+        @DisplayName("Deve retornar erro quando usuário não existe")
+        void deveRetornarErroQuandoUsuarioNaoExiste() {
             // Arrange
+            executarTransacaoDiretamente();
+            when(voteMapper.fromCreateRequest(createVoteRequest)).thenReturn(voteDomain);
+            when(voteJdbcRepository.insert(voteDomain)).thenReturn(0);
             when(agendaRepository.findById(createVoteRequest.getAgendaId())).thenReturn(Optional.of(agendaEntityOpen));
-            when(voteRepository.findByUserIdAndAgendaId(createVoteRequest.getUserId(), createVoteRequest.getAgendaId()))
-                    .thenReturn(Optional.of(voteEntity));
+            when(userRepository.existsById(createVoteRequest.getUserId())).thenReturn(false);
+
+            // Act
+            Result<VoteResponse> result = voteService.createVote(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("USER_NOT_FOUND", result.getErrorCode().get());
+            verify(tallyService, never()).increment(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro quando usuário já votou")
+        void deveRetornarErroQuandoUsuarioJaVotou() {
+            // Arrange - a constraint única rejeita o INSERT
+            executarTransacaoDiretamente();
+            DuplicateKeyException exception = new DuplicateKeyException(
+                    "duplicate key value violates unique constraint \"uk_user_agenda_vote\"");
+            when(voteMapper.fromCreateRequest(createVoteRequest)).thenReturn(voteDomain);
+            when(voteJdbcRepository.insert(voteDomain)).thenThrow(exception);
 
             // Act
             Result<VoteResponse> result = voteService.createVote(createVoteRequest);
@@ -236,24 +300,52 @@ class VoteServiceTest {
             assertEquals("USER_ALREADY_VOTED", result.getErrorCode().get());
             assertTrue(result.getErrorMessage().get().contains("já votou"));
 
-            // Verificações de interação
-            verify(agendaRepository).findById(createVoteRequest.getAgendaId());
-            verify(voteRepository).findByUserIdAndAgendaId(createVoteRequest.getUserId(),
-                    createVoteRequest.getAgendaId());
-            verify(voteRepository, never()).save(any());
+            // Verificações de interação - sem consulta prévia nem mapeamento genérico da exceção
+            verify(voteRepository, never()).findByUserIdAndAgendaId(any(), any());
+            verify(tallyService, never()).increment(any(), any());
+            verify(exceptionMappingService, never()).mapExceptionToResult(any());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar voto após o término da sessão sem acessar o banco")
+        void deveRejeitarVotoAposTerminoDaSessao() {
+            // Arrange
+            when(sessionWindowService.isVotingClosed(eq(createVoteRequest.getAgendaId()), any()))
+                    .thenReturn(true);
+
+            // Act
+            Result<VoteResponse> result = voteService.createVote(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("AGENDA_NOT_OPEN", result.getErrorCode().get());
+            verify(voteJdbcRepository, never()).insert(any());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar voto duplicado pelo bitmap sem acessar o banco")
+        void deveRejeitarVotoDuplicadoPeloBitmap() {
+            // Arrange
+            when(voterBitmapService.hasVoted(createVoteRequest.getAgendaId(), createVoteRequest.getUserId()))
+                    .thenReturn(true);
+
+            // Act
+            Result<VoteResponse> result = voteService.createVote(createVoteRequest);
+
+            // Assert
+            assertTrue(result.isError());
+            assertEquals("USER_ALREADY_VOTED", result.getErrorCode().get());
+            verify(transactionTemplate, never()).execute(any());
+            verify(voteJdbcRepository, never()).insert(any());
         }
 
         @Test
         @DisplayName("Deve retornar erro quando ocorre exceção durante criação")
         void deveRetornarErroQuandoOcorreExcecaoDuranteCriacao() {
             // Arrange
-            when(agendaRepository.findById(createVoteRequest.getAgendaId())).thenReturn(Optional.of(agendaEntityOpen));
-            when(voteRepository.findByUserIdAndAgendaId(createVoteRequest.getUserId(), createVoteRequest.getAgendaId()))
-                    .thenReturn(Optional.empty());
-            when(userRepository.findById(createVoteRequest.getUserId())).thenReturn(Optional.of(userEntity));
+            executarTransacaoDiretamente();
             when(voteMapper.fromCreateRequest(createVoteRequest)).thenReturn(voteDomain);
-            when(voteMapper.toEntity(voteDomain)).thenReturn(voteEntity);
-            when(voteRepository.save(voteEntity)).thenThrow(new RuntimeException("Erro de banco de dados"));
+            when(voteJdbcRepository.insert(voteDomain)).thenThrow(new RuntimeException("Erro de banco de dados"));
 
             when(exceptionMappingService.mapExceptionToResult(any(Exception.class)))
                     .thenReturn(Result.error("DATABASE_ERROR", "Erro interno do servidor"));
@@ -297,23 +389,23 @@ class VoteServiceTest {
     void deveBuscarTodosVotosPorAgendaComSucesso() {
         // Arrange
         List<VoteEntity> voteEntities = Arrays.asList(voteEntity);
-        List<VoteResponse> voteResponses = Arrays.asList(voteResponse);
+        List<VoteSummaryResponse> voteSummaryResponses = Arrays.asList(voteSummaryResponse);
 
         when(voteRepository.findByAgendaId("agenda-123")).thenReturn(voteEntities);
-        when(voteMapper.toResponse(voteEntity)).thenReturn(voteResponse);
+        when(voteMapper.toSummaryResponse(voteEntity)).thenReturn(voteSummaryResponse);
 
         // Act
-        Result<List<VoteResponse>> result = voteService.getAllVotesByAgendaId("agenda-123");
+        Result<List<VoteSummaryResponse>> result = voteService.getAllVotesByAgendaId("agenda-123");
 
         // Assert
         assertTrue(result.isSuccess());
         assertTrue(result.getValue().isPresent());
         assertEquals(1, result.getValue().get().size());
-        assertEquals(voteResponse, result.getValue().get().get(0));
+        assertEquals(voteSummaryResponse, result.getValue().get().get(0));
 
         // Verificações de interação
         verify(voteRepository).findByAgendaId("agenda-123");
-        verify(voteMapper).toResponse(voteEntity);
+        verify(voteMapper).toSummaryResponse(voteEntity);
     }
 
     @Test
@@ -325,23 +417,78 @@ class VoteServiceTest {
         Page<VoteEntity> page = new PageImpl<>(voteEntities, pageable, 1);
 
         when(voteRepository.findByAgendaId("agenda-123", pageable)).thenReturn(page);
-        when(voteMapper.toResponse(voteEntity)).thenReturn(voteResponse);
+        when(voteMapper.toSummaryResponse(voteEntity)).thenReturn(voteSummaryResponse);
 
         // Act
-        Result<PagedResponse<VoteResponse>> result = voteService.getAllVotesByAgendaId("agenda-123", pageable);
+        Result<PagedResponse<VoteSummaryResponse>> result = voteService.getAllVotesByAgendaId("agenda-123", pageable);
 
         // Assert
         assertTrue(result.isSuccess());
         assertTrue(result.getValue().isPresent());
-        PagedResponse<VoteResponse> pagedResponse = result.getValue().get();
+        PagedResponse<VoteSummaryResponse> pagedResponse = result.getValue().get();
         assertEquals(1, pagedResponse.getContent().size());
-        assertEquals(voteResponse, pagedResponse.getContent().get(0));
+        assertEquals(voteSummaryResponse, pagedResponse.getContent().get(0));
         assertEquals(0, pagedResponse.getPage());
         assertEquals(10, pagedResponse.getSize());
         assertEquals(1, pagedResponse.getTotalElements());
 
         // Verificações de interação
         verify(voteRepository).findByAgendaId("agenda-123", pageable);
-        verify(voteMapper).toResponse(voteEntity);
+        verify(voteMapper).toSummaryResponse(voteEntity);
+    }
+
+    @Test
+    @DisplayName("Deve buscar votos por agenda sem contagem quando o total não é solicitado")
+    void deveBuscarVotosPorAgendaSemContagem() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<VoteEntity> slice = new SliceImpl<>(List.of(voteEntity), pageable, true);
+
+        when(voteRepository.findSliceByAgendaId("agenda-123", pageable)).thenReturn(slice);
+        when(voteMapper.toSummaryResponse(voteEntity)).thenReturn(voteSummaryResponse);
+
+        // Act
+        Result<PagedResponse<VoteSummaryResponse>> result = voteService.getAllVotesByAgendaId("agenda-123", pageable,
+                TotalMode.NONE);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        PagedResponse<VoteSummaryResponse> pagedResponse = result.getValue().get();
+        assertEquals(List.of(voteSummaryResponse), pagedResponse.getContent());
+        assertTrue(pagedResponse.isHasNext());
+        assertEquals(-1, pagedResponse.getTotalElements());
+        assertEquals(TotalMode.NONE, pagedResponse.getTotalMode());
+
+        // Verificações de interação
+        verify(voteRepository, never()).findByAgendaId("agenda-123", pageable);
+        verify(voteRepository, never()).countByAgendaId(any());
+    }
+
+    @Test
+    @DisplayName("Deve usar os contadores da pauta como total aproximado")
+    void deveUsarContadoresDaPautaComoTotalAproximado() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<VoteEntity> slice = new SliceImpl<>(List.of(voteEntity), pageable, false);
+
+        when(voteRepository.findSliceByAgendaId("agenda-123", pageable)).thenReturn(slice);
+        when(voteMapper.toSummaryResponse(voteEntity)).thenReturn(voteSummaryResponse);
+        when(agendaRepository.findTotalVotesById("agenda-123")).thenReturn(Optional.of(40));
+        when(tallyService.getShardTally("agenda-123")).thenReturn(new VoteTally(2, 1, 1));
+
+        // Act
+        Result<PagedResponse<VoteSummaryResponse>> result = voteService.getAllVotesByAgendaId("agenda-123", pageable,
+                TotalMode.APPROXIMATE);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        PagedResponse<VoteSummaryResponse> pagedResponse = result.getValue().get();
+        assertEquals(42, pagedResponse.getTotalElements());
+        assertEquals(5, pagedResponse.getTotalPages());
+        assertFalse(pagedResponse.isHasNext());
+        assertEquals(TotalMode.APPROXIMATE, pagedResponse.getTotalMode());
+
+        // Verificações de interação
+        verify(voteRepository, never()).countByAgendaId(any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,178 @@
+package com.mizerski.backend.services;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mizerski.backend.repositories.AgendaRepository;
+import com.mizerski.backend.repositories.VoteRepository;
+
+/**
+ * Testes unitários para o índice em memória de eleitores por pauta
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoterBitmapService - Testes Unitários")
+class VoterBitmapServiceTest {
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private AgendaRepository agendaRepository;
+
+    @InjectMocks
+    private VoterBitmapServiceImpl voterBitmapService;
+
+    /**
+     * Configuração inicial dos dados de teste
+     */
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(voterBitmapService, "enabled", true);
+    }
+
+    @Nested
+    @DisplayName("Testes de carregamento e consulta")
+    class LoadAndQueryTests {
+
+        @Test
+        @DisplayName("Deve reconhecer eleitores carregados dos votos gravados")
+        void deveReconhecerEleitoresCarregados() {
+            // Arrange
+            when(voteRepository.findUserIdsByAgendaId("agenda-123")).thenReturn(List.of("user-1", "user-2"));
+
+            // Act
+            voterBitmapService.load("agenda-123");
+
+            // Assert
+            assertTrue(voterBitmapService.hasVoted("agenda-123", "user-1"));
+            assertTrue(voterBitmapService.hasVoted("agenda-123", "user-2"));
+            assertFalse(voterBitmapService.hasVoted("agenda-123", "user-3"));
+        }
+
+        @Test
+        @DisplayName("Deve carregar cada pauta apenas uma vez")
+        void deveCarregarPautaApenasUmaVez() {
+            // Arrange
+            when(voteRepository.findUserIdsByAgendaId("agenda-123")).thenReturn(List.of());
+
+            // Act
+            voterBitmapService.load("agenda-123");
+            voterBitmapService.load("agenda-123");
+
+            // Assert
+            verify(voteRepository, times(1)).findUserIdsByAgendaId("agenda-123");
+        }
+
+        @Test
+        @DisplayName("Não deve responder já votou para pauta não carregada")
+        void naoDeveResponderParaPautaNaoCarregada() {
+            // Act
+            voterBitmapService.markVoted("agenda-123", "user-1");
+
+            // Assert
+            assertFalse(voterBitmapService.hasVoted("agenda-123", "user-1"));
+        }
+
+        @Test
+        @DisplayName("Não deve publicar bitmap quando o carregamento falha")
+        void naoDevePublicarBitmapQuandoCarregamentoFalha() {
+            // Arrange
+            when(voteRepository.findUserIdsByAgendaId("agenda-123"))
+                    .thenThrow(new DataAccessResourceFailureException("Conexão perdida"));
+
+            // Act
+            voterBitmapService.load("agenda-123");
+            voterBitmapService.markVoted("agenda-123", "user-1");
+
+            // Assert
+            assertFalse(voterBitmapService.hasVoted("agenda-123", "user-1"));
+        }
+
+        @Test
+        @DisplayName("Deve carregar apenas após o commit da transação")
+        void deveCarregarAposCommit() {
+            // Arrange
+            when(voteRepository.findUserIdsByAgendaId("agenda-123")).thenReturn(List.of("user-1"));
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // Act
+                voterBitmapService.load("agenda-123");
+
+                // Assert - nada é lido dentro da transação
+                verify(voteRepository, never()).findUserIdsByAgendaId(anyString());
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+                assertTrue(voterBitmapService.hasVoted("agenda-123", "user-1"));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Não deve carregar quando o índice está desabilitado")
+        void naoDeveCarregarQuandoDesabilitado() {
+            // Arrange
+            ReflectionTestUtils.setField(voterBitmapService, "enabled", false);
+
+            // Act
+            voterBitmapService.load("agenda-123");
+
+            // Assert
+            verify(voteRepository, never()).findUserIdsByAgendaId(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de atualização")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Deve registrar voto gravado após o carregamento")
+        void deveRegistrarVotoAposCarregamento() {
+            // Arrange
+            when(voteRepository.findUserIdsByAgendaId("agenda-123")).thenReturn(List.of());
+            voterBitmapService.load("agenda-123");
+
+            // Act
+            voterBitmapService.markVoted("agenda-123", "user-1");
+
+            // Assert
+            assertTrue(voterBitmapService.hasVoted("agenda-123", "user-1"));
+            assertFalse(voterBitmapService.hasVoted("agenda-456", "user-1"));
+        }
+
+        @Test
+        @DisplayName("Deve descartar o bitmap da pauta encerrada")
+        void deveDescartarBitmapDaPautaEncerrada() {
+            // Arrange
+            when(voteRepository.findUserIdsByAgendaId("agenda-123")).thenReturn(List.of("user-1"));
+            voterBitmapService.load("agenda-123");
+
+            // Act
+            voterBitmapService.evict("agenda-123");
+
+            // Assert
+            assertFalse(voterBitmapService.hasVoted("agenda-123", "user-1"));
+        }
+    }
+}
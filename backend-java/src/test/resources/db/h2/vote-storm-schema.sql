@@ -0,0 +1,34 @@
+-- Complemento do schema gerado pelo Hibernate para o perfil loadtest (H2)
+
+-- Contadores fragmentados (V4 e V11), acessados apenas via JDBC
+CREATE TABLE agenda_tally_shards (
+    agenda_id VARCHAR(36) NOT NULL,
+    shard_id INTEGER NOT NULL,
+    total_votes INTEGER NOT NULL DEFAULT 0,
+    yes_votes INTEGER NOT NULL DEFAULT 0,
+    no_votes INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_agenda_tally_shards PRIMARY KEY (agenda_id, shard_id),
+    CONSTRAINT fk_tally_shards_agenda FOREIGN KEY (agenda_id) REFERENCES agendas (id) ON DELETE CASCADE
+);
+
+-- Um voto por usuário e pauta (V1), usado para detectar votos duplicados
+ALTER TABLE votes ADD CONSTRAINT uk_user_agenda_vote UNIQUE (user_id, agenda_id);
+
+-- Lease de liderança dos jobs periódicos (V7), acessada apenas via JDBC
+CREATE TABLE scheduler_leases (
+    name VARCHAR(64) PRIMARY KEY,
+    owner_id VARCHAR(128) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- A sessão aberta única por pauta (V9) é um índice parcial, sem equivalente no
+-- H2; aqui vale apenas o lock por pauta do SessionServiceImpl
+
+-- Marcas d'água dos jobs incrementais (V10), acessadas apenas via JDBC
+CREATE TABLE job_watermarks (
+    name VARCHAR(64) PRIMARY KEY,
+    watermark TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
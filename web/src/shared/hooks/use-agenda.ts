@@ -25,7 +25,9 @@ export function useAgenda() {
    */
   const getAllAgenda = useCallback(async () => {
     try {
-      const { data } = await api.get<PagedResponse<Agenda>>(AGENDA.GET_ALL)
+      const { data } = await api.get<PagedResponse<Agenda>>(AGENDA.GET_ALL, {
+        params: { includeDescription: true },
+      })
       const { content, totalElements } = data
       setAgendas(content)
       setTotalOnList(totalElements)
@@ -42,7 +44,9 @@ export function useAgenda() {
    */
   async function getAllFinishedAgenda() {
     try {
-      const { data } = await api.get<PagedResponse<Agenda>>(AGENDA.GET_ALL_FINISHED)
+      const { data } = await api.get<PagedResponse<Agenda>>(AGENDA.GET_ALL_FINISHED, {
+        params: { includeDescription: true },
+      })
       const { content, totalElements } = data
       setFinishedAgendas(content)
       setTotalOnList(totalElements)
@@ -59,7 +63,9 @@ export function useAgenda() {
    */
   async function getAllOpenAgenda() {
     try {
-      const { data } = await api.get<PagedResponse<Agenda>>(AGENDA.GET_ALL_OPEN)
+      const { data } = await api.get<PagedResponse<Agenda>>(AGENDA.GET_ALL_OPEN, {
+        params: { includeDescription: true },
+      })
       const { content, totalElements } = data
       setOpenAgendas(content)
       setTotalOnList(totalElements)
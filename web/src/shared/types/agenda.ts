@@ -11,6 +11,9 @@ export interface Agenda {
   yesVotes?: number
   noVotes?: number
   isActive?: boolean
+  /** Janela da última sessão, presente nas listagens (resumo) */
+  sessionStartTime?: string
+  sessionEndTime?: string
   createdAt: string
   updatedAt?: string
   votes?: VoteResponse[]
@@ -109,7 +112,7 @@ export const AgendaUtils = {
     if (activeSession) return activeSession.startTime
     
     const latestSession = AgendaUtils.getLatestSession(agenda)
-    return latestSession?.startTime
+    return latestSession?.startTime ?? agenda.sessionStartTime
   },
 
   /**
@@ -122,7 +125,7 @@ export const AgendaUtils = {
     if (activeSession) return activeSession.endTime
     
     const latestSession = AgendaUtils.getLatestSession(agenda)
-    return latestSession?.endTime
+    return latestSession?.endTime ?? agenda.sessionEndTime
   },
 
   /**